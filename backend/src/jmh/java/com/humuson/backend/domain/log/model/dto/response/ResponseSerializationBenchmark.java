@@ -0,0 +1,86 @@
+package com.humuson.backend.domain.log.model.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 응답/WebSocket 메시지의 Jackson 직렬화 성능
+ * - distribution: GetLogDistributionResponse (분 × 로그 레벨별 개수, size분)
+ * - logs: List<LogEntity> (size건, /log/ws-stream 초기 목록과 /logs/errors 응답의 로그 목록)
+ * - WebSocket 핸들러와 같이 ObjectMapper 하나를 재사용하며, 결과는 UTF-8 바이트 배열
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter MINUTE_BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String[] SERVICES = {"UserService", "PaymentService", "InventoryService"};
+    private static final Level[] LEVELS = {Level.INFO, Level.WARN, Level.ERROR};
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private GetLogDistributionResponse distribution;
+    private List<LogEntity> logs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2025, 2, 1, 0, 0);
+        Map<String, Map<Level, Long>> counts = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            Map<Level, Long> levelCounts = new EnumMap<>(Level.class);
+            for (Level level : LEVELS) {
+                levelCounts.put(level, (long) random.nextInt(10_000));
+            }
+            counts.put(start.plusMinutes(i).format(MINUTE_BUCKET_FORMAT), levelCounts);
+        }
+        distribution = GetLogDistributionResponse.of(counts);
+
+        logs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int kind = random.nextInt(LEVELS.length);
+            logs.add(LogEntity.builder()
+                    .id(Long.toHexString(random.nextLong()))
+                    .timestamp(start.plusSeconds(i).format(TIMESTAMP_FORMAT))
+                    .level(LEVELS[kind])
+                    .serviceName(SERVICES[kind])
+                    .message("Payment failed for order: " + random.nextInt(100_000))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] distribution() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(distribution);
+    }
+
+    @Benchmark
+    public byte[] logs() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(logs);
+    }
+
+}
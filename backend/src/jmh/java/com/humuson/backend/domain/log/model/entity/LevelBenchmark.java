@@ -0,0 +1,62 @@
+package com.humuson.backend.domain.log.model.entity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 로그 레벨 변환 성능
+ * - fromString: 호출마다 values()를 복사하고 스트림으로 순회하는 현재 방식
+ * - lookupMap: 대문자 이름 → Level 맵을 미리 만들어 두는 방식 (비교용 기준)
+ * - parseLevels: 요청 파라미터("ERROR,WARN,INFO")를 나누어 변환
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LevelBenchmark {
+
+    private static final String[] NAMES = {"ERROR", "warn", "INFO", "DEBUG"};
+    private static final Map<String, Level> LOOKUP = new HashMap<>();
+
+    static {
+        for (Level level : Level.values()) {
+            LOOKUP.put(level.name(), level);
+        }
+    }
+
+    private int cursor;
+
+    @Benchmark
+    public Level fromString() {
+        return Level.fromString(nextName());
+    }
+
+    @Benchmark
+    public Level lookupMap() {
+        return LOOKUP.getOrDefault(nextName().toUpperCase(Locale.ROOT), Level.UNKNOWN);
+    }
+
+    @Benchmark
+    public List<Level> parseLevels() {
+        return Level.parseLevels("ERROR,WARN,INFO");
+    }
+
+    @Benchmark
+    public List<Level> parseLevelsDefault() {
+        return Level.parseLevels(null);
+    }
+
+    private String nextName() {
+        cursor = (cursor + 1) & (NAMES.length - 1);
+        return NAMES[cursor];
+    }
+
+}
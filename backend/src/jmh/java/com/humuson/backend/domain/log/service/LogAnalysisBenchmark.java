@@ -0,0 +1,76 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 메모리에 올린 로그 목록의 분석 성능 (업로드 파일 분석 경로)
+ * - countByLevel: LogAnalysisServiceImpl.getLogsCountByLevel (레벨별 개수)
+ * - groupByMinute: LogAnalysisServiceImpl.getLogsGroupByMinute (분 × 레벨별 개수)
+ * - 로그는 하루(1,440분) 안의 타임스탬프에 고르게 분포하며, 타임스탬프/서비스/메시지 문자열은 풀에서 공유하여
+ *   1,000만 건에서도 LogEntity 객체 외의 메모리를 줄임 (build.gradle의 jmh 힙 설정 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LogAnalysisBenchmark {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int TIMESTAMP_POOL_SIZE = 86_400; // 하루의 모든 초
+    private static final String[] SERVICES = {"UserService", "PaymentService", "InventoryService"};
+    private static final String[] MESSAGES = {"User login successful: user1", "Low stock warning for item: A1", "Payment failed for order: 1"};
+    private static final Level[] LEVELS = {Level.INFO, Level.WARN, Level.ERROR};
+    private static final List<Level> REQUESTED_LEVELS = List.of(Level.ERROR, Level.WARN, Level.INFO);
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int logCount;
+
+    private final LogAnalysisService logAnalysisService = new LogAnalysisServiceImpl();
+    private List<LogEntity> logs;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2025, 2, 1, 0, 0);
+        String[] timestamps = new String[TIMESTAMP_POOL_SIZE];
+        for (int i = 0; i < TIMESTAMP_POOL_SIZE; i++) {
+            timestamps[i] = start.plusSeconds(i).format(TIMESTAMP_FORMAT);
+        }
+        Random random = new Random(42);
+        logs = new ArrayList<>(logCount);
+        for (int i = 0; i < logCount; i++) {
+            int kind = random.nextInt(LEVELS.length);
+            logs.add(LogEntity.builder()
+                    .timestamp(timestamps[random.nextInt(TIMESTAMP_POOL_SIZE)])
+                    .level(LEVELS[kind])
+                    .serviceName(SERVICES[kind])
+                    .message(MESSAGES[kind])
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Map<Level, Long> countByLevel() {
+        return logAnalysisService.getLogsCountByLevel(logs, REQUESTED_LEVELS);
+    }
+
+    @Benchmark
+    public Map<String, Map<Level, Long>> groupByMinute() {
+        return logAnalysisService.getLogsGroupByMinute(logs);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.humuson.backend.global.util;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 로그 한 줄 파싱 성능 비교
+ * - regex: 기존 정규식 + HashMap + DateTimeFormatter 방식
+ * - singlePass: LogParseUtil의 단일 순회 파서 (ParsedLog 재사용)
+ * - singlePassToEntity: 단일 순회 파싱 후 LogEntity까지 생성 (적재 경로와 동일)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LogParseBenchmark {
+
+    private static final Pattern LEGACY_LOG_PATTERN = Pattern.compile(
+            "^(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2})\\s+(\\w+)\\s+\\[([^\\]]+)\\]\\s+-\\s+\\[([^\\]]+)\\]\\s+-\\s+(.+)$"
+    );
+    private static final String[] SERVICES = {"UserService", "PaymentService", "InventoryService"};
+    private static final String[] LEVELS = {"INFO ", "WARN ", "ERROR"};
+    private static final int LINE_COUNT = 1024;
+
+    private final String[] lines = new String[LINE_COUNT];
+    private final ParsedLog parsedLog = new ParsedLog();
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            lines[i] = String.format("2025-02-%02d %02d:%02d:%02d %s [LogGeneratorServiceImpl] - [%s] - Payment failed for order: %d",
+                    1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    LEVELS[random.nextInt(LEVELS.length)], SERVICES[random.nextInt(SERVICES.length)], random.nextInt(100000));
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> regex() {
+        Matcher matcher = LEGACY_LOG_PATTERN.matcher(nextLine());
+        if (!matcher.matches()) {
+            return null;
+        }
+        Map<String, String> parsed = new HashMap<>();
+        parsed.put("timestamp", LocalDateTime.parse(matcher.group(1), TIMESTAMP_FORMAT).format(TIMESTAMP_FORMAT));
+        parsed.put("level", matcher.group(2));
+        parsed.put("className", matcher.group(3));
+        parsed.put("serviceName", matcher.group(4));
+        parsed.put("message", matcher.group(5));
+        return parsed;
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        blackhole.consume(LogParseUtil.parseLog(nextLine(), parsedLog));
+        blackhole.consume(parsedLog.epochSecond());
+        blackhole.consume(parsedLog.level());
+    }
+
+    @Benchmark
+    public Object singlePassToEntity() {
+        return LogParseUtil.parseLog(nextLine(), parsedLog) ? parsedLog.toLogEntity() : null;
+    }
+
+    private String nextLine() {
+        cursor = (cursor + 1) & (LINE_COUNT - 1);
+        return lines[cursor];
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.humuson.backend.infrastructure.log.template;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 메시지 템플릿 추출(Drain 파스 트리) 처리량과 메모리 상한 확인
+ * - generated: LogGeneratorService와 같은 3가지 메시지 (적은 템플릿, 파라미터만 다름)
+ * - mixed: 길이와 앞쪽 토큰이 다양한 templates개 패턴에 파라미터를 섞은 메시지
+ * - random: 매번 새로운 단어로 만든 메시지 (템플릿이 계속 생기는 최악의 경우, maxTemplates에서 제거가 반복됨)
+ * - 각 반복이 끝나면 템플릿 수가 maxTemplates, 노드 수가 maxTemplates × (depth - 1) 이하인지 확인하고 넘으면 실패
+ *   (./gradlew jmh 실행 시 -prof gc를 추가하면 메시지당 할당량도 확인 가능)
+ * - 기준: 로드 생성기 기본값(log.generator.rate-per-second = 10,000건/초)보다 충분히 높은 처리량
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DrainParseTreeBenchmark {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_TEMPLATES = 1000;
+    private static final int MESSAGE_COUNT = 1 << 14;
+    private static final String[] WORDS = {"connection", "timeout", "user", "order", "payment", "cache", "retry", "queue",
+            "request", "session", "refused", "closed", "started", "completed", "failed", "expired"};
+
+    @Param({"100", "5000"})
+    public int templates; // mixed 메시지의 패턴 수 (5000이면 maxTemplates를 넘으므로 제거가 함께 일어남)
+
+    private final String[] generated = new String[MESSAGE_COUNT];
+    private final String[] mixed = new String[MESSAGE_COUNT];
+    private final Random random = new Random(42);
+    private final AtomicLong sequence = new AtomicLong();
+    private DrainParseTree parseTree;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            generated[i] = switch (random.nextInt(3)) {
+                case 0 -> "User login successful: user" + random.nextInt(1000);
+                case 1 -> "Low stock warning for item: A" + random.nextInt(100);
+                default -> "Payment failed for order: " + random.nextInt(100000);
+            };
+            mixed[i] = mixedMessage(random.nextInt(templates));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetTree() {
+        parseTree = new DrainParseTree(DEPTH, 0.4, 100, MAX_TEMPLATES, () -> Long.toHexString(sequence.incrementAndGet()), evicted -> {
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyBounded() {
+        if (parseTree.size() > MAX_TEMPLATES || parseTree.nodeCount() > MAX_TEMPLATES * (DEPTH - 1)) {
+            throw new IllegalStateException("템플릿 수 또는 노드 수가 상한을 넘었습니다: templates=" + parseTree.size() + ", nodes=" + parseTree.nodeCount());
+        }
+    }
+
+    @Benchmark
+    public DrainParseTree.Template generated() {
+        return parseTree.add(generated[next()]);
+    }
+
+    @Benchmark
+    public DrainParseTree.Template mixed() {
+        return parseTree.add(mixed[next()]);
+    }
+
+    @Benchmark
+    public DrainParseTree.Template random() {
+        StringBuilder message = new StringBuilder();
+        int length = 3 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            message.append(WORDS[random.nextInt(WORDS.length)]).append((char) ('a' + random.nextInt(26))).append(' ');
+        }
+        return parseTree.add(message.toString());
+    }
+
+    /**
+     * 패턴 번호로 단어 조합과 길이가 정해지는 메시지 (숫자 파라미터와 가끔 바뀌는 단어 포함)
+     * - 패턴마다 다른 단어가 되도록 단어 뒤에 패턴 번호를 알파벳으로 붙임 (숫자를 붙이면 파라미터로 취급됨)
+     */
+    private String mixedMessage(int pattern) {
+        Random patternRandom = new Random(pattern);
+        int length = 4 + patternRandom.nextInt(8);
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int kind = patternRandom.nextInt(6);
+            if (kind == 0) {
+                message.append("id=").append(random.nextInt(1_000_000));
+            } else if (kind == 1 && i > 1) {
+                message.append(WORDS[random.nextInt(WORDS.length)]);
+            } else {
+                message.append(WORDS[patternRandom.nextInt(WORDS.length)]).append((char) ('a' + pattern % 26)).append((char) ('a' + pattern / 26 % 26));
+            }
+            message.append(' ');
+        }
+        return message.toString();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (MESSAGE_COUNT - 1);
+        return cursor;
+    }
+
+}
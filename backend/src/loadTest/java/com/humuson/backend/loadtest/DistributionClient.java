@@ -0,0 +1,44 @@
+package com.humuson.backend.loadtest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * /log/ws-distribution 클라이언트
+ * - 웹 UI와 같이 연결 직후와 이후 일정 간격으로 분포를 요청하고, 서버가 보내는 분포 갱신도 받음
+ * - 분포를 받을 때마다, 이전 수신 이후 저장이 끝난 로그 중 가장 먼저 예정된 로그의 예정 시각부터 수신까지를 기록
+ *   (분포에 반영되기를 가장 오래 기다린 로그의 대기 시간, 즉 화면에 보이는 분포가 뒤처진 정도)
+ */
+final class DistributionClient extends LoadTestClient {
+
+    static final String REQUEST = "{\"type\":\"logDistribution\"}";
+
+    private final IngestDriver driver;
+    private final LatencyStats latency;
+    private final AtomicLong updates;
+    private long reflected; // 이전 수신 시점에 저장이 끝난 로그 수 (다음에 반영될 로그의 seq)
+
+    DistributionClient(IngestDriver driver, LatencyStats latency, AtomicLong updates, AtomicInteger disconnected) {
+        super(disconnected);
+        this.driver = driver;
+        this.latency = latency;
+        this.updates = updates;
+    }
+
+    void requestDistribution() {
+        if (webSocket() != null && !webSocket().isOutputClosed()) {
+            webSocket().sendText(REQUEST, true);
+        }
+    }
+
+    @Override
+    protected void onMessage(String payload, long receivedNanos) {
+        updates.incrementAndGet();
+        long completed = driver.completed();
+        if (completed > reflected) {
+            latency.record(receivedNanos - driver.intendedNanos(reflected));
+            reflected = completed;
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.humuson.backend.loadtest;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.service.LogWriteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 정해진 속도로 로그를 적재하는 부하 생성기
+ * - 실시간 로그와 같은 경로(LogWriteBuffer → insertMany → LogIngestedEvent)로 제출
+ * - 로그 번호(seq)마다 예정된 제출 시각이 정해져 있고 (시작 + seq / rate), 메시지에 seq를 담음
+ *   (수신 측은 seq로 예정 시각을 구하므로, 쓰기 버퍼가 가득 차 제출이 밀린 시간도 지연 시간에 포함됨)
+ * - 쓰기 버퍼는 한 스레드가 제출 순서대로 저장하므로, 완료된 로그 수가 n이면 seq < n인 로그는 모두 처리가 끝난 상태
+ *   (버퍼 포화로 제출이 거부된 로그가 있으면 근사값)
+ */
+final class IngestDriver {
+
+    static final String MESSAGE_PREFIX = "Load test message seq=";
+    private static final String[] SERVICES = {"UserService", "PaymentService", "InventoryService"};
+
+    private final LogWriteBuffer logWriteBuffer;
+    private final int rate;
+    private final LatencyStats ackLatency = new LatencyStats(); // 예정 시각부터 MongoDB 저장 완료까지
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong acked = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile long startNanos;
+    private volatile boolean running;
+    private Thread thread;
+
+    IngestDriver(LogWriteBuffer logWriteBuffer, int rate) {
+        this.logWriteBuffer = logWriteBuffer;
+        this.rate = rate;
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+        running = true;
+        thread = new Thread(this::driveLoop, "load-test-ingest-driver");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        thread.join();
+    }
+
+    /**
+     * 제출한 로그가 모두 완료될 때까지 최대 timeout 동안 대기
+     */
+    boolean awaitCompletion(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (completed() < submitted.get()) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    /**
+     * seq번째 로그의 예정 제출 시각 (System.nanoTime 기준)
+     */
+    long intendedNanos(long seq) {
+        return startNanos + seq * 1_000_000_000L / rate;
+    }
+
+    /**
+     * 저장이 끝난 (성공 또는 실패) 로그 수
+     */
+    long completed() {
+        return acked.get() + failed.get();
+    }
+
+    long submitted() {
+        return submitted.get();
+    }
+
+    long acked() {
+        return acked.get();
+    }
+
+    long failed() {
+        return failed.get();
+    }
+
+    LatencyStats ackLatency() {
+        return ackLatency;
+    }
+
+    /**
+     * 메시지에서 seq를 꺼냄 (부하 생성기가 만든 로그가 아니면 -1)
+     */
+    static long parseSeq(String payload) {
+        int index = payload.indexOf(MESSAGE_PREFIX);
+        if (index < 0) {
+            return -1;
+        }
+        long seq = 0;
+        for (int i = index + MESSAGE_PREFIX.length(); i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            seq = seq * 10 + (c - '0');
+        }
+        return seq;
+    }
+
+    /**
+     * 예정 시각이 된 로그를 제출하고, 앞서 있으면 다음 예정 시각까지 대기
+     * - 제출이 밀렸으면 대기 없이 밀린 로그를 연달아 제출
+     */
+    private void driveLoop() {
+        long seq = 0;
+        while (running) {
+            long intended = intendedNanos(seq);
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            submit(seq++, intended);
+        }
+    }
+
+    private void submit(long seq, long intended) {
+        submitted.incrementAndGet();
+        logWriteBuffer.submit(createLog(seq)).whenComplete((ignored, e) -> {
+            if (e != null) {
+                failed.incrementAndGet();
+                return;
+            }
+            ackLatency.record(System.nanoTime() - intended);
+            acked.incrementAndGet();
+        });
+    }
+
+    private static LogEntity createLog(long seq) {
+        int roll = ThreadLocalRandom.current().nextInt(10);
+        Level level = roll < 7 ? Level.INFO : roll < 9 ? Level.WARN : Level.ERROR;
+        return LogEntity.builder()
+                .timestamp(LocalDateTime.now().format(TIMESTAMP_FORMAT))
+                .level(level)
+                .serviceName(SERVICES[(int) (seq % SERVICES.length)])
+                .message(MESSAGE_PREFIX + seq)
+                .build();
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.humuson.backend.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 지연 시간 분포 (HdrHistogram)
+ * - 여러 스레드가 동시에 기록하고 (Recorder), 보고 주기마다 구간 분포를 꺼내 누적 분포에 더함
+ * - 유효 숫자 3자리, 최대 10분까지 기록 (넘는 값은 10분으로 기록)
+ */
+final class LatencyStats {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private Histogram interval;
+
+    void record(long nanos) {
+        recorder.recordValue(Math.min(Math.max(nanos, 0), HIGHEST_TRACKABLE_NANOS));
+    }
+
+    /**
+     * 마지막 호출 이후 기록된 분포를 꺼내 누적 분포에 더하고 반환
+     */
+    synchronized Histogram interval() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+        return interval;
+    }
+
+    /**
+     * 지금까지 기록된 분포를 버림 (예열이 끝났을 때 호출)
+     */
+    synchronized void reset() {
+        interval();
+        total.reset();
+    }
+
+    synchronized Map<String, Object> summary() {
+        interval();
+        return summarize(total);
+    }
+
+    static Map<String, Object> summarize(Histogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("p50Ms", toMillis(histogram.getValueAtPercentile(50)));
+        summary.put("p90Ms", toMillis(histogram.getValueAtPercentile(90)));
+        summary.put("p99Ms", toMillis(histogram.getValueAtPercentile(99)));
+        summary.put("p999Ms", toMillis(histogram.getValueAtPercentile(99.9)));
+        summary.put("maxMs", toMillis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+}
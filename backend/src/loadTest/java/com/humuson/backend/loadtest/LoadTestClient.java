@@ -0,0 +1,71 @@
+package com.humuson.backend.loadtest;
+
+import java.net.http.WebSocket;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 합성 WebSocket 클라이언트의 공통 부분
+ * - 여러 프레임으로 나뉘어 도착한 텍스트 메시지를 모아서 onMessage로 전달
+ * - 연결이 끊긴 클라이언트 수를 기록 (서버가 느린 클라이언트로 보고 끊은 경우 포함)
+ */
+abstract class LoadTestClient implements WebSocket.Listener {
+
+    private final AtomicInteger disconnected;
+    private final StringBuilder partial = new StringBuilder();
+    private volatile WebSocket webSocket;
+
+    protected LoadTestClient(AtomicInteger disconnected) {
+        this.disconnected = disconnected;
+    }
+
+    /**
+     * 완성된 텍스트 메시지 하나를 처리
+     *
+     * @param payload      메시지 본문
+     * @param receivedNanos 마지막 프레임을 받은 시각 (System.nanoTime 기준)
+     */
+    protected abstract void onMessage(String payload, long receivedNanos);
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        this.webSocket = webSocket;
+        webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        long receivedNanos = System.nanoTime();
+        partial.append(data);
+        if (last) {
+            String payload = partial.toString();
+            partial.setLength(0);
+            onMessage(payload, receivedNanos);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        disconnected.incrementAndGet();
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        disconnected.incrementAndGet();
+    }
+
+    protected WebSocket webSocket() {
+        return webSocket;
+    }
+
+    void close() {
+        WebSocket current = webSocket;
+        if (current != null && !current.isOutputClosed()) {
+            current.sendClose(WebSocket.NORMAL_CLOSURE, "load test finished");
+        }
+    }
+
+}
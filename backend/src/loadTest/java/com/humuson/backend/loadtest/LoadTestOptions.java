@@ -0,0 +1,58 @@
+package com.humuson.backend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * 부하 테스트 옵션 (--이름=값 형식의 실행 인자, ./gradlew loadTest -PloadTest.이름=값으로 전달)
+ *
+ * @param rate                        초당 적재할 로그 개수
+ * @param warmup                      측정 전 예열 시간 (이 동안의 결과는 최종 보고서에서 제외)
+ * @param duration                    측정 시간
+ * @param streamClients               /log/ws-stream 클라이언트 수
+ * @param distributionClients         /log/ws-distribution 클라이언트 수
+ * @param distributionRequestInterval 분포 클라이언트가 분포를 직접 요청하는 간격 (웹 UI와 같이 기본 1분)
+ * @param report                      결과(JSON)를 기록할 파일
+ */
+record LoadTestOptions(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int streamClients,
+        int distributionClients,
+        Duration distributionRequestInterval,
+        Path report
+) {
+
+    private static final Set<String> NAMES = Set.of("rate", "warmup", "duration", "stream-clients", "distribution-clients",
+            "distribution-request-interval", "report");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0 || !NAMES.contains(arg.substring(2, separator))) {
+                throw new IllegalArgumentException("알 수 없는 옵션입니다 (사용 가능: " + NAMES + "): " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "5000")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("stream-clients", "200")),
+                Integer.parseInt(values.getOrDefault("distribution-clients", "200")),
+                DurationStyle.detectAndParse(values.getOrDefault("distribution-request-interval", "60s")),
+                Path.of(values.getOrDefault("report", "build/results/load-test/report.json")));
+        if (options.rate() <= 0 || options.duration().isZero() || options.duration().isNegative() || options.warmup().isNegative()
+                || options.streamClients() < 0 || options.distributionClients() < 0 || options.distributionRequestInterval().isZero()) {
+            throw new IllegalArgumentException("rate, duration, distribution-request-interval은 0보다 커야 하고, warmup과 클라이언트 수는 0 이상이어야 합니다: " + options);
+        }
+        return options;
+    }
+
+}
@@ -0,0 +1,198 @@
+package com.humuson.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.backend.BackendApplication;
+import com.humuson.backend.domain.log.service.LogWriteBuffer;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 적재부터 WebSocket 클라이언트 수신까지의 지연 시간과 처리량을 측정하는 부하 테스트
+ * - 내장 MongoDB(flapdoodle)와 애플리케이션을 한 프로세스에서 띄우므로 Docker나 외부 MongoDB 없이 한 대에서 실행
+ *   (처음 실행할 때 MongoDB 바이너리를 내려받음)
+ * - /log/ws-stream, /log/ws-distribution에 합성 클라이언트를 연결한 뒤, 정해진 속도로 실시간 로그를 적재
+ * - 1초마다 구간 처리량과 지연 시간을 출력하고, 끝나면 예열 이후의 백분위 지연 시간과 처리량을 JSON으로 기록
+ * - 클라이언트도 같은 프로세스에서 실행되므로, 결과는 서버와 클라이언트가 CPU를 나눠 쓴 상태의 값
+ * - 실행: ./gradlew loadTest -PloadTest.rate=10000 -PloadTest.stream-clients=500 (옵션은 LoadTestOptions 참고)
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DELIVERY_GRACE = Duration.ofSeconds(2); // 저장이 끝난 뒤 마지막 전송을 기다리는 시간
+
+    private final LoadTestOptions options;
+    private final LatencyStats streamLatency = new LatencyStats();
+    private final LatencyStats distributionLatency = new LatencyStats();
+    private final AtomicLong streamDelivered = new AtomicLong();
+    private final AtomicLong distributionUpdates = new AtomicLong();
+    private final AtomicInteger disconnected = new AtomicInteger();
+    private final List<StreamClient> streamClients = new ArrayList<>();
+    private final List<DistributionClient> distributionClients = new ArrayList<>();
+
+    private LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (TransitionWalker.ReachedState<RunningMongodProcess> mongod = Mongod.instance().start(Version.Main.V7_0)) {
+            ServerAddress address = mongod.current().getServerAddress();
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class).run(
+                    "--server.port=0",
+                    "--spring.docker.compose.enabled=false",
+                    "--spring.data.mongodb.uri=mongodb://" + address.getHost() + ":" + address.getPort() + "/logs",
+                    "--log.tail.enabled=false")) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                new LoadTestRunner(options).run(port, context.getBean(LogWriteBuffer.class));
+            }
+        }
+    }
+
+    private void run(int port, LogWriteBuffer logWriteBuffer) throws Exception {
+        IngestDriver driver = new IngestDriver(logWriteBuffer, options.rate());
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).build();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            connect(httpClient, port, driver);
+            distributionClients.forEach(DistributionClient::requestDistribution);
+            scheduler.scheduleAtFixedRate(() -> distributionClients.forEach(DistributionClient::requestDistribution),
+                    options.distributionRequestInterval().toMillis(), options.distributionRequestInterval().toMillis(), TimeUnit.MILLISECONDS);
+
+            log.info("부하 테스트 시작: rate={}/s, warmup={}, duration={}, stream-clients={}, distribution-clients={}",
+                    options.rate(), options.warmup(), options.duration(), options.streamClients(), options.distributionClients());
+            driver.start();
+            report(driver, options.warmup(), "예열");
+            driver.ackLatency().reset();
+            streamLatency.reset();
+            distributionLatency.reset();
+            long measureStartNanos = System.nanoTime();
+            long ackedAtStart = driver.acked();
+            long deliveredAtStart = streamDelivered.get();
+            report(driver, options.duration(), "측정");
+            double measuredSeconds = (System.nanoTime() - measureStartNanos) / 1e9;
+            long ackedInWindow = driver.acked() - ackedAtStart;
+            long deliveredInWindow = streamDelivered.get() - deliveredAtStart;
+
+            driver.stop();
+            boolean drained = driver.awaitCompletion(DRAIN_TIMEOUT);
+            Thread.sleep(DELIVERY_GRACE.toMillis());
+            writeReport(driver, drained, measuredSeconds, ackedInWindow, deliveredInWindow);
+        } finally {
+            scheduler.shutdownNow();
+            streamClients.forEach(LoadTestClient::close);
+            distributionClients.forEach(LoadTestClient::close);
+        }
+    }
+
+    private void connect(HttpClient httpClient, int port, IngestDriver driver) {
+        List<CompletableFuture<?>> connections = new ArrayList<>();
+        for (int i = 0; i < options.streamClients(); i++) {
+            StreamClient client = new StreamClient(driver, streamLatency, streamDelivered, disconnected);
+            streamClients.add(client);
+            connections.add(httpClient.newWebSocketBuilder().buildAsync(URI.create("ws://localhost:" + port + "/log/ws-stream"), client));
+        }
+        for (int i = 0; i < options.distributionClients(); i++) {
+            DistributionClient client = new DistributionClient(driver, distributionLatency, distributionUpdates, disconnected);
+            distributionClients.add(client);
+            connections.add(httpClient.newWebSocketBuilder().buildAsync(URI.create("ws://localhost:" + port + "/log/ws-distribution"), client));
+        }
+        CompletableFuture.allOf(connections.toArray(CompletableFuture[]::new)).orTimeout(CONNECT_TIMEOUT.toSeconds(), TimeUnit.SECONDS).join();
+        log.info("WebSocket 클라이언트 {}개 연결 완료", connections.size());
+    }
+
+    /**
+     * phase 동안 1초마다 구간 처리량과 지연 시간을 출력
+     */
+    private void report(IngestDriver driver, Duration phase, String name) throws InterruptedException {
+        long end = System.nanoTime() + phase.toNanos();
+        long lastAcked = driver.acked();
+        long lastDelivered = streamDelivered.get();
+        while (System.nanoTime() < end) {
+            Thread.sleep(Math.min(1000, Math.max(1, TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime()))));
+            long acked = driver.acked();
+            long delivered = streamDelivered.get();
+            Histogram ack = driver.ackLatency().interval();
+            Histogram stream = streamLatency.interval();
+            Histogram distribution = distributionLatency.interval();
+            log.info("[{}] 적재 {}/s (대기 {}), 저장 p99 {}ms, stream 수신 {}/s p50 {}ms p99 {}ms, distribution p99 {}ms, 연결 끊김 {}",
+                    name, acked - lastAcked, driver.submitted() - driver.completed(),
+                    LatencyStats.toMillis(ack.getValueAtPercentile(99)),
+                    delivered - lastDelivered,
+                    LatencyStats.toMillis(stream.getValueAtPercentile(50)), LatencyStats.toMillis(stream.getValueAtPercentile(99)),
+                    LatencyStats.toMillis(distribution.getValueAtPercentile(99)), disconnected.get());
+            lastAcked = acked;
+            lastDelivered = delivered;
+        }
+    }
+
+    private void writeReport(IngestDriver driver, boolean drained, double measuredSeconds, long ackedInWindow, long deliveredInWindow) throws Exception {
+        long expectedDeliveries = driver.acked() * options.streamClients();
+
+        Map<String, Object> ingest = new LinkedHashMap<>();
+        ingest.put("submitted", driver.submitted());
+        ingest.put("acked", driver.acked());
+        ingest.put("failed", driver.failed());
+        ingest.put("drained", drained);
+        ingest.put("throughputPerSecond", Math.round(ackedInWindow / measuredSeconds));
+        ingest.put("latency", driver.ackLatency().summary());
+
+        Map<String, Object> stream = new LinkedHashMap<>();
+        stream.put("clients", options.streamClients());
+        stream.put("delivered", streamDelivered.get());
+        stream.put("expected", expectedDeliveries);
+        stream.put("deliveryRatio", expectedDeliveries == 0 ? 1.0 : (double) streamDelivered.get() / expectedDeliveries);
+        stream.put("throughputPerSecond", Math.round(deliveredInWindow / measuredSeconds));
+        stream.put("latency", streamLatency.summary());
+
+        Map<String, Object> distribution = new LinkedHashMap<>();
+        distribution.put("clients", options.distributionClients());
+        distribution.put("updates", distributionUpdates.get());
+        distribution.put("staleness", distributionLatency.summary());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", Map.of(
+                "rate", options.rate(),
+                "warmupSeconds", options.warmup().toSeconds(),
+                "durationSeconds", options.duration().toSeconds(),
+                "streamClients", options.streamClients(),
+                "distributionClients", options.distributionClients()));
+        report.put("measuredSeconds", measuredSeconds);
+        report.put("disconnectedClients", disconnected.get());
+        report.put("ingest", ingest);
+        report.put("stream", stream);
+        report.put("distribution", distribution);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        if (options.report().getParent() != null) {
+            Files.createDirectories(options.report().getParent());
+        }
+        Files.writeString(options.report(), json);
+        log.info("부하 테스트 결과 ({}):\n{}", options.report().toAbsolutePath(), json);
+    }
+
+}
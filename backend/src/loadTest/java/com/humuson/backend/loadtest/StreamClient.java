@@ -0,0 +1,36 @@
+package com.humuson.backend.loadtest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * /log/ws-stream 클라이언트
+ * - 로그 하나를 받을 때마다 예정 제출 시각부터 수신까지의 지연 시간을 기록
+ * - 연결 직후 받는 초기 로그 목록(JSON 배열)과 부하 생성기가 만들지 않은 로그는 무시
+ */
+final class StreamClient extends LoadTestClient {
+
+    private final IngestDriver driver;
+    private final LatencyStats latency;
+    private final AtomicLong delivered;
+
+    StreamClient(IngestDriver driver, LatencyStats latency, AtomicLong delivered, AtomicInteger disconnected) {
+        super(disconnected);
+        this.driver = driver;
+        this.latency = latency;
+        this.delivered = delivered;
+    }
+
+    @Override
+    protected void onMessage(String payload, long receivedNanos) {
+        if (payload.startsWith("[")) {
+            return;
+        }
+        long seq = IngestDriver.parseSeq(payload);
+        if (seq >= 0) {
+            latency.record(receivedNanos - driver.intendedNanos(seq));
+            delivered.incrementAndGet();
+        }
+    }
+
+}
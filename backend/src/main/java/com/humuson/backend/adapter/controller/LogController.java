@@ -3,70 +3,307 @@ package com.humuson.backend.adapter.controller;
 import com.humuson.backend.application.log.usecase.LogUseCase;
 import com.humuson.backend.domain.log.model.dto.response.GetCountLogResponse;
 import com.humuson.backend.domain.log.model.dto.response.GetFilteredLogResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogCacheStatsResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogCursorResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogDistributionResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogRollupResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogSearchResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogTemplateDistributionResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogTemplateTopResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogTopKResponse;
 import com.humuson.backend.domain.log.model.dto.response.UploadLogResponse;
+import com.humuson.backend.domain.log.model.entity.TopKDimension;
 import com.humuson.backend.global.model.dto.Result;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import java.io.IOException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
 /**
  * 로그 관련 기능을 제공하는 컨트롤러
  * - 로그 레벨 분석
  * - 특정 레벨의 로그 필터링
+ * - 로그 분포 조회
+ * - 집계 캐시 통계 조회
+ * - 로그 메시지 검색
+ * - 로그 레벨별 상위 서비스/메시지 조회
+ * - 메시지 템플릿별 개수 조회
  * - 로그 파일 업로드
+ * - 로그 내보내기
+ * - 조회 API는 Mono를 반환하여 MongoDB 응답을 기다리는 동안 요청 스레드를 반환 (비동기 처리)
  */
 @RestController
 @RequestMapping("/logs")
 @RequiredArgsConstructor
 public class LogController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
     private final LogUseCase logUseCase;
 
     /**
-     * 특정 로그 파일에서 로그 레벨별 개수를 분석하여 반환
+     * 로그 레벨별 개수를 분석하여 반환
      *
-     * @param fileName 분석할 로그 파일 이름 (기본값: "app.log")
-     * @param levels   분석할 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param fileName    분석할 업로드 로그 파일 이름 (생략 시 MongoDB에 적재된 로그 기준)
+     * @param levels      분석할 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param start       분석 시작 시간 (ISO-8601, 예: "2025-02-01T10:00:00")
+     * @param end         분석 종료 시간 (ISO-8601)
+     * @param serviceName 분석할 서비스 이름 (예: "PaymentService")
      * @return 로그 레벨별 개수를 담은 응답 객체
-     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
      */
     @GetMapping("/analyze")
-    public Result<GetCountLogResponse> getAnalyzeLogByLevel(
+    public Mono<Result<GetCountLogResponse>> getAnalyzeLogByLevel(
             @RequestParam(required = false) String fileName,
-            @RequestParam(required = false) String levels
+            @RequestParam(required = false) String levels,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String serviceName
     ) {
-        return Result.of(logUseCase.analyzeLogLevels(levels));
+        return logUseCase.analyzeLogLevels(fileName, levels, start, end, serviceName).map(Result::of);
     }
 
     /**
      * 특정 로그 파일에서 지정한 로그 레벨에 해당하는 로그를 페이징하여 조회
      *
-     * @param fileName 분석할 로그 파일 이름 (기본값: "app.log")
+     * @param fileName 조회할 업로드 로그 파일 이름 (생략 시 MongoDB에 적재된 로그 기준)
      * @param levels   조회할 로그 레벨 (예: "ERROR,WARN,INFO")
-     * @param page     페이지 번호 (기본값: 0)
-     * @param size     페이지 크기 (기본값: 20)
+     * @param start    조회 시작 시간 (ISO-8601, 파일 조회에만 적용)
+     * @param end      조회 종료 시간 (ISO-8601, 파일 조회에만 적용)
+     * @param page     페이지 번호 (기본값: 0, 0 이상)
+     * @param size     페이지 크기 (기본값: 20, 1~1000)
      * @return 필터링된 로그 목록을 포함한 응답 객체
-     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
      */
     @GetMapping("/errors")
-    public Result<GetFilteredLogResponse> getFilteredLogs(
+    public Mono<Result<GetFilteredLogResponse>> getFilteredLogs(
             @RequestParam(required = false) String fileName,
             @RequestParam(required = false) String levels,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size
+    ) {
+        return logUseCase.filterLogsByLevel(fileName, levels, start, end, page, size).map(Result::of);
+    }
+
+    /**
+     * 지정한 로그 레벨에 해당하는 로그를 커서 기반으로 조회 (최신순)
+     * - 페이지 깊이와 관계없이 페이지당 조회 비용이 일정
+     *
+     * @param levels       조회할 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param cursor       이전 응답의 nextCursor (생략 시 첫 페이지)
+     * @param size         페이지 크기 (기본값: 20)
+     * @param includeTotal 전체 로그 개수 포함 여부 (기본값: false, 최대 10초 전 값)
+     * @return 로그 목록과 다음 페이지 커서를 포함한 응답 객체
+     */
+    @GetMapping("/errors/cursor")
+    public Mono<Result<GetLogCursorResponse>> getFilteredLogsByCursor(
+            @RequestParam(required = false) String levels,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        return Result.of(logUseCase.filterLogsByLevel(levels, page, size));
+        return logUseCase.filterLogsByLevelWithCursor(levels, cursor, size, includeTotal).map(Result::of);
     }
 
     /**
-     * 로그 파일을 업로드하여 저장
+     * 시간 범위 내의 로그를 분 단위, 로그 레벨별로 집계
+     *
+     * @param fileName 집계할 업로드 로그 파일 이름 (생략 시 MongoDB에 적재된 로그 기준)
+     * @param start    집계 시작 시간 (ISO-8601)
+     * @param end      집계 종료 시간 (ISO-8601)
+     * @return 분별 로그 레벨별 개수를 담은 응답 객체
+     */
+    @GetMapping("/distribution")
+    public Mono<Result<GetLogDistributionResponse>> getLogDistribution(
+            @RequestParam(required = false) String fileName,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime end
+    ) {
+        return logUseCase.getLogDistribution(fileName, start, end).map(Result::of);
+    }
+
+    /**
+     * 시간 범위 내의 로그 분포를 분/시/일 롤업으로 조회
+     * - 버킷 수가 maxPoints 이하인 가장 세밀한 해상도(MINUTE, HOUR, DAY)를 선택
+     *
+     * @param start       조회 시작 시간 (ISO-8601)
+     * @param end         조회 종료 시간 (ISO-8601)
+     * @param serviceName 조회할 서비스 이름 (생략 시 모든 서비스 합계)
+     * @param maxPoints   최대 버킷 수 (생략 시 log.rollup.default-max-points)
+     * @return 선택된 해상도와 버킷별 로그 레벨별 개수를 담은 응답 객체
+     */
+    @GetMapping("/distribution/rollup")
+    public Mono<Result<GetLogRollupResponse>> getLogRollupDistribution(
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String serviceName,
+            @RequestParam(required = false) @Min(1) @Max(10000) Integer maxPoints
+    ) {
+        return logUseCase.getLogRollupDistribution(start, end, serviceName, maxPoints).map(Result::of);
+    }
+
+    /**
+     * 분 단위 집계 캐시(/logs/analyze, /logs/distribution)의 적중/실패 통계를 조회
+     *
+     * @return 캐시 통계를 담은 응답 객체
+     */
+    @GetMapping("/cache/stats")
+    public Result<GetLogCacheStatsResponse> getQueryCacheStats() {
+        return Result.of(logUseCase.getQueryCacheStats());
+    }
+
+    /**
+     * 메시지에 검색어의 모든 토큰을 포함하는 로그를 최신순으로 검색
+     *
+     * @param q      검색어 (예: "order 48213", "user512")
+     * @param levels 검색할 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param start  검색 시작 시간 (ISO-8601)
+     * @param end    검색 종료 시간 (ISO-8601)
+     * @param size   반환할 최대 로그 개수 (기본값: 20)
+     * @return 검색된 로그 목록과 전체 일치 개수를 포함한 응답 객체
+     */
+    @GetMapping("/search")
+    public Mono<Result<GetLogSearchResponse>> searchLogs(
+            @RequestParam @NotBlank String q,
+            @RequestParam(required = false) String levels,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size
+    ) {
+        return logUseCase.searchLogs(q, levels, start, end, size).map(Result::of);
+    }
+
+    /**
+     * 최근 구간에서 지정한 로그 레벨로 가장 많이 나타난 서비스/메시지를 조회 (Count-Min Sketch 추정)
+     *
+     * @param level         로그 레벨 (기본값: ERROR)
+     * @param by            집계 기준 (SERVICE, MESSAGE, 기본값: SERVICE)
+     * @param windowMinutes 조회 범위 (분, 기본값: 5)
+     * @param k             반환할 최대 개수 (기본값: 10)
+     * @return 상위 K개와 오차 범위를 담은 응답 객체
+     */
+    @GetMapping("/top")
+    public Result<GetLogTopKResponse> getTopK(
+            @RequestParam(defaultValue = "ERROR") String level,
+            @RequestParam(defaultValue = "SERVICE") TopKDimension by,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(1440) int windowMinutes,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int k
+    ) {
+        return Result.of(logUseCase.getTopK(level, by, windowMinutes, k));
+    }
+
+    /**
+     * 최근 구간에서 로그가 가장 많은 메시지 템플릿을 조회 (예: "Payment failed for order: <*>")
+     *
+     * @param level         집계할 로그 레벨 (생략 시 모든 레벨)
+     * @param windowMinutes 조회 범위 (분, 기본값: 60)
+     * @param k             반환할 최대 개수 (기본값: 10)
+     * @return 상위 템플릿과 템플릿별 로그 레벨별 개수를 담은 응답 객체
+     */
+    @GetMapping("/templates/top")
+    public Result<GetLogTemplateTopResponse> getTopTemplates(
+            @RequestParam(required = false) String level,
+            @RequestParam(defaultValue = "60") @Min(1) @Max(1440) int windowMinutes,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(1000) int k
+    ) {
+        return Result.of(logUseCase.getTopTemplates(level, windowMinutes, k));
+    }
+
+    /**
+     * 최근 구간에서 메시지 템플릿 하나의 분 단위, 로그 레벨별 개수를 조회
+     *
+     * @param templateId    템플릿 ID (로그의 templateId)
+     * @param windowMinutes 조회 범위 (분, 기본값: 60)
+     * @return 템플릿과 분별 로그 레벨별 개수를 담은 응답 객체
+     */
+    @GetMapping("/templates/{templateId}")
+    public Result<GetLogTemplateDistributionResponse> getTemplateDistribution(
+            @PathVariable String templateId,
+            @RequestParam(defaultValue = "60") @Min(1) @Max(1440) int windowMinutes
+    ) {
+        return Result.of(logUseCase.getTemplateDistribution(templateId, windowMinutes));
+    }
+
+    /**
+     * 조건에 맞는 로그를 NDJSON(한 줄에 하나의 JSON)으로 내보내기
+     * - MongoDB 커서에서 읽는 대로 응답에 기록하므로 로그 개수와 관계없이 메모리 사용량이 일정
+     *
+     * @param levels      내보낼 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param start       내보낼 시작 시간 (ISO-8601)
+     * @param end         내보낼 종료 시간 (ISO-8601)
+     * @param serviceName 내보낼 서비스 이름
+     * @param gzip        gzip 압축 여부 (기본값: false)
+     * @return NDJSON 스트리밍 응답
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLogs(
+            @RequestParam(required = false) String levels,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String serviceName,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        StreamingResponseBody body = out -> {
+            if (!gzip) {
+                logUseCase.exportLogs(levels, start, end, serviceName, out);
+                return;
+            }
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE, true)) {
+                logUseCase.exportLogs(levels, start, end, serviceName, gzipOut);
+            }
+        };
+        String fileName = gzip ? "logs.ndjson.gz" : "logs.ndjson";
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    /**
+     * 로그 파일을 업로드하여 저장하고, 적재 작업을 등록
+     * - 적재는 백그라운드에서 실행되므로, 응답의 fileName으로 적재 상태를 조회
      *
      * @param file 업로드할 로그 파일 (Multipart 요청)
-     * @return 업로드된 로그 파일 정보 응답 객체
+     * @return 저장된 파일 이름 및 적재 작업 상태 응답 객체
      */
     @PostMapping("/upload")
     public Result<UploadLogResponse> uploadLog(@RequestParam("file") MultipartFile file) {
         return Result.of(logUseCase.saveLogFile(file));
     }
+
+    /**
+     * 업로드된 로그 파일의 적재 작업 상태를 조회
+     *
+     * @param fileName 업로드 응답으로 받은 파일 이름
+     * @return 적재 작업 상태 응답 객체
+     */
+    @GetMapping("/upload/{fileName}")
+    public Result<UploadLogResponse> getUploadStatus(@PathVariable String fileName) {
+        return Result.of(logUseCase.getUploadStatus(fileName));
+    }
+
+    /**
+     * 업로드된 로그 파일을 다시 적재
+     * - 아직 적재되지 않은 로그만 적재하므로, 실패했거나 중단된 적재를 이어서 할 때 사용
+     *
+     * @param fileName 업로드 응답으로 받은 파일 이름
+     * @return 등록된 적재 작업 상태 응답 객체
+     */
+    @PostMapping("/upload/{fileName}/ingest")
+    public Result<UploadLogResponse> reingestLog(@PathVariable String fileName) {
+        return Result.of(logUseCase.reingestLogFile(fileName));
+    }
 }
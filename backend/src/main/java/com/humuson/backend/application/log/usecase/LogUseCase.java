@@ -1,109 +1,476 @@
 package com.humuson.backend.application.log.usecase;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
 import com.humuson.backend.domain.log.model.dto.response.GetFilteredLogResponse;
 import com.humuson.backend.domain.log.model.dto.response.GetCountLogResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogCacheStatsResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogCursorResponse;
 import com.humuson.backend.domain.log.model.dto.response.GetLogDistributionResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogRollupResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogSearchResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogTemplateDistributionResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogTemplateTopResponse;
+import com.humuson.backend.domain.log.model.dto.response.GetLogTopKResponse;
+import com.humuson.backend.domain.log.model.dto.result.LogRateAlert;
+import com.humuson.backend.domain.log.model.dto.result.LogTopK;
+import com.humuson.backend.domain.log.model.dto.result.LogSearchHits;
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateDistribution;
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateTop;
 import com.humuson.backend.domain.log.model.dto.response.UploadLogResponse;
 import com.humuson.backend.domain.log.model.entity.Level;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
-import com.humuson.backend.domain.log.service.LogAnalysisService;
+import com.humuson.backend.domain.log.model.entity.TopKDimension;
+import com.humuson.backend.domain.log.service.LogAnomalyService;
+import com.humuson.backend.domain.log.service.LogCountCache;
+import com.humuson.backend.domain.log.service.LogDistributionCounter;
+import com.humuson.backend.domain.log.service.LogIngestJobService;
 import com.humuson.backend.domain.log.service.LogQueryService;
+import com.humuson.backend.domain.log.service.LogRollupService;
+import com.humuson.backend.domain.log.service.LogSearchService;
+import com.humuson.backend.domain.log.service.LogTemplateService;
+import com.humuson.backend.domain.log.service.LogTopKService;
 import com.humuson.backend.domain.log.service.LogUploadService;
+import com.humuson.backend.domain.log.service.ReactiveLogQueryService;
+import com.humuson.backend.domain.log.service.RecentLogBuffer;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * 로그 관련 UseCase
  * - 로그 레벨 분석
- * - 로그 분포 조회
+ * - 로그 분포 조회 (분 단위, 분/시/일 롤업)
  * - 최근 로그 조회
  * - 특정 레벨 로그 필터링
- * - 로그 파일 저장
+ * - 로그 메시지 검색
+ * - 로그 레벨별 상위 서비스/메시지 조회
+ * - 메시지 템플릿별 개수 조회
+ * - 로그 발생률 급증 알림 조회
+ * - 로그 파일 저장 및 백그라운드 적재 (적재 상태 조회, 재적재)
+ * - 로그 내보내기 (NDJSON)
+ * - MongoDB 조회는 리액티브 조회 서비스로 실행하여 Mono/Flux로 반환 (요청 스레드를 점유하지 않음)
  */
 @Service
 @RequiredArgsConstructor
 public class LogUseCase {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 1_000; // 내보내기 시 응답으로 flush하는 로그 개수 단위
+
     private final LogQueryService logQueryService; // 로그 조회 서비스
-    private final LogAnalysisService logAnalysisService; // 로그 분석 서비스
+    private final ReactiveLogQueryService reactiveLogQueryService; // 리액티브 로그 조회 서비스
+    private final LogSearchService logSearchService; // 로그 메시지 검색 서비스
+    private final LogTopKService logTopKService; // 로그 상위 K개 집계 서비스
+    private final LogTemplateService logTemplateService; // 로그 메시지 템플릿 서비스
+    private final LogAnomalyService logAnomalyService; // 로그 발생률 급증 감지 서비스
     private final LogUploadService logUploadService; // 로그 업로드 서비스
+    private final LogIngestJobService logIngestJobService; // 업로드 파일 적재 작업 서비스
+    private final LogDistributionCounter logDistributionCounter; // 최근 로그 분포 카운터
+    private final LogCountCache logCountCache; // 분 단위 집계 결과 캐시
+    private final LogRollupService logRollupService; // 분/시/일 단위 로그 롤업 서비스
+    private final RecentLogBuffer recentLogBuffer; // 최근 로그 버퍼
+    private final ObjectMapper objectMapper;
 
     /**
-     * 특정 로그 파일에서 로그 레벨별 개수를 분석
+     * 로그 레벨별 개수를 분석
+     * - 파일 이름이 주어지면 업로드된 로그 파일을 병렬 파싱하여 집계 (파일 I/O는 boundedElastic 스케줄러에서 실행)
+     * - 파일에 시간 범위가 주어지면 시간 색인으로 해당 구간만 파싱
+     * - 파일 이름이 없으면 MongoDB에 적재된 로그를 MongoDB 집계로 계산 (시간 범위, 서비스 조건 적용)
+     * - 서비스 조건 없이 시작/종료 시간이 모두 주어지면 지나간 분은 분 단위 집계 캐시에서 조회
      *
-     * @param levels   분석할 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param fileName    분석할 로그 파일 이름 (선택)
+     * @param levels      분석할 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param start       분석 시작 시간 (선택)
+     * @param end         분석 종료 시간 (선택)
+     * @param serviceName 분석할 서비스 이름 (선택)
      * @return 로그 레벨별 개수를 포함한 응답 객체
      */
-    public GetCountLogResponse analyzeLogLevels(String levels) {
+    public Mono<GetCountLogResponse> analyzeLogLevels(String fileName, String levels, LocalDateTime start, LocalDateTime end, String serviceName) {
         List<Level> parsedLevels = Level.parseLevels(levels);
-        List<LogEntity> logs = logQueryService.getLogsInLevel(parsedLevels);
-        Map<Level, Long> counts = logAnalysisService.getLogsCountByLevel(logs, parsedLevels);
-        return GetCountLogResponse.of(
-                logs.size(),
-                counts.getOrDefault(Level.INFO, 0L),
-                counts.getOrDefault(Level.ERROR, 0L),
-                counts.getOrDefault(Level.WARN, 0L)
-        );
+        if (fileName != null && !fileName.isBlank()) {
+            return Mono.fromCallable(() -> logQueryService.getFileLogsCountByLevel(fileName, start, end))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(counts -> toCountLogResponse(counts, parsedLevels));
+        }
+        LogFilterCondition condition = LogFilterCondition.of(parsedLevels, start, end, serviceName);
+        if (condition.serviceName() == null && start != null && end != null) {
+            return logCountCache.getCountsByLevel(start, end)
+                    .map(counts -> toCountLogResponse(counts, parsedLevels));
+        }
+        return reactiveLogQueryService.getLogsCountByLevel(condition)
+                .map(counts -> toCountLogResponse(counts, parsedLevels));
     }
 
     /**
      * 특정 시간 범위 내에서 로그 분포를 조회
+     * - 최근 구간은 적재 시 갱신되는 분포 카운터에서 조회하고, 그 외 구간은 분 단위 집계 캐시(지나간 분)와 MongoDB 집계로 조회
      *
      * @param start    시작 시간
      * @param end      종료 시간
      * @return 시간별 로그 개수를 포함한 응답 객체
-     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
      */
-    public GetLogDistributionResponse getLogDistribution(LocalDateTime start, LocalDateTime end) throws IOException {
-        List<LogEntity> logs = logQueryService.getLogsByStartAndEnd(start, end);
-        Map<String, Map<Level, Long>> groupedLogs = logAnalysisService.getLogsGroupByMinute(logs);
-        return GetLogDistributionResponse.of(groupedLogs);
+    public Mono<GetLogDistributionResponse> getLogDistribution(LocalDateTime start, LocalDateTime end) {
+        if (logDistributionCounter.covers(start, end)) {
+            return Mono.just(GetLogDistributionResponse.of(logDistributionCounter.getDistribution(start, end)));
+        }
+        return logCountCache.getCountsByMinute(start, end).map(GetLogDistributionResponse::of);
+    }
+
+    /**
+     * 업로드된 로그 파일에서 특정 시간 범위 내의 로그 분포를 조회 (파일 I/O는 boundedElastic 스케줄러에서 실행)
+     *
+     * @param fileName 조회할 로그 파일 이름
+     * @param start    시작 시간
+     * @param end      종료 시간
+     * @return 시간별 로그 개수를 포함한 응답 객체
+     */
+    public Mono<GetLogDistributionResponse> getLogDistribution(String fileName, LocalDateTime start, LocalDateTime end) {
+        if (fileName == null || fileName.isBlank()) {
+            return getLogDistribution(start, end);
+        }
+        return Mono.fromCallable(() -> logQueryService.getFileLogsCountByMinute(fileName, start, end))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(GetLogDistributionResponse::of);
+    }
+
+    /**
+     * 적재 시 누적한 분/시/일 단위 롤업으로 로그 분포를 조회 (MongoDB 조회는 boundedElastic 스케줄러에서 실행)
+     * - 버킷 수가 maxPoints 이하인 가장 세밀한 해상도를 선택하므로, 조회 범위가 길어져도 읽는 문서 수가 일정
+     *
+     * @param start       시작 시간
+     * @param end         종료 시간
+     * @param serviceName 서비스 이름 (선택)
+     * @param maxPoints   최대 버킷 수 (선택)
+     * @return 선택된 해상도와 버킷별 로그 개수를 포함한 응답 객체
+     */
+    public Mono<GetLogRollupResponse> getLogRollupDistribution(LocalDateTime start, LocalDateTime end, String serviceName, Integer maxPoints) {
+        return Mono.fromCallable(() -> logRollupService.getDistribution(start, end, serviceName, maxPoints))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(result -> GetLogRollupResponse.of(result.resolution(), result.distribution()));
+    }
+
+    /**
+     * 분 단위 집계 캐시의 적중/실패 통계를 조회
+     *
+     * @return 캐시 통계 응답 객체
+     */
+    public GetLogCacheStatsResponse getQueryCacheStats() {
+        CacheStats stats = logCountCache.getStats();
+        return GetLogCacheStatsResponse.of(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(), logCountCache.getSize());
+    }
+
+    /**
+     * 최근 로그 분포의 버전을 조회 (로그가 적재되어 분포가 바뀔 때마다 증가)
+     *
+     * @return 로그 분포 버전
+     */
+    public long getLogDistributionVersion() {
+        return logDistributionCounter.getVersion();
     }
 
     /**
      * 특정 로그 파일에서 최신 로그를 지정된 개수만큼 조회
+     * - 최근 로그 버퍼에 요청한 만큼의 로그가 있으면 MongoDB를 조회하지 않음
      *
      * @param limit    조회할 로그 개수 제한
-     * @return 최신 로그 목록
-     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     * @return 최신 로그
      */
-    public List<LogEntity> getRecentLogsByLimit(int limit) throws IOException {
+    public Flux<LogEntity> getRecentLogsByLimit(int limit) {
+        Optional<List<LogEntity>> recentLogs = recentLogBuffer.getLatest(limit);
+        if (recentLogs.isPresent()) {
+            return Flux.fromIterable(recentLogs.get());
+        }
         Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "timestamp"));
-        return logQueryService.getRecentLogsByLimit(pageable);
+        return reactiveLogQueryService.getRecentLogsByLimit(pageable);
     }
 
     /**
      * 특정 로그 파일에서 지정된 로그 레벨에 해당하는 로그를 필터링하고 페이징 처리하여 반환
+     * - 파일 이름이 주어지면 업로드된 로그 파일에서 시간 색인으로 범위만 읽어 최신순으로 페이징 (파일 I/O는 boundedElastic 스케줄러에서 실행)
+     * - 파일 이름이 없으면 MongoDB에 적재된 로그를 조회 (시간 범위는 파일 조회에만 적용)
+     * - 첫 페이지는 최근 로그 버퍼에서 조회하고, 전체 개수는 캐시된 값(최대 10초 전)을 사용
      *
+     * @param fileName 조회할 로그 파일 이름 (선택)
      * @param levels   필터링할 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param start    조회 시작 시간 (선택)
+     * @param end      조회 종료 시간 (선택)
      * @param page     페이지 번호
      * @param size     페이지 크기
      * @return 필터링된 로그 목록을 포함한 응답 객체
      */
-    public GetFilteredLogResponse filterLogsByLevel(String levels, int page, int size) {
+    public Mono<GetFilteredLogResponse> filterLogsByLevel(String fileName, String levels, LocalDateTime start, LocalDateTime end, int page, int size) {
         List<Level> parsedLevels = Level.parseLevels(levels);
+        if (fileName != null && !fileName.isBlank()) {
+            return Mono.fromCallable(() -> getFileLogsPage(fileName, parsedLevels, start, end, page, size))
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+        if (page == 0) {
+            Optional<List<LogEntity>> recentLogs = recentLogBuffer.getLatestInLevels(parsedLevels, size);
+            if (recentLogs.isPresent()) {
+                return reactiveLogQueryService.getCachedLogsCountInLevel(parsedLevels)
+                        .map(total -> GetFilteredLogResponse.of(recentLogs.get(), 0, size, total));
+            }
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "timestamp"));
-        Page<LogEntity> filteredLogs = logQueryService.getPaginatedLogsInLevel(parsedLevels, pageable);
-        return GetFilteredLogResponse.of(filteredLogs.getContent(), filteredLogs.getNumber(), filteredLogs.getSize(), filteredLogs.getTotalElements());
+        return reactiveLogQueryService.getPaginatedLogsInLevel(parsedLevels, pageable)
+                .map(filteredLogs -> GetFilteredLogResponse.of(filteredLogs.getContent(), filteredLogs.getNumber(), filteredLogs.getSize(), filteredLogs.getTotalElements()));
+    }
+
+    /**
+     * 지정된 로그 레벨에 해당하는 로그를 커서 기반으로 페이지 조회 (최신순)
+     * - 요청한 개수보다 하나 더 조회하여 다음 페이지 존재 여부를 판단
+     *
+     * @param levels       조회할 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param cursor       이전 응답의 nextCursor (생략 시 첫 페이지)
+     * @param size         페이지 크기
+     * @param includeTotal 전체 로그 개수 포함 여부 (캐시된 값)
+     * @return 로그 목록과 다음 페이지 커서를 포함한 응답 객체
+     */
+    public Mono<GetLogCursorResponse> filterLogsByLevelWithCursor(String levels, String cursor, int size, boolean includeTotal) {
+        List<Level> parsedLevels = Level.parseLevels(levels);
+        LogCursor decodedCursor = LogCursor.decode(cursor);
+        Mono<List<LogEntity>> logs = reactiveLogQueryService.getLogsInLevelAfter(parsedLevels, decodedCursor, size + 1).collectList();
+        if (!includeTotal) {
+            return logs.map(page -> toCursorResponse(page, size, null));
+        }
+        return Mono.zip(logs, reactiveLogQueryService.getCachedLogsCountInLevel(parsedLevels))
+                .map(result -> toCursorResponse(result.getT1(), size, result.getT2()));
+    }
+
+    /**
+     * 검색어의 모든 토큰을 메시지에 포함하는 로그를 최신순으로 검색
+     * - 역색인에서 로그 ID를 찾은 뒤, 해당 로그만 MongoDB에서 ID로 조회
+     *
+     * @param query  검색어 (예: "order 48213")
+     * @param levels 검색할 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param start  검색 시작 시간 (선택)
+     * @param end    검색 종료 시간 (선택)
+     * @param size   반환할 최대 로그 개수
+     * @return 검색된 로그 목록과 전체 일치 개수를 포함한 응답 객체
+     */
+    public Mono<GetLogSearchResponse> searchLogs(String query, String levels, LocalDateTime start, LocalDateTime end, int size) {
+        LogSearchHits hits = logSearchService.searchLogs(query, Level.parseLevels(levels), start, end, size);
+        Map<String, Integer> order = new HashMap<>();
+        for (int i = 0; i < hits.logIds().size(); i++) {
+            order.put(hits.logIds().get(i), i);
+        }
+        return reactiveLogQueryService.getLogsByIds(hits.logIds())
+                .collectList()
+                .map(logs -> {
+                    logs.sort(Comparator.comparingInt(logEntity -> order.get(logEntity.getId())));
+                    return GetLogSearchResponse.of(logs, hits.totalHits(), hits.indexedFrom(), hits.truncated());
+                });
+    }
+
+    /**
+     * 최근 window 동안 지정된 로그 레벨에서 가장 많이 나타난 서비스/메시지를 조회
+     * - 적재 시 갱신되는 Count-Min Sketch로 추정하므로 로그를 불러오지 않음 (추정 개수는 실제보다 최대 errorBound만큼 큼)
+     *
+     * @param level         로그 레벨 (예: "ERROR")
+     * @param dimension     집계 기준 (SERVICE, MESSAGE)
+     * @param windowMinutes 조회 범위 (분)
+     * @param k             반환할 최대 키 개수
+     * @return 상위 K개와 오차 범위를 포함한 응답 객체
+     */
+    public GetLogTopKResponse getTopK(String level, TopKDimension dimension, int windowMinutes, int k) {
+        LogTopK topK = logTopKService.getTopK(Level.fromString(level), dimension, Duration.ofMinutes(windowMinutes), k);
+        return GetLogTopKResponse.of(topK.level(), topK.dimension(), windowMinutes, topK.totalCount(), topK.errorBound(), topK.items());
+    }
+
+    /**
+     * 상위 K개 집계 버전을 조회 (로그가 적재되어 집계가 바뀔 때마다 증가)
+     *
+     * @return 상위 K개 집계 버전
+     */
+    public long getTopKVersion() {
+        return logTopKService.getVersion();
+    }
+
+    /**
+     * 최근 window 동안 로그가 가장 많은 메시지 템플릿을 조회
+     * - 적재 시 템플릿 × 분 × 로그 레벨로 누적한 개수를 사용하므로 로그를 불러오지 않음
+     *
+     * @param level         집계할 로그 레벨 (예: "ERROR", 생략 시 모든 레벨)
+     * @param windowMinutes 조회 범위 (분)
+     * @param k             반환할 최대 템플릿 개수
+     * @return 상위 템플릿 목록을 포함한 응답 객체
+     */
+    public GetLogTemplateTopResponse getTopTemplates(String level, int windowMinutes, int k) {
+        Level parsedLevel = level != null && !level.isBlank() ? Level.fromString(level) : null;
+        LogTemplateTop top = logTemplateService.getTopTemplates(parsedLevel, Duration.ofMinutes(windowMinutes), k);
+        return GetLogTemplateTopResponse.of(top.level(), windowMinutes, top.totalCount(), top.templateCount(), top.items());
+    }
+
+    /**
+     * 최근 window 동안 메시지 템플릿 하나의 분 단위, 로그 레벨별 개수를 조회
+     *
+     * @param templateId    템플릿 ID
+     * @param windowMinutes 조회 범위 (분)
+     * @return 템플릿의 분 단위 분포를 포함한 응답 객체
+     */
+    public GetLogTemplateDistributionResponse getTemplateDistribution(String templateId, int windowMinutes) {
+        LogTemplateDistribution result = logTemplateService.getDistribution(templateId, Duration.ofMinutes(windowMinutes));
+        return GetLogTemplateDistributionResponse.of(result.templateId(), result.template(), windowMinutes, result.distribution());
+    }
+
+    /**
+     * 최근에 감지된 로그 발생률 급증 알림을 조회
+     *
+     * @return 최근 알림 목록 (오래된 알림부터)
+     */
+    public List<LogRateAlert> getRecentAlerts() {
+        return logAnomalyService.getRecentAlerts();
     }
 
     /**
-     * 업로드된 로그 파일을 저장
+     * 조건에 맞는 로그를 한 줄에 하나의 JSON(NDJSON)으로 출력 스트림에 기록
+     * - MongoDB 커서에서 읽는 대로 기록하므로 로그 개수와 관계없이 메모리 사용량이 일정
+     * - EXPORT_FLUSH_INTERVAL개마다 flush하여 클라이언트가 응답을 나누어(chunked) 받음
+     *
+     * @param levels      내보낼 로그 레벨 (예: "ERROR,WARN,INFO")
+     * @param start       내보낼 시작 시간 (선택)
+     * @param end         내보낼 종료 시간 (선택)
+     * @param serviceName 내보낼 서비스 이름 (선택)
+     * @param out         기록할 출력 스트림 (닫지 않음)
+     * @return 내보낸 로그 개수
+     * @throws IOException 출력 스트림 기록 중 오류 발생 시 예외 발생
+     */
+    public long exportLogs(String levels, LocalDateTime start, LocalDateTime end, String serviceName, OutputStream out) throws IOException {
+        LogFilterCondition condition = LogFilterCondition.of(Level.parseLevels(levels), start, end, serviceName);
+        long exportedCount = 0;
+        try (Stream<LogEntity> logs = logQueryService.streamLogs(condition);
+             SequenceWriter writer = objectMapper.writer()
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<LogEntity> iterator = logs.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++exportedCount % EXPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        if (exportedCount > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return exportedCount;
+    }
+
+    /**
+     * 업로드된 로그 파일에서 최신순 페이지를 조회
+     * - 전체 개수는 로그 엔터티를 만들지 않는 레벨별 집계로 구하고, 로그는 페이지 끝까지(page * size + size개)만 최신순으로 읽음
+     * - 페이지가 전체 개수를 넘으면 로그를 읽지 않음
+     *
+     * @param fileName 조회할 로그 파일 이름
+     * @param levels   조회할 로그 레벨
+     * @param start    조회 시작 시간 (포함, 선택)
+     * @param end      조회 종료 시간 (제외, 선택)
+     * @param page     페이지 번호
+     * @param size     페이지 크기
+     * @return 필터링된 로그 목록을 포함한 응답 객체
+     */
+    private GetFilteredLogResponse getFileLogsPage(String fileName, List<Level> levels, LocalDateTime start, LocalDateTime end, int page, int size) {
+        long total = logQueryService.getFileLogsCountByLevel(fileName, start, end).entrySet().stream()
+                .filter(entry -> levels.contains(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        long from = (long) page * size;
+        if (from >= total) {
+            return GetFilteredLogResponse.of(List.of(), page, size, total);
+        }
+        List<LogEntity> latest = logQueryService.getLatestFileLogs(fileName, levels, start, end, (int) Math.min(from + size, total));
+        return GetFilteredLogResponse.of(latest.subList((int) Math.min(from, latest.size()), latest.size()), page, size, total);
+    }
+
+    /**
+     * 요청한 개수보다 하나 더 조회한 로그 목록을 커서 응답 객체로 변환
+     *
+     * @param logs          최신순으로 조회한 로그 (최대 size + 1개)
+     * @param size          페이지 크기
+     * @param totalElements 전체 로그 개수 (포함하지 않으면 null)
+     * @return 로그 목록과 다음 페이지 커서를 포함한 응답 객체
+     */
+    private GetLogCursorResponse toCursorResponse(List<LogEntity> logs, int size, Long totalElements) {
+        if (logs.size() <= size) {
+            return GetLogCursorResponse.of(logs, null, totalElements);
+        }
+        List<LogEntity> page = logs.subList(0, size);
+        return GetLogCursorResponse.of(page, LogCursor.from(page.get(size - 1)).encode(), totalElements);
+    }
+
+    /**
+     * 레벨별 개수 중 요청한 레벨만 응답 객체로 변환
+     *
+     * @param counts       로그 레벨별 개수
+     * @param parsedLevels 요청한 로그 레벨
+     * @return 로그 레벨별 개수를 포함한 응답 객체
+     */
+    private GetCountLogResponse toCountLogResponse(Map<Level, Long> counts, List<Level> parsedLevels) {
+        long total = parsedLevels.stream().distinct().mapToLong(level -> counts.getOrDefault(level, 0L)).sum();
+        return GetCountLogResponse.of(
+                total,
+                parsedLevels.contains(Level.INFO) ? counts.getOrDefault(Level.INFO, 0L) : 0L,
+                parsedLevels.contains(Level.ERROR) ? counts.getOrDefault(Level.ERROR, 0L) : 0L,
+                parsedLevels.contains(Level.WARN) ? counts.getOrDefault(Level.WARN, 0L) : 0L
+        );
+    }
+
+    /**
+     * 업로드된 로그 파일을 저장하고, 파일 적재 작업을 등록
+     * - 적재는 백그라운드에서 실행되므로 응답은 파일 저장 직후 반환되며, 진행 상태는 파일 이름으로 조회
      *
      * @param file 업로드할 로그 파일
-     * @return 업로드된 로그 파일 정보 응답 객체
+     * @return 저장된 파일 이름 및 등록된 적재 작업 상태 응답 객체
      */
     public UploadLogResponse saveLogFile(MultipartFile file) {
-        return UploadLogResponse.of(logUploadService.saveLogFile(file));
+        String fileName = logUploadService.saveLogFile(file);
+        return UploadLogResponse.of(logIngestJobService.submit(fileName));
+    }
+
+    /**
+     * 업로드된 로그 파일의 적재 작업 상태를 조회
+     *
+     * @param fileName 저장된 로그 파일 이름
+     * @return 적재 작업 상태 응답 객체
+     */
+    public UploadLogResponse getUploadStatus(String fileName) {
+        return UploadLogResponse.of(logIngestJobService.getJob(fileName));
+    }
+
+    /**
+     * 업로드된 로그 파일을 다시 적재
+     * - 아직 적재되지 않은 로그만 적재하므로, 실패했거나 서버 재시작으로 중단된 적재를 이어서 할 때 사용
+     *
+     * @param fileName 저장된 로그 파일 이름
+     * @return 등록된 적재 작업 상태 응답 객체
+     */
+    public UploadLogResponse reingestLogFile(String fileName) {
+        return UploadLogResponse.of(logIngestJobService.submit(fileName));
     }
 
 }
@@ -0,0 +1,53 @@
+package com.humuson.backend.domain.log.model.dto.condition;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.bson.types.ObjectId;
+
+/**
+ * 커서 기반 페이지 조회의 위치 (마지막으로 조회한 로그의 timestamp, id)
+ * - 클라이언트에는 내부 구조를 알 수 없는 base64 문자열로 전달
+ *
+ * @param timestamp 마지막으로 조회한 로그의 타임스탬프
+ * @param id        마지막으로 조회한 로그의 ID (같은 타임스탬프 안에서의 순서)
+ */
+public record LogCursor(String timestamp, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static LogCursor from(LogEntity log) {
+        return new LogCursor(log.getTimestamp(), log.getId());
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석
+     *
+     * @param encoded base64 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서, 첫 페이지면 null
+     * @throws InvalidCursorException 형식이 맞지 않으면 발생
+     */
+    public static LogCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            String id = decoded.substring(separator + 1);
+            if (separator <= 0 || !ObjectId.isValid(id)) {
+                throw new InvalidCursorException();
+            }
+            return new LogCursor(decoded.substring(0, separator), id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((timestamp + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.humuson.backend.domain.log.model.dto.condition;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 로그 조회/집계 조건
+ *
+ * @param levels      포함할 로그 레벨
+ * @param start       조회 시작 시간 (포함, 선택)
+ * @param end         조회 종료 시간 (제외, 선택)
+ * @param serviceName 서비스 이름 (선택)
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogFilterCondition(List<Level> levels, LocalDateTime start, LocalDateTime end, String serviceName) {
+
+    public static LogFilterCondition of(List<Level> levels, LocalDateTime start, LocalDateTime end, String serviceName) {
+        return LogFilterCondition.builder()
+                .levels(levels)
+                .start(start)
+                .end(end)
+                .serviceName(serviceName != null && !serviceName.isBlank() ? serviceName : null)
+                .build();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.humuson.backend.domain.log.model.dto.response;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record GetLogCacheStatsResponse(long hitCount, long missCount, double hitRate, long evictionCount, long size) {
+
+    public static GetLogCacheStatsResponse of(long hitCount, long missCount, double hitRate, long evictionCount, long size) {
+        return GetLogCacheStatsResponse.builder()
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .hitRate(hitRate)
+                .evictionCount(evictionCount)
+                .size(size)
+                .build();
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.humuson.backend.domain.log.model.dto.response;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record GetLogCursorResponse(List<LogEntity> logs, String nextCursor, boolean hasNext, Long totalElements) {
+
+    public static GetLogCursorResponse of(List<LogEntity> logs, String nextCursor, Long totalElements) {
+        return GetLogCursorResponse.builder()
+                .logs(logs)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .totalElements(totalElements)
+                .build();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.humuson.backend.domain.log.model.dto.response;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.RollupResolution;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record GetLogRollupResponse(RollupResolution resolution, Map<String, Map<Level, Long>> distribution) {
+
+    public static GetLogRollupResponse of(RollupResolution resolution, Map<String, Map<Level, Long>> distribution) {
+        return GetLogRollupResponse.builder()
+                .resolution(resolution)
+                .distribution(distribution)
+                .build();
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.humuson.backend.domain.log.model.dto.response;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record GetLogSearchResponse(List<LogEntity> logs, long totalHits, LocalDateTime indexedFrom, boolean truncated) {
+
+    public static GetLogSearchResponse of(List<LogEntity> logs, long totalHits, LocalDateTime indexedFrom, boolean truncated) {
+        return GetLogSearchResponse.builder()
+                .logs(logs)
+                .totalHits(totalHits)
+                .indexedFrom(indexedFrom)
+                .truncated(truncated)
+                .build();
+    }
+
+}
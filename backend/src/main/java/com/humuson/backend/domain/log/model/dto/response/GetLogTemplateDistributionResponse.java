@@ -0,0 +1,20 @@
+package com.humuson.backend.domain.log.model.dto.response;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record GetLogTemplateDistributionResponse(String templateId, String template, long windowMinutes, Map<String, Map<Level, Long>> distribution) {
+
+    public static GetLogTemplateDistributionResponse of(String templateId, String template, long windowMinutes, Map<String, Map<Level, Long>> distribution) {
+        return GetLogTemplateDistributionResponse.builder()
+                .templateId(templateId)
+                .template(template)
+                .windowMinutes(windowMinutes)
+                .distribution(distribution)
+                .build();
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.humuson.backend.domain.log.model.dto.response;
+
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateCount;
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record GetLogTemplateTopResponse(Level level, long windowMinutes, long totalCount, int templateCount, List<LogTemplateCount> items) {
+
+    public static GetLogTemplateTopResponse of(Level level, long windowMinutes, long totalCount, int templateCount, List<LogTemplateCount> items) {
+        return GetLogTemplateTopResponse.builder()
+                .level(level)
+                .windowMinutes(windowMinutes)
+                .totalCount(totalCount)
+                .templateCount(templateCount)
+                .items(items)
+                .build();
+    }
+
+}
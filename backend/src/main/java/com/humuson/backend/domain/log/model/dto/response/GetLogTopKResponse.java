@@ -0,0 +1,24 @@
+package com.humuson.backend.domain.log.model.dto.response;
+
+import com.humuson.backend.domain.log.model.dto.result.LogHeavyHitter;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.TopKDimension;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record GetLogTopKResponse(Level level, TopKDimension dimension, long windowMinutes, long totalCount, long errorBound, List<LogHeavyHitter> items) {
+
+    public static GetLogTopKResponse of(Level level, TopKDimension dimension, long windowMinutes, long totalCount, long errorBound, List<LogHeavyHitter> items) {
+        return GetLogTopKResponse.builder()
+                .level(level)
+                .dimension(dimension)
+                .windowMinutes(windowMinutes)
+                .totalCount(totalCount)
+                .errorBound(errorBound)
+                .items(items)
+                .build();
+    }
+
+}
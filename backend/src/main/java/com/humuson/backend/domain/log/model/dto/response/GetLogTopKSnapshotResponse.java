@@ -0,0 +1,16 @@
+package com.humuson.backend.domain.log.model.dto.response;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record GetLogTopKSnapshotResponse(GetLogTopKResponse services, GetLogTopKResponse messages) {
+
+    public static GetLogTopKSnapshotResponse of(GetLogTopKResponse services, GetLogTopKResponse messages) {
+        return GetLogTopKSnapshotResponse.builder()
+                .services(services)
+                .messages(messages)
+                .build();
+    }
+
+}
@@ -1,14 +1,21 @@
 package com.humuson.backend.domain.log.model.dto.response;
 
+import com.humuson.backend.domain.log.model.dto.result.LogIngestJob;
+import com.humuson.backend.domain.log.model.entity.LogIngestStatus;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 
 @Builder(access = AccessLevel.PRIVATE)
-public record UploadLogResponse(String fileName) {
+public record UploadLogResponse(String fileName, LogIngestStatus status, long savedLogsCount, LocalDateTime submittedAt, LocalDateTime finishedAt) {
 
-    public static UploadLogResponse of(String message) {
+    public static UploadLogResponse of(LogIngestJob job) {
         return UploadLogResponse.builder()
-                .fileName(message)
+                .fileName(job.fileName())
+                .status(job.status())
+                .savedLogsCount(job.savedLogsCount())
+                .submittedAt(job.submittedAt())
+                .finishedAt(job.finishedAt())
                 .build();
     }
 
@@ -0,0 +1,22 @@
+package com.humuson.backend.domain.log.model.dto.result;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 자주 나타나는 키와 추정 개수
+ *
+ * @param key            서비스 이름 또는 메시지
+ * @param estimatedCount 추정 개수 (실제 개수 이상, 최대 errorBound만큼 큼)
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogHeavyHitter(String key, long estimatedCount) {
+
+    public static LogHeavyHitter of(String key, long estimatedCount) {
+        return LogHeavyHitter.builder()
+                .key(key)
+                .estimatedCount(estimatedCount)
+                .build();
+    }
+
+}
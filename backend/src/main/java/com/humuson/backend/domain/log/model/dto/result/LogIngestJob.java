@@ -0,0 +1,30 @@
+package com.humuson.backend.domain.log.model.dto.result;
+
+import com.humuson.backend.domain.log.model.entity.LogIngestStatus;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 업로드 파일 적재 작업의 현재 상태
+ *
+ * @param fileName       적재 중인 파일 이름 (작업 식별자)
+ * @param status         작업 상태
+ * @param savedLogsCount 지금까지 새로 적재된 로그 개수
+ * @param submittedAt    작업 등록 시각
+ * @param finishedAt     작업 종료 시각 (진행 중이면 null)
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogIngestJob(String fileName, LogIngestStatus status, long savedLogsCount, LocalDateTime submittedAt, LocalDateTime finishedAt) {
+
+    public static LogIngestJob of(String fileName, LogIngestStatus status, long savedLogsCount, LocalDateTime submittedAt, LocalDateTime finishedAt) {
+        return LogIngestJob.builder()
+                .fileName(fileName)
+                .status(status)
+                .savedLogsCount(savedLogsCount)
+                .submittedAt(submittedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.humuson.backend.domain.log.model.dto.result;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 로그 발생률 급증 알림
+ *
+ * @param level           로그 레벨
+ * @param serviceName     서비스 이름 (null이면 해당 레벨의 모든 서비스 합계)
+ * @param intervalStart   급증이 감지된 구간의 시작 시간 ("yyyy-MM-dd HH:mm:ss")
+ * @param intervalSeconds 구간 길이 (초)
+ * @param count           구간의 로그 개수
+ * @param expected        기준선이 예상한 구간의 로그 개수 (EWMA 평균)
+ * @param score           z-score ((count - expected) / 기준 표준편차)
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogRateAlert(Level level, String serviceName, String intervalStart, long intervalSeconds, long count, double expected, double score) {
+
+    public static LogRateAlert of(Level level, String serviceName, String intervalStart, long intervalSeconds, long count, double expected, double score) {
+        return LogRateAlert.builder()
+                .level(level)
+                .serviceName(serviceName)
+                .intervalStart(intervalStart)
+                .intervalSeconds(intervalSeconds)
+                .count(count)
+                .expected(expected)
+                .score(score)
+                .build();
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.humuson.backend.domain.log.model.dto.result;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.RollupResolution;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 롤업으로 조회한 로그 분포
+ *
+ * @param resolution   선택된 해상도
+ * @param distribution "yyyy-MM-dd HH:mm" 형식의 버킷 시작 시각별 로그 레벨별 개수 (시간순 정렬)
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogRollupDistribution(RollupResolution resolution, Map<String, Map<Level, Long>> distribution) {
+
+    public static LogRollupDistribution of(RollupResolution resolution, Map<String, Map<Level, Long>> distribution) {
+        return LogRollupDistribution.builder()
+                .resolution(resolution)
+                .distribution(distribution)
+                .build();
+    }
+
+}
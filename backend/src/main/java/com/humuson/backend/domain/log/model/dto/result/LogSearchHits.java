@@ -0,0 +1,33 @@
+package com.humuson.backend.domain.log.model.dto.result;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 로그 검색 결과 (역색인에서 찾은 로그 ID)
+ * - 역색인은 최근 로그만 유지하므로, 검색 범위가 제거된 로그의 시각에 걸치면 결과와 전체 개수가 실제보다 적을 수 있음
+ *
+ * @param logIds      검색된 로그 ID (최신순, 최대 요청 개수)
+ * @param totalHits   역색인에서 조건에 맞는 전체 로그 개수
+ * @param indexedFrom 역색인이 담고 있는 가장 이른 로그 시각 (색인이 비어 있으면 null)
+ * @param truncated   역색인에서 제거된 로그 때문에 결과가 잘렸을 수 있는지 여부
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogSearchHits(List<String> logIds, long totalHits, LocalDateTime indexedFrom, boolean truncated) {
+
+    public static LogSearchHits of(List<String> logIds, long totalHits, LocalDateTime indexedFrom, boolean truncated) {
+        return LogSearchHits.builder()
+                .logIds(logIds)
+                .totalHits(totalHits)
+                .indexedFrom(indexedFrom)
+                .truncated(truncated)
+                .build();
+    }
+
+    public static LogSearchHits empty() {
+        return of(List.of(), 0, null, false);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.humuson.backend.domain.log.model.dto.result;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 메시지 템플릿별 로그 개수
+ *
+ * @param templateId    템플릿 ID (로그의 templateId)
+ * @param template      템플릿 (파라미터 위치는 "<*>")
+ * @param count         조회 범위의 로그 개수
+ * @param countsByLevel 조회 범위의 로그 레벨별 개수 (로그가 없는 레벨은 제외)
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogTemplateCount(String templateId, String template, long count, Map<Level, Long> countsByLevel) {
+
+    public static LogTemplateCount of(String templateId, String template, long count, Map<Level, Long> countsByLevel) {
+        return LogTemplateCount.builder()
+                .templateId(templateId)
+                .template(template)
+                .count(count)
+                .countsByLevel(countsByLevel)
+                .build();
+    }
+
+}
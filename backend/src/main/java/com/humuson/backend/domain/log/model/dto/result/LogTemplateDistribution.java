@@ -0,0 +1,26 @@
+package com.humuson.backend.domain.log.model.dto.result;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 메시지 템플릿 하나의 분 단위 로그 분포
+ *
+ * @param templateId   템플릿 ID
+ * @param template     템플릿 (파라미터 위치는 "<*>")
+ * @param distribution "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수 (시간순 정렬, 로그가 없는 분은 제외)
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogTemplateDistribution(String templateId, String template, Map<String, Map<Level, Long>> distribution) {
+
+    public static LogTemplateDistribution of(String templateId, String template, Map<String, Map<Level, Long>> distribution) {
+        return LogTemplateDistribution.builder()
+                .templateId(templateId)
+                .template(template)
+                .distribution(distribution)
+                .build();
+    }
+
+}
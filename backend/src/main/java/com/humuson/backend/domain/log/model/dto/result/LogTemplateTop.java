@@ -0,0 +1,28 @@
+package com.humuson.backend.domain.log.model.dto.result;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 메시지 템플릿 상위 K개 집계 결과
+ *
+ * @param level         집계한 로그 레벨 (null이면 모든 레벨)
+ * @param totalCount    조회 범위의 해당 레벨 로그 개수 (템플릿이 할당된 로그 기준)
+ * @param templateCount 메모리에 유지 중인 템플릿 수
+ * @param items         로그 개수 내림차순 상위 K개
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogTemplateTop(Level level, long totalCount, int templateCount, List<LogTemplateCount> items) {
+
+    public static LogTemplateTop of(Level level, long totalCount, int templateCount, List<LogTemplateCount> items) {
+        return LogTemplateTop.builder()
+                .level(level)
+                .totalCount(totalCount)
+                .templateCount(templateCount)
+                .items(items)
+                .build();
+    }
+
+}
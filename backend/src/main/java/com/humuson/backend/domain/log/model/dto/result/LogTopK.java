@@ -0,0 +1,31 @@
+package com.humuson.backend.domain.log.model.dto.result;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.TopKDimension;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 로그 레벨별 상위 K개 집계 결과
+ *
+ * @param level      로그 레벨
+ * @param dimension  집계 기준
+ * @param totalCount 조회 구간의 해당 레벨 전체 로그 개수
+ * @param errorBound 추정 개수가 실제 개수를 초과할 수 있는 최대값 (εN, 확률 1 - δ 이상으로 성립)
+ * @param items      추정 개수 내림차순 상위 K개
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record LogTopK(Level level, TopKDimension dimension, long totalCount, long errorBound, List<LogHeavyHitter> items) {
+
+    public static LogTopK of(Level level, TopKDimension dimension, long totalCount, long errorBound, List<LogHeavyHitter> items) {
+        return LogTopK.builder()
+                .level(level)
+                .dimension(dimension)
+                .totalCount(totalCount)
+                .errorBound(errorBound)
+                .items(items)
+                .build();
+    }
+
+}
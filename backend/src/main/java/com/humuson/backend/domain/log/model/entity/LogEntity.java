@@ -19,13 +19,25 @@ public class LogEntity {
     private Level level;
     private String serviceName;
     private String message;
+    private String templateId; // 메시지 템플릿 ID (적재 시 할당, log_templates 컬렉션의 ID)
 
     @Builder
-    public LogEntity(String timestamp, Level level, String serviceName, String message) {
+    public LogEntity(String id, String timestamp, Level level, String serviceName, String message, String templateId) {
+        this.id = id;
         this.timestamp = timestamp;
         this.level = level;
         this.serviceName = serviceName;
         this.message = message;
+        this.templateId = templateId;
+    }
+
+    /**
+     * 메시지 템플릿 ID 할당 (적재 직전에 템플릿 추출기가 호출)
+     *
+     * @param templateId 메시지 템플릿 ID
+     */
+    public void assignTemplate(String templateId) {
+        this.templateId = templateId;
     }
 
     public boolean isInfo() {
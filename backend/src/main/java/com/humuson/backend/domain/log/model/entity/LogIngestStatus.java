@@ -0,0 +1,14 @@
+package com.humuson.backend.domain.log.model.entity;
+
+/**
+ * 업로드 파일 적재 작업 상태
+ * - QUEUED: 적재 대기 중
+ * - RUNNING: 적재 중
+ * - COMPLETED: 적재 완료
+ * - FAILED: 적재 실패 (같은 파일로 다시 적재하면 빠진 로그만 이어서 적재)
+ */
+public enum LogIngestStatus {
+
+    QUEUED, RUNNING, COMPLETED, FAILED
+
+}
@@ -0,0 +1,41 @@
+package com.humuson.backend.domain.log.model.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 해상도(분/시/일), 버킷, 로그 레벨, 서비스별 로그 개수
+ * - 로그가 적재될 때마다 count를 증가시키며 (upsert + $inc), ID는 나머지 필드로 결정되므로 같은 조합은 항상 같은 문서에 누적
+ */
+@Getter
+@Document(collection = "log_rollups")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LogRollupEntity {
+
+    @Id
+    private String id;
+    private RollupResolution resolution;
+    private String bucket;
+    private Level level;
+    private String serviceName;
+    private long count;
+
+    @Builder
+    public LogRollupEntity(RollupResolution resolution, String bucket, Level level, String serviceName, long count) {
+        this.id = idOf(resolution, bucket, level, serviceName);
+        this.resolution = resolution;
+        this.bucket = bucket;
+        this.level = level;
+        this.serviceName = serviceName;
+        this.count = count;
+    }
+
+    public static String idOf(RollupResolution resolution, String bucket, Level level, String serviceName) {
+        return resolution + "|" + bucket + "|" + level + "|" + serviceName;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.humuson.backend.domain.log.model.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 로그 메시지 템플릿
+ * - 파라미터(숫자, ID 등)만 다른 메시지를 하나로 묶은 패턴 (예: "Payment failed for order: <*>")
+ * - 로그의 templateId가 이 문서의 ID를 가리키며, 템플릿이 일반화될 때마다 (토큰이 "<*>"로 바뀔 때마다) 갱신
+ * - 애플리케이션 시작 시 이 컬렉션으로 템플릿 추출기를 복원하므로 재시작 후에도 같은 패턴은 같은 ID를 유지
+ */
+@Getter
+@Document(collection = "log_templates")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LogTemplateEntity {
+
+    @Id
+    private String id;
+    private String template;
+    private String updatedAt; // 마지막으로 템플릿이 생성/갱신된 시간 ("yyyy-MM-dd HH:mm:ss")
+
+    @Builder
+    public LogTemplateEntity(String id, String template, String updatedAt) {
+        this.id = id;
+        this.template = template;
+        this.updatedAt = updatedAt;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.humuson.backend.domain.log.model.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 로그 롤업 해상도
+ * - 버킷은 해당 구간의 시작 시각을 "yyyy-MM-dd HH:mm" 형식으로 표현 (예: HOUR → "2025-02-25 15:00")
+ * - 버킷 문자열은 타임스탬프("yyyy-MM-dd HH:mm:ss")의 앞부분만 남기고 나머지를 0으로 채워 계산하므로 날짜 파싱이 필요 없음
+ */
+public enum RollupResolution {
+
+    MINUTE(ChronoUnit.MINUTES, 16),
+    HOUR(ChronoUnit.HOURS, 13),
+    DAY(ChronoUnit.DAYS, 10);
+
+    private static final String ZERO_SUFFIX = " 00:00"; // "yyyy-MM-dd" 이후 부분
+
+    private final ChronoUnit unit;
+    private final int prefixLength; // 타임스탬프에서 그대로 사용하는 앞부분 길이
+
+    RollupResolution(ChronoUnit unit, int prefixLength) {
+        this.unit = unit;
+        this.prefixLength = prefixLength;
+    }
+
+    /**
+     * 타임스탬프가 속한 버킷
+     *
+     * @param timestamp "yyyy-MM-dd HH:mm:ss" 또는 "yyyy-MM-dd HH:mm" 형식의 타임스탬프
+     * @return "yyyy-MM-dd HH:mm" 형식의 버킷 시작 시각
+     */
+    public String bucketOf(String timestamp) {
+        return timestamp.substring(0, prefixLength) + ZERO_SUFFIX.substring(prefixLength - 10);
+    }
+
+    /**
+     * 버킷 하나의 길이
+     */
+    public Duration duration() {
+        return unit.getDuration();
+    }
+
+    /**
+     * 시간 범위를 이 해상도로 나타낼 때의 버킷 수 (시작/종료 시각이 속한 버킷 포함)
+     *
+     * @param start 시작 시간 (포함)
+     * @param end   종료 시간 (제외)
+     * @return 버킷 수
+     */
+    public long pointsBetween(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime first = start.truncatedTo(unit);
+        return Math.max(0, (Duration.between(first, end).toSeconds() + duration().toSeconds() - 1) / duration().toSeconds());
+    }
+
+    /**
+     * 버킷 수가 maxPoints 이하인 가장 세밀한 해상도를 선택 (모두 초과하면 DAY)
+     *
+     * @param start     시작 시간 (포함)
+     * @param end       종료 시간 (제외)
+     * @param maxPoints 최대 버킷 수
+     * @return 선택된 해상도
+     */
+    public static RollupResolution select(LocalDateTime start, LocalDateTime end, int maxPoints) {
+        for (RollupResolution resolution : values()) {
+            if (resolution.pointsBetween(start, end) <= maxPoints) {
+                return resolution;
+            }
+        }
+        return DAY;
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.humuson.backend.domain.log.model.entity;
+
+/**
+ * 상위 K개를 집계하는 기준
+ * - SERVICE: 서비스 이름
+ * - MESSAGE: 숫자를 "<*>"로 바꾼 메시지 (주문 번호, 사용자 ID 등이 달라도 같은 메시지로 집계)
+ */
+public enum TopKDimension {
+
+    SERVICE, MESSAGE
+
+}
@@ -0,0 +1,10 @@
+package com.humuson.backend.domain.log.model.event;
+
+/**
+ * 적재된 로그의 출처
+ * - LIVE: 실시간으로 발생한 로그 (로그 생성기, app.log 추적)
+ * - FILE: 업로드된 로그 파일의 일괄 적재
+ */
+public enum IngestSource {
+    LIVE, FILE
+}
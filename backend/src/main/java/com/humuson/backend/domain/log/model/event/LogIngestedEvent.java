@@ -0,0 +1,19 @@
+package com.humuson.backend.domain.log.model.event;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.util.List;
+
+/**
+ * 로그가 데이터 저장소에 적재되었음을 알리는 이벤트
+ * - 적재한 스레드에서 동기적으로 전달되므로, 리스너는 무거운 작업을 별도 스레드로 넘겨야 함
+ *
+ * @param source 로그 출처
+ * @param logs   적재된 로그 목록 (수정 불가)
+ */
+public record LogIngestedEvent(IngestSource source, List<LogEntity> logs) {
+
+    public static LogIngestedEvent of(IngestSource source, List<LogEntity> logs) {
+        return new LogIngestedEvent(source, List.copyOf(logs));
+    }
+
+}
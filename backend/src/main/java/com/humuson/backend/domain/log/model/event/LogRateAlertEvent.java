@@ -0,0 +1,18 @@
+package com.humuson.backend.domain.log.model.event;
+
+import com.humuson.backend.domain.log.model.dto.result.LogRateAlert;
+import java.util.List;
+
+/**
+ * 로그 발생률 급증이 감지되었음을 알리는 이벤트
+ * - 구간을 마감하는 스케줄러 스레드에서 구간마다 최대 한 번 발행
+ *
+ * @param alerts 해당 구간에서 감지된 알림 목록 (수정 불가)
+ */
+public record LogRateAlertEvent(List<LogRateAlert> alerts) {
+
+    public static LogRateAlertEvent of(List<LogRateAlert> alerts) {
+        return new LogRateAlertEvent(List.copyOf(alerts));
+    }
+
+}
@@ -2,7 +2,6 @@ package com.humuson.backend.domain.log.service;
 
 import com.humuson.backend.domain.log.model.entity.Level;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
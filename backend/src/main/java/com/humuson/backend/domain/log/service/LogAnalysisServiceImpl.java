@@ -2,7 +2,9 @@ package com.humuson.backend.domain.log.service;
 
 import com.humuson.backend.domain.log.model.entity.Level;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -29,8 +31,9 @@ public class LogAnalysisServiceImpl implements LogAnalysisService {
      */
     @Override
     public Map<Level, Long> getLogsCountByLevel(List<LogEntity> logs, List<Level> parsedLevels) {
+        Set<Level> levelSet = parsedLevels.isEmpty() ? EnumSet.noneOf(Level.class) : EnumSet.copyOf(parsedLevels);
         return logs.stream()
-                .filter(log -> parsedLevels.contains(log.getLevel())) // 주어진 레벨 목록과 일치하는 로그만 필터링
+                .filter(log -> levelSet.contains(log.getLevel())) // 주어진 레벨 목록과 일치하는 로그만 필터링
                 .collect(Collectors.groupingBy(LogEntity::getLevel, Collectors.counting())); // 레벨별 개수 집계
     }
 
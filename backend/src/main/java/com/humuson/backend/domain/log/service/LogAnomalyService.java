@@ -0,0 +1,20 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogRateAlert;
+import java.util.List;
+
+/**
+ * 로그 발생률 급증 감지 서비스 인터페이스
+ * - 적재 경로에서 갱신되는 레벨별, 서비스별 발생률 기준선으로 감지한 알림을 조회하는 기능을 정의
+ * - 새 알림은 LogRateAlertEvent로 발행
+ */
+public interface LogAnomalyService {
+
+    /**
+     * 최근에 감지된 급증 알림 목록을 조회
+     *
+     * @return 최근 알림 목록 (오래된 알림부터)
+     */
+    List<LogRateAlert> getRecentAlerts();
+
+}
@@ -0,0 +1,24 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogRateAlert;
+import com.humuson.backend.infrastructure.log.anomaly.LogRateAnomalyDetector;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그 발생률 급증 감지 서비스 구현체
+ * - 감지기가 메모리에 보관한 최근 알림을 반환하므로 MongoDB를 조회하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class LogAnomalyServiceImpl implements LogAnomalyService {
+
+    private final LogRateAnomalyDetector logRateAnomalyDetector;
+
+    @Override
+    public List<LogRateAlert> getRecentAlerts() {
+        return logRateAnomalyDetector.getRecentAlerts();
+    }
+
+}
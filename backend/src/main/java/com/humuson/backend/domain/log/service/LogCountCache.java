@@ -0,0 +1,208 @@
+package com.humuson.backend.domain.log.service;
+
+import static com.humuson.backend.global.constant.Format.MINUTE_BUCKET_FORMAT;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.LogQueryCacheProperties;
+import com.humuson.backend.global.util.LogParseUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * MongoDB 분 단위 집계 결과 캐시
+ * - 지나간 분(닫힌 버킷)의 로그 레벨별 개수는 바뀌지 않으므로 분(epoch 분)을 키로 캐시하고, 조회 범위 중 캐시에 없는 분만 MongoDB로 집계
+ * - 모든 로그 레벨의 개수를 함께 저장하므로 요청한 레벨 조합과 관계없이 같은 버킷을 사용
+ * - 현재 분(열린 버킷)과 분 경계에 맞지 않는 조회 범위의 앞뒤 구간은 캐시하지 않고 매번 집계
+ * - 지나간 분에 로그가 적재되면 (파일 업로드, 늦게 도착한 로그) 해당 분을 캐시에서 제거하고 적재 워터마크를 올려,
+ *   적재 전에 시작한 집계 결과가 캐시에 들어가지 않도록 함
+ * - 캐시 크기는 maximumBuckets로 제한하며, 적중/실패 통계를 기록 (cache.gets{cache=log.query.buckets} 등 지표로도 노출)
+ */
+@Component
+public class LogCountCache {
+
+    private final ReactiveLogQueryService reactiveLogQueryService;
+    private final LogQueryCacheProperties properties;
+    private final Cache<Long, Map<Level, Long>> buckets; // epoch 분 → 로그 레벨별 개수 (로그가 없는 분은 빈 Map)
+    private final AtomicLong watermark = new AtomicLong(); // 지나간 분에 로그가 적재될 때마다 증가
+
+    public LogCountCache(ReactiveLogQueryService reactiveLogQueryService, LogQueryCacheProperties properties, MeterRegistry meterRegistry) {
+        this.reactiveLogQueryService = reactiveLogQueryService;
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maximumBuckets())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "log.query.buckets");
+    }
+
+    /**
+     * 지나간 분에 적재된 로그가 있으면 해당 분을 캐시에서 제거
+     * - 타임스탬프를 해석할 수 없는 로그가 있으면 어느 분에 집계될지 알 수 없으므로 캐시 전체를 제거
+     *
+     * @param event 로그 적재 이벤트
+     */
+    @EventListener
+    public void onLogIngested(LogIngestedEvent event) {
+        long openMinute = currentMinute();
+        Set<Long> closedMinutes = new HashSet<>();
+        for (LogEntity logEntity : event.logs()) {
+            long epochSecond = LogParseUtil.parseEpochSecond(logEntity.getTimestamp(), 0);
+            if (epochSecond < 0) {
+                watermark.incrementAndGet();
+                buckets.invalidateAll();
+                return;
+            }
+            if (epochSecond / 60 < openMinute) {
+                closedMinutes.add(epochSecond / 60);
+            }
+        }
+        if (!closedMinutes.isEmpty()) {
+            watermark.incrementAndGet();
+            buckets.invalidateAll(closedMinutes);
+        }
+    }
+
+    /**
+     * 시간 범위 내의 로그를 분 단위, 로그 레벨별로 집계
+     * - [start, 다음 분 경계)와 [현재 분 또는 end가 속한 분, end)는 MongoDB로 집계하고, 그 사이의 닫힌 분은 캐시에서 조회
+     * - 닫힌 분이 없거나 범위가 maxWindow보다 길면 캐시를 사용하지 않음
+     *
+     * @param start 조회 시작 시간 (포함)
+     * @param end   조회 종료 시간 (제외)
+     * @return "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수 (시간순 정렬, 로그가 없는 분은 제외)
+     */
+    public Mono<Map<String, Map<Level, Long>>> getCountsByMinute(LocalDateTime start, LocalDateTime end) {
+        long fromMinute = ceilMinute(start);
+        long toMinute = Math.min(toMinute(end), currentMinute());
+        if (toMinute <= fromMinute || toMinute - fromMinute > properties.maxWindow().toMinutes()) {
+            return reactiveLogQueryService.getLogsCountByMinute(start, end);
+        }
+        LocalDateTime closedStart = toDateTime(fromMinute);
+        LocalDateTime closedEnd = toDateTime(toMinute);
+        Mono<Map<String, Map<Level, Long>>> head = start.isBefore(closedStart)
+                ? reactiveLogQueryService.getLogsCountByMinute(start, closedStart)
+                : Mono.just(Map.of());
+        Mono<Map<String, Map<Level, Long>>> tail = closedEnd.isBefore(end)
+                ? reactiveLogQueryService.getLogsCountByMinute(closedEnd, end)
+                : Mono.just(Map.of());
+        return Mono.zip(head, getClosedBuckets(fromMinute, toMinute), tail)
+                .map(result -> {
+                    Map<String, Map<Level, Long>> distribution = new TreeMap<>(result.getT1());
+                    distribution.putAll(result.getT2());
+                    distribution.putAll(result.getT3());
+                    return distribution;
+                });
+    }
+
+    /**
+     * 시간 범위 내 로그의 레벨별 개수를 분 단위 집계를 합하여 계산
+     *
+     * @param start 조회 시작 시간 (포함)
+     * @param end   조회 종료 시간 (제외)
+     * @return 로그 레벨별 개수 (로그가 없는 레벨은 제외)
+     */
+    public Mono<Map<Level, Long>> getCountsByLevel(LocalDateTime start, LocalDateTime end) {
+        return getCountsByMinute(start, end).map(distribution -> {
+            Map<Level, Long> counts = new EnumMap<>(Level.class);
+            distribution.values().forEach(levelCounts -> levelCounts.forEach((level, count) -> counts.merge(level, count, Long::sum)));
+            return counts;
+        });
+    }
+
+    /**
+     * 캐시 적중/실패 통계 (분 단위로 기록)
+     */
+    public CacheStats getStats() {
+        return buckets.stats();
+    }
+
+    /**
+     * 캐시에 있는 분(버킷) 수 (추정치)
+     */
+    public long getSize() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * 닫힌 분 [fromMinute, toMinute)의 로그 레벨별 개수를 조회
+     * - 캐시에 없는 분이 있으면 처음 없는 분부터 마지막 없는 분까지 한 번에 집계하여 캐시에 저장
+     * - 집계하는 동안 지나간 분에 로그가 적재되면 (워터마크가 바뀌면) 결과를 반환만 하고 캐시에는 남기지 않음
+     */
+    private Mono<Map<String, Map<Level, Long>>> getClosedBuckets(long fromMinute, long toMinute) {
+        return Mono.defer(() -> {
+            long observed = watermark.get();
+            List<Long> minutes = LongStream.range(fromMinute, toMinute).boxed().toList();
+            Map<Long, Map<Level, Long>> cached = buckets.getAllPresent(minutes);
+            if (cached.size() == minutes.size()) {
+                return Mono.just(toDistribution(cached));
+            }
+            long missingFrom = minutes.stream().filter(minute -> !cached.containsKey(minute)).findFirst().orElseThrow();
+            long missingTo = minutes.stream().filter(minute -> !cached.containsKey(minute)).reduce((first, second) -> second).orElseThrow() + 1;
+            return reactiveLogQueryService.getLogsCountByMinute(toDateTime(missingFrom), toDateTime(missingTo))
+                    .map(loaded -> {
+                        Map<Long, Map<Level, Long>> fresh = new HashMap<>();
+                        for (long minute = missingFrom; minute < missingTo; minute++) {
+                            fresh.put(minute, Map.of());
+                        }
+                        loaded.forEach((minuteKey, levelCounts) ->
+                                fresh.put(toMinute(LocalDateTime.parse(minuteKey, MINUTE_BUCKET_FORMAT)), Collections.unmodifiableMap(new EnumMap<>(levelCounts))));
+                        if (watermark.get() == observed) {
+                            buckets.putAll(fresh);
+                            if (watermark.get() != observed) {
+                                buckets.invalidateAll(fresh.keySet()); // 저장하는 사이에 적재된 경우
+                            }
+                        }
+                        Map<Long, Map<Level, Long>> merged = new HashMap<>(cached);
+                        merged.putAll(fresh);
+                        return toDistribution(merged);
+                    });
+        });
+    }
+
+    private static Map<String, Map<Level, Long>> toDistribution(Map<Long, Map<Level, Long>> countsByMinute) {
+        Map<String, Map<Level, Long>> distribution = new TreeMap<>();
+        countsByMinute.forEach((minute, levelCounts) -> {
+            if (!levelCounts.isEmpty()) {
+                distribution.put(toDateTime(minute).format(MINUTE_BUCKET_FORMAT), levelCounts);
+            }
+        });
+        return distribution;
+    }
+
+    private static long currentMinute() {
+        return toMinute(LocalDateTime.now());
+    }
+
+    private static long toMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static long ceilMinute(LocalDateTime dateTime) {
+        return -Math.floorDiv(-dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime toDateTime(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+}
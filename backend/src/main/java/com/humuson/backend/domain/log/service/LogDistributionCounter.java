@@ -0,0 +1,198 @@
+package com.humuson.backend.domain.log.service;
+
+import static com.humuson.backend.global.constant.Format.MINUTE_BUCKET_FORMAT;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.util.LogParseUtil;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 로그의 분 단위 분포 카운터
+ * - 최근 WINDOW_MINUTES분을 분 × 로그 레벨 크기의 long 배열(링)로 유지하고, 로그가 적재될 때마다 증가
+ * - 분포 조회는 로그 개수와 관계없이 조회 범위의 분(버킷) 수에만 비례
+ * - 애플리케이션 시작 시 MongoDB 집계로 이전 구간을 채우며, 링이 다루지 않는 범위는 covers()가 false를 반환
+ * - 타임스탬프는 LogParseUtil과 같이 시간대 없이 UTC 기준 epoch로 변환하여 분을 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogDistributionCounter {
+
+    private static final int WINDOW_MINUTES = 60; // 링에 유지하는 최근 분 수
+    private static final int LEVEL_COUNT = Level.values().length;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final LogQueryService logQueryService;
+
+    private final long[] bucketMinutes = newEmptyBuckets(); // 각 버킷이 담고 있는 분 (epoch 분)
+    private final long[] counts = new long[WINDOW_MINUTES * LEVEL_COUNT]; // [버킷 * LEVEL_COUNT + level.ordinal()]
+    private final AtomicLong version = new AtomicLong(); // 카운터가 바뀔 때마다 증가
+    private long coveredFromMinute = currentMinute() + 1; // 이 분부터는 적재 이벤트로 모든 로그를 집계함
+
+    /**
+     * 적재된 로그를 분, 로그 레벨별로 집계
+     * - 링 범위를 벗어난 (오래되었거나 미래인) 로그는 무시
+     *
+     * @param event 로그 적재 이벤트
+     */
+    @EventListener
+    public void onLogIngested(LogIngestedEvent event) {
+        long current = currentMinute();
+        boolean changed = false;
+        synchronized (this) {
+            for (LogEntity logEntity : event.logs()) {
+                long epochSecond = LogParseUtil.parseEpochSecond(logEntity.getTimestamp(), 0);
+                if (epochSecond >= 0 && increment(epochSecond / 60, current, logEntity.getLevel())) {
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 전에 적재된 최근 로그를 MongoDB 집계로 불러와 링을 채움
+     * - 시작 이후의 분은 적재 이벤트로 집계되므로, 시작 시점 이전의 분만 덮어씀
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long to;
+        synchronized (this) {
+            to = coveredFromMinute;
+        }
+        long from = to - WINDOW_MINUTES + 1;
+        try {
+            Map<String, Map<Level, Long>> distribution = logQueryService.getLogsCountByMinute(toDateTime(from), toDateTime(to));
+            synchronized (this) {
+                for (long minute = from; minute < to; minute++) {
+                    resetBucket(minute);
+                }
+                distribution.forEach((minuteKey, levelCounts) -> {
+                    long minute = LocalDateTime.parse(minuteKey, MINUTE_BUCKET_FORMAT).toEpochSecond(ZoneOffset.UTC) / 60;
+                    int bucket = bucketOf(minute);
+                    levelCounts.forEach((level, count) -> counts[bucket * LEVEL_COUNT + level.ordinal()] = count);
+                });
+                coveredFromMinute = from;
+            }
+            version.incrementAndGet();
+            log.info("로그 분포 카운터 초기화 완료: 최근 {}분", WINDOW_MINUTES);
+        } catch (RuntimeException e) {
+            log.warn("로그 분포 카운터 초기화 실패, 이후 적재된 로그만 집계: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주어진 시간 범위를 카운터로 조회할 수 있는지 확인
+     *
+     * @param start 조회 시작 시간
+     * @param end   조회 종료 시간
+     * @return 범위 전체가 링 안에 있고 모든 로그가 집계된 구간이면 true
+     */
+    public boolean covers(LocalDateTime start, LocalDateTime end) {
+        long current = currentMinute();
+        long startMinute = toMinute(start);
+        synchronized (this) {
+            return startMinute >= Math.max(coveredFromMinute, current - WINDOW_MINUTES + 1) && toMinute(end) <= current;
+        }
+    }
+
+    /**
+     * 시간 범위 내의 분 단위 로그 레벨별 개수를 반환 (시작/종료 시각이 속한 분을 포함)
+     * - 로그가 없는 분과 개수가 0인 레벨은 결과에서 제외
+     *
+     * @param start 조회 시작 시간
+     * @param end   조회 종료 시간
+     * @return "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수 (시간순 정렬)
+     */
+    public Map<String, Map<Level, Long>> getDistribution(LocalDateTime start, LocalDateTime end) {
+        long startMinute = toMinute(start);
+        long endMinute = toMinute(end);
+        Map<String, Map<Level, Long>> distribution = new TreeMap<>();
+        synchronized (this) {
+            for (long minute = startMinute; minute <= endMinute; minute++) {
+                int bucket = bucketOf(minute);
+                if (bucketMinutes[bucket] != minute) {
+                    continue;
+                }
+                Map<Level, Long> levelCounts = new EnumMap<>(Level.class);
+                for (Level level : Level.values()) {
+                    long count = counts[bucket * LEVEL_COUNT + level.ordinal()];
+                    if (count > 0) {
+                        levelCounts.put(level, count);
+                    }
+                }
+                if (!levelCounts.isEmpty()) {
+                    distribution.put(toDateTime(minute).format(MINUTE_BUCKET_FORMAT), levelCounts);
+                }
+            }
+        }
+        return distribution;
+    }
+
+    /**
+     * 카운터 버전 (적재로 카운터가 바뀔 때마다 증가)
+     * - 구독자에게 변경을 알릴지 판단할 때 사용
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    private boolean increment(long minute, long current, Level level) {
+        if (minute > current || minute <= current - WINDOW_MINUTES) {
+            return false;
+        }
+        int bucket = bucketOf(minute);
+        if (bucketMinutes[bucket] != minute) {
+            if (bucketMinutes[bucket] > minute) {
+                return false; // 이미 더 최근 분이 사용 중인 버킷
+            }
+            resetBucket(minute);
+        }
+        counts[bucket * LEVEL_COUNT + level.ordinal()]++;
+        return true;
+    }
+
+    private void resetBucket(long minute) {
+        int bucket = bucketOf(minute);
+        bucketMinutes[bucket] = minute;
+        Arrays.fill(counts, bucket * LEVEL_COUNT, (bucket + 1) * LEVEL_COUNT, 0);
+    }
+
+    private static int bucketOf(long minute) {
+        return (int) Math.floorMod(minute, WINDOW_MINUTES);
+    }
+
+    private static long currentMinute() {
+        return toMinute(LocalDateTime.now());
+    }
+
+    private static long toMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime toDateTime(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private static long[] newEmptyBuckets() {
+        long[] buckets = new long[WINDOW_MINUTES];
+        Arrays.fill(buckets, EMPTY);
+        return buckets;
+    }
+
+}
@@ -4,61 +4,141 @@ import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
 
 import com.humuson.backend.domain.log.model.entity.Level;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
-import com.humuson.backend.infrastructure.log.repository.LogRepository;
-import com.humuson.backend.infrastructure.log.repository.MongoLogRepository;
+import com.humuson.backend.global.config.properties.LogGeneratorProperties;
+import com.humuson.backend.global.config.properties.LogGeneratorProperties.Mode;
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 로그 생성 서비스 구현체
+ * - SCHEDULED 모드: 10초마다 로그 1건 생성
+ * - LOAD 모드: 여러 스레드에서 초당 ratePerSecond건을 일정한 간격으로 생성 (부하 테스트용)
+ * - 생성된 로그는 쓰기 버퍼를 통해 배치로 저장되고, 동시에 app.log에도 기록
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class LogGeneratorServiceImpl {
+public class LogGeneratorServiceImpl implements LogGeneratorService {
 
-    private static final Random RANDOM = new Random();
     private static final String[] SERVICES = {"UserService", "PaymentService", "InventoryService"};
+    private static final long MAX_CATCH_UP_NANOS = TimeUnit.SECONDS.toNanos(1); // 밀린 생성분을 따라잡는 최대 범위
 
-    private final MongoLogRepository logRepository;
+    private final LogWriteBuffer logWriteBuffer;
+    private final LogGeneratorProperties properties;
 
+    private final List<Thread> loadGenerators = new ArrayList<>();
+    private volatile boolean running;
+
+    @Override
     @Scheduled(fixedRate = 10000)
     public void generateLog() {
+        if (properties.mode() != Mode.SCHEDULED) {
+            return;
+        }
+        submit(createLog());
+    }
+
+    /**
+     * LOAD 모드일 때 애플리케이션 시작 후 부하 생성 스레드를 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLoadGenerators() {
+        if (properties.mode() != Mode.LOAD) {
+            return;
+        }
+        running = true;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) * properties.threads() / Math.max(1, properties.ratePerSecond());
+        for (int i = 0; i < properties.threads(); i++) {
+            Thread generator = new Thread(() -> generateAtFixedRate(intervalNanos), "log-load-generator-" + i);
+            generator.setDaemon(true);
+            generator.start();
+            loadGenerators.add(generator);
+        }
+        log.info("로그 부하 생성 시작: {} logs/sec, {} threads", properties.ratePerSecond(), properties.threads());
+    }
+
+    @PreDestroy
+    public void stopLoadGenerators() {
+        running = false;
+        loadGenerators.forEach(Thread::interrupt);
+    }
 
-        String serviceName = SERVICES[RANDOM.nextInt(SERVICES.length)];
-        int logType = RANDOM.nextInt(3);
+    /**
+     * 일정한 간격으로 로그를 생성
+     * - 저장이 밀려 늦어진 경우 최대 1초 분량까지만 몰아서 생성하고, 그 이상은 건너뜀
+     *
+     * @param intervalNanos 로그 1건당 간격 (나노초)
+     */
+    private void generateAtFixedRate(long intervalNanos) {
+        long next = System.nanoTime();
+        while (running && !Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            submit(createLog());
+            next = Math.max(next + intervalNanos, now - MAX_CATCH_UP_NANOS);
+        }
+    }
 
-        String level;
+    private void submit(LogEntity logEntity) {
+        logWriteBuffer.submit(logEntity).whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.debug("생성된 로그 저장 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 임의의 로그를 생성하고 app.log에 기록
+     *
+     * @return 생성된 로그 엔터티
+     */
+    private LogEntity createLog() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String serviceName = SERVICES[random.nextInt(SERVICES.length)];
+
+        Level level;
         String msg;
-        switch (logType) {
+        switch (random.nextInt(3)) {
             case 0 -> {
-                level = "INFO";
-                msg = "User login successful: user" + RANDOM.nextInt(1000);
+                level = Level.INFO;
+                msg = "User login successful: user" + random.nextInt(1000);
             }
             case 1 -> {
-                level = "WARN";
-                msg = "Low stock warning for item: A" + RANDOM.nextInt(9999);
+                level = Level.WARN;
+                msg = "Low stock warning for item: A" + random.nextInt(9999);
             }
             default -> {
-                level = "ERROR";
-                msg = "Payment failed for order: " + RANDOM.nextInt(100000);
+                level = Level.ERROR;
+                msg = "Payment failed for order: " + random.nextInt(100000);
             }
         }
 
-        logRepository.save(LogEntity.builder()
-                .timestamp(LocalDateTime.now().format(TIMESTAMP_FORMAT))
-                .level(Level.fromString(level))
-                .serviceName(serviceName)
-                .message(msg)
-                .build());
-
         switch (level) {
-            case "INFO" -> log.info("[{}] - {}", serviceName, msg);
-            case "WARN" -> log.warn("[{}] - {}", serviceName, msg);
-            case "ERROR" -> log.error("[{}] - {}", serviceName, msg);
+            case INFO -> log.info("[{}] - {}", serviceName, msg);
+            case WARN -> log.warn("[{}] - {}", serviceName, msg);
+            default -> log.error("[{}] - {}", serviceName, msg);
         }
 
+        return LogEntity.builder()
+                .timestamp(LocalDateTime.now().format(TIMESTAMP_FORMAT))
+                .level(level)
+                .serviceName(serviceName)
+                .message(msg)
+                .build();
     }
 
 }
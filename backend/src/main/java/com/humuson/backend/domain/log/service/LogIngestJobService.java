@@ -0,0 +1,29 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogIngestJob;
+
+/**
+ * 업로드 파일 적재 작업 서비스 인터페이스
+ * - 저장된 로그 파일의 적재를 요청 스레드 밖에서 실행하고, 파일 이름으로 진행 상태를 조회하는 기능을 정의
+ */
+public interface LogIngestJobService {
+
+    /**
+     * 파일 적재 작업을 등록
+     * - 같은 파일의 작업이 대기 중이거나 실행 중이면 새로 등록하지 않고 기존 작업을 반환
+     * - 끝난 파일을 다시 등록하면 아직 적재되지 않은 로그만 적재 (실패한 적재를 이어서 할 때 사용)
+     *
+     * @param fileName 적재할 로그 파일 이름
+     * @return 등록된 작업의 현재 상태
+     */
+    LogIngestJob submit(String fileName);
+
+    /**
+     * 파일 적재 작업의 현재 상태를 조회
+     *
+     * @param fileName 적재 중인 로그 파일 이름
+     * @return 작업의 현재 상태
+     */
+    LogIngestJob getJob(String fileName);
+
+}
@@ -0,0 +1,148 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogIngestJob;
+import com.humuson.backend.domain.log.model.entity.LogIngestStatus;
+import com.humuson.backend.global.exception.LogIngestJobNotFoundException;
+import com.humuson.backend.infrastructure.log.repository.LogRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 업로드 파일 적재 작업 서비스 구현체
+ * - 적재를 별도 작업 스레드에서 실행하므로, 수 GB 파일이라도 업로드 요청은 파일 저장 직후 응답
+ * - 작업은 저장된 파일 이름으로 식별하며, 클라이언트는 파일 이름으로 진행 상태와 적재된 로그 개수를 조회
+ * - 적재가 로그 ID 기준으로 멱등이므로, 실패하거나 서버 재시작으로 사라진 작업은 같은 파일을 다시 등록하여 이어서 적재
+ * - 끝난 작업은 일정 시간 동안만 보관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogIngestJobServiceImpl implements LogIngestJobService {
+
+    private static final int JOB_THREAD_COUNT = 2; // 동시에 실행하는 적재 작업 수 (초과 시 대기)
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(24); // 끝난 작업 보관 기간
+
+    private final LogRepository logRepository;
+    private final LogIngestService logIngestService;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService jobExecutor = Executors.newFixedThreadPool(JOB_THREAD_COUNT, new JobThreadFactory());
+
+    /**
+     * 파일 적재 작업을 등록
+     * - 파일이 없으면 작업을 등록하지 않고 즉시 예외 발생
+     *
+     * @param fileName 적재할 로그 파일 이름
+     * @return 등록된 작업의 현재 상태
+     */
+    @Override
+    public LogIngestJob submit(String fileName) {
+        logRepository.getLogFilePath(fileName);
+        removeExpiredJobs();
+
+        Job created = new Job(fileName);
+        Job job = jobs.compute(fileName, (key, existing) -> existing != null && !existing.isFinished() ? existing : created);
+        if (job == created) {
+            jobExecutor.execute(() -> run(job));
+        }
+        return job.toLogIngestJob();
+    }
+
+    /**
+     * 파일 적재 작업의 현재 상태를 조회
+     *
+     * @param fileName 적재 중인 로그 파일 이름
+     * @return 작업의 현재 상태
+     * @throws LogIngestJobNotFoundException 작업이 없거나 보관 기간이 지난 경우 발생
+     */
+    @Override
+    public LogIngestJob getJob(String fileName) {
+        Job job = jobs.get(fileName);
+        if (job == null) {
+            throw new LogIngestJobNotFoundException();
+        }
+        return job.toLogIngestJob();
+    }
+
+    private void run(Job job) {
+        job.status = LogIngestStatus.RUNNING;
+        try {
+            logIngestService.ingestLogFile(job.fileName, job.savedLogsCount::addAndGet);
+            job.finish(LogIngestStatus.COMPLETED);
+            log.info("로그 파일 적재 완료: {} ({}건)", job.fileName, job.savedLogsCount.get());
+        } catch (RuntimeException e) {
+            job.finish(LogIngestStatus.FAILED);
+            log.error("로그 파일 적재 실패, 같은 파일을 다시 등록하면 이어서 적재: {} ({}건 적재 후 실패)", job.fileName, job.savedLogsCount.get());
+        }
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt.isBefore(expiredBefore));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * 실행 중 갱신되는 적재 작업 상태
+     * - 작업 스레드가 갱신하고 조회 요청 스레드가 읽으므로 변경되는 필드는 volatile 또는 원자 변수로 둠
+     * - 종료 시각을 상태보다 먼저 기록하므로, 끝난 상태로 보이는 작업은 항상 종료 시각이 있음
+     */
+    private static class Job {
+
+        private final String fileName;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicLong savedLogsCount = new AtomicLong();
+        private volatile LogIngestStatus status = LogIngestStatus.QUEUED;
+        private volatile LocalDateTime finishedAt;
+
+        Job(String fileName) {
+            this.fileName = fileName;
+        }
+
+        void finish(LogIngestStatus finalStatus) {
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        boolean isFinished() {
+            return status == LogIngestStatus.COMPLETED || status == LogIngestStatus.FAILED;
+        }
+
+        LogIngestJob toLogIngestJob() {
+            return LogIngestJob.of(fileName, status, savedLogsCount.get(), submittedAt, finishedAt);
+        }
+
+    }
+
+    /**
+     * 적재 작업 스레드 생성기
+     * - 애플리케이션 종료를 막지 않도록 데몬 스레드로 생성
+     */
+    private static class JobThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "log-ingest-job-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * 로그 적재 서비스 인터페이스
+ * - 로그 파일 또는 로그 목록을 데이터 저장소에 적재하는 기능을 정의
+ * - 적재가 끝나면 LogIngestedEvent를 발행하여 실시간 구독자에게 전달
+ */
+public interface LogIngestService {
+
+    /**
+     * 저장된 로그 파일을 파싱하여 데이터 저장소에 배치 단위로 적재
+     * - 이미 적재된 줄은 건너뛰므로 같은 파일을 다시 적재해도 중복되지 않음 (중간에 실패한 적재를 이어서 할 때 사용)
+     *
+     * @param fileName 적재할 로그 파일 이름
+     * @param progress 배치가 적재될 때마다 새로 적재된 로그 개수를 받을 소비자
+     * @return 새로 적재된 로그 개수
+     */
+    long ingestLogFile(String fileName, LongConsumer progress);
+
+    /**
+     * 로그 목록을 데이터 저장소에 한 번에 적재
+     *
+     * @param source 로그 출처
+     * @param logs   적재할 로그 목록
+     */
+    void ingest(IngestSource source, List<LogEntity> logs);
+
+    /**
+     * ID가 지정된 로그 목록을 적재하되, 이미 같은 ID로 적재된 로그는 건너뜀
+     * - 재시작 후 같은 구간을 다시 읽어도 중복 적재되지 않도록 할 때 사용
+     *
+     * @param source 로그 출처
+     * @param logs   적재할 로그 목록 (ID 지정 필수)
+     * @return 새로 적재된 로그 목록
+     */
+    List<LogEntity> ingestIfAbsent(IngestSource source, List<LogEntity> logs);
+
+}
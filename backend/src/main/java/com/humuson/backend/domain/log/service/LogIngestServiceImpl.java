@@ -0,0 +1,240 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.exception.LogIngestException;
+import com.humuson.backend.infrastructure.log.file.MappedLogFileReader;
+import com.humuson.backend.infrastructure.log.repository.LogRepository;
+import com.humuson.backend.infrastructure.log.repository.MongoLogRepository;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그 적재 서비스 구현체
+ * - 로그 파일을 파싱하고, 배치 단위로 MongoDB에 insertMany 수행
+ * - 읽기(파싱)와 쓰기(insert)를 크기가 제한된 큐로 연결하여 메모리 사용량을 일정하게 유지
+ * - 모든 MongoDB 쓰기가 이곳을 거치므로, 적재 직후 LogIngestedEvent를 발행하여 구독자가 DB를 다시 조회하지 않도록 함
+ * - 적재 직전에 로그마다 메시지 템플릿 ID를 할당하여 함께 저장
+ * - 파일 적재는 로그 ID를 (파일 이름, 시각, 줄 위치)로 정하므로, 중간에 실패한 파일을 다시 적재해도 빠진 줄만 추가됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogIngestServiceImpl implements LogIngestService {
+
+    private static final int BATCH_SIZE = 5_000; // insertMany 1회당 로그 개수
+    private static final int WRITER_COUNT = 2; // 동시에 insertMany를 수행하는 쓰기 스레드 수
+    private static final int MAX_PENDING_BATCHES = 8; // 쓰기 대기 중인 최대 배치 수 (초과 시 읽기 대기)
+    private static final List<LogEntity> END_OF_FILE = List.of(); // 읽기 종료 신호
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    private final LogRepository logRepository;
+    private final MongoLogRepository mongoLogRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MappedLogFileReader mappedLogFileReader;
+    private final LogTemplateService logTemplateService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService writerExecutor = Executors.newCachedThreadPool(new IngestThreadFactory());
+
+    /**
+     * 저장된 로그 파일을 파싱하여 MongoDB에 배치 단위로 적재
+     * - 파일을 메모리 매핑 후 청크 단위로 병렬 파싱하여 배치를 만들고, 별도 쓰기 스레드가 배치를 적재
+     * - 쓰기가 밀리면 큐가 가득 차 읽기가 멈추므로 (backpressure) 파일 크기와 관계없이 힙 사용량이 일정
+     * - 이미 같은 ID로 적재된 줄은 건너뛰므로, 실패 후 같은 파일로 다시 호출하면 남은 줄만 적재됨
+     *
+     * @param fileName 적재할 로그 파일 이름
+     * @param progress 배치가 적재될 때마다 새로 적재된 로그 개수를 받을 소비자 (쓰기 스레드에서 호출)
+     * @return 새로 적재된 로그 개수
+     * @throws LogIngestException 파일 읽기 또는 적재 실패 시 발생
+     */
+    @Override
+    public long ingestLogFile(String fileName, LongConsumer progress) {
+        Path logFilePath = logRepository.getLogFilePath(fileName);
+        BlockingQueue<List<LogEntity>> pendingBatches = new ArrayBlockingQueue<>(MAX_PENDING_BATCHES);
+        List<CompletableFuture<Long>> writers = new ArrayList<>(WRITER_COUNT);
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            writers.add(CompletableFuture.supplyAsync(() -> writeBatches(pendingBatches, progress), writerExecutor));
+        }
+
+        try {
+            mappedLogFileReader.parseUnordered(logFilePath, fileName, BATCH_SIZE, batch -> enqueue(pendingBatches, batch, writers));
+            for (int i = 0; i < WRITER_COUNT; i++) {
+                enqueue(pendingBatches, END_OF_FILE, writers);
+            }
+            return writers.stream().mapToLong(CompletableFuture::join).sum();
+        } catch (IOException e) {
+            abort(pendingBatches);
+            log.error("로그 파일 적재 실패: {}", e.getMessage());
+            throw new LogIngestException();
+        } catch (RuntimeException e) {
+            abort(pendingBatches);
+            log.error("로그 파일 적재 실패: {}", e.getMessage());
+            throw e instanceof LogIngestException ? e : new LogIngestException();
+        }
+    }
+
+    /**
+     * ID가 지정된 로그 목록을 순서 없는(unordered) bulk insert로 적재
+     * - 중복 키 오류(11000)가 난 로그만 제외하고 나머지는 모두 적재
+     *
+     * @param source 로그 출처
+     * @param logs   적재할 로그 목록 (ID 지정 필수)
+     * @return 새로 적재된 로그 목록
+     */
+    @Override
+    public List<LogEntity> ingestIfAbsent(IngestSource source, List<LogEntity> logs) {
+        if (logs.isEmpty()) {
+            return logs;
+        }
+        logTemplateService.assignTemplates(logs);
+        List<LogEntity> inserted = insertIfAbsent(logs);
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(LogIngestedEvent.of(source, inserted));
+        }
+        return inserted;
+    }
+
+    private List<LogEntity> insertIfAbsent(List<LogEntity> logs) {
+        try {
+            mongoTemplate.bulkOps(BulkMode.UNORDERED, LogEntity.class).insert(logs).execute();
+            return logs;
+        } catch (BulkOperationException e) {
+            Set<Integer> duplicatedIndexes = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR_CODE) {
+                    throw e;
+                }
+                duplicatedIndexes.add(error.getIndex());
+            }
+            log.info("이미 적재된 로그 {}건을 건너뜀", duplicatedIndexes.size());
+            List<LogEntity> inserted = new ArrayList<>(logs.size() - duplicatedIndexes.size());
+            for (int i = 0; i < logs.size(); i++) {
+                if (!duplicatedIndexes.contains(i)) {
+                    inserted.add(logs.get(i));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    /**
+     * 로그 목록에 메시지 템플릿을 할당한 뒤 MongoDB에 insertMany로 적재하고 적재 이벤트를 발행
+     *
+     * @param source 로그 출처
+     * @param logs   적재할 로그 목록
+     */
+    @Override
+    public void ingest(IngestSource source, List<LogEntity> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        logTemplateService.assignTemplates(logs);
+        mongoLogRepository.insert(logs);
+        eventPublisher.publishEvent(LogIngestedEvent.of(source, logs));
+    }
+
+    /**
+     * 큐에서 배치를 꺼내 종료 신호를 받을 때까지 적재
+     *
+     * @param pendingBatches 쓰기 대기 중인 배치 큐
+     * @param progress       배치마다 새로 적재된 로그 개수를 받을 소비자
+     * @return 새로 적재된 로그 개수
+     */
+    private long writeBatches(BlockingQueue<List<LogEntity>> pendingBatches, LongConsumer progress) {
+        long savedCount = 0;
+        try {
+            List<LogEntity> batch;
+            while ((batch = pendingBatches.take()) != END_OF_FILE) {
+                int inserted = ingestIfAbsent(IngestSource.FILE, batch).size();
+                savedCount += inserted;
+                progress.accept(inserted);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LogIngestException();
+        }
+        return savedCount;
+    }
+
+    /**
+     * 배치를 쓰기 큐에 추가
+     * - 큐가 가득 차면 쓰기 스레드가 배치를 소비할 때까지 대기
+     * - 대기 중 쓰기 스레드가 실패하면 즉시 중단
+     *
+     * @param pendingBatches 쓰기 대기 중인 배치 큐
+     * @param batch          추가할 배치
+     * @param writers        쓰기 작업 목록
+     */
+    private void enqueue(BlockingQueue<List<LogEntity>> pendingBatches, List<LogEntity> batch, List<CompletableFuture<Long>> writers) {
+        try {
+            while (!pendingBatches.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                for (CompletableFuture<Long> writer : writers) {
+                    if (writer.isCompletedExceptionally()) {
+                        writer.join(); // 쓰기 스레드의 예외를 그대로 전파
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LogIngestException();
+        }
+    }
+
+    /**
+     * 읽기 실패 시 남은 배치를 버리고 쓰기 스레드를 종료
+     *
+     * @param pendingBatches 쓰기 대기 중인 배치 큐
+     */
+    private void abort(BlockingQueue<List<LogEntity>> pendingBatches) {
+        pendingBatches.clear();
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            pendingBatches.offer(END_OF_FILE);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerExecutor.shutdownNow();
+    }
+
+    /**
+     * 적재 쓰기 스레드 생성기
+     * - 애플리케이션 종료를 막지 않도록 데몬 스레드로 생성
+     */
+    private static class IngestThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "log-ingest-writer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -1,10 +1,14 @@
 package com.humuson.backend.domain.log.service;
 
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
 import com.humuson.backend.domain.log.model.entity.Level;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -26,6 +30,48 @@ public interface LogQueryService {
 
     Page<LogEntity> getPaginatedLogsInLevel(List<Level> levels, Pageable pageable);
 
+    /**
+     * 커서 이후의 로그를 최신순으로 조회
+     *
+     * @param levels 조회할 로그 레벨
+     * @param cursor 마지막으로 조회한 로그의 위치 (null이면 처음부터)
+     * @param limit  조회할 최대 로그 개수
+     * @return 최신순으로 정렬된 로그 목록
+     */
+    List<LogEntity> getLogsInLevelAfter(List<Level> levels, LogCursor cursor, int limit);
+
+    /**
+     * 업로드된 로그 파일에서 시간 범위 내 로그의 레벨별 개수를 집계
+     *
+     * @param fileName 집계할 로그 파일 이름
+     * @param start    집계 시작 시간 (포함, 선택)
+     * @param end      집계 종료 시간 (제외, 선택)
+     * @return 로그 레벨별 개수
+     */
+    Map<Level, Long> getFileLogsCountByLevel(String fileName, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 업로드된 로그 파일에서 시간 범위 내의 최신 로그를 지정된 개수만큼 조회
+     *
+     * @param fileName 조회할 로그 파일 이름
+     * @param levels   조회할 로그 레벨
+     * @param start    조회 시작 시간 (포함, 선택)
+     * @param end      조회 종료 시간 (제외, 선택)
+     * @param limit    조회할 최대 로그 개수
+     * @return 시간 범위 내의 최신 로그 목록 (타임스탬프 내림차순)
+     */
+    List<LogEntity> getLatestFileLogs(String fileName, List<Level> levels, LocalDateTime start, LocalDateTime end, int limit);
+
+    /**
+     * 업로드된 로그 파일에서 시간 범위 내 로그를 분 단위, 로그 레벨별로 집계
+     *
+     * @param fileName 집계할 로그 파일 이름
+     * @param start    집계 시작 시간 (포함)
+     * @param end      집계 종료 시간 (제외)
+     * @return "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수
+     */
+    Map<String, Map<Level, Long>> getFileLogsCountByMinute(String fileName, LocalDateTime start, LocalDateTime end);
+
     /**
      * 특정 로그 파일에서 최신 로그를 지정된 개수만큼 조회
      *
@@ -44,4 +90,21 @@ public interface LogQueryService {
      */
     List<LogEntity> getLogsByStartAndEnd(LocalDateTime start, LocalDateTime end) throws IOException;
 
+    /**
+     * 지정된 시간 범위 내의 로그를 분 단위, 로그 레벨별로 집계
+     *
+     * @param start 조회 시작 시간 (포함)
+     * @param end   조회 종료 시간 (제외)
+     * @return "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수
+     */
+    Map<String, Map<Level, Long>> getLogsCountByMinute(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 조건에 맞는 로그를 시간순 스트림으로 조회 (사용 후 반드시 닫아야 함)
+     *
+     * @param condition 로그 레벨, 시간 범위, 서비스 이름 조건
+     * @return 시간순으로 정렬된 로그 스트림
+     */
+    Stream<LogEntity> streamLogs(LogFilterCondition condition);
+
 }
@@ -2,11 +2,18 @@ package com.humuson.backend.domain.log.service;
 
 import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
 
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
 import com.humuson.backend.domain.log.model.entity.Level;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.exception.LogParsingException;
+import com.humuson.backend.infrastructure.log.repository.LogRepository;
 import com.humuson.backend.infrastructure.log.repository.MongoLogRepository;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,6 +30,7 @@ import org.springframework.stereotype.Service;
 public class LogQueryServiceImpl implements LogQueryService {
 
     private final MongoLogRepository logRepository;
+    private final LogRepository fileLogRepository;
 
     /**
      * 특정 로그 파일에서 모든 로그를 조회
@@ -44,6 +52,74 @@ public class LogQueryServiceImpl implements LogQueryService {
         return logRepository.findAllByLevelIn(levels, pageable);
     }
 
+    @Override
+    public List<LogEntity> getLogsInLevelAfter(List<Level> levels, LogCursor cursor, int limit) {
+        return logRepository.findAllByLevelInAfter(levels, cursor, limit);
+    }
+
+    /**
+     * 업로드된 로그 파일에서 시간 범위 내 로그의 레벨별 개수를 집계
+     * - 시간 범위가 없으면 파일 전체를 집계
+     *
+     * @param fileName 집계할 로그 파일 이름
+     * @param start    집계 시작 시간 (포함, 선택)
+     * @param end      집계 종료 시간 (제외, 선택)
+     * @return 로그 레벨별 개수
+     * @throws LogParsingException 파일 처리 중 오류 발생 시 발생
+     */
+    @Override
+    public Map<Level, Long> getFileLogsCountByLevel(String fileName, LocalDateTime start, LocalDateTime end) {
+        try {
+            if (start == null && end == null) {
+                return fileLogRepository.countLogsByLevel(fileName);
+            }
+            return fileLogRepository.countLogsByLevel(fileName, start, end);
+        } catch (IOException e) {
+            log.error("로그 파일 집계 실패: {}", e.getMessage());
+            throw new LogParsingException();
+        }
+    }
+
+    /**
+     * 업로드된 로그 파일에서 시간 범위 내의 최신 로그를 지정된 개수만큼 조회
+     *
+     * @param fileName 조회할 로그 파일 이름
+     * @param levels   조회할 로그 레벨
+     * @param start    조회 시작 시간 (포함, 선택)
+     * @param end      조회 종료 시간 (제외, 선택)
+     * @param limit    조회할 최대 로그 개수
+     * @return 시간 범위 내의 최신 로그 목록 (타임스탬프 내림차순)
+     * @throws LogParsingException 파일 처리 중 오류 발생 시 발생
+     */
+    @Override
+    public List<LogEntity> getLatestFileLogs(String fileName, List<Level> levels, LocalDateTime start, LocalDateTime end, int limit) {
+        try {
+            return fileLogRepository.readLatestLogsByTimeRange(fileName, levels, start, end, limit);
+        } catch (IOException e) {
+            log.error("로그 파일 조회 실패: {}", e.getMessage());
+            throw new LogParsingException();
+        }
+    }
+
+    /**
+     * 업로드된 로그 파일에서 시간 범위 내 로그를 분 단위, 로그 레벨별로 집계
+     *
+     * @param fileName 집계할 로그 파일 이름
+     * @param start    집계 시작 시간 (포함)
+     * @param end      집계 종료 시간 (제외)
+     * @return 분별 로그 레벨별 개수
+     * @throws LogParsingException 파일 처리 중 오류 발생 시 발생
+     */
+    @Override
+    public Map<String, Map<Level, Long>> getFileLogsCountByMinute(String fileName, LocalDateTime start, LocalDateTime end) {
+        try {
+            return fileLogRepository.countLogsByMinute(fileName, start, end);
+        } catch (IOException e) {
+            log.error("로그 파일 집계 실패: {}", e.getMessage());
+            throw new LogParsingException();
+        }
+    }
+
     /**
      * 특정 로그 파일에서 최신 로그를 지정된 개수만큼 조회
      *
@@ -66,4 +142,28 @@ public class LogQueryServiceImpl implements LogQueryService {
         return logRepository.findAllByTimestampBetween(start.format(TIMESTAMP_FORMAT), end.format(TIMESTAMP_FORMAT));
     }
 
+    /**
+     * 지정된 시간 범위 내의 로그를 분 단위, 로그 레벨별로 집계
+     * - 로그를 불러오지 않고 MongoDB 집계 결과만 조회
+     *
+     * @param start 조회 시작 시간 (포함)
+     * @param end   조회 종료 시간 (제외)
+     * @return 분별 로그 레벨별 개수
+     */
+    @Override
+    public Map<String, Map<Level, Long>> getLogsCountByMinute(LocalDateTime start, LocalDateTime end) {
+        return logRepository.countByMinuteAndLevel(start.format(TIMESTAMP_FORMAT), end.format(TIMESTAMP_FORMAT));
+    }
+
+    /**
+     * 조건에 맞는 로그를 MongoDB 커서 기반 스트림으로 조회
+     *
+     * @param condition 로그 레벨, 시간 범위, 서비스 이름 조건
+     * @return 시간순으로 정렬된 로그 스트림
+     */
+    @Override
+    public Stream<LogEntity> streamLogs(LogFilterCondition condition) {
+        return logRepository.streamAll(condition);
+    }
+
 }
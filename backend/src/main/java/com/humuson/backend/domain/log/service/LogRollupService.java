@@ -0,0 +1,24 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogRollupDistribution;
+import java.time.LocalDateTime;
+
+/**
+ * 로그 롤업 서비스 인터페이스
+ * - 적재 시 분/시/일 단위로 누적한 로그 개수로 분포를 조회하는 기능을 정의
+ */
+public interface LogRollupService {
+
+    /**
+     * 시간 범위 내의 로그 분포를 버킷 수가 maxPoints 이하인 가장 세밀한 해상도로 조회
+     * - 조회 비용은 로그 개수가 아니라 버킷 수에 비례
+     *
+     * @param start       조회 시작 시간 (포함, 시작 시각이 속한 버킷 전체 포함)
+     * @param end         조회 종료 시간 (제외)
+     * @param serviceName 서비스 이름 (선택, 생략 시 모든 서비스 합계)
+     * @param maxPoints   최대 버킷 수 (선택, 생략 시 설정의 기본값)
+     * @return 선택된 해상도와 버킷별 로그 레벨별 개수
+     */
+    LogRollupDistribution getDistribution(LocalDateTime start, LocalDateTime end, String serviceName, Integer maxPoints);
+
+}
@@ -0,0 +1,231 @@
+package com.humuson.backend.domain.log.service;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import com.humuson.backend.domain.log.model.dto.result.LogRollupDistribution;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.entity.LogRollupEntity;
+import com.humuson.backend.domain.log.model.entity.RollupResolution;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.LogRollupProperties;
+import com.humuson.backend.global.util.LogParseUtil;
+import com.humuson.backend.infrastructure.log.repository.MongoLogRollupRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그 롤업 서비스 구현체
+ * - 로그가 적재될 때마다 분/시/일 버킷, 로그 레벨, 서비스별 개수를 롤업 컬렉션에 누적 (배치당 bulk write 한 번, 적재 스레드에서 실행)
+ * - 분포 조회는 원본 로그 대신 선택된 해상도의 롤업 문서만 읽으므로, 30일 범위도 10분 범위와 비슷한 비용으로 조회
+ * - 재생성 완료 표시가 없으면 빈 상태에서 시작 시각 이전의 로그로 롤업을 다시 만들고, 끝까지 마치면 완료 표시를 저장
+ *   (도중에 실패하거나 종료되면 다음 시작 시 롤업을 비우고 다시 만듦)
+ * - 재생성 기준(시작 시각, 로그 ID 상한)은 빈 생성 직후에 정하므로, 시작이 끝나기 전에 적재된 로그도 이벤트와 재생성에 한 번만 반영
+ *   - 시작 시각 이후의 로그: 적재 이벤트로 바로 누적 (재생성은 읽지 않음)
+ *   - 시작 시각 이전이지만 재생성 시작 후에 적재된 로그 (파일 업로드 등): 재생성이 읽지 않으므로 모아 두었다가 재생성이 끝난 뒤 누적
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogRollupServiceImpl implements LogRollupService {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final MongoLogRollupRepository rollupRepository;
+    private final LogRollupProperties properties;
+
+    private final Map<LogRollupKey, Long> lateIncrements = new HashMap<>(); // 재생성 중 적재된 시작 시각 이전 로그의 개수 (lateIncrements로 동기화)
+
+    private volatile String rebuildCutoff; // 롤업을 만드는 중이면 재생성이 다루는 구간의 종료 시각 (이전 타임스탬프는 바로 누적하지 않음)
+    private volatile ObjectId rebuildMaxId; // 재생성이 읽는 로그 ID의 상한 (이후에 적재된 로그는 재생성이 읽지 않음)
+
+    /**
+     * 적재된 로그를 모든 해상도의 롤업에 누적
+     * - 재생성 중이면 시작 시각 이전의 로그는 바로 누적하지 않고, 재생성이 읽지 않는 로그만 모아 두었다가 재생성이 끝난 뒤 누적
+     * - 롤업 갱신이 실패해도 로그 적재는 이미 끝났으므로 경고만 남김
+     *
+     * @param event 로그 적재 이벤트
+     */
+    @EventListener
+    public void onLogIngested(LogIngestedEvent event) {
+        String cutoff = rebuildCutoff;
+        ObjectId maxId = rebuildMaxId;
+        Map<LogRollupKey, Long> increments = new HashMap<>();
+        Map<LogRollupKey, Long> late = new HashMap<>();
+        for (LogEntity logEntity : event.logs()) {
+            String timestamp = logEntity.getTimestamp();
+            if (timestamp == null || LogParseUtil.parseEpochSecond(timestamp, 0) < 0) {
+                continue;
+            }
+            if (cutoff != null && timestamp.compareTo(cutoff) < 0) {
+                if (!isReadByRebuild(logEntity.getId(), maxId)) {
+                    accumulate(late, timestamp, logEntity.getLevel(), logEntity.getServiceName(), 1);
+                }
+                continue;
+            }
+            accumulate(increments, timestamp, logEntity.getLevel(), logEntity.getServiceName(), 1);
+        }
+        if (!late.isEmpty()) {
+            synchronized (lateIncrements) {
+                if (rebuildCutoff != null) {
+                    late.forEach((key, count) -> lateIncrements.merge(key, count, Long::sum));
+                    late.clear();
+                }
+            }
+            late.forEach((key, count) -> increments.merge(key, count, Long::sum)); // 그사이 재생성이 끝났으면 바로 누적
+        }
+        try {
+            rollupRepository.incrementAll(toEntities(increments));
+        } catch (RuntimeException e) {
+            log.warn("로그 롤업 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재생성 완료 표시가 없으면 롤업을 비우고 재생성 기준을 정함 (적재 이벤트를 받기 전에 실행)
+     * - 이전에 중간까지 만든 롤업이 남아 있어도 처음부터 다시 만들어 중복되지 않도록 함
+     */
+    @PostConstruct
+    public void prepareRebuild() {
+        if (!properties.rebuildOnStartup()) {
+            return;
+        }
+        try {
+            if (rollupRepository.isRebuilt()) {
+                return;
+            }
+            rollupRepository.deleteAll();
+        } catch (RuntimeException e) {
+            log.warn("로그 롤업 확인 실패, 이후 적재된 로그만 누적: {}", e.getMessage());
+            return;
+        }
+        rebuildMaxId = new ObjectId();
+        rebuildCutoff = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+    }
+
+    /**
+     * 재생성 기준이 정해져 있으면 MongoDB에 적재된 로그로 롤업을 만듦 (별도 스레드에서 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (rebuildCutoff == null) {
+            return;
+        }
+        Thread rebuilder = new Thread(this::rebuildFromLogs, "log-rollup-rebuilder");
+        rebuilder.setDaemon(true);
+        rebuilder.start();
+    }
+
+    @Override
+    public LogRollupDistribution getDistribution(LocalDateTime start, LocalDateTime end, String serviceName, Integer maxPoints) {
+        RollupResolution resolution = RollupResolution.select(start, end, maxPoints != null ? maxPoints : properties.defaultMaxPoints());
+        String from = resolution.bucketOf(start.format(TIMESTAMP_FORMAT));
+        String to = end.format(TIMESTAMP_FORMAT);
+        List<LogRollupEntity> rollups = serviceName != null && !serviceName.isBlank()
+                ? rollupRepository.findAllByResolutionAndServiceNameAndBucketGreaterThanEqualAndBucketLessThan(resolution, serviceName, from, to)
+                : rollupRepository.findAllByResolutionAndBucketGreaterThanEqualAndBucketLessThan(resolution, from, to);
+
+        Map<String, Map<Level, Long>> distribution = new TreeMap<>();
+        for (LogRollupEntity rollup : rollups) {
+            if (rollup.getCount() > 0) {
+                distribution.computeIfAbsent(rollup.getBucket(), bucket -> new EnumMap<>(Level.class))
+                        .merge(rollup.getLevel(), rollup.getCount(), Long::sum);
+            }
+        }
+        return LogRollupDistribution.of(resolution, distribution);
+    }
+
+    /**
+     * 재생성 기준 시각 이전의 로그를 분 단위로 집계하여, 시/일 버킷과 함께 REBUILD_BATCH_SIZE개씩 누적
+     * - 같은 시/일 버킷이 여러 배치에 나뉘어도 $inc로 더해지므로 결과는 같음
+     * - 끝까지 마치면 완료 표시를 저장하고, 재생성 중 모아 둔 로그를 누적
+     */
+    private void rebuildFromLogs() {
+        long started = System.currentTimeMillis();
+        long minuteRollups = 0;
+        try (Stream<LogRollupEntity> rollups = rollupRepository.streamMinuteRollups(rebuildCutoff, rebuildMaxId)) {
+            Map<LogRollupKey, Long> increments = new HashMap<>();
+            Iterator<LogRollupEntity> iterator = rollups.iterator();
+            while (iterator.hasNext()) {
+                LogRollupEntity rollup = iterator.next();
+                if (rollup.getBucket() == null || rollup.getBucket().length() < 16) {
+                    continue; // 타임스탬프 형식이 아닌 로그
+                }
+                accumulate(increments, rollup.getBucket(), rollup.getLevel(), rollup.getServiceName(), rollup.getCount());
+                minuteRollups++;
+                if (increments.size() >= REBUILD_BATCH_SIZE) {
+                    rollupRepository.incrementAll(toEntities(increments));
+                    increments.clear();
+                }
+            }
+            rollupRepository.incrementAll(toEntities(increments));
+            rollupRepository.markRebuilt(rebuildCutoff);
+            log.info("로그 롤업 생성 완료: 분 단위 {}건 ({}ms)", minuteRollups, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("로그 롤업 생성 실패, 다음 시작 시 다시 생성: {}", e.getMessage());
+        } finally {
+            finishRebuild();
+        }
+    }
+
+    /**
+     * 재생성 상태를 해제하고, 재생성 중 모아 둔 시작 시각 이전 로그의 개수를 누적
+     */
+    private void finishRebuild() {
+        Map<LogRollupKey, Long> late;
+        synchronized (lateIncrements) {
+            rebuildCutoff = null;
+            late = new HashMap<>(lateIncrements);
+            lateIncrements.clear();
+        }
+        try {
+            rollupRepository.incrementAll(toEntities(late));
+        } catch (RuntimeException e) {
+            log.warn("재생성 중 적재된 로그 {}개 버킷의 롤업 갱신 실패: {}", late.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재생성 집계가 읽는 로그인지 확인 (ObjectId가 아니거나 상한 이상인 ID는 재생성 시작 후에 적재된 로그)
+     * - 로그 시각으로 ID를 만드는 추적기(LogFileTailer)의 로그는 상한보다 작을 수 있어, 재생성 중 적재되면 집계 시점에 따라 빠질 수 있음
+     */
+    private static boolean isReadByRebuild(String id, ObjectId maxId) {
+        return id != null && ObjectId.isValid(id) && new ObjectId(id).compareTo(maxId) < 0;
+    }
+
+    private static void accumulate(Map<LogRollupKey, Long> increments, String timestamp, Level level, String serviceName, long count) {
+        Level rollupLevel = level != null ? level : Level.UNKNOWN;
+        for (RollupResolution resolution : RollupResolution.values()) {
+            increments.merge(new LogRollupKey(resolution, resolution.bucketOf(timestamp), rollupLevel, serviceName), count, Long::sum);
+        }
+    }
+
+    private static List<LogRollupEntity> toEntities(Map<LogRollupKey, Long> increments) {
+        return increments.entrySet().stream()
+                .map(entry -> LogRollupEntity.builder()
+                        .resolution(entry.getKey().resolution())
+                        .bucket(entry.getKey().bucket())
+                        .level(entry.getKey().level())
+                        .serviceName(entry.getKey().serviceName())
+                        .count(entry.getValue())
+                        .build())
+                .toList();
+    }
+
+    private record LogRollupKey(RollupResolution resolution, String bucket, Level level, String serviceName) {
+    }
+
+}
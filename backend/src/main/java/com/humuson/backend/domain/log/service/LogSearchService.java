@@ -0,0 +1,26 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogSearchHits;
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 로그 메시지 검색 서비스 인터페이스
+ * - 메시지에 포함된 토큰으로 로그를 검색하는 기능을 정의
+ */
+public interface LogSearchService {
+
+    /**
+     * 검색어의 모든 토큰을 메시지에 포함하는 로그를 최신순으로 검색
+     *
+     * @param query  검색어 (예: "order 48213", "user512")
+     * @param levels 포함할 로그 레벨
+     * @param start  검색 시작 시간 (포함, 선택)
+     * @param end    검색 종료 시간 (제외, 선택)
+     * @param limit  반환할 최대 로그 개수
+     * @return 최신순 로그 ID와 전체 일치 개수
+     */
+    LogSearchHits searchLogs(String query, List<Level> levels, LocalDateTime start, LocalDateTime end, int limit);
+
+}
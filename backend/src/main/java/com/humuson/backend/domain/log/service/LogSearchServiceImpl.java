@@ -0,0 +1,26 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogSearchHits;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.infrastructure.log.search.LogSearchIndex;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그 메시지 검색 서비스 구현체
+ * - 적재 시 갱신되는 메모리 역색인으로 검색하므로 MongoDB를 조회하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class LogSearchServiceImpl implements LogSearchService {
+
+    private final LogSearchIndex logSearchIndex;
+
+    @Override
+    public LogSearchHits searchLogs(String query, List<Level> levels, LocalDateTime start, LocalDateTime end, int limit) {
+        return logSearchIndex.search(query, levels, start, end, limit);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateDistribution;
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateTop;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 로그 메시지 템플릿 서비스 인터페이스
+ * - 적재할 로그에 메시지 템플릿을 할당하고, 최근 구간의 템플릿별 개수를 조회하는 기능을 정의
+ */
+public interface LogTemplateService {
+
+    /**
+     * 로그마다 메시지 템플릿을 찾아 templateId를 할당 (MongoDB 적재 직전에 호출)
+     *
+     * @param logs 적재할 로그 목록
+     */
+    void assignTemplates(List<LogEntity> logs);
+
+    /**
+     * 최근 window 동안 로그가 가장 많은 메시지 템플릿을 조회
+     *
+     * @param level  집계할 로그 레벨 (null이면 모든 레벨)
+     * @param window 조회 범위
+     * @param k      반환할 최대 템플릿 개수
+     * @return 로그 개수 내림차순 상위 K개
+     */
+    LogTemplateTop getTopTemplates(Level level, Duration window, int k);
+
+    /**
+     * 최근 window 동안 메시지 템플릿 하나의 분 단위, 로그 레벨별 개수를 조회
+     *
+     * @param templateId 템플릿 ID
+     * @param window     조회 범위
+     * @return 템플릿의 분 단위 분포
+     */
+    LogTemplateDistribution getDistribution(String templateId, Duration window);
+
+}
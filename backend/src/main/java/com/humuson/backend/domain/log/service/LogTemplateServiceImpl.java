@@ -0,0 +1,42 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateDistribution;
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateTop;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.exception.LogTemplateNotFoundException;
+import com.humuson.backend.infrastructure.log.template.LogTemplateMiner;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그 메시지 템플릿 서비스 구현체
+ * - 적재 시 갱신되는 Drain 기반 템플릿 추출기로 조회하므로 MongoDB를 조회하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class LogTemplateServiceImpl implements LogTemplateService {
+
+    private final LogTemplateMiner logTemplateMiner;
+
+    @Override
+    public void assignTemplates(List<LogEntity> logs) {
+        logTemplateMiner.assign(logs);
+    }
+
+    @Override
+    public LogTemplateTop getTopTemplates(Level level, Duration window, int k) {
+        return logTemplateMiner.getTopTemplates(level, window, k);
+    }
+
+    /**
+     * @throws LogTemplateNotFoundException 템플릿이 없거나 메모리에서 제거된 경우 예외 발생
+     */
+    @Override
+    public LogTemplateDistribution getDistribution(String templateId, Duration window) {
+        return logTemplateMiner.getDistribution(templateId, window).orElseThrow(LogTemplateNotFoundException::new);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogTopK;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.TopKDimension;
+import java.time.Duration;
+
+/**
+ * 로그 상위 K개 집계 서비스 인터페이스
+ * - 최근 구간에서 로그 레벨별로 가장 많이 나타난 서비스/메시지를 조회하는 기능을 정의
+ */
+public interface LogTopKService {
+
+    /**
+     * 최근 window 동안 지정된 로그 레벨에서 가장 많이 나타난 서비스/메시지를 조회
+     *
+     * @param level     로그 레벨
+     * @param dimension 집계 기준 (서비스, 메시지)
+     * @param window    조회 범위
+     * @param k         반환할 최대 키 개수
+     * @return 추정 개수 내림차순 상위 K개와 오차 범위
+     */
+    LogTopK getTopK(Level level, TopKDimension dimension, Duration window, int k);
+
+    /**
+     * 집계 버전 (로그가 적재되어 집계가 바뀔 때마다 증가)
+     *
+     * @return 집계 버전
+     */
+    long getVersion();
+
+}
@@ -0,0 +1,31 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.result.LogTopK;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.TopKDimension;
+import com.humuson.backend.infrastructure.log.topk.LogHeavyHitterTracker;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그 상위 K개 집계 서비스 구현체
+ * - 적재 시 갱신되는 Count-Min Sketch 기반 추적기로 조회하므로 MongoDB를 조회하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class LogTopKServiceImpl implements LogTopKService {
+
+    private final LogHeavyHitterTracker logHeavyHitterTracker;
+
+    @Override
+    public LogTopK getTopK(Level level, TopKDimension dimension, Duration window, int k) {
+        return logHeavyHitterTracker.getTopK(level, dimension, window, k);
+    }
+
+    @Override
+    public long getVersion() {
+        return logHeavyHitterTracker.getVersion();
+    }
+
+}
@@ -3,9 +3,12 @@ package com.humuson.backend.domain.log.service;
 import com.humuson.backend.global.exception.FileUploadException;
 import com.humuson.backend.global.exception.InvalidFileFormatException;
 import com.humuson.backend.infrastructure.log.repository.LogRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,13 +16,27 @@ import org.springframework.web.multipart.MultipartFile;
 /**
  * 로그 업로드 서비스 구현체
  * - 로그 파일을 저장하고 검증하는 기능을 수행
+ * - 저장한 파일 크기(log.upload.size, 바이트)와 저장 시간(log.upload)을 지표로 기록
+ *   (초당 업로드 바이트 수는 log.upload.size의 합계 증가율로 확인)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class LogUploadServiceImpl implements LogUploadService {
 
     private final LogRepository logRepository;
+    private final DistributionSummary uploadSize;
+    private final Timer uploadTimer;
+
+    public LogUploadServiceImpl(LogRepository logRepository, MeterRegistry meterRegistry) {
+        this.logRepository = logRepository;
+        this.uploadSize = DistributionSummary.builder("log.upload.size")
+                .baseUnit("bytes")
+                .description("저장한 업로드 파일 크기")
+                .register(meterRegistry);
+        this.uploadTimer = Timer.builder("log.upload")
+                .description("업로드 파일 저장 시간")
+                .register(meterRegistry);
+    }
 
     /**
      * 업로드된 로그 파일을 저장
@@ -38,8 +55,12 @@ public class LogUploadServiceImpl implements LogUploadService {
 
         String newFileName = generateFileName(file.getOriginalFilename()); // UUID 기반 새로운 파일명 생성
 
+        long start = System.nanoTime();
         try {
-            return logRepository.saveLog(file, newFileName); // 새로운 파일명으로 저장
+            String savedFileName = logRepository.saveLog(file, newFileName); // 새로운 파일명으로 저장
+            uploadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            uploadSize.record(file.getSize());
+            return savedFileName;
         } catch (IOException e) {
             log.error("파일 업로드 실패: {}", e.getMessage());
             throw new FileUploadException();
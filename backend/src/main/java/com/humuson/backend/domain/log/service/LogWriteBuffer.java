@@ -0,0 +1,168 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.global.config.properties.LogWriteBufferProperties;
+import com.humuson.backend.global.exception.LogIngestException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 쓰기 버퍼 (write-behind)
+ * - 제출된 로그를 크기가 고정된 링 버퍼(ArrayBlockingQueue)에 모았다가 별도 스레드가 insertMany로 저장
+ * - 배치가 batchSize만큼 차거나, 첫 로그 이후 linger 시간이 지나면 저장
+ * - 버퍼가 가득 차면 제출하는 쪽이 대기하므로 (backpressure) 저장 속도를 넘어서 메모리가 늘지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogWriteBuffer {
+
+    private static final long DRAIN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10); // 종료 시 남은 로그를 저장하며 기다리는 최대 시간
+    private static final long INTERRUPT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(2); // 인터럽트 후 저장 스레드 종료를 기다리는 최대 시간
+
+    private final LogWriteBufferProperties properties;
+    private final LogIngestService logIngestService;
+
+    private BlockingQueue<PendingLog> buffer;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(properties.capacity());
+        running = true;
+        flusher = new Thread(this::flushLoop, "log-write-buffer-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 로그를 버퍼에 제출
+     *
+     * @param logEntity 저장할 로그
+     * @return 로그가 MongoDB에 저장되면 완료되는 Future (저장 실패 또는 버퍼 포화 시 예외로 완료)
+     */
+    public CompletableFuture<Void> submit(LogEntity logEntity) {
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+        if (!running) {
+            ack.completeExceptionally(new LogIngestException());
+            return ack;
+        }
+        try {
+            if (!buffer.offer(new PendingLog(logEntity, ack), properties.offerTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                ack.completeExceptionally(new LogIngestException());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ack.completeExceptionally(e);
+        }
+        return ack;
+    }
+
+    /**
+     * 현재 버퍼에 대기 중인 로그 개수
+     */
+    public int size() {
+        return buffer.size();
+    }
+
+    /**
+     * 버퍼에서 배치를 꺼내 저장하는 루프
+     * - 첫 로그를 기다린 뒤, linger 시간 안에 batchSize까지 모아서 저장
+     */
+    private void flushLoop() {
+        List<PendingLog> batch = new ArrayList<>(properties.batchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingLog first = buffer.poll(properties.linger().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                buffer.drainTo(batch); // 종료 중 인터럽트: 모아 둔 로그와 남은 로그를 모두 저장
+                flush(batch);
+                if (!running) {
+                    break;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fillBatch(List<PendingLog> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.linger().toNanos();
+        while (batch.size() < properties.batchSize()) {
+            if (buffer.drainTo(batch, properties.batchSize() - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingLog next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 배치를 insertMany로 저장하고 각 로그의 Future를 완료
+     */
+    private void flush(List<PendingLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<LogEntity> logs = new ArrayList<>(batch.size());
+        for (PendingLog pendingLog : batch) {
+            logs.add(pendingLog.log());
+        }
+        try {
+            logIngestService.ingest(IngestSource.LIVE, logs);
+            batch.forEach(pendingLog -> pendingLog.ack().complete(null));
+        } catch (RuntimeException e) {
+            log.error("로그 배치 저장 실패 ({}건): {}", batch.size(), e.getMessage());
+            batch.forEach(pendingLog -> pendingLog.ack().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 종료 시 더 이상 제출을 받지 않고, 남은 로그를 모두 저장한 뒤 종료
+     * - 저장 중인 배치가 MongoDB 드라이버 안에서 인터럽트되면 배치 전체가 실패하므로,
+     *   저장 스레드가 poll(linger) 루프에서 스스로 버퍼를 비우고 끝나기를 기다림
+     * - 제한 시간 안에 끝나지 않을 때만 인터럽트하고, 그래도 남은 로그는 실패로 완료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(DRAIN_TIMEOUT_MILLIS);
+        if (flusher.isAlive()) {
+            log.warn("로그 쓰기 버퍼가 {}ms 안에 비워지지 않아 저장 스레드를 중단 (남은 로그 {}건)", DRAIN_TIMEOUT_MILLIS, buffer.size());
+            flusher.interrupt();
+            flusher.join(INTERRUPT_TIMEOUT_MILLIS);
+        }
+
+        List<PendingLog> rejected = new ArrayList<>();
+        buffer.drainTo(rejected); // 저장 스레드 종료 직전에 제출된 로그
+        rejected.forEach(pendingLog -> pendingLog.ack().completeExceptionally(new LogIngestException()));
+    }
+
+    private record PendingLog(LogEntity log, CompletableFuture<Void> ack) {
+    }
+
+}
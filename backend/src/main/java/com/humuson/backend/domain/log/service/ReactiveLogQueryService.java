@@ -0,0 +1,81 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 로그 조회 서비스 인터페이스
+ * - 데이터 저장소의 로그를 블로킹 없이 조회하는 기능을 정의 (결과는 Flux/Mono로 반환)
+ */
+public interface ReactiveLogQueryService {
+
+    /**
+     * 로그 레벨에 해당하는 로그를 페이지 조회
+     *
+     * @param levels   조회할 로그 레벨
+     * @param pageable 페이지 정보
+     * @return 로그 페이지
+     */
+    Mono<Page<LogEntity>> getPaginatedLogsInLevel(List<Level> levels, Pageable pageable);
+
+    /**
+     * 커서 이후의 로그를 최신순으로 조회
+     *
+     * @param levels 조회할 로그 레벨
+     * @param cursor 마지막으로 조회한 로그의 위치 (null이면 처음부터)
+     * @param limit  조회할 최대 로그 개수
+     * @return 최신순으로 정렬된 로그
+     */
+    Flux<LogEntity> getLogsInLevelAfter(List<Level> levels, LogCursor cursor, int limit);
+
+    /**
+     * 로그 레벨에 해당하는 전체 로그 개수를 조회 (짧은 시간 동안 캐시된 값일 수 있음)
+     *
+     * @param levels 조회할 로그 레벨
+     * @return 로그 개수
+     */
+    Mono<Long> getCachedLogsCountInLevel(List<Level> levels);
+
+    /**
+     * 최신 로그를 지정된 개수만큼 조회
+     *
+     * @param pageable 조회 개수와 정렬 정보
+     * @return 최신 로그
+     */
+    Flux<LogEntity> getRecentLogsByLimit(Pageable pageable);
+
+    /**
+     * 로그 ID 목록에 해당하는 로그를 조회
+     *
+     * @param ids 조회할 로그 ID
+     * @return 로그 (순서 보장 없음)
+     */
+    Flux<LogEntity> getLogsByIds(List<String> ids);
+
+    /**
+     * 조건에 맞는 로그의 레벨별 개수를 데이터 저장소에서 집계
+     *
+     * @param condition 로그 레벨, 시간 범위, 서비스 이름 조건
+     * @return 로그 레벨별 개수
+     */
+    Mono<Map<Level, Long>> getLogsCountByLevel(LogFilterCondition condition);
+
+    /**
+     * 지정된 시간 범위 내의 로그를 분 단위, 로그 레벨별로 집계
+     *
+     * @param start 조회 시작 시간 (포함)
+     * @param end   조회 종료 시간 (제외)
+     * @return "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수
+     */
+    Mono<Map<String, Map<Level, Long>>> getLogsCountByMinute(LocalDateTime start, LocalDateTime end);
+
+}
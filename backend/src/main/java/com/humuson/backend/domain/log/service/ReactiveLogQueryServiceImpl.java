@@ -0,0 +1,113 @@
+package com.humuson.backend.domain.log.service;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.infrastructure.log.repository.ReactiveMongoLogRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 로그 조회 서비스 구현체
+ * - 리액티브 MongoDB 드라이버로 조회하므로, 응답을 기다리는 동안 스레드를 점유하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveLogQueryServiceImpl implements ReactiveLogQueryService {
+
+    private static final Duration COUNT_CACHE_TTL = Duration.ofSeconds(10); // 전체 개수 캐시 유지 시간
+
+    private final ReactiveMongoLogRepository logRepository;
+    private final Map<Set<Level>, Mono<Long>> countCache = new ConcurrentHashMap<>();
+
+    /**
+     * 로그 레벨에 해당하는 로그를 페이지 조회
+     * - 목록 조회와 전체 개수 조회를 동시에 실행
+     *
+     * @param levels   조회할 로그 레벨
+     * @param pageable 페이지 정보
+     * @return 로그 페이지
+     */
+    @Override
+    public Mono<Page<LogEntity>> getPaginatedLogsInLevel(List<Level> levels, Pageable pageable) {
+        return Mono.zip(logRepository.findAllByLevelIn(levels, pageable).collectList(), logRepository.countByLevelIn(levels))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    @Override
+    public Flux<LogEntity> getLogsInLevelAfter(List<Level> levels, LogCursor cursor, int limit) {
+        return logRepository.findAllByLevelInAfter(levels, cursor, limit);
+    }
+
+    /**
+     * 로그 레벨에 해당하는 전체 로그 개수를 조회
+     * - 페이지마다 전체 개수를 세지 않도록 레벨 조합별로 10초간 캐시
+     * - 캐시가 만료되면 다음 구독에서 다시 집계하며, 동시에 들어온 요청은 같은 집계 결과를 공유
+     *
+     * @param levels 조회할 로그 레벨
+     * @return 로그 개수
+     */
+    @Override
+    public Mono<Long> getCachedLogsCountInLevel(List<Level> levels) {
+        Set<Level> key = levels.isEmpty() ? EnumSet.noneOf(Level.class) : EnumSet.copyOf(levels);
+        return countCache.computeIfAbsent(key, k -> logRepository.countByLevel(LogFilterCondition.of(levels, null, null, null))
+                .map(counts -> counts.values().stream().mapToLong(Long::longValue).sum())
+                .cache(count -> COUNT_CACHE_TTL, error -> Duration.ZERO, () -> Duration.ZERO));
+    }
+
+    /**
+     * 최신 로그를 지정된 개수만큼 조회
+     *
+     * @param pageable 조회 개수와 정렬 정보
+     * @return 최신 로그 (최신순 정렬)
+     */
+    @Override
+    public Flux<LogEntity> getRecentLogsByLimit(Pageable pageable) {
+        return logRepository.findAllBy(pageable);
+    }
+
+    @Override
+    public Flux<LogEntity> getLogsByIds(List<String> ids) {
+        return ids.isEmpty() ? Flux.empty() : logRepository.findAllById(ids);
+    }
+
+    /**
+     * 조건에 맞는 로그의 레벨별 개수를 MongoDB 집계($match, $group)로 반환
+     *
+     * @param condition 로그 레벨, 시간 범위, 서비스 이름 조건
+     * @return 로그 레벨별 개수
+     */
+    @Override
+    public Mono<Map<Level, Long>> getLogsCountByLevel(LogFilterCondition condition) {
+        return logRepository.countByLevel(condition);
+    }
+
+    /**
+     * 지정된 시간 범위 내의 로그를 분 단위, 로그 레벨별로 집계
+     * - 로그를 불러오지 않고 MongoDB 집계 결과만 조회
+     *
+     * @param start 조회 시작 시간 (포함)
+     * @param end   조회 종료 시간 (제외)
+     * @return 분별 로그 레벨별 개수
+     */
+    @Override
+    public Mono<Map<String, Map<Level, Long>>> getLogsCountByMinute(LocalDateTime start, LocalDateTime end) {
+        return logRepository.countByMinuteAndLevel(start.format(TIMESTAMP_FORMAT), end.format(TIMESTAMP_FORMAT));
+    }
+
+}
@@ -0,0 +1,271 @@
+package com.humuson.backend.domain.log.service;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.LogRecentBufferProperties;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 로그 버퍼 (hot tier)
+ * - 실시간으로 적재된 최근 capacity개의 로그를 링 버퍼(AtomicReferenceArray)에 유지하여 "최신 N개" 조회를 MongoDB 없이 처리
+ * - 쓰기는 순번(AtomicLong)을 하나 받아 해당 칸에 기록하고, 읽기는 칸을 그대로 읽으므로 읽기/쓰기 모두 잠금이 없음
+ * - 읽기는 마지막 순번부터 거꾸로 요청한 개수만큼만 읽으므로 버퍼 전체를 복사하거나 정렬하지 않음
+ * - 애플리케이션 시작 시 MongoDB의 최신 로그로 초기 목록을 채우고, 그 이후 적재된 로그는 링에 추가
+ * - 파일 적재 로그는 대부분 타임스탬프가 과거이므로 링에 넣지 않으며, 버퍼에 들어가야 할 로그가 파일로 적재되면 MongoDB에서 다시 채움
+ *   (파일 하나가 여러 배치로 적재되어도 다시 채우기는 한 번에 하나만 실행하고, 실행 중에 들어온 요청은 끝난 뒤 한 번으로 합침)
+ * - 요청한 개수만큼 버퍼에 없으면 Optional.empty()를 반환하여 MongoDB로 조회하도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentLogBuffer {
+
+    private static final Comparator<LogEntity> NEWEST_FIRST = Comparator.comparing(LogEntity::getTimestamp)
+            .thenComparing(LogEntity::getId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .reversed();
+
+    private final LogRecentBufferProperties properties;
+    private final LogQueryService logQueryService;
+
+    private volatile Ring ring; // 조회에 사용하는 링 (null이면 초기화 전이거나 다시 채우는 중)
+    private volatile Ring installing; // 적재 이벤트를 받는 링 (다시 채우는 중에도 기록)
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(); // 다시 채우기 작업이 예약되었거나 실행 중인지 여부
+    private volatile boolean refreshRequested; // 아직 반영하지 않은 다시 채우기 요청이 있는지 여부
+
+    /**
+     * 애플리케이션 시작 시 MongoDB의 최신 로그로 버퍼를 채움
+     * - 링을 먼저 설치한 뒤 조회하므로, 조회하는 동안 적재된 로그도 링에 추가됨 (중복은 읽을 때 제거)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Ring filling = new Ring(properties.capacity());
+        ring = null;
+        installing = filling;
+        try {
+            List<LogEntity> latest = logQueryService.getRecentLogsByLimit(
+                    PageRequest.of(0, properties.capacity(), Sort.by(Sort.Direction.DESC, "timestamp")));
+            filling.seed(latest, latest.size() < properties.capacity());
+            if (installing == filling) {
+                ring = filling;
+            }
+            log.info("최근 로그 버퍼 초기화 완료: {}건", latest.size());
+        } catch (Exception e) {
+            log.warn("최근 로그 버퍼 초기화 실패, MongoDB에서 조회: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 적재된 로그를 링에 추가
+     * - 실시간 로그만 추가하고, 파일로 적재된 로그가 버퍼에 들어가야 하면 버퍼를 다시 채움
+     *   (버퍼가 MongoDB의 모든 로그를 담고 있거나, 버퍼의 가장 오래된 로그보다 최신인 경우)
+     * - 이미 다시 채우기가 요청되어 있으면 버퍼와 비교하지 않고 넘어감
+     * - 버퍼의 가장 오래된 타임스탬프는 링이 기록할 때 갱신해 두므로 비교할 때 버퍼를 읽지 않음
+     *
+     * @param event 로그 적재 이벤트
+     */
+    @EventListener
+    public void onLogIngested(LogIngestedEvent event) {
+        Ring target = installing;
+        if (target == null) {
+            return;
+        }
+        if (event.source() == IngestSource.LIVE) {
+            for (LogEntity logEntity : event.logs()) {
+                target.add(logEntity);
+            }
+            return;
+        }
+        if (refreshRequested) {
+            return;
+        }
+        String oldest = target.oldestTimestamp();
+        if (target.isComplete() || oldest != null && event.logs().stream().anyMatch(logEntity -> logEntity.getTimestamp().compareTo(oldest) >= 0)) {
+            requestRefresh();
+        }
+    }
+
+    /**
+     * 버퍼 다시 채우기를 요청
+     * - 예약되었거나 실행 중인 작업이 없을 때만 새 작업을 실행하고, 실행 중이면 요청만 남겨 작업이 끝난 뒤 한 번 더 채움
+     */
+    private void requestRefresh() {
+        refreshRequested = true;
+        if (refreshScheduled.compareAndSet(false, true)) {
+            log.info("최근 로그 버퍼보다 최신인 로그가 파일로 적재되어 버퍼를 다시 채움");
+            CompletableFuture.runAsync(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        try {
+            while (refreshRequested) {
+                refreshRequested = false;
+                warmUp();
+            }
+        } finally {
+            refreshScheduled.set(false);
+        }
+        if (refreshRequested) {
+            requestRefresh(); // 반복을 마친 직후 들어온 요청
+        }
+    }
+
+    /**
+     * 최신 로그를 지정된 개수만큼 조회 (타임스탬프 내림차순)
+     *
+     * @param limit 조회할 로그 개수
+     * @return 최신 로그 목록, 버퍼에 요청한 만큼의 로그가 없으면 empty
+     */
+    public Optional<List<LogEntity>> getLatest(int limit) {
+        Ring current = ring;
+        if (current == null) {
+            return Optional.empty();
+        }
+        List<LogEntity> latest = current.latest(limit, logEntity -> true);
+        if (latest.size() < limit && !current.isComplete()) {
+            return Optional.empty();
+        }
+        return Optional.of(latest);
+    }
+
+    /**
+     * 지정된 로그 레벨의 최신 로그를 지정된 개수만큼 조회 (타임스탬프 내림차순)
+     *
+     * @param levels 조회할 로그 레벨
+     * @param limit  조회할 로그 개수
+     * @return 최신 로그 목록, 버퍼에 요청한 만큼의 로그가 없으면 empty
+     */
+    public Optional<List<LogEntity>> getLatestInLevels(List<Level> levels, int limit) {
+        Ring current = ring;
+        if (current == null) {
+            return Optional.empty();
+        }
+        List<LogEntity> matched = current.latest(limit, logEntity -> levels.contains(logEntity.getLevel()));
+        return matched.size() == limit || current.isComplete() ? Optional.of(matched) : Optional.empty();
+    }
+
+    /**
+     * 고정 크기 링 버퍼와 초기화 시 MongoDB에서 읽은 최신 로그 목록
+     * - 링에는 실시간 로그가 적재 순서대로 들어오므로, 마지막 순번부터 거꾸로 읽으면 최신순
+     * - 링이 한 바퀴 돌기 전까지는 base와 링을 병합해서 읽고, 한 바퀴 돈 뒤에는 링만 읽음
+     *   (링에서 밀려난 로그가 base의 로그보다 최신이므로)
+     */
+    private static final class Ring {
+
+        private final AtomicReferenceArray<LogEntity> slots;
+        private final AtomicLong sequence = new AtomicLong(); // 다음에 기록할 순번
+        private final AtomicReference<String> oldestAdded = new AtomicReference<>(); // 링이 한 바퀴 돌기 전까지 기록된 로그 중 가장 오래된 타임스탬프
+        private volatile List<LogEntity> base = List.of(); // 최신순으로 정렬된 초기 목록
+        private volatile boolean complete; // MongoDB의 모든 로그가 버퍼에 있는지 여부
+
+        private Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * 초기 목록을 최신순으로 정렬하여 설정 (읽을 때마다 정렬하지 않도록 한 번만 정렬)
+         */
+        void seed(List<LogEntity> latest, boolean complete) {
+            List<LogEntity> sorted = new ArrayList<>(latest);
+            sorted.sort(NEWEST_FIRST);
+            this.base = List.copyOf(sorted);
+            this.complete = complete;
+        }
+
+        void add(LogEntity logEntity) {
+            long next = sequence.getAndIncrement();
+            slots.set((int) (next % slots.length()), logEntity);
+            if (next < slots.length()) {
+                oldestAdded.accumulateAndGet(logEntity.getTimestamp(), Ring::older);
+            }
+        }
+
+        boolean isComplete() {
+            return complete && sequence.get() <= slots.length();
+        }
+
+        /**
+         * 조건에 맞는 로그를 최신순으로 최대 limit개 반환
+         * - 링은 마지막 순번부터 거꾸로 읽고, 링이 한 바퀴 돌기 전이면 base와 병합 (중복은 ID로 제거)
+         * - limit개가 모이면 바로 멈춤
+         * - 기록 중인 칸(아직 비어 있는 칸)은 건너뛰고, 읽는 도중 덮어쓰인 칸부터는 읽지 않음
+         */
+        List<LogEntity> latest(int limit, Predicate<LogEntity> filter) {
+            long end = sequence.get();
+            long start = Math.max(0, end - slots.length());
+            List<LogEntity> seeded = start == 0 ? base : List.of();
+            Set<String> ids = seeded.isEmpty() ? null : new HashSet<>();
+            List<LogEntity> logs = new ArrayList<>(Math.min(limit, slots.length() + seeded.size()));
+            long index = end;
+            int baseIndex = 0;
+            LogEntity fromRing = null;
+            while (logs.size() < limit) {
+                while (fromRing == null && index > start && index - 1 >= sequence.get() - slots.length()) {
+                    fromRing = slots.get((int) (--index % slots.length()));
+                }
+                LogEntity fromBase = baseIndex < seeded.size() ? seeded.get(baseIndex) : null;
+                LogEntity next;
+                if (fromBase == null || fromRing != null && NEWEST_FIRST.compare(fromRing, fromBase) <= 0) {
+                    next = fromRing;
+                    fromRing = null;
+                } else {
+                    next = fromBase;
+                    baseIndex++;
+                }
+                if (next == null) {
+                    break;
+                }
+                if (filter.test(next) && (ids == null || next.getId() == null || ids.add(next.getId()))) {
+                    logs.add(next);
+                }
+            }
+            return logs;
+        }
+
+        /**
+         * 버퍼가 보장하는 가장 오래된 로그의 타임스탬프 (버퍼가 비어 있으면 null)
+         * - 링이 한 바퀴 돌았으면 다음에 덮어쓸 칸의 로그가 가장 오래된 로그
+         * - 한 바퀴 돌기 전이면 base의 마지막 로그와 기록할 때 갱신한 값 중 더 오래된 것
+         */
+        String oldestTimestamp() {
+            long end = sequence.get();
+            if (end > slots.length()) {
+                LogEntity oldest = slots.get((int) (end % slots.length()));
+                if (oldest != null) {
+                    return oldest.getTimestamp();
+                }
+            }
+            List<LogEntity> seeded = base;
+            return older(seeded.isEmpty() ? null : seeded.get(seeded.size() - 1).getTimestamp(), oldestAdded.get());
+        }
+
+        private static String older(String a, String b) {
+            if (a == null || b == null) {
+                return a == null ? b : a;
+            }
+            return a.compareTo(b) <= 0 ? a : b;
+        }
+
+    }
+
+}
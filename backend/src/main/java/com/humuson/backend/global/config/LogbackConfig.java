@@ -4,7 +4,10 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
 import ch.qos.logback.core.util.FileSize;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
@@ -14,6 +17,10 @@ import org.springframework.context.annotation.Configuration;
 public class LogbackConfig {
 
     private static final String LOG_FILE_PATH = "logs/app.log";
+    private static final String ROLLED_FILE_PATTERN = "logs/app.%d{yyyy-MM-dd}.%i.log"; // 교체된 로그 파일 이름 패턴
+    private static final String MAX_FILE_SIZE = "100MB"; // 로그 파일 하나의 최대 크기
+    private static final int MAX_HISTORY_DAYS = 7; // 교체된 로그 파일 보관 일수
+    private static final String TOTAL_SIZE_CAP = "2GB"; // 교체된 로그 파일 전체 최대 크기
     private static final String LOG_PATTERN = "%d{yyyy-MM-dd HH:mm:ss} %-5level [%logger{1}] - %msg%n";
     private static final String TARGET_PACKAGE = "com.humuson.backend.domain.log.service";
 
@@ -31,21 +38,36 @@ public class LogbackConfig {
         return encoder;
     }
 
+    /**
+     * 크기와 날짜 기준으로 교체(rotation)되는 파일 Appender
+     * - app.log가 무한히 커지지 않도록 일정 크기마다 app.yyyy-MM-dd.N.log로 교체하고 오래된 파일은 삭제
+     */
     @Bean
-    public FileAppender fileAppender(LoggerContext context, PatternLayoutEncoder encoder) {
-        FileAppender fileAppender = new FileAppender();
+    public FileAppender<ILoggingEvent> fileAppender(LoggerContext context, PatternLayoutEncoder encoder) {
+        RollingFileAppender<ILoggingEvent> fileAppender = new RollingFileAppender<>();
 
         fileAppender.setContext(context);
         fileAppender.setFile(LOG_FILE_PATH);
         fileAppender.setAppend(true);
         fileAppender.setEncoder(encoder);
         fileAppender.setBufferSize(FileSize.valueOf("1"));   // 로그 발생 후 즉시 반영될 수 있도록 설정 추가
+
+        SizeAndTimeBasedRollingPolicy<ILoggingEvent> rollingPolicy = new SizeAndTimeBasedRollingPolicy<>();
+        rollingPolicy.setContext(context);
+        rollingPolicy.setParent(fileAppender);
+        rollingPolicy.setFileNamePattern(ROLLED_FILE_PATTERN);
+        rollingPolicy.setMaxFileSize(FileSize.valueOf(MAX_FILE_SIZE));
+        rollingPolicy.setMaxHistory(MAX_HISTORY_DAYS);
+        rollingPolicy.setTotalSizeCap(FileSize.valueOf(TOTAL_SIZE_CAP));
+        rollingPolicy.start();
+
+        fileAppender.setRollingPolicy(rollingPolicy);
         fileAppender.start();
         return fileAppender;
     }
 
     @Bean
-    public Logger logGeneratorServiceLogger(LoggerContext context, FileAppender fileAppender) {
+    public Logger logGeneratorServiceLogger(LoggerContext context, FileAppender<ILoggingEvent> fileAppender) {
         Logger logger = context.getLogger(TARGET_PACKAGE);
         logger.setLevel(Level.INFO);
         logger.addAppender(fileAppender);
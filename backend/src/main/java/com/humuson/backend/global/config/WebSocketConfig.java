@@ -1,7 +1,9 @@
 package com.humuson.backend.global.config;
 
+import com.humuson.backend.global.handler.LogAlertWebSocketHandler;
 import com.humuson.backend.global.handler.LogDistributionWebSocketHandler;
 import com.humuson.backend.global.handler.LogStreamWebSocketHandler;
+import com.humuson.backend.global.handler.LogTopKWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.WebSocketHandler;
@@ -16,11 +18,15 @@ public class WebSocketConfig implements WebSocketConfigurer {
 
     private final LogStreamWebSocketHandler logStreamHandler;
     private final LogDistributionWebSocketHandler logDistributionHandler;
+    private final LogTopKWebSocketHandler logTopKHandler;
+    private final LogAlertWebSocketHandler logAlertHandler;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         registry.addHandler(logStreamHandler, "/log/ws-stream").setAllowedOrigins("*");
         registry.addHandler(logDistributionHandler, "/log/ws-distribution").setAllowedOrigins("*");
+        registry.addHandler(logTopKHandler, "/log/ws-top").setAllowedOrigins("*");
+        registry.addHandler(logAlertHandler, "/log/ws-alerts").setAllowedOrigins("*");
     }
 
 }
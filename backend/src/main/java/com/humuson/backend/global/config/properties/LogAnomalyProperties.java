@@ -0,0 +1,37 @@
+package com.humuson.backend.global.config.properties;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 발생률 급증(이상) 감지 설정
+ * - 메모리 사용량: 로그 레벨 수 × (maxServices + 1) × 기준선(EWMA + 시간대별 24개)
+ *
+ * @param interval        발생률을 집계하는 구간 길이 (구간마다 개수를 기준선과 비교)
+ * @param alpha           EWMA 평활 계수 (클수록 최근 구간의 비중이 큼)
+ * @param threshold       알림을 보내는 최소 z-score ((개수 - 기준 평균) / 기준 표준편차)
+ * @param minCount        알림을 보내는 구간의 최소 로그 개수 (적은 개수의 흔들림 무시)
+ * @param warmupIntervals 기준선을 신뢰하기 전에 필요한 구간 수
+ * @param cooldown        같은 레벨/서비스에 알림을 다시 보내기 전 최소 간격
+ * @param levels          알림 대상 로그 레벨 (모든 레벨의 발생률은 기준선을 위해 추적)
+ * @param maxServices     로그 레벨마다 개별 추적하는 최대 서비스 수 (초과한 서비스는 레벨 전체 발생률에만 반영)
+ * @param seasonal        시간대(시)별 기준선도 사용할지 여부 (사용 시 두 기준선 모두에서 벗어나야 알림, 시간대 기준선은 한 시간마다 그 시간의 평균으로 갱신하며 이틀 치가 쌓인 뒤부터 사용)
+ * @param recentAlerts    WebSocket 연결 시 전송하는 최근 알림 개수
+ */
+@ConfigurationProperties(prefix = "log.anomaly")
+public record LogAnomalyProperties(
+        @DefaultValue("10s") Duration interval,
+        @DefaultValue("0.1") double alpha,
+        @DefaultValue("4.0") double threshold,
+        @DefaultValue("10") long minCount,
+        @DefaultValue("30") int warmupIntervals,
+        @DefaultValue("1m") Duration cooldown,
+        @DefaultValue({"ERROR", "WARN"}) List<Level> levels,
+        @DefaultValue("200") int maxServices,
+        @DefaultValue("true") boolean seasonal,
+        @DefaultValue("50") int recentAlerts
+) {
+}
@@ -0,0 +1,24 @@
+package com.humuson.backend.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 생성기 설정
+ *
+ * @param mode          생성 방식 (SCHEDULED: 10초마다 1건, LOAD: 초당 ratePerSecond건)
+ * @param ratePerSecond LOAD 모드에서 초당 생성할 전체 로그 개수
+ * @param threads       LOAD 모드에서 로그를 생성할 스레드 수
+ */
+@ConfigurationProperties(prefix = "log.generator")
+public record LogGeneratorProperties(
+        @DefaultValue("SCHEDULED") Mode mode,
+        @DefaultValue("10000") int ratePerSecond,
+        @DefaultValue("4") int threads
+) {
+
+    public enum Mode {
+        SCHEDULED, LOAD
+    }
+
+}
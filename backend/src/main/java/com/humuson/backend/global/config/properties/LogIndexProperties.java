@@ -0,0 +1,15 @@
+package com.humuson.backend.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 컬렉션 인덱스 설정
+ *
+ * @param verifyQueryPlans 시작 시 조회 쿼리의 실행 계획을 확인하여 COLLSCAN 또는 메모리 정렬(SORT)이 있으면 시작을 중단할지 여부
+ */
+@ConfigurationProperties(prefix = "log.index")
+public record LogIndexProperties(
+        @DefaultValue("true") boolean verifyQueryPlans
+) {
+}
@@ -0,0 +1,18 @@
+package com.humuson.backend.global.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 분 단위 집계 결과 캐시 설정
+ *
+ * @param maximumBuckets 캐시에 유지하는 최대 분(버킷) 수 (초과하면 오래 사용하지 않은 분부터 제거)
+ * @param maxWindow      캐시를 사용하는 최대 조회 범위 (이보다 긴 범위는 MongoDB 집계로 바로 조회)
+ */
+@ConfigurationProperties(prefix = "log.query-cache")
+public record LogQueryCacheProperties(
+        @DefaultValue("100000") long maximumBuckets,
+        @DefaultValue("7d") Duration maxWindow
+) {
+}
@@ -0,0 +1,15 @@
+package com.humuson.backend.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 최근 로그 버퍼(hot tier) 설정
+ *
+ * @param capacity 메모리에 유지하는 최근 로그 개수 (이보다 많은 로그를 요청하면 MongoDB에서 조회)
+ */
+@ConfigurationProperties(prefix = "log.recent-buffer")
+public record LogRecentBufferProperties(
+        @DefaultValue("1000") int capacity
+) {
+}
@@ -0,0 +1,17 @@
+package com.humuson.backend.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 롤업(분/시/일 단위 개수) 설정
+ *
+ * @param rebuildOnStartup 시작 시 롤업 재생성 완료 표시가 없으면 롤업을 비우고 MongoDB에 적재된 로그로 다시 만들지 여부
+ * @param defaultMaxPoints 분포 조회 시 maxPoints를 생략하면 사용하는 최대 버킷 수
+ */
+@ConfigurationProperties(prefix = "log.rollup")
+public record LogRollupProperties(
+        @DefaultValue("true") boolean rebuildOnStartup,
+        @DefaultValue("720") int defaultMaxPoints
+) {
+}
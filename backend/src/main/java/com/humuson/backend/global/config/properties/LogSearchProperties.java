@@ -0,0 +1,17 @@
+package com.humuson.backend.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 메시지 검색(역색인) 설정
+ *
+ * @param rebuildOnStartup 시작 시 MongoDB에 적재된 로그로 역색인을 다시 만들지 여부 (역색인은 메모리에만 유지)
+ * @param maxSegments      메모리에 유지할 최대 세그먼트 수 (세그먼트당 65,536건, 넘으면 가장 오래된 세그먼트부터 제거)
+ */
+@ConfigurationProperties(prefix = "log.search")
+public record LogSearchProperties(
+        @DefaultValue("true") boolean rebuildOnStartup,
+        @DefaultValue("64") int maxSegments
+) {
+}
@@ -0,0 +1,37 @@
+package com.humuson.backend.global.config.properties;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 파일 저장소 설정
+ *
+ * @param type    업로드/기본 로그 파일을 조회하는 저장소 (FILE: 원본 파일을 직접 파싱, SEGMENT: 열 단위 세그먼트로 변환하여 조회)
+ * @param segment SEGMENT 저장소 설정
+ */
+@ConfigurationProperties(prefix = "log.storage")
+public record LogStorageProperties(
+        @DefaultValue("FILE") Type type,
+        @DefaultValue Segment segment
+) {
+
+    public enum Type {
+        FILE, SEGMENT
+    }
+
+    /**
+     * 세그먼트 저장소 설정
+     *
+     * @param directory 세그먼트를 저장할 디렉터리 (로그 파일마다 하위 디렉터리 생성)
+     * @param rows      세그먼트 하나에 담는 최대 로그 개수
+     * @param blockRows 메시지를 함께 압축하는 로그 개수
+     */
+    public record Segment(
+            @DefaultValue("logs/segments") Path directory,
+            @DefaultValue("65536") int rows,
+            @DefaultValue("1024") int blockRows
+    ) {
+    }
+
+}
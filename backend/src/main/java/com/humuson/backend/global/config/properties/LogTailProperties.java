@@ -0,0 +1,25 @@
+package com.humuson.backend.global.config.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 파일 추적(tail) 설정
+ *
+ * @param enabled        추적 사용 여부 (app.log를 외부 프로세스가 기록할 때 사용)
+ * @param file           추적할 로그 파일 경로
+ * @param checkpoint     읽은 위치(byte offset)를 저장할 체크포인트 파일 경로
+ * @param pollInterval   파일 변경 알림이 없을 때 다시 확인하는 주기
+ * @param batchSize      한 번에 적재할 최대 로그 개수
+ */
+@ConfigurationProperties(prefix = "log.tail")
+public record LogTailProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("logs/app.log") Path file,
+        @DefaultValue("logs/.app.log.checkpoint") Path checkpoint,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("1000") int batchSize
+) {
+}
@@ -0,0 +1,25 @@
+package com.humuson.backend.global.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 메시지 템플릿 추출(Drain) 설정
+ * - 메모리 사용량: maxTemplates × (템플릿 토큰 + window(분) × 로그 레벨 수 × 8바이트)
+ *
+ * @param depth               파스 트리 깊이 (루트, 토큰 수 노드 포함, 앞쪽 depth - 2개 토큰으로 분기)
+ * @param similarityThreshold 기존 템플릿에 병합하는 최소 유사도 (같은 위치에 같은 토큰이 있는 비율)
+ * @param maxChildren         파스 트리 노드 하나의 최대 자식 수
+ * @param maxTemplates        메모리에 유지하는 최대 템플릿 수 (초과 시 가장 오래전에 배정된 템플릿부터 제거)
+ * @param window              템플릿별 분 단위 개수를 유지하는 범위 (조회할 수 있는 최대 범위)
+ */
+@ConfigurationProperties(prefix = "log.template")
+public record LogTemplateProperties(
+        @DefaultValue("4") int depth,
+        @DefaultValue("0.4") double similarityThreshold,
+        @DefaultValue("100") int maxChildren,
+        @DefaultValue("1000") int maxTemplates,
+        @DefaultValue("60m") Duration window
+) {
+}
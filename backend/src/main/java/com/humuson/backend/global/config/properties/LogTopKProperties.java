@@ -0,0 +1,43 @@
+package com.humuson.backend.global.config.properties;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 레벨별 상위 K개(heavy hitter) 집계 설정
+ * - 메모리 사용량: (window / slot) × 로그 레벨 수 × 집계 기준 수 × (width × depth × 8바이트 + candidates개의 후보)
+ *
+ * @param width      Count-Min Sketch 행당 카운터 수 (추정 오차 ε = e / width)
+ * @param depth      Count-Min Sketch 행 수 (오차가 εN을 넘을 확률 δ = e^-depth)
+ * @param candidates 구간(slot)마다 유지하는 후보 키 수 (조회할 수 있는 최대 K)
+ * @param slot       구간 하나의 길이 (조회 범위는 이 단위로 올림)
+ * @param window     조회할 수 있는 최대 범위
+ * @param push       WebSocket(/log/ws-top)으로 전송하는 상위 K개 설정
+ */
+@ConfigurationProperties(prefix = "log.top-k")
+public record LogTopKProperties(
+        @DefaultValue("2048") int width,
+        @DefaultValue("4") int depth,
+        @DefaultValue("64") int candidates,
+        @DefaultValue("1m") Duration slot,
+        @DefaultValue("15m") Duration window,
+        @DefaultValue Push push
+) {
+
+    /**
+     * WebSocket 전송 설정
+     *
+     * @param level  집계할 로그 레벨
+     * @param size   전송할 상위 키 개수
+     * @param window 집계 범위
+     */
+    public record Push(
+            @DefaultValue("ERROR") Level level,
+            @DefaultValue("10") int size,
+            @DefaultValue("5m") Duration window
+    ) {
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.humuson.backend.global.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그 쓰기 버퍼(write-behind) 설정
+ *
+ * @param capacity     버퍼에 담을 수 있는 최대 로그 개수 (가득 차면 제출이 대기)
+ * @param batchSize    insertMany 1회당 최대 로그 개수
+ * @param linger       배치가 가득 차지 않았을 때 첫 로그 이후 기다리는 최대 시간
+ * @param offerTimeout 버퍼가 가득 찼을 때 제출을 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "log.write-buffer")
+public record LogWriteBufferProperties(
+        @DefaultValue("65536") int capacity,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("100ms") Duration linger,
+        @DefaultValue("1s") Duration offerTimeout
+) {
+}
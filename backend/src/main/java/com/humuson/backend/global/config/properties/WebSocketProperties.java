@@ -0,0 +1,43 @@
+package com.humuson.backend.global.config.properties;
+
+import com.humuson.backend.global.handler.OverflowPolicy;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * WebSocket 전송 설정
+ *
+ * @param sendThreads  세션별 전송 대기열을 비우는 공유 스레드 수 (비동기 전송은 요청만 하므로 클라이언트 속도와 관계없이 적은 수로 충분)
+ * @param stream       실시간 로그 스트리밍(/log/ws-stream) 세션 설정
+ * @param distribution 로그 분포(/log/ws-distribution) 세션 설정
+ * @param top          로그 레벨별 상위 서비스/메시지(/log/ws-top) 세션 설정
+ * @param alerts       로그 발생률 급증 알림(/log/ws-alerts) 세션 설정
+ */
+@ConfigurationProperties(prefix = "log.websocket")
+public record WebSocketProperties(
+        @DefaultValue("4") int sendThreads,
+        @DefaultValue Outbound stream,
+        @DefaultValue Outbound distribution,
+        @DefaultValue Outbound top,
+        @DefaultValue Outbound alerts
+) {
+
+    /**
+     * 세션별 전송 대기열 설정
+     *
+     * @param queueCapacity   세션별 전송 대기 최대 메시지 개수
+     * @param bufferSizeLimit 세션별 전송 대기 최대 바이트 수
+     * @param sendTimeLimit   메시지 하나를 전송하는 최대 시간 (초과 시 느린 클라이언트로 보고 연결 종료, 비동기 전송의 제한 시간으로도 사용)
+     * @param overflowPolicy  대기열이 가득 찼을 때의 처리 방식
+     */
+    public record Outbound(
+            @DefaultValue("1024") int queueCapacity,
+            @DefaultValue("512KB") DataSize bufferSizeLimit,
+            @DefaultValue("5s") Duration sendTimeLimit,
+            @DefaultValue("DROP_OLDEST") OverflowPolicy overflowPolicy
+    ) {
+    }
+
+}
@@ -7,6 +7,7 @@ public class Format {
     public static final String VALIDATED_ERROR_RESULT_FORMAT = "{fileName: '%s'}, {input: '%s'}";
     public static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     public static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    public static final DateTimeFormatter MINUTE_BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
 }
 
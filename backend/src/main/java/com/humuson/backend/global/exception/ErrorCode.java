@@ -15,6 +15,7 @@ public enum ErrorCode {
      */
     FAIL_TO_VALIDATE(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     INVALID_FILE_FORMAT(HttpStatus.BAD_REQUEST, "잘못된 파일 형식이거나 빈 파일입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
     /**
      * [401 UnAuthorized]
      * - 요청된 리소스에 대한 유효한 인증 자격 증명이 없음
@@ -30,6 +31,8 @@ public enum ErrorCode {
      * - 존재하지 않는 자원
      */
     LOG_FILE_NOT_FOUND(HttpStatus.NOT_FOUND,  "로그 파일을 찾을 수 없습니다."),
+    LOG_TEMPLATE_NOT_FOUND(HttpStatus.NOT_FOUND, "로그 템플릿을 찾을 수 없습니다."),
+    LOG_INGEST_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "로그 적재 작업을 찾을 수 없습니다."),
 
 
     /**
@@ -37,7 +40,8 @@ public enum ErrorCode {
      * - 서버 오류
      */
     LOG_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "로그 파싱 중 오류가 발생했습니다."),
-    FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR , "파일 업로드 중 오류가 발생했습니다.");
+    FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR , "파일 업로드 중 오류가 발생했습니다."),
+    LOG_INGEST_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "로그 적재 중 오류가 발생했습니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,9 @@
+package com.humuson.backend.global.exception;
+
+public class InvalidCursorException extends BaseException {
+
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.humuson.backend.global.exception;
+
+public class LogIngestException extends BaseException {
+
+    public LogIngestException() {
+        super(ErrorCode.LOG_INGEST_ERROR);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.humuson.backend.global.exception;
+
+/**
+ * 해당 파일의 적재 작업이 없거나 보관 기간이 지나 제거되었을 때 발생하는 예외
+ */
+public class LogIngestJobNotFoundException extends BaseException {
+
+    public LogIngestJobNotFoundException() {
+        super(ErrorCode.LOG_INGEST_JOB_NOT_FOUND);
+    }
+
+}
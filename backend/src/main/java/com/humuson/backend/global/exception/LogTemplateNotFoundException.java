@@ -0,0 +1,12 @@
+package com.humuson.backend.global.exception;
+
+/**
+ * 로그 템플릿이 존재하지 않거나 집계 범위에서 제거되었을 때 발생하는 예외
+ */
+public class LogTemplateNotFoundException extends BaseException {
+
+    public LogTemplateNotFoundException() {
+        super(ErrorCode.LOG_TEMPLATE_NOT_FOUND);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.humuson.backend.global.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.backend.application.log.usecase.LogUseCase;
+import com.humuson.backend.domain.log.model.event.LogRateAlertEvent;
+import com.humuson.backend.global.config.properties.WebSocketProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * 로그 발생률 급증 알림을 WebSocket을 통해 전송하는 핸들러
+ * - 연결 직후 최근 알림 목록을 전송하고, 이후 구간마다 감지된 알림을 전송
+ * - 알림은 감지될 때 한 번만 직렬화하여 모든 세션의 전송 대기열에 추가
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogAlertWebSocketHandler extends TextWebSocketHandler {
+
+    private final LogUseCase logUseCase;
+    private final OutboundMessageDispatcher outboundMessageDispatcher;
+    private final WebSocketProperties webSocketProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, OutboundSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * WebSocket 클라이언트가 연결되었을 때 실행 (최근 알림 목록을 바로 전송)
+     * - 전송 대상에 먼저 등록하므로, 최근 목록을 만드는 사이에 감지된 알림도 빠지지 않음
+     *
+     * @param session 연결된 WebSocket 세션
+     */
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        OutboundSession outboundSession = outboundMessageDispatcher.open(session, "alerts", webSocketProperties.alerts());
+        sessions.put(session.getId(), outboundSession);
+        try {
+            outboundSession.sendFirst(new TextMessage(objectMapper.writeValueAsString(logUseCase.getRecentAlerts())));
+        } catch (JsonProcessingException e) {
+            log.error("최근 알림 전송 중 오류 발생: {}", e.getMessage());
+        }
+        outboundSession.start();
+        log.info("Log Alert : WebSocket 클라이언트 연결: {}", session.getId());
+    }
+
+    /**
+     * WebSocket 클라이언트가 연결 종료되었을 때 실행
+     *
+     * @param session 연결이 종료된 WebSocket 세션
+     * @param status  연결 종료 상태
+     */
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        OutboundSession outboundSession = sessions.remove(session.getId());
+        if (outboundSession != null) {
+            outboundSession.close();
+        }
+        log.info("Log Alert : WebSocket 연결 종료: {}", session.getId());
+    }
+
+    /**
+     * 감지된 알림을 연결된 모든 세션에 전송
+     *
+     * @param event 로그 발생률 급증 이벤트
+     */
+    @EventListener
+    public void onRateAlert(LogRateAlertEvent event) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        try {
+            TextMessage message = new TextMessage(objectMapper.writeValueAsString(event.alerts()));
+            sessions.values().forEach(session -> session.send(message));
+        } catch (JsonProcessingException e) {
+            log.error("알림 전송 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+}
@@ -2,31 +2,45 @@ package com.humuson.backend.global.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.humuson.backend.application.log.usecase.LogUseCase;
-import com.humuson.backend.domain.log.model.dto.response.GetLogDistributionResponse;
+import com.humuson.backend.global.config.properties.WebSocketProperties;
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import reactor.core.publisher.Mono;
 
 /**
  * 로그 분포를 WebSocket을 통해 전송하는 핸들러
  * - 클라이언트가 특정 요청을 보내면 최근 10분간의 로그 분포 데이터를 반환
+ * - 분포 카운터가 바뀌거나 분이 넘어가면, 요청이 없어도 연결된 모든 세션에 최신 분포를 전송
+ * - 분포 데이터는 매번 전체 상태를 보내므로, 전송이 밀린 세션에는 가장 최근 데이터만 전송 (COALESCE_LATEST)
+ * - 카운터가 다루지 않는 구간의 분포는 리액티브 조회로 가져오므로, 조회를 기다리는 동안 스레드를 점유하지 않음
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LogDistributionWebSocketHandler extends TextWebSocketHandler {
 
+    private static final long DISTRIBUTION_MINUTES = 10;
+
     private final LogUseCase logUseCase;
+    private final OutboundMessageDispatcher outboundMessageDispatcher;
+    private final WebSocketProperties webSocketProperties;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final List<WebSocketSession> sessions = new CopyOnWriteArrayList<>();
+    private final Map<String, OutboundSession> sessions = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean pushing = new AtomicBoolean();
+    private volatile long lastPushedVersion = -1;
+    private volatile long lastPushedMinute = -1;
 
     /**
      * WebSocket 클라이언트가 연결되었을 때 실행
@@ -35,7 +49,9 @@ public class LogDistributionWebSocketHandler extends TextWebSocketHandler {
      */
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
-        sessions.add(session);
+        OutboundSession outboundSession = outboundMessageDispatcher.open(session, "distribution", webSocketProperties.distribution());
+        outboundSession.start();
+        sessions.put(session.getId(), outboundSession);
         log.info("Log Distribution : WebSocket 클라이언트 연결: {}", session.getId());
     }
 
@@ -47,7 +63,10 @@ public class LogDistributionWebSocketHandler extends TextWebSocketHandler {
      */
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-        sessions.remove(session);
+        OutboundSession outboundSession = sessions.remove(session.getId());
+        if (outboundSession != null) {
+            outboundSession.close();
+        }
         log.info("Log Distribution : WebSocket 연결 종료: {}", session.getId());
     }
 
@@ -61,21 +80,57 @@ public class LogDistributionWebSocketHandler extends TextWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         String payload = message.getPayload();
-        if (payload.contains("logDistribution")) {
-            sendLogDistribution(session);
+        OutboundSession outboundSession = sessions.get(session.getId());
+        if (outboundSession != null && payload.contains("logDistribution")) {
+            sendLogDistribution(outboundSession);
         }
     }
 
+    /**
+     * 분포가 바뀌었으면 연결된 모든 세션에 최신 분포를 전송
+     * - 분포는 한 번만 조회, 직렬화하고, 전송이 밀린 세션은 가장 최근 분포만 받음
+     * - 1초 간격으로 확인하므로 로그가 많이 적재되어도 초당 최대 한 번만 전송
+     * - 이전 분포 조회가 끝나지 않았으면 이번 확인은 건너뜀
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void pushLogDistribution() {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long version = logUseCase.getLogDistributionVersion();
+        long minute = now.getMinute();
+        if (version == lastPushedVersion && minute == lastPushedMinute || !pushing.compareAndSet(false, true)) {
+            return;
+        }
+        toMessage(now)
+                .doFinally(signal -> pushing.set(false))
+                .subscribe(message -> {
+                    sessions.values().forEach(session -> session.send(message));
+                    lastPushedVersion = version;
+                    lastPushedMinute = minute;
+                }, e -> log.error("로그 분포 전송 중 오류 발생: {}", e.getMessage()));
+    }
+
     /**
      * 클라이언트에게 로그 분포 데이터를 전송
      *
      * @param session 로그 데이터를 보낼 WebSocket 세션
-     * @throws IOException 데이터 전송 중 오류 발생 시
      */
-    private void sendLogDistribution(WebSocketSession session) throws IOException {
-        LocalDateTime now = LocalDateTime.now();
-        GetLogDistributionResponse logDistribution = logUseCase.getLogDistribution(now.minusMinutes(10), now);
-        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(logDistribution)));
+    private void sendLogDistribution(OutboundSession session) {
+        toMessage(LocalDateTime.now())
+                .subscribe(session::send, e -> log.error("로그 분포 전송 중 오류 발생: {}", e.getMessage()));
+    }
+
+    private Mono<TextMessage> toMessage(LocalDateTime now) {
+        return logUseCase.getLogDistribution(now.minusMinutes(DISTRIBUTION_MINUTES), now)
+                .<TextMessage>handle((logDistribution, sink) -> {
+                    try {
+                        sink.next(new TextMessage(objectMapper.writeValueAsString(logDistribution)));
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                });
     }
 
 }
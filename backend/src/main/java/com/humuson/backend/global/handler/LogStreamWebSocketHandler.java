@@ -4,12 +4,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.humuson.backend.application.log.usecase.LogUseCase;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.WebSocketProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
-import java.time.Duration;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
@@ -18,29 +28,60 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 /**
  * 실시간 로그 스트리밍을 WebSocket을 통해 제공하는 핸들러
- * - 클라이언트가 연결되면 최근 로그를 제공하고, 주기적으로 새로운 로그를 스트리밍
+ * - 클라이언트가 연결되면 최근 로그를 제공하고, 이후 새로 적재되는 로그를 전송
+ * - 세션마다 DB를 조회하지 않고, 적재 이벤트로 받은 로그를 한 번만 직렬화하여 모든 세션에 전송 (DB 부하가 접속자 수와 무관)
+ * - 세션별 전송 대기열에 넣기만 하므로 느린 클라이언트가 다른 세션으로의 전송을 막지 않음
+ * - 직렬화 대기 중인 로그 개수는 log.stream.broadcast.queue.depth 지표로 노출
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LogStreamWebSocketHandler extends TextWebSocketHandler {
 
+    private static final int INITIAL_LOG_COUNT = 20;
+    private static final int BROADCAST_QUEUE_CAPACITY = 10_000; // 직렬화 대기 중인 최대 로그 개수
+
     private final LogUseCase logUseCase;
+    private final OutboundMessageDispatcher outboundMessageDispatcher;
+    private final WebSocketProperties webSocketProperties;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
-    private final List<WebSocketSession> sessions = new CopyOnWriteArrayList<>();
+    private final Map<String, OutboundSession> sessions = new ConcurrentHashMap<>();
+
+    private final BlockingQueue<LogEntity> broadcastQueue = new ArrayBlockingQueue<>(BROADCAST_QUEUE_CAPACITY);
+    private final AtomicLong droppedCount = new AtomicLong();
+    private Thread broadcaster;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("log.stream.broadcast.queue.depth", broadcastQueue, BlockingQueue::size)
+                .description("직렬화 대기 중인 로그 개수")
+                .register(meterRegistry);
+        broadcaster = new Thread(this::broadcastLoop, "log-stream-broadcaster");
+        broadcaster.setDaemon(true);
+        broadcaster.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        broadcaster.interrupt();
+    }
 
     /**
      * WebSocket 클라이언트가 연결되었을 때 실행
-     * - 초기 로그 데이터를 전송하고, 로그 스트리밍을 시작
+     * - 실시간 전송 대상에 먼저 등록한 뒤, 초기 로그 조회가 끝나면 대기열 맨 앞에 넣고 전송을 시작
+     * - 초기 목록을 조회하는 동안 적재된 로그는 초기 목록 뒤에 전송되므로, 초기 목록이 새 로그를 덮어쓰지 않음
+     * - 초기 로그는 최근 로그 버퍼에서 가져오고, 버퍼가 준비되지 않았을 때만 리액티브 조회로 MongoDB에서 가져옴
+     *   (어느 경우에도 연결 처리 스레드가 MongoDB 응답을 기다리지 않음)
      *
      * @param session 연결된 WebSocket 세션
      */
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
-        sessions.add(session);
+        OutboundSession outboundSession = outboundMessageDispatcher.open(session, "stream", webSocketProperties.stream());
+        sessions.put(session.getId(), outboundSession);
         log.info("Log Stream WebSocket 클라이언트 연결: {}", session.getId());
-        sendInitialLogs(session);
-        startLogStreaming(session);
+        sendInitialLogs(outboundSession);
     }
 
     /**
@@ -51,55 +92,73 @@ public class LogStreamWebSocketHandler extends TextWebSocketHandler {
      */
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-        sessions.remove(session);
+        OutboundSession outboundSession = sessions.remove(session.getId());
+        if (outboundSession != null) {
+            outboundSession.close();
+        }
         log.info("WebSocket 연결 종료: {}", session.getId());
     }
 
     /**
-     * 초기 로그 데이터를 클라이언트에게 전송
+     * 실시간으로 적재된 로그를 직렬화 대기열에 추가
+     * - 적재 스레드를 막지 않도록 대기열이 가득 차면 버리고 개수만 기록
      *
-     * @param session 로그 데이터를 보낼 WebSocket 세션
+     * @param event 로그 적재 이벤트
      */
-    private void sendInitialLogs(WebSocketSession session) {
-        try {
-            List<LogEntity> logs = logUseCase.getRecentLogsByLimit(20); // 최신 20개만 가져오기
-            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(logs)));
-        } catch (IOException e) {
-            log.error("초기 로그 전송 중 오류 발생: {}", e.getMessage());
+    @EventListener
+    public void onLogIngested(LogIngestedEvent event) {
+        if (event.source() != IngestSource.LIVE || sessions.isEmpty()) {
+            return;
+        }
+        for (LogEntity logEntity : event.logs()) {
+            if (!broadcastQueue.offer(logEntity)) {
+                droppedCount.incrementAndGet();
+            }
         }
     }
 
     /**
-     * 실시간 로그 스트리밍을 시작
-     * - 9초마다 최신 로그를 가져와 클라이언트에 전송
+     * 초기 로그 데이터를 클라이언트에게 전송한 뒤 실시간 로그 전송을 시작
+     * - 초기 로그 조회에 실패해도 실시간 로그는 전송
      *
      * @param session 로그 데이터를 보낼 WebSocket 세션
      */
-    private void startLogStreaming(WebSocketSession session) {
-        new Thread(() -> {
-            try {
-                LogEntity lastSentLog = null;
-                while (session.isOpen()) {
-                    Thread.sleep(Duration.ofSeconds(9).toMillis());
-                    List<LogEntity> latestLogList = logUseCase.getRecentLogsByLimit(1);
-                    if (!latestLogList.isEmpty()) {
-                        LogEntity latestLog = latestLogList.get(0);
-                        if (!latestLog.equals(lastSentLog)) {
-                            try {
-                                if (session.isOpen()) {
-                                    session.sendMessage(new TextMessage(objectMapper.writeValueAsString(latestLog)));
-                                    lastSentLog = latestLog;
-                                }
-                            } catch (IOException e) {
-                                break;
-                            }
-                        }
+    private void sendInitialLogs(OutboundSession session) {
+        logUseCase.getRecentLogsByLimit(INITIAL_LOG_COUNT) // 최신 20개만 가져오기
+                .collectList()
+                .doFinally(signal -> session.start())
+                .subscribe(logs -> {
+                    try {
+                        session.sendFirst(new TextMessage(objectMapper.writeValueAsString(logs)));
+                    } catch (IOException e) {
+                        log.error("초기 로그 전송 중 오류 발생: {}", e.getMessage());
                     }
-                }
-            } catch (IOException | InterruptedException e) {
-                log.error("WebSocket 로그 스트리밍 중 오류 발생: {}", e.getMessage());
+                }, e -> log.error("초기 로그 조회 중 오류 발생: {}", e.getMessage()));
+    }
+
+    /**
+     * 직렬화 대기열의 로그를 한 번씩 직렬화하여 모든 세션의 전송 대기열에 추가
+     */
+    private void broadcastLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                LogEntity logEntity = broadcastQueue.take();
+                TextMessage message = new TextMessage(objectMapper.writeValueAsString(logEntity));
+                sessions.values().forEach(session -> session.send(message));
+                reportDropped();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                log.error("WebSocket 로그 직렬화 중 오류 발생: {}", e.getMessage());
             }
-        }).start();
+        }
+    }
+
+    private void reportDropped() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("WebSocket 직렬화 대기열 포화로 로그 {}건을 전송하지 못함", dropped);
+        }
     }
 
 }
@@ -0,0 +1,110 @@
+package com.humuson.backend.global.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humuson.backend.application.log.usecase.LogUseCase;
+import com.humuson.backend.domain.log.model.dto.response.GetLogTopKSnapshotResponse;
+import com.humuson.backend.domain.log.model.entity.TopKDimension;
+import com.humuson.backend.global.config.properties.LogTopKProperties;
+import com.humuson.backend.global.config.properties.WebSocketProperties;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * 로그 레벨별 상위 서비스/메시지를 WebSocket을 통해 전송하는 핸들러
+ * - 연결 직후와 집계가 바뀌거나 분이 넘어갈 때, 최근 log.top-k.push.window 동안의 상위 서비스와 메시지를 전송
+ * - 매번 전체 상태를 보내므로, 전송이 밀린 세션에는 가장 최근 데이터만 전송 (COALESCE_LATEST)
+ * - 집계는 메모리(Count-Min Sketch)에서 하므로 전송 주기마다 한 번 계산하여 모든 세션에 같은 메시지를 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogTopKWebSocketHandler extends TextWebSocketHandler {
+
+    private final LogUseCase logUseCase;
+    private final OutboundMessageDispatcher outboundMessageDispatcher;
+    private final WebSocketProperties webSocketProperties;
+    private final LogTopKProperties logTopKProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, OutboundSession> sessions = new ConcurrentHashMap<>();
+
+    private volatile long lastPushedVersion = -1;
+    private volatile long lastPushedMinute = -1;
+
+    /**
+     * WebSocket 클라이언트가 연결되었을 때 실행 (현재 상위 K개를 바로 전송)
+     *
+     * @param session 연결된 WebSocket 세션
+     */
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        OutboundSession outboundSession = outboundMessageDispatcher.open(session, "top", webSocketProperties.top());
+        outboundSession.start();
+        sessions.put(session.getId(), outboundSession);
+        try {
+            outboundSession.send(toMessage());
+        } catch (JsonProcessingException e) {
+            log.error("상위 K개 전송 중 오류 발생: {}", e.getMessage());
+        }
+        log.info("Log Top-K : WebSocket 클라이언트 연결: {}", session.getId());
+    }
+
+    /**
+     * WebSocket 클라이언트가 연결 종료되었을 때 실행
+     *
+     * @param session 연결이 종료된 WebSocket 세션
+     * @param status  연결 종료 상태
+     */
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        OutboundSession outboundSession = sessions.remove(session.getId());
+        if (outboundSession != null) {
+            outboundSession.close();
+        }
+        log.info("Log Top-K : WebSocket 연결 종료: {}", session.getId());
+    }
+
+    /**
+     * 집계가 바뀌었거나 분이 넘어갔으면 연결된 모든 세션에 최신 상위 K개를 전송
+     * - 1초 간격으로 확인하므로 로그가 많이 적재되어도 초당 최대 한 번만 전송
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void pushTopK() {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        long version = logUseCase.getTopKVersion();
+        long minute = LocalDateTime.now().getMinute();
+        if (version == lastPushedVersion && minute == lastPushedMinute) {
+            return;
+        }
+        try {
+            TextMessage message = toMessage();
+            sessions.values().forEach(session -> session.send(message));
+            lastPushedVersion = version;
+            lastPushedMinute = minute;
+        } catch (JsonProcessingException e) {
+            log.error("상위 K개 전송 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private TextMessage toMessage() throws JsonProcessingException {
+        LogTopKProperties.Push push = logTopKProperties.push();
+        int windowMinutes = (int) Math.max(1, push.window().toMinutes());
+        GetLogTopKSnapshotResponse snapshot = GetLogTopKSnapshotResponse.of(
+                logUseCase.getTopK(push.level().name(), TopKDimension.SERVICE, windowMinutes, push.size()),
+                logUseCase.getTopK(push.level().name(), TopKDimension.MESSAGE, windowMinutes, push.size())
+        );
+        return new TextMessage(objectMapper.writeValueAsString(snapshot));
+    }
+
+}
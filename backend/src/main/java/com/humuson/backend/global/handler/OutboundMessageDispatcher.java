@@ -0,0 +1,166 @@
+package com.humuson.backend.global.handler;
+
+import com.humuson.backend.global.config.properties.WebSocketProperties;
+import com.humuson.backend.global.config.properties.WebSocketProperties.Outbound;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.websocket.RemoteEndpoint;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+/**
+ * WebSocket 세션별 전송 대기열을 만들고, 공유 전송 스레드에서 대기열을 비우는 전송기
+ * - 모든 핸들러가 같은 전송 스레드를 나눠 쓰되, 세션마다 대기열이 분리되어 있어 느린 세션이 다른 세션을 막지 않음
+ * - 전송은 컨테이너의 비동기 전송으로 요청하므로 전송 스레드는 클라이언트의 수신 속도를 기다리지 않음
+ * - 전체 세션의 대기 메시지 수, 버린 메시지 수, 강제 종료한 세션 수를 집계
+ * - 엔드포인트별 지표: websocket.sessions.open, websocket.outbound.queue.depth (수집할 때 계산), websocket.outbound.send (전송 시간)
+ * - 전체 지표: websocket.outbound.dropped, websocket.sessions.disconnected
+ */
+@Component
+public class OutboundMessageDispatcher {
+
+    private static final String TOMCAT_BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final ExecutorService sendExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Set<OutboundSession> openSessions = ConcurrentHashMap.newKeySet();
+    private final Map<String, Timer> sendTimers = new ConcurrentHashMap<>(); // 엔드포인트 → 전송 시간
+    private final LongAdder droppedMessages = new LongAdder();
+    private final LongAdder disconnectedSessions = new LongAdder();
+
+    public OutboundMessageDispatcher(WebSocketProperties properties, MeterRegistry meterRegistry) {
+        this.sendExecutor = Executors.newFixedThreadPool(properties.sendThreads(), new SendThreadFactory());
+        this.meterRegistry = meterRegistry;
+        FunctionCounter.builder("websocket.outbound.dropped", droppedMessages, LongAdder::sum)
+                .description("대기열 포화로 버린 메시지 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("websocket.sessions.disconnected", disconnectedSessions, LongAdder::sum)
+                .description("느린 클라이언트로 판단하여 강제로 종료한 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션에 전송 대기열을 연결
+     * - 표준 WebSocket 세션이면 비동기 전송을 사용하고, 전송 제한 시간을 sendTimeLimit으로 설정하여 응답하지 않는 클라이언트의 전송을 실패 처리
+     * - 블로킹 전송으로 대체되는 경우에도 컨테이너의 블로킹 전송 제한 시간을 sendTimeLimit으로 설정
+     *
+     * @param session  WebSocket 세션
+     * @param endpoint 지표에 붙일 엔드포인트 이름 (stream, distribution, top, alerts)
+     * @param settings 세션별 전송 대기열 설정
+     * @return 전송 대기열을 가진 세션 (start 호출 후 전송 시작)
+     */
+    public OutboundSession open(WebSocketSession session, String endpoint, Outbound settings) {
+        RemoteEndpoint.Async asyncRemote = null;
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            jakarta.websocket.Session standardSession = nativeSession.getNativeSession(jakarta.websocket.Session.class);
+            if (standardSession != null) {
+                standardSession.getUserProperties().put(TOMCAT_BLOCKING_SEND_TIMEOUT, settings.sendTimeLimit().toMillis());
+                asyncRemote = standardSession.getAsyncRemote();
+                asyncRemote.setSendTimeout(settings.sendTimeLimit().toMillis());
+            }
+        }
+        Timer sendTimer = sendTimers.computeIfAbsent(endpoint, this::registerEndpointMeters);
+        OutboundSession outboundSession = new OutboundSession(session, asyncRemote, endpoint, settings, sendExecutor, sendTimer, this);
+        openSessions.add(outboundSession);
+        return outboundSession;
+    }
+
+    /**
+     * 전체 세션의 전송 대기 메시지 수
+     */
+    public long getQueuedMessages() {
+        return openSessions.stream().mapToLong(OutboundSession::getQueueDepth).sum();
+    }
+
+    /**
+     * 대기열 포화로 버린 메시지 수 (누적)
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * 느린 클라이언트로 판단하여 강제로 종료한 세션 수 (누적)
+     */
+    public long getDisconnectedSessions() {
+        return disconnectedSessions.sum();
+    }
+
+    public int getOpenSessions() {
+        return openSessions.size();
+    }
+
+    /**
+     * 엔드포인트에 처음 세션이 연결될 때 엔드포인트별 지표를 등록
+     *
+     * @return 엔드포인트의 전송 시간 Timer
+     */
+    private Timer registerEndpointMeters(String endpoint) {
+        Gauge.builder("websocket.sessions.open", this, dispatcher -> dispatcher.countOpenSessions(endpoint))
+                .tag("endpoint", endpoint)
+                .description("연결된 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queue.depth", this, dispatcher -> dispatcher.sumQueueDepth(endpoint))
+                .tag("endpoint", endpoint)
+                .description("전송 대기 메시지 수")
+                .register(meterRegistry);
+        return Timer.builder("websocket.outbound.send")
+                .tag("endpoint", endpoint)
+                .description("메시지 하나의 전송 시간")
+                .register(meterRegistry);
+    }
+
+    private long countOpenSessions(String endpoint) {
+        return openSessions.stream().filter(session -> session.getEndpoint().equals(endpoint)).count();
+    }
+
+    private long sumQueueDepth(String endpoint) {
+        return openSessions.stream().filter(session -> session.getEndpoint().equals(endpoint)).mapToLong(OutboundSession::getQueueDepth).sum();
+    }
+
+    void unregister(OutboundSession outboundSession) {
+        openSessions.remove(outboundSession);
+    }
+
+    void recordDropped(int count) {
+        droppedMessages.add(count);
+    }
+
+    void recordDisconnected() {
+        disconnectedSessions.increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * WebSocket 전송 스레드 생성기
+     */
+    private static class SendThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ws-send-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,316 @@
+package com.humuson.backend.global.handler;
+
+import com.humuson.backend.global.config.properties.WebSocketProperties.Outbound;
+import io.micrometer.core.instrument.Timer;
+import jakarta.websocket.RemoteEndpoint;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 전송 대기열을 가진 WebSocket 세션
+ * - 메시지를 보내는 쪽은 대기열에 넣기만 하고 바로 반환하며, 실제 전송은 공유 전송 스레드에서 세션별로 하나씩 수행
+ * - 컨테이너가 비동기 전송을 지원하면 전송을 요청만 하고 완료 콜백에서 다음 메시지를 보내므로, 전송 스레드가 클라이언트를 기다리지 않음
+ * - 느린 클라이언트는 자신의 대기열만 밀리고, 대기열 제한(개수, 바이트)을 넘으면 OverflowPolicy에 따라 처리
+ * - 전송 하나가 sendTimeLimit을 넘기면 느린 클라이언트로 보고 연결을 종료 (비동기 전송은 컨테이너의 전송 제한 시간으로 실패 처리)
+ * - 전송 시간은 엔드포인트별 Timer에 기록
+ */
+@Slf4j
+public class OutboundSession {
+
+    private static final int MAX_MESSAGES_PER_TURN = 64; // 한 번에 연속으로 보내는 최대 메시지 수 (다른 세션에 전송 스레드를 양보)
+
+    private final WebSocketSession session;
+    private final RemoteEndpoint.Async asyncRemote; // 컨테이너의 비동기 전송 (지원하지 않으면 null, 블로킹 전송 사용)
+    private final String endpoint;
+    private final Outbound settings;
+    private final Executor sendExecutor;
+    private final Timer sendTimer;
+    private final OutboundMessageDispatcher dispatcher;
+
+    private final Deque<TextMessage> queue = new ArrayDeque<>();
+    private long queuedBytes;
+    private long droppedCount;
+    private boolean started;
+    private boolean draining;
+    private boolean closed;
+    private volatile long sendStartedAt; // 현재 전송을 시작한 시각 (nanoTime, 전송 중이 아니면 0)
+
+    OutboundSession(WebSocketSession session, RemoteEndpoint.Async asyncRemote, String endpoint, Outbound settings, Executor sendExecutor, Timer sendTimer,
+            OutboundMessageDispatcher dispatcher) {
+        this.session = session;
+        this.asyncRemote = asyncRemote;
+        this.endpoint = endpoint;
+        this.settings = settings;
+        this.sendExecutor = sendExecutor;
+        this.sendTimer = sendTimer;
+        this.dispatcher = dispatcher;
+    }
+
+    public String getId() {
+        return session.getId();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 전송 대기열에 메시지를 추가
+     * - 현재 스레드에서는 전송하지 않으므로 클라이언트 속도와 관계없이 바로 반환
+     *
+     * @param message 전송할 메시지
+     * @return 대기열에 추가되었으면 true, 세션이 닫혔으면 false
+     */
+    public boolean send(TextMessage message) {
+        return enqueue(message, false);
+    }
+
+    /**
+     * 메시지를 대기열의 맨 앞에 추가
+     * - 전송 시작(start) 전에 쌓인 메시지보다 먼저 보내야 하는 초기 데이터에 사용
+     *
+     * @param message 전송할 메시지
+     * @return 대기열에 추가되었으면 true, 세션이 닫혔으면 false
+     */
+    public boolean sendFirst(TextMessage message) {
+        return enqueue(message, true);
+    }
+
+    /**
+     * 대기열에 쌓인 메시지의 전송을 시작
+     */
+    public void start() {
+        synchronized (this) {
+            started = true;
+            if (!scheduleDrain()) {
+                return;
+            }
+        }
+        sendExecutor.execute(this::drain);
+    }
+
+    /**
+     * 세션을 닫고 대기 중인 메시지를 버림
+     */
+    public void close() {
+        if (markClosed()) {
+            dispatcher.unregister(this);
+        }
+    }
+
+    private synchronized boolean markClosed() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        queue.clear();
+        queuedBytes = 0;
+        return true;
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    private boolean enqueue(TextMessage message, boolean first) {
+        if (isSendTimedOut()) {
+            disconnect("전송 시간 초과");
+            return false;
+        }
+
+        boolean overflowed;
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            overflowed = applyOverflowPolicy(message.getPayloadLength());
+            if (!overflowed) {
+                if (first) {
+                    queue.addFirst(message);
+                } else {
+                    queue.addLast(message);
+                }
+                queuedBytes += message.getPayloadLength();
+                if (!scheduleDrain()) {
+                    return true;
+                }
+            }
+        }
+        if (overflowed) {
+            disconnect("전송 대기열 포화");
+            return false;
+        }
+        sendExecutor.execute(this::drain);
+        return true;
+    }
+
+    /**
+     * 새 메시지를 넣기 전에 대기열 제한을 확인하고 정책에 따라 공간을 확보
+     *
+     * @return DISCONNECT 정책으로 연결을 종료해야 하면 true
+     */
+    private boolean applyOverflowPolicy(int payloadLength) {
+        if (settings.overflowPolicy() == OverflowPolicy.COALESCE_LATEST) {
+            drop(queue.size());
+            return false;
+        }
+        if (!isFull(payloadLength)) {
+            return false;
+        }
+        if (settings.overflowPolicy() == OverflowPolicy.DISCONNECT) {
+            return true;
+        }
+        while (!queue.isEmpty() && isFull(payloadLength)) {
+            drop(1);
+        }
+        return false;
+    }
+
+    private boolean isFull(int payloadLength) {
+        return queue.size() >= settings.queueCapacity()
+                || queuedBytes + payloadLength > settings.bufferSizeLimit().toBytes();
+    }
+
+    private void drop(int count) {
+        for (int i = 0; i < count; i++) {
+            queuedBytes -= queue.pollFirst().getPayloadLength();
+        }
+        droppedCount += count;
+        dispatcher.recordDropped(count);
+    }
+
+    /**
+     * 전송 스레드가 배정되지 않은 경우에만 배정을 표시 (세션당 동시에 하나의 스레드만 전송)
+     *
+     * @return 새로 전송 스레드를 배정해야 하면 true
+     */
+    private boolean scheduleDrain() {
+        if (!started || draining || closed || queue.isEmpty()) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    /**
+     * 대기열의 메시지를 순서대로 전송
+     * - 비동기 전송은 메시지 하나를 요청하고 바로 반환하며, 완료 콜백에서 다음 전송을 다시 제출
+     * - 블로킹 전송은 최대 MAX_MESSAGES_PER_TURN개를 보낸 뒤 남은 메시지가 있으면 다시 제출하여 다른 세션과 전송 스레드를 나눠 씀
+     */
+    private void drain() {
+        for (int sent = 0; sent < MAX_MESSAGES_PER_TURN; sent++) {
+            TextMessage message;
+            synchronized (this) {
+                message = queue.pollFirst();
+                if (message == null || closed) {
+                    draining = false;
+                    return;
+                }
+                queuedBytes -= message.getPayloadLength();
+            }
+            if (asyncRemote != null) {
+                sendAsync(message);
+                return;
+            }
+            if (!sendNow(message)) {
+                return;
+            }
+        }
+        continueDrain();
+    }
+
+    /**
+     * 남은 메시지가 있으면 전송 스레드에 다시 제출하고, 없으면 배정을 해제
+     */
+    private void continueDrain() {
+        synchronized (this) {
+            if (queue.isEmpty() || closed) {
+                draining = false;
+                return;
+            }
+        }
+        sendExecutor.execute(this::drain);
+    }
+
+    /**
+     * 컨테이너에 비동기 전송을 요청 (완료되면 콜백에서 전송 시간을 기록하고 다음 메시지를 이어서 전송)
+     */
+    private void sendAsync(TextMessage message) {
+        if (!session.isOpen()) {
+            close();
+            return;
+        }
+        long startedAt = System.nanoTime();
+        sendStartedAt = startedAt;
+        try {
+            asyncRemote.sendText(message.getPayload(), result -> {
+                sendStartedAt = 0;
+                if (!result.isOK()) {
+                    disconnect(result.getException() != null ? result.getException().getMessage() : "비동기 전송 실패");
+                    return;
+                }
+                sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                continueDrain();
+            });
+        } catch (RuntimeException e) {
+            sendStartedAt = 0;
+            disconnect(e.getMessage());
+        }
+    }
+
+    private boolean sendNow(TextMessage message) {
+        long startedAt = System.nanoTime();
+        sendStartedAt = startedAt;
+        try {
+            if (session.isOpen()) {
+                session.sendMessage(message);
+                sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return true;
+            }
+            close();
+            return false;
+        } catch (IOException | RuntimeException e) {
+            disconnect(e.getMessage());
+            return false;
+        } finally {
+            sendStartedAt = 0;
+        }
+    }
+
+    private boolean isSendTimedOut() {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && System.nanoTime() - startedAt > settings.sendTimeLimit().toNanos();
+    }
+
+    /**
+     * 느리거나 응답하지 않는 클라이언트의 연결을 종료
+     * - 전송이 멈춘 세션은 close도 대기할 수 있으므로, 호출한 스레드를 막지 않도록 전송 스레드에서 종료
+     */
+    private void disconnect(String reason) {
+        if (!markClosed()) {
+            return;
+        }
+        log.warn("WebSocket 세션 연결 종료: {} ({}), 버린 메시지 {}건", session.getId(), reason, getDroppedCount());
+        dispatcher.unregister(this);
+        dispatcher.recordDisconnected();
+        sendExecutor.execute(() -> {
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException | RuntimeException e) {
+                log.debug("WebSocket 세션 종료 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+}
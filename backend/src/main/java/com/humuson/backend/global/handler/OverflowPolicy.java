@@ -0,0 +1,11 @@
+package com.humuson.backend.global.handler;
+
+/**
+ * 클라이언트가 전송 속도를 따라오지 못할 때(세션별 전송 대기열이 밀릴 때)의 처리 방식
+ * - DROP_OLDEST: 대기열이 가득 차면 가장 오래된 메시지를 버리고 새 메시지를 추가 (실시간 로그처럼 최신 데이터가 중요한 경우)
+ * - COALESCE_LATEST: 아직 전송하지 못한 메시지를 새 메시지로 대체 (매번 전체 상태를 보내는 분포 데이터처럼 마지막 값만 의미 있는 경우)
+ * - DISCONNECT: 대기열이 가득 차면 연결을 종료 (클라이언트가 재연결하여 초기 데이터부터 다시 받도록 함)
+ */
+public enum OverflowPolicy {
+    DROP_OLDEST, COALESCE_LATEST, DISCONNECT
+}
@@ -0,0 +1,29 @@
+package com.humuson.backend.global.metrics;
+
+import com.humuson.backend.global.util.LogParseUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 파싱 지표
+ * - log.parse.lines{result=success|failure}: 파싱한 로그 줄 수
+ * - 파싱할 때는 LogParseUtil의 LongAdder만 증가시키고, 지표를 수집할 때 누적값을 읽음 (파싱 경로에 지표 객체 호출이 없음)
+ */
+@Component
+public class LogParseMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("log.parse.lines", LogParseUtil.class, ignored -> LogParseUtil.getParsedLines())
+                .tag("result", "success")
+                .description("파싱에 성공한 로그 줄 수")
+                .register(registry);
+        FunctionCounter.builder("log.parse.lines", LogParseUtil.class, ignored -> LogParseUtil.getFailedLines())
+                .tag("result", "failure")
+                .description("형식이 맞지 않아 파싱에 실패한 로그 줄 수")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.humuson.backend.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * LogUseCase 메서드 실행 시간 지표
+ * - log.usecase{method, outcome=success|error|cancelled}
+ * - Mono/Flux를 반환하는 메서드는 구독부터 완료까지를 측정 (메서드는 조회를 조립만 하고 바로 반환하므로)
+ * - Timer는 메서드마다 처음 호출될 때 결과별로 한 번 등록하고, 이후 호출은 캐시된 Timer에 기록
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LogUseCaseTimingAspect {
+
+    private static final String METRIC_NAME = "log.usecase";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>(); // 메서드 이름 → [Outcome.ordinal()]
+
+    @Around("execution(public * com.humuson.backend.application.log.usecase.LogUseCase.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            record(method, Outcome.ERROR, start);
+            throw e;
+        }
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                long subscribedAt = System.nanoTime();
+                return mono.doFinally(signal -> record(method, outcome(signal), subscribedAt));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                long subscribedAt = System.nanoTime();
+                return flux.doFinally(signal -> record(method, outcome(signal), subscribedAt));
+            });
+        }
+        record(method, Outcome.SUCCESS, start);
+        return result;
+    }
+
+    private void record(String method, Outcome outcome, long start) {
+        timers.computeIfAbsent(method, this::registerTimers)[outcome.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] registerTimers(String method) {
+        Timer[] methodTimers = new Timer[Outcome.values().length];
+        for (Outcome outcome : Outcome.values()) {
+            methodTimers[outcome.ordinal()] = Timer.builder(METRIC_NAME)
+                    .tag("method", method)
+                    .tag("outcome", outcome.tag)
+                    .description("LogUseCase 메서드 실행 시간")
+                    .register(meterRegistry);
+        }
+        return methodTimers;
+    }
+
+    private static Outcome outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> Outcome.ERROR;
+            case CANCEL -> Outcome.CANCELLED;
+            default -> Outcome.SUCCESS;
+        };
+    }
+
+    private enum Outcome {
+
+        SUCCESS("success"), ERROR("error"), CANCELLED("cancelled");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+    }
+
+}
@@ -1,54 +1,248 @@
 package com.humuson.backend.global.util;
 
-import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
-
-import com.humuson.backend.global.exception.LogParsingException;
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import static com.humuson.backend.global.util.ParsedLog.TIMESTAMP_LENGTH;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 로그 한 줄 파서
+ * - LogbackConfig의 패턴으로 기록된 로그를 정규식 없이 한 번의 순회로 파싱
+ * - 형식: "yyyy-MM-dd HH:mm:ss LEVEL [className] - [serviceName] - message"
+ * - 타임스탬프는 고정 위치의 숫자를 직접 해석하고, 결과는 재사용 가능한 ParsedLog에 기록
+ * - 파싱한 줄 수와 실패한 줄 수를 LongAdder로 집계 (LogParseMetrics가 지표로 노출)
+ */
 @Slf4j
 public class LogParseUtil {
 
-    private static final Pattern LOG_PATTERN = Pattern.compile(
-            "^(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2})\\s+(\\w+)\\s+\\[([^\\]]+)\\]\\s+-\\s+\\[([^\\]]+)\\]\\s+-\\s+(.+)$"
-    );
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int DAYS_0000_TO_1970 = 719_468;
+    private static final LongAdder PARSED_LINES = new LongAdder();
+    private static final LongAdder FAILED_LINES = new LongAdder();
+
+    /**
+     * 로그 한 줄을 파싱하여 새로운 ParsedLog로 반환
+     * - 여러 줄을 연속으로 파싱할 때는 {@link #parseLog(CharSequence, ParsedLog)}로 인스턴스를 재사용
+     *
+     * @param stringLog 로그 문자열
+     * @return 파싱 결과, 형식이 맞지 않으면 null
+     */
+    public static ParsedLog parseLog(String stringLog) {
+        ParsedLog parsedLog = new ParsedLog();
+        return parseLog(stringLog, parsedLog) ? parsedLog : null;
+    }
+
+    /**
+     * 로그 한 줄을 파싱하여 주어진 ParsedLog에 기록
+     *
+     * @param line   로그 문자열
+     * @param target 파싱 결과를 기록할 객체
+     * @return 파싱 성공 여부 (형식이 맞지 않으면 false, target은 변경되지 않음)
+     */
+    public static boolean parseLog(CharSequence line, ParsedLog target) {
+        if (!parseLine(line, target)) {
+            FAILED_LINES.increment();
+            log.warn("로그 파싱 실패 (무시됨): {}", line);
+            return false;
+        }
+        PARSED_LINES.increment();
+        return true;
+    }
+
+    /**
+     * 파싱에 성공한 로그 줄 수 (누적)
+     */
+    public static long getParsedLines() {
+        return PARSED_LINES.sum();
+    }
+
+    /**
+     * 형식이 맞지 않아 파싱에 실패한 로그 줄 수 (누적)
+     */
+    public static long getFailedLines() {
+        return FAILED_LINES.sum();
+    }
+
+    /**
+     * "yyyy-MM-dd HH:mm:ss" 형식의 타임스탬프를 epoch 초로 변환 (UTC 기준)
+     *
+     * @param text   타임스탬프를 포함한 문자열
+     * @param offset 타임스탬프 시작 위치
+     * @return epoch 초, 형식이나 범위가 맞지 않으면 -1
+     */
+    public static long parseEpochSecond(CharSequence text, int offset) {
+        if (text.length() - offset < TIMESTAMP_LENGTH
+                || text.charAt(offset + 4) != '-' || text.charAt(offset + 7) != '-' || text.charAt(offset + 10) != ' '
+                || text.charAt(offset + 13) != ':' || text.charAt(offset + 16) != ':') {
+            return -1;
+        }
+
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 5, 2);
+        int day = digits(text, offset + 8, 2);
+        int hour = digits(text, offset + 11, 2);
+        int minute = digits(text, offset + 14, 2);
+        int second = digits(text, offset + 17, 2);
+
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3_600L + minute * 60L + second;
+    }
+
+    private static boolean parseLine(CharSequence line, ParsedLog target) {
+        int end = line.length();
+        if (end > 0 && line.charAt(end - 1) == '\r') {
+            end--; // CRLF로 저장된 파일 허용
+        }
 
-    public static Map<String, String> parseLog(String stringLog) {
+        long epochSecond = parseEpochSecond(line, 0);
+        if (epochSecond < 0) {
+            return false;
+        }
 
-        try {
+        int cursor = skipWhitespace(line, TIMESTAMP_LENGTH, end, true);
+        if (cursor < 0) {
+            return false;
+        }
 
-            Matcher matcher = LOG_PATTERN.matcher(stringLog);
+        int levelStart = cursor;
+        while (cursor < end && isWordChar(line.charAt(cursor))) {
+            cursor++;
+        }
+        if (cursor == levelStart) {
+            return false;
+        }
+        Level level = toLevel(line, levelStart, cursor);
 
-            if (!matcher.matches()) {
-                throw new LogParsingException();
+        cursor = skipWhitespace(line, cursor, end, true);
+        int classNameEnd = cursor < 0 ? -1 : bracketEnd(line, cursor, end);
+        if (classNameEnd < 0) {
+            return false;
+        }
+        int classNameStart = cursor + 1;
+
+        cursor = skipSeparator(line, classNameEnd + 1, end);
+        int serviceNameEnd = cursor < 0 ? -1 : bracketEnd(line, cursor, end);
+        if (serviceNameEnd < 0) {
+            return false;
+        }
+        int serviceNameStart = cursor + 1;
+
+        int messageStart = skipSeparator(line, serviceNameEnd + 1, end);
+        if (messageStart < 0 || messageStart >= end) {
+            return false;
+        }
+
+        target.set(line, epochSecond, level, classNameStart, classNameEnd, serviceNameStart, serviceNameEnd, messageStart, end);
+        return true;
+    }
+
+    /**
+     * 공백을 건너뛴 위치를 반환
+     *
+     * @return 다음 위치, 공백이 필수인데 없으면 -1
+     */
+    private static int skipWhitespace(CharSequence line, int cursor, int end, boolean required) {
+        int start = cursor;
+        while (cursor < end && Character.isWhitespace(line.charAt(cursor))) {
+            cursor++;
+        }
+        return (required && cursor == start) ? -1 : cursor;
+    }
+
+    /**
+     * " - " 구분자를 건너뛴 위치를 반환 (앞뒤 공백은 1개 이상)
+     *
+     * @return 다음 위치, 구분자가 없으면 -1
+     */
+    private static int skipSeparator(CharSequence line, int cursor, int end) {
+        cursor = skipWhitespace(line, cursor, end, true);
+        if (cursor < 0 || cursor >= end || line.charAt(cursor) != '-') {
+            return -1;
+        }
+        return skipWhitespace(line, cursor + 1, end, true);
+    }
+
+    /**
+     * "[...]" 형식 필드의 닫는 괄호 위치를 반환 (내용은 1자 이상)
+     *
+     * @return 닫는 괄호 위치, 형식이 맞지 않으면 -1
+     */
+    private static int bracketEnd(CharSequence line, int cursor, int end) {
+        if (cursor >= end || line.charAt(cursor) != '[') {
+            return -1;
+        }
+        for (int i = cursor + 1; i < end; i++) {
+            if (line.charAt(i) == ']') {
+                return i == cursor + 1 ? -1 : i;
             }
+        }
+        return -1;
+    }
 
-            return getParsedLog(matcher);
+    /**
+     * 로그 레벨 문자열을 대소문자 구분 없이 Level로 변환 (문자열 생성 없음)
+     */
+    private static Level toLevel(CharSequence line, int start, int end) {
+        return switch (end - start) {
+            case 4 -> matches(line, start, "INFO") ? Level.INFO : matches(line, start, "WARN") ? Level.WARN : Level.UNKNOWN;
+            case 5 -> matches(line, start, "ERROR") ? Level.ERROR : Level.UNKNOWN;
+            default -> Level.UNKNOWN;
+        };
+    }
 
-        } catch (Exception e) {
-            log.warn("로그 파싱 실패 (무시됨): {}", stringLog);
-            return null;
+    private static boolean matches(CharSequence line, int start, String upperCase) {
+        for (int i = 0; i < upperCase.length(); i++) {
+            if (Character.toUpperCase(line.charAt(start + i)) != upperCase.charAt(i)) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
 
+    /**
+     * 고정 길이 숫자를 정수로 변환
+     *
+     * @return 변환된 값, 숫자가 아닌 문자가 있으면 -1
+     */
+    private static int digits(CharSequence text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
     }
 
-    private static Map<String, String> getParsedLog(Matcher matcher) {
-        Map<String, String> parsedLog = new HashMap<>();
-        parsedLog.put("timestamp", formatTimestamp(matcher.group(1)));
-        parsedLog.put("level", matcher.group(2));
-        parsedLog.put("className", matcher.group(3));
-        parsedLog.put("serviceName", matcher.group(4));
-        parsedLog.put("message", matcher.group(5));
-        return parsedLog;
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
     }
 
-    private static String formatTimestamp(String timestampStr) {
-        LocalDateTime timestamp = LocalDateTime.parse(timestampStr, TIMESTAMP_FORMAT);
-        return timestamp.format(TIMESTAMP_FORMAT);
+    /**
+     * 그레고리력 날짜를 1970-01-01 기준 일 수로 변환
+     */
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return (long) era * 146_097 + dayOfEra - DAYS_0000_TO_1970;
     }
 
 }
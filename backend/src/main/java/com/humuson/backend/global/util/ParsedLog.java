@@ -0,0 +1,119 @@
+package com.humuson.backend.global.util;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+
+/**
+ * 파싱된 로그 한 줄에 대한 재사용 가능한 뷰
+ * - 원본 문자열과 각 필드의 위치(offset)만 보관하고, 문자열은 필요할 때만 생성
+ * - 한 스레드에서 여러 줄을 파싱할 때 같은 인스턴스를 재사용하여 줄마다 객체를 만들지 않음
+ * - 스레드 안전하지 않으므로 스레드마다 별도 인스턴스를 사용해야 함
+ */
+public final class ParsedLog {
+
+    static final int TIMESTAMP_LENGTH = 19; // "yyyy-MM-dd HH:mm:ss"
+    private static final int SERVICE_NAME_CACHE_SIZE = 8;
+
+    private CharSequence line;
+    private long epochSecond;
+    private Level level;
+    private int classNameStart;
+    private int classNameEnd;
+    private int serviceNameStart;
+    private int serviceNameEnd;
+    private int messageStart;
+    private int messageEnd;
+
+    private final String[] serviceNameCache = new String[SERVICE_NAME_CACHE_SIZE]; // 서비스명은 종류가 적으므로 같은 인스턴스 재사용
+    private int serviceNameCacheCursor;
+
+    void set(CharSequence line, long epochSecond, Level level,
+             int classNameStart, int classNameEnd,
+             int serviceNameStart, int serviceNameEnd,
+             int messageStart, int messageEnd) {
+        this.line = line;
+        this.epochSecond = epochSecond;
+        this.level = level;
+        this.classNameStart = classNameStart;
+        this.classNameEnd = classNameEnd;
+        this.serviceNameStart = serviceNameStart;
+        this.serviceNameEnd = serviceNameEnd;
+        this.messageStart = messageStart;
+        this.messageEnd = messageEnd;
+    }
+
+    /**
+     * 타임스탬프를 epoch 초로 반환 (시간대 없이 UTC 기준으로 계산)
+     */
+    public long epochSecond() {
+        return epochSecond;
+    }
+
+    public Level level() {
+        return level;
+    }
+
+    /**
+     * "yyyy-MM-dd HH:mm:ss" 형식의 타임스탬프 문자열
+     */
+    public String timestamp() {
+        return line.subSequence(0, TIMESTAMP_LENGTH).toString();
+    }
+
+    public String className() {
+        return line.subSequence(classNameStart, classNameEnd).toString();
+    }
+
+    public String serviceName() {
+        int length = serviceNameEnd - serviceNameStart;
+        for (String cached : serviceNameCache) {
+            if (cached != null && cached.length() == length && regionEquals(cached, serviceNameStart)) {
+                return cached;
+            }
+        }
+        String serviceName = line.subSequence(serviceNameStart, serviceNameEnd).toString();
+        serviceNameCache[serviceNameCacheCursor] = serviceName;
+        serviceNameCacheCursor = (serviceNameCacheCursor + 1) % SERVICE_NAME_CACHE_SIZE;
+        return serviceName;
+    }
+
+    public String message() {
+        return line.subSequence(messageStart, messageEnd).toString();
+    }
+
+    /**
+     * 파싱 결과를 저장 가능한 로그 엔터티로 변환
+     *
+     * @return 로그 엔터티
+     */
+    public LogEntity toLogEntity() {
+        return toLogEntity(null);
+    }
+
+    /**
+     * 파싱 결과를 지정한 ID의 로그 엔터티로 변환
+     * - 같은 줄을 다시 적재해도 중복되지 않도록 ID를 직접 지정할 때 사용
+     *
+     * @param id 로그 ID (null이면 저장 시 생성)
+     * @return 로그 엔터티
+     */
+    public LogEntity toLogEntity(String id) {
+        return LogEntity.builder()
+                .id(id)
+                .timestamp(timestamp())
+                .level(level)
+                .serviceName(serviceName())
+                .message(message())
+                .build();
+    }
+
+    private boolean regionEquals(String cached, int offset) {
+        for (int i = 0; i < cached.length(); i++) {
+            if (cached.charAt(i) != line.charAt(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
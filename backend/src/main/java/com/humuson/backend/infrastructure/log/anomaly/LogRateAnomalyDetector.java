@@ -0,0 +1,153 @@
+package com.humuson.backend.infrastructure.log.anomaly;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import com.humuson.backend.domain.log.model.dto.result.LogRateAlert;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.domain.log.model.event.LogRateAlertEvent;
+import com.humuson.backend.global.config.properties.LogAnomalyProperties;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 레벨별, 서비스별 발생률 급증 감지기
+ * - 실시간으로 적재된 로그(IngestSource.LIVE)를 도착한 구간(interval)의 개수에 더하므로 로그 하나당 비용이 O(1)
+ *   (파일 업로드는 과거 로그를 한꺼번에 적재하므로 발생률에 반영하지 않음)
+ * - 구간이 끝나면 레벨 전체와 서비스별 개수를 각각의 기준선(EWMA, 시간대별 EWMA)과 비교하고 기준선을 갱신 (시간대별 EWMA는 한 시간에 한 번)
+ * - 알림 대상 레벨의 개수가 minCount 이상이고 z-score가 threshold 이상이면 (시간대 기준선을 쓰면 그쪽도 벗어나야) 알림을 발행
+ * - 같은 레벨/서비스는 cooldown 동안 다시 알리지 않으며, 추적하는 서비스 수는 레벨마다 maxServices개로 제한
+ */
+@Slf4j
+@Component
+public class LogRateAnomalyDetector {
+
+    private final LogAnomalyProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long intervalSeconds;
+    private final long cooldownIntervals;
+    private final Set<Level> alertLevels;
+    private final Map<Level, RateBaseline> levelBaselines = new HashMap<>(); // 레벨 전체
+    private final Map<Level, Map<String, RateBaseline>> serviceBaselines = new HashMap<>(); // 레벨 → 서비스 이름 → 기준선
+    private final Deque<LogRateAlert> recentAlerts = new ArrayDeque<>();
+    private long openInterval; // 개수를 모으고 있는 구간 번호 (epoch 초 / intervalSeconds)
+
+    public LogRateAnomalyDetector(LogAnomalyProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.intervalSeconds = Math.max(1, properties.interval().toSeconds());
+        this.cooldownIntervals = Math.max(1, -Math.floorDiv(-properties.cooldown().toSeconds(), intervalSeconds));
+        this.alertLevels = properties.levels().isEmpty() ? EnumSet.noneOf(Level.class) : EnumSet.copyOf(properties.levels());
+        for (Level level : Level.values()) {
+            levelBaselines.put(level, new RateBaseline(properties.alpha(), properties.seasonal()));
+            serviceBaselines.put(level, new HashMap<>());
+        }
+        this.openInterval = currentInterval();
+    }
+
+    /**
+     * 실시간으로 적재된 로그를 현재 구간의 레벨, 서비스별 개수에 더함
+     *
+     * @param event 로그 적재 이벤트
+     */
+    @EventListener
+    public void onLogIngested(LogIngestedEvent event) {
+        if (event.source() != IngestSource.LIVE) {
+            return;
+        }
+        synchronized (this) {
+            for (LogEntity logEntity : event.logs()) {
+                Level level = logEntity.getLevel() != null ? logEntity.getLevel() : Level.UNKNOWN;
+                levelBaselines.get(level).current++;
+                Map<String, RateBaseline> services = serviceBaselines.get(level);
+                String serviceName = logEntity.getServiceName() != null ? logEntity.getServiceName() : "";
+                RateBaseline baseline = services.get(serviceName);
+                if (baseline == null && services.size() < properties.maxServices()) {
+                    baseline = new RateBaseline(properties.alpha(), properties.seasonal());
+                    services.put(serviceName, baseline);
+                }
+                if (baseline != null) {
+                    baseline.current++;
+                }
+            }
+        }
+    }
+
+    /**
+     * 구간이 끝났으면 마감하고, 감지된 급증을 LogRateAlertEvent로 발행
+     * - 1초 간격으로 확인하며, 확인이 늦어져 여러 구간이 지났으면 모은 개수를 지난 구간 수로 나누어 한 구간으로 반영
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void closeInterval() {
+        long now = currentInterval();
+        List<LogRateAlert> alerts = new ArrayList<>();
+        synchronized (this) {
+            if (now <= openInterval) {
+                return;
+            }
+            long closed = openInterval;
+            long elapsed = now - closed;
+            int hour = (int) Math.floorMod(Math.floorDiv(closed * intervalSeconds, 3600), 24L);
+            String intervalStart = LocalDateTime.ofEpochSecond(closed * intervalSeconds, 0, ZoneOffset.UTC).format(TIMESTAMP_FORMAT);
+            for (Level level : Level.values()) {
+                evaluate(level, null, levelBaselines.get(level), closed, elapsed, hour, intervalStart, alerts);
+                serviceBaselines.get(level).forEach((serviceName, baseline) ->
+                        evaluate(level, serviceName, baseline, closed, elapsed, hour, intervalStart, alerts));
+            }
+            openInterval = now;
+            for (LogRateAlert alert : alerts) {
+                if (recentAlerts.size() == properties.recentAlerts()) {
+                    recentAlerts.removeFirst();
+                }
+                recentAlerts.addLast(alert);
+            }
+        }
+        if (!alerts.isEmpty()) {
+            alerts.forEach(alert -> log.warn("로그 발생률 급증 감지: level={}, service={}, count={}, expected={}, score={}",
+                    alert.level(), alert.serviceName(), alert.count(), String.format("%.1f", alert.expected()), String.format("%.1f", alert.score())));
+            eventPublisher.publishEvent(LogRateAlertEvent.of(alerts));
+        }
+    }
+
+    /**
+     * 최근 알림 목록 (오래된 알림부터, 최대 recentAlerts개)
+     */
+    public synchronized List<LogRateAlert> getRecentAlerts() {
+        return List.copyOf(recentAlerts);
+    }
+
+    private void evaluate(Level level, String serviceName, RateBaseline baseline, long interval, long elapsed, int hour, String intervalStart, List<LogRateAlert> alerts) {
+        long count = baseline.current;
+        double perInterval = (double) count / elapsed;
+        baseline.current = 0;
+        if (alertLevels.contains(level) && count >= properties.minCount() && baseline.isWarm(properties.warmupIntervals())
+                && baseline.lastAlertInterval + cooldownIntervals <= interval) {
+            double score = baseline.score(perInterval);
+            if (score >= properties.threshold() && baseline.isSeasonalAnomaly(hour, perInterval, properties.threshold())) {
+                baseline.lastAlertInterval = interval;
+                alerts.add(LogRateAlert.of(level, serviceName, intervalStart, intervalSeconds, count, baseline.expected(), score));
+            }
+        }
+        baseline.update(hour, perInterval);
+    }
+
+    private long currentInterval() {
+        return Math.floorDiv(LocalDateTime.now().toEpochSecond(ZoneOffset.UTC), intervalSeconds);
+    }
+
+}
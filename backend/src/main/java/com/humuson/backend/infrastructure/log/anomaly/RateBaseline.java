@@ -0,0 +1,106 @@
+package com.humuson.backend.infrastructure.log.anomaly;
+
+/**
+ * 구간별 로그 개수의 기준선
+ * - EWMA로 평균과 분산을 갱신하므로 구간 하나를 반영하는 비용과 메모리가 일정
+ * - 시간대(시)별 기준선을 따로 두어 "어제 이 시간"과도 비교할 수 있음 (매일 반복되는 증가를 급증으로 보지 않기 위함)
+ * - 시간대 기준선은 구간마다가 아니라 한 시간이 끝날 때 그 시간의 구간 평균으로 한 번만 갱신하므로, alpha가 구간 수가 아닌 날짜 기준으로 적용됨
+ * - 표준편차는 최소 sqrt(평균) (포아송 분포의 표준편차), 1 이상으로 두어 개수가 거의 일정한 구간에서 작은 변화에 과민하지 않도록 함
+ */
+final class RateBaseline {
+
+    private static final int SEASON_SLOTS = 24;
+    private static final int SEASON_WARMUP_SAMPLES = 2; // 시간대 기준선을 신뢰하기 전에 필요한 날 수
+
+    private final double alpha;
+    private final Ewma overall = new Ewma();
+    private final Ewma[] seasonal; // 시간대별 기준선 (사용하지 않으면 null)
+    private int pendingHour = -1; // 구간 개수를 모으고 있는 시간대
+    private double pendingSum; // pendingHour에 마감한 구간 개수의 합
+    private long pendingIntervals; // pendingHour에 마감한 구간 수
+    long lastAlertInterval = Long.MIN_VALUE; // 마지막으로 알림을 보낸 구간 번호
+    long current; // 아직 마감하지 않은 구간의 로그 개수
+
+    RateBaseline(double alpha, boolean useSeasonal) {
+        this.alpha = alpha;
+        this.seasonal = useSeasonal ? new Ewma[SEASON_SLOTS] : null;
+        if (seasonal != null) {
+            for (int i = 0; i < SEASON_SLOTS; i++) {
+                seasonal[i] = new Ewma();
+            }
+        }
+    }
+
+    boolean isWarm(int warmupIntervals) {
+        return overall.samples >= warmupIntervals;
+    }
+
+    double expected() {
+        return overall.mean;
+    }
+
+    /**
+     * 전체 기준선에 대한 z-score
+     */
+    double score(double count) {
+        return overall.score(count);
+    }
+
+    /**
+     * 시간대 기준선으로도 급증인지 확인
+     * - 시간대별 기준선을 쓰지 않거나 아직 SEASON_WARMUP_SAMPLES일 동안 쌓이지 않았으면 전체 기준선만으로 판단하도록 true
+     */
+    boolean isSeasonalAnomaly(int hour, double count, double threshold) {
+        if (seasonal == null || seasonal[hour].samples < SEASON_WARMUP_SAMPLES) {
+            return true;
+        }
+        return seasonal[hour].score(count) >= threshold;
+    }
+
+    /**
+     * 마감한 구간의 개수를 기준선에 반영
+     * - 전체 기준선은 바로 갱신하고, 시간대 기준선은 시간대가 바뀔 때 이전 시간대의 구간 평균으로 갱신
+     */
+    void update(int hour, double count) {
+        overall.update(count, alpha);
+        if (seasonal == null) {
+            return;
+        }
+        if (hour != pendingHour && pendingIntervals > 0) {
+            seasonal[pendingHour].update(pendingSum / pendingIntervals, alpha);
+            pendingSum = 0;
+            pendingIntervals = 0;
+        }
+        pendingHour = hour;
+        pendingSum += count;
+        pendingIntervals++;
+    }
+
+    /**
+     * 지수 가중 이동 평균과 분산 (첫 구간의 값으로 시작)
+     */
+    private static final class Ewma {
+
+        private double mean;
+        private double variance;
+        private long samples;
+
+        private void update(double value, double alpha) {
+            if (samples++ == 0) {
+                mean = value;
+                return;
+            }
+            double diff = value - mean;
+            double increment = alpha * diff;
+            mean += increment;
+            variance = (1 - alpha) * (variance + diff * increment);
+        }
+
+        private double score(double value) {
+            double deviation = Math.max(Math.sqrt(variance), Math.max(1.0, Math.sqrt(mean)));
+            return (value - mean) / deviation;
+        }
+
+    }
+
+}
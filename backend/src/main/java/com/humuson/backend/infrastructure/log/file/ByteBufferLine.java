@@ -0,0 +1,54 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 메모리 매핑된 버퍼의 한 줄을 복사 없이 CharSequence로 노출하는 뷰
+ * - charAt은 바이트를 그대로 문자로 취급하므로 ASCII 구분자 탐색에만 사용
+ * - UTF-8 멀티바이트 문자는 ASCII 바이트를 포함하지 않으므로 구분자 위치(바이트 오프셋)는 항상 정확
+ * - toString은 해당 구간을 UTF-8로 디코딩하여 실제 문자열을 생성
+ */
+final class ByteBufferLine implements CharSequence {
+
+    private ByteBuffer buffer;
+    private int start;
+    private int length;
+
+    ByteBufferLine() {
+    }
+
+    private ByteBufferLine(ByteBuffer buffer, int start, int length) {
+        reset(buffer, start, length);
+    }
+
+    ByteBufferLine reset(ByteBuffer buffer, int start, int length) {
+        this.buffer = buffer;
+        this.start = start;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return new ByteBufferLine(buffer, start + from, to - from);
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.humuson.backend.infrastructure.log.file;
+
+/**
+ * 로그 파일 내 [from, to) 바이트 구간 (항상 줄의 시작 위치에서 시작하고 끝남)
+ *
+ * @param from 시작 위치 (포함)
+ * @param to   종료 위치 (제외)
+ */
+public record FileRange(long from, long to) {
+
+    public static FileRange empty() {
+        return new FileRange(0, 0);
+    }
+
+    public boolean isEmpty() {
+        return from >= to;
+    }
+
+}
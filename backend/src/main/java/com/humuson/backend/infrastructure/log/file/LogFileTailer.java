@@ -0,0 +1,348 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.domain.log.service.LogIngestService;
+import com.humuson.backend.global.config.properties.LogTailProperties;
+import com.humuson.backend.global.util.LogParseUtil;
+import com.humuson.backend.global.util.ParsedLog;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 파일 추적기
+ * - app.log에 새로 추가된 바이트만 읽어 파싱하고 MongoDB에 적재
+ * - 읽은 위치를 체크포인트 파일에 저장하여 재시작 후에도 이어서 읽음
+ * - 파일이 잘리면(truncate) 처음부터, 교체(rotation)되면 이전 파일의 남은 부분과 그 뒤에 교체된 파일을 순서대로 읽은 뒤 새 파일로 전환
+ * - 마지막으로 읽던 파일이 이미 삭제되어 어디까지 읽었는지 알 수 없으면 누락 가능성을 로그로 남기고 현재 파일부터 읽음
+ * - 각 로그의 ID를 (파일, 위치)로부터 결정적으로 생성하므로 같은 줄을 다시 읽어도 중복 적재되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "log.tail", name = "enabled", havingValue = "true")
+public class LogFileTailer {
+
+    private static final int INITIAL_READ_BUFFER_SIZE = 1 << 20; // 한 번에 읽는 크기 (1MB, 긴 줄이 있으면 확장)
+
+    private final LogTailProperties properties;
+    private final LogIngestService logIngestService;
+
+    private volatile boolean running;
+    private WatchService watchService;
+    private Thread worker;
+
+    private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_READ_BUFFER_SIZE);
+    private FileChannel channel;
+    private String fileKey;
+    private long offset;
+
+    /**
+     * 애플리케이션 시작 후 추적 스레드를 실행
+     *
+     * @throws IOException 로그 디렉터리 감시 등록 실패 시 예외 발생
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        Path directory = properties.file().toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        running = true;
+        worker = new Thread(this::run, "log-file-tailer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("로그 파일 추적 시작: {}", properties.file());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        if (watchService != null) {
+            watchService.close();
+        }
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        closeChannel();
+    }
+
+    /**
+     * 파일 변경 알림을 기다렸다가 새로 추가된 부분을 읽는 루프
+     * - 알림이 누락되는 경우를 대비해 pollInterval마다 한 번씩은 확인
+     */
+    private void run() {
+        try {
+            resume();
+        } catch (IOException e) {
+            log.error("로그 파일 추적 재개 실패: {}", e.getMessage());
+        }
+
+        while (running) {
+            try {
+                drain();
+                WatchKey key = watchService.poll(properties.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+            } catch (ClosedWatchServiceException e) {
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("로그 파일 추적 중 오류 발생: {}", e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 체크포인트를 기준으로 추적 위치를 복원
+     * - 체크포인트의 파일이 교체되어 이름이 바뀌었다면, 해당 파일의 남은 부분과 그 뒤에 교체된 파일을 먼저 읽음
+     */
+    void resume() throws IOException {
+        TailCheckpoint checkpoint = TailCheckpoint.load(properties.checkpoint());
+        if (checkpoint == null) {
+            return;
+        }
+
+        Path current = properties.file();
+        if (Files.exists(current) && checkpoint.fileKey().equals(fileKeyOf(current))) {
+            open(current, checkpoint.offset());
+            return;
+        }
+
+        Path rotated = findByFileKey(checkpoint.fileKey());
+        if (rotated == null) {
+            log.warn("체크포인트의 로그 파일을 찾을 수 없어 현재 파일부터 읽음 (교체 후 삭제된 파일의 로그는 누락될 수 있음)");
+            return;
+        }
+        log.info("교체된 로그 파일의 남은 부분부터 읽음: {}", rotated);
+        open(rotated, checkpoint.offset());
+        readToEnd();
+        closeChannel();
+        readRotatedAfter(checkpoint.fileKey());
+    }
+
+    /**
+     * 새로 추가된 부분을 읽고, 파일 교체 여부를 확인
+     * - 확인 주기 사이에 여러 번 교체되었어도 중간에 교체된 파일을 빠뜨리지 않음
+     */
+    void drain() throws IOException {
+        Path current = properties.file();
+        if (!Files.exists(current)) {
+            return;
+        }
+
+        String currentKey = fileKeyOf(current);
+        if (channel != null && !currentKey.equals(fileKey)) {
+            log.info("로그 파일 교체 감지, 이전 파일의 남은 부분과 이후 교체된 파일을 읽은 뒤 새 파일로 전환");
+            String previousKey = fileKey;
+            readToEnd();
+            closeChannel();
+            readRotatedAfter(previousKey);
+        }
+        if (channel == null) {
+            open(current, 0);
+        }
+        readToEnd();
+    }
+
+    /**
+     * 교체된 파일 중 previousKey 파일보다 나중에 교체된 파일을 교체된 순서대로 처음부터 끝까지 읽음
+     * - previousKey 파일은 이미 끝까지 읽었다고 보며, 찾을 수 없으면 건너뛴 파일 수를 로그로 남김
+     *
+     * @param previousKey 마지막으로 읽은 파일의 식별자
+     */
+    private void readRotatedAfter(String previousKey) throws IOException {
+        List<Path> rotated = rotatedFiles();
+        int previous = -1;
+        for (int i = 0; i < rotated.size(); i++) {
+            if (previousKey.equals(fileKeyOf(rotated.get(i)))) {
+                previous = i;
+            }
+        }
+        if (previous < 0) {
+            log.warn("마지막으로 읽은 로그 파일을 교체된 파일 {}개 중에서 찾을 수 없어 현재 파일부터 읽음 (일부 로그가 누락될 수 있음)", rotated.size());
+            return;
+        }
+        for (Path path : rotated.subList(previous + 1, rotated.size())) {
+            log.info("교체된 로그 파일 읽음: {}", path);
+            open(path, 0);
+            readToEnd();
+            closeChannel();
+        }
+    }
+
+    /**
+     * 현재 파일에서 완성된 줄(줄바꿈으로 끝나는 줄)을 끝까지 읽어 적재
+     * - 마지막 줄이 아직 기록 중이면 읽은 위치를 해당 줄의 시작에 두고 다음 번에 다시 읽음
+     */
+    private void readToEnd() throws IOException {
+        while (true) {
+            long size = channel.size();
+            if (size < offset) {
+                log.warn("로그 파일이 잘려 처음부터 다시 읽음: {} -> {} bytes", offset, size);
+                offset = 0;
+            }
+            if (size == offset) {
+                return;
+            }
+
+            readBuffer.clear();
+            int read = channel.read(readBuffer, offset);
+            if (read <= 0) {
+                return;
+            }
+
+            List<LogEntity> logs = new ArrayList<>();
+            int consumed = parseCompleteLines(read, logs);
+            if (consumed == 0) {
+                if (read == readBuffer.capacity()) {
+                    readBuffer = ByteBuffer.allocate(readBuffer.capacity() * 2); // 버퍼보다 긴 줄
+                    continue;
+                }
+                return;
+            }
+
+            for (int from = 0; from < logs.size(); from += properties.batchSize()) {
+                logIngestService.ingestIfAbsent(IngestSource.LIVE, logs.subList(from, Math.min(from + properties.batchSize(), logs.size())));
+            }
+            offset += consumed;
+            new TailCheckpoint(fileKey, offset).save(properties.checkpoint());
+        }
+    }
+
+    /**
+     * 버퍼에서 완성된 줄만 파싱
+     *
+     * @param length 버퍼에 읽힌 바이트 수
+     * @param logs   파싱된 로그를 담을 목록
+     * @return 처리한 바이트 수 (마지막 줄바꿈 다음 위치)
+     */
+    private int parseCompleteLines(int length, List<LogEntity> logs) {
+        ParsedLog parsedLog = new ParsedLog();
+        ByteBufferLine line = new ByteBufferLine();
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (readBuffer.get(i) != '\n') {
+                continue;
+            }
+            if (i > lineStart && LogParseUtil.parseLog(line.reset(readBuffer, lineStart, i - lineStart), parsedLog)) {
+                logs.add(parsedLog.toLogEntity(LogIds.of(fileKey, parsedLog.epochSecond(), offset + lineStart)));
+            }
+            lineStart = i + 1;
+        }
+        return lineStart;
+    }
+
+    private void open(Path path, long position) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        fileKey = fileKeyOf(path);
+        offset = position;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * 로그 디렉터리에서 주어진 파일 식별자를 가진 (교체된) 파일을 탐색
+     */
+    private Path findByFileKey(String key) throws IOException {
+        try (Stream<Path> files = Files.list(properties.file().toAbsolutePath().getParent())) {
+            return files.filter(Files::isRegularFile)
+                    .filter(path -> {
+                        try {
+                            return key.equals(fileKeyOf(path));
+                        } catch (IOException e) {
+                            return false;
+                        }
+                    })
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * 로그 디렉터리에서 교체된 로그 파일을 교체된 순서(수정 시각, 이름 순)로 반환
+     * - app.log는 app.yyyy-MM-dd.N.log로 교체되므로, 같은 이름으로 시작하고 같은 확장자로 끝나는 다른 파일을 교체된 파일로 봄
+     */
+    private List<Path> rotatedFiles() throws IOException {
+        Path current = properties.file().toAbsolutePath();
+        String name = current.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String prefix = (dot > 0 ? name.substring(0, dot) : name) + ".";
+        String extension = dot > 0 ? name.substring(dot) : "";
+        try (Stream<Path> files = Files.list(current.getParent())) {
+            return files.filter(Files::isRegularFile)
+                    .filter(path -> {
+                        String fileName = path.getFileName().toString();
+                        return !fileName.equals(name) && fileName.startsWith(prefix) && fileName.endsWith(extension);
+                    })
+                    .sorted(Comparator.comparingLong(LogFileTailer::lastModifiedOf).thenComparing(Path::getFileName))
+                    .toList();
+        }
+    }
+
+    private static long lastModifiedOf(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 파일 이름이 바뀌어도 유지되는 파일 식별자 반환
+     * - fileKey를 지원하지 않는 파일 시스템에서는 생성 시각으로 대체
+     */
+    private static String fileKeyOf(Path path) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Objects.toString(attributes.fileKey(), attributes.creationTime().toString());
+        } catch (NoSuchFileException e) {
+            return "";
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(properties.pollInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 파일 시간 색인 관리
+ * - 로그 파일마다 희소 시간 색인(.tidx)을 옆에 두고, 시간 범위 조회 시 파일 전체 대신 해당 구간만 읽도록 바이트 위치를 제공
+ * - 색인은 업로드 시 또는 처음 조회할 때 생성하며, 로그 파일이 뒤에만 추가되었으면 추가된 부분만 읽어 이어서 생성
+ * - 로그 파일이 줄었거나 다른 파일로 교체되었으면 다시 생성
+ * - 한 번 읽은 색인은 메모리에 보관하여 조회마다 색인 파일을 읽지 않음
+ */
+@Slf4j
+@Component
+public class LogFileTimeIndex {
+
+    private final Map<Path, SparseTimeIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * 로그 파일의 시간 색인을 생성하여 저장
+     *
+     * @param logFile 색인을 만들 로그 파일
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public void build(Path logFile) throws IOException {
+        Path key = logFile.toAbsolutePath().normalize();
+        SparseTimeIndex index = SparseTimeIndex.build(key);
+        index.save(SparseTimeIndex.sidecarOf(key));
+        indexes.put(key, index);
+        log.info("로그 파일 시간 색인 생성: {} ({}개 블록)", key.getFileName(), index.offsets().length);
+    }
+
+    /**
+     * 시간 범위에 해당하는 로그가 있을 수 있는 바이트 구간을 반환
+     * - 시작, 종료 시간이 모두 없으면 파일 전체 구간을 반환 (색인을 만들지 않음)
+     *
+     * @param logFile 로그 파일
+     * @param start   조회 시작 시간 (포함, 선택)
+     * @param end     조회 종료 시간 (제외, 선택)
+     * @return 읽어야 할 바이트 구간
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public FileRange rangeOf(Path logFile, LocalDateTime start, LocalDateTime end) throws IOException {
+        if (start == null && end == null) {
+            return new FileRange(0, Files.size(logFile));
+        }
+        long startEpochSecond = start != null ? start.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+        long endEpochSecond = end != null ? end.toEpochSecond(ZoneOffset.UTC) : Long.MAX_VALUE;
+        return getOrBuild(logFile).rangeOf(startEpochSecond, endEpochSecond);
+    }
+
+    /**
+     * 시간 범위에 해당하는 로그가 있을 수 있는 블록을 파일 뒤쪽부터 반환 (최신순 조회용)
+     *
+     * @param logFile 로그 파일
+     * @param start   조회 시작 시간 (포함, 선택)
+     * @param end     조회 종료 시간 (제외, 선택)
+     * @return 파일 역순으로 정렬된 블록 목록
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public List<TimeBlock> blocksNewestFirst(Path logFile, LocalDateTime start, LocalDateTime end) throws IOException {
+        long startEpochSecond = start != null ? start.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+        long endEpochSecond = end != null ? end.toEpochSecond(ZoneOffset.UTC) : Long.MAX_VALUE;
+        return getOrBuild(logFile).blocksNewestFirst(startEpochSecond, endEpochSecond);
+    }
+
+    /**
+     * 메모리, 색인 파일 순으로 색인을 찾아 현재 로그 파일에 맞춤
+     * - 파일이 그대로면 그대로 사용하고, 뒤에만 추가되었으면 추가된 부분만 읽어 이어서 생성
+     * - 색인이 없거나 파일이 줄었거나(truncate) 다른 파일로 교체되었으면 다시 생성
+     */
+    private SparseTimeIndex getOrBuild(Path logFile) throws IOException {
+        Path key = logFile.toAbsolutePath().normalize();
+        long size = Files.size(key);
+        long modified = Files.getLastModifiedTime(key).toMillis();
+
+        SparseTimeIndex index = indexes.get(key);
+        if (index == null) {
+            index = SparseTimeIndex.load(SparseTimeIndex.sidecarOf(key));
+        }
+        if (index != null && index.matches(size, modified)) {
+            indexes.put(key, index);
+            return index;
+        }
+        if (index != null && index.isAppendedTo(key, size)) {
+            SparseTimeIndex extended = index.extend(key);
+            extended.save(SparseTimeIndex.sidecarOf(key));
+            indexes.put(key, extended);
+            log.debug("로그 파일 시간 색인 확장: {} ({} → {} bytes)", key.getFileName(), index.fileSize(), extended.fileSize());
+            return extended;
+        }
+        build(key);
+        return indexes.get(key);
+    }
+
+}
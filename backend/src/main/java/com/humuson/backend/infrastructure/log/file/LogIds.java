@@ -0,0 +1,34 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import java.nio.ByteBuffer;
+import org.bson.types.ObjectId;
+
+/**
+ * 파일에서 읽은 로그의 결정적 ID 생성기
+ * - (로그 시각, 파일, 파일 내 위치)가 같으면 항상 같은 ID가 나오므로, 같은 줄을 다시 적재해도 중복 키로 걸러짐
+ * - 4바이트 시각 + 3바이트 파일 식별자 해시 + 5바이트 위치로 ObjectId를 구성 (ObjectId처럼 시각 순으로 정렬됨)
+ */
+public final class LogIds {
+
+    private LogIds() {
+    }
+
+    /**
+     * 로그 ID 생성
+     *
+     * @param fileKey     파일 식별자 (추적 중인 파일의 fileKey 또는 업로드 파일 이름)
+     * @param epochSecond 로그 시각 (UTC epoch 초)
+     * @param position    파일 내 줄의 시작 위치 (바이트)
+     * @return 16진수 ObjectId 문자열
+     */
+    public static String of(String fileKey, long epochSecond, long position) {
+        ByteBuffer bytes = ByteBuffer.allocate(12);
+        bytes.putInt((int) epochSecond);
+        int fileHash = fileKey.hashCode();
+        bytes.put((byte) (fileHash >>> 16)).put((byte) (fileHash >>> 8)).put((byte) fileHash);
+        bytes.put((byte) (position >>> 32)).putInt((int) position);
+        bytes.flip();
+        return new ObjectId(bytes).toHexString();
+    }
+
+}
@@ -0,0 +1,490 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.util.LogParseUtil;
+import com.humuson.backend.global.util.ParsedLog;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대용량 로그 파일 병렬 파서
+ * - 파일을 줄바꿈 경계에 맞춘 청크로 나누고, 각 청크를 메모리 매핑하여 ForkJoinPool에서 병렬 파싱
+ * - 순서가 필요 없는 적재/집계는 청크가 끝나는 대로 결과를 전달하고,
+ *   순서가 필요한 조회는 청크별 정렬 결과를 타임스탬프 순으로 병합
+ * - 시간 범위 집계는 시간 색인(LogFileTimeIndex)이 알려준 바이트 구간만 매핑하여 파싱
+ * - 최신순 페이지 조회는 색인 블록을 파일 뒤쪽부터 읽어 필요한 개수가 채워지면 멈춤
+ */
+@Component
+public class MappedLogFileReader {
+
+    private static final long CHUNK_SIZE = 32L * 1024 * 1024; // 청크 크기 (32MB, 매핑 단위)
+    private static final int BOUNDARY_SCAN_SIZE = 8 * 1024; // 청크 경계에서 줄바꿈을 찾을 때 읽는 크기
+    private static final int BLOCK_BUFFER_SIZE = 256 * 1024; // 최신순 조회 시 색인 블록을 읽는 버퍼 크기 (큰 블록이 있으면 확장)
+    private static final Comparator<LogEntity> TIMESTAMP_ORDER = Comparator.comparing(LogEntity::getTimestamp);
+
+    private final ForkJoinPool parsePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final long chunkSize;
+
+    public MappedLogFileReader() {
+        this(CHUNK_SIZE);
+    }
+
+    /**
+     * 청크 크기를 지정하여 생성 (작은 파일로 여러 청크를 만들어야 하는 테스트용)
+     */
+    MappedLogFileReader(long chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 파일을 병렬 파싱하여 배치 단위로 전달 (순서 보장 없음)
+     * - 여러 파싱 스레드에서 동시에 호출되므로 sink는 스레드 안전해야 함
+     * - sink가 블로킹되면 해당 청크의 파싱도 멈추므로 적재 속도에 맞춰 backpressure가 걸림
+     * - 청크가 하나뿐인 작은 파일은 파싱 풀을 거치지 않고 호출 스레드에서 파싱
+     * - 로그 ID를 (fileKey, 시각, 줄의 시작 위치)로 지정하므로 같은 파일을 다시 파싱해도 같은 ID가 나옴
+     *
+     * @param logFilePath 파싱할 로그 파일 경로
+     * @param fileKey     로그 ID 생성에 사용할 파일 식별자
+     * @param batchSize   한 번에 전달할 최대 로그 개수
+     * @param sink        파싱된 로그 배치를 받을 소비자
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public void parseUnordered(Path logFilePath, String fileKey, int batchSize, Consumer<List<LogEntity>> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFilePath, StandardOpenOption.READ)) {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (Chunk chunk : split(channel, 0, channel.size())) {
+                tasks.add(() -> {
+                    List<LogEntity> batch = new ArrayList<>(batchSize);
+                    parseChunk(channel, chunk, (parsedLog, position) -> {
+                        batch.add(parsedLog.toLogEntity(LogIds.of(fileKey, parsedLog.epochSecond(), position)));
+                        if (batch.size() == batchSize) {
+                            sink.accept(new ArrayList<>(batch));
+                            batch.clear();
+                        }
+                    });
+                    if (!batch.isEmpty()) {
+                        sink.accept(batch);
+                    }
+                    return null;
+                });
+            }
+            if (tasks.size() == 1) {
+                runInCallerThread(tasks.get(0));
+                return;
+            }
+            awaitAll(parsePool.invokeAll(tasks));
+        }
+    }
+
+    /**
+     * 파일의 바이트 구간을 병렬 파싱하여 조건에 맞는 로그를 타임스탬프 오름차순으로 반환
+     * - 청크별로 정렬한 뒤 청크 순서대로 k-way 병합하므로, 같은 타임스탬프는 파일 내 순서를 유지
+     * - 구간의 로그를 모두 메모리에 올리므로, 시간 색인으로 구간을 좁힌 뒤 호출
+     *
+     * @param logFilePath 파싱할 로그 파일 경로
+     * @param range       파싱할 바이트 구간 (줄의 시작 위치에서 시작)
+     * @param filter      포함할 로그 조건 (문자열 생성 전에 평가)
+     * @return 타임스탬프 순으로 정렬된 로그 목록
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public List<LogEntity> readSorted(Path logFilePath, FileRange range, Predicate<ParsedLog> filter) throws IOException {
+        if (range.isEmpty()) {
+            return List.of();
+        }
+        try (FileChannel channel = FileChannel.open(logFilePath, StandardOpenOption.READ)) {
+            List<Callable<List<LogEntity>>> tasks = new ArrayList<>();
+            for (Chunk chunk : split(channel, range.from(), Math.min(range.to(), channel.size()))) {
+                tasks.add(() -> {
+                    List<LogEntity> logs = new ArrayList<>();
+                    parseChunk(channel, chunk, parsedLog -> {
+                        if (filter.test(parsedLog)) {
+                            logs.add(parsedLog.toLogEntity());
+                        }
+                    });
+                    logs.sort(TIMESTAMP_ORDER);
+                    return logs;
+                });
+            }
+            return mergeSorted(awaitAll(parsePool.invokeAll(tasks)));
+        }
+    }
+
+    /**
+     * 시간 색인 블록을 파일 뒤쪽부터 읽어 조건에 맞는 최신 로그를 최대 limit개 반환
+     * - 최신 limit개만 최소 힙에 유지하고, 힙에 들어가는 로그만 엔터티로 만듦
+     * - 힙이 가득 찼고 남은 블록의 최대 시각이 힙의 가장 오래된 로그보다 늦지 않으면 나머지 블록은 읽지 않음
+     *
+     * @param logFilePath 읽을 로그 파일 경로
+     * @param blocks      파일 역순으로 정렬된 시간 색인 블록
+     * @param filter      포함할 로그 조건 (문자열 생성 전에 평가)
+     * @param limit       반환할 최대 로그 개수
+     * @return 최신순으로 정렬된 로그 목록 (같은 타임스탬프는 파일 뒤쪽 로그가 먼저)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public List<LogEntity> readLatest(Path logFilePath, List<TimeBlock> blocks, Predicate<ParsedLog> filter, int limit) throws IOException {
+        if (blocks.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Candidate> latest = new PriorityQueue<>(Math.min(limit, 1_024), Candidate.ORDER);
+        try (FileChannel channel = FileChannel.open(logFilePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(BLOCK_BUFFER_SIZE);
+            ParsedLog parsedLog = new ParsedLog();
+            ByteBufferLine line = new ByteBufferLine();
+            for (TimeBlock block : blocks) {
+                if (latest.size() == limit && block.maxEpochSecond() <= latest.peek().epochSecond()) {
+                    break;
+                }
+                long from = block.range().from();
+                int length = (int) (Math.min(block.range().to(), size) - from);
+                if (length <= 0) {
+                    continue;
+                }
+                if (length > buffer.capacity()) {
+                    buffer = ByteBuffer.allocate(length);
+                }
+                buffer.clear().limit(length);
+                int read = 0;
+                while (read < length) {
+                    int n = channel.read(buffer, from + read);
+                    if (n <= 0) {
+                        break;
+                    }
+                    read += n;
+                }
+                int lineStart = 0;
+                for (int i = 0; i <= read; i++) {
+                    if (i < read && buffer.get(i) != '\n') {
+                        continue;
+                    }
+                    if (i > lineStart && LogParseUtil.parseLog(line.reset(buffer, lineStart, i - lineStart), parsedLog) && filter.test(parsedLog)) {
+                        offer(latest, limit, parsedLog, from + lineStart);
+                    }
+                    lineStart = i + 1;
+                }
+            }
+        }
+        List<LogEntity> logs = new ArrayList<>(latest.size());
+        while (!latest.isEmpty()) {
+            logs.add(latest.poll().log());
+        }
+        Collections.reverse(logs);
+        return logs;
+    }
+
+    private static void offer(PriorityQueue<Candidate> latest, int limit, ParsedLog parsedLog, long position) {
+        if (latest.size() == limit) {
+            Candidate oldest = latest.peek();
+            if (parsedLog.epochSecond() < oldest.epochSecond()
+                    || (parsedLog.epochSecond() == oldest.epochSecond() && position < oldest.position())) {
+                return;
+            }
+            latest.poll();
+        }
+        latest.add(new Candidate(parsedLog.epochSecond(), position, parsedLog.toLogEntity()));
+    }
+
+    /**
+     * 파일을 병렬 파싱하여 로그 레벨별 개수를 집계 (로그 엔터티를 생성하지 않음)
+     *
+     * @param logFilePath 집계할 로그 파일 경로
+     * @return Level.ordinal() 위치에 해당 레벨의 로그 개수를 담은 배열
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public long[] countByLevel(Path logFilePath) throws IOException {
+        return countByLevel(logFilePath, new FileRange(0, Long.MAX_VALUE), parsedLog -> true);
+    }
+
+    /**
+     * 파일의 바이트 구간을 병렬 파싱하여 조건에 맞는 로그의 레벨별 개수를 집계 (로그 엔터티를 생성하지 않음)
+     *
+     * @param logFilePath 집계할 로그 파일 경로
+     * @param range       파싱할 바이트 구간 (줄의 시작 위치에서 시작)
+     * @param filter      포함할 로그 조건
+     * @return Level.ordinal() 위치에 해당 레벨의 로그 개수를 담은 배열
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public long[] countByLevel(Path logFilePath, FileRange range, Predicate<ParsedLog> filter) throws IOException {
+        long[] total = new long[Level.values().length];
+        if (range.isEmpty()) {
+            return total;
+        }
+        try (FileChannel channel = FileChannel.open(logFilePath, StandardOpenOption.READ)) {
+            List<Callable<long[]>> tasks = new ArrayList<>();
+            for (Chunk chunk : split(channel, range.from(), Math.min(range.to(), channel.size()))) {
+                tasks.add(() -> {
+                    long[] counts = new long[Level.values().length];
+                    parseChunk(channel, chunk, parsedLog -> {
+                        if (filter.test(parsedLog)) {
+                            counts[parsedLog.level().ordinal()]++;
+                        }
+                    });
+                    return counts;
+                });
+            }
+            for (long[] counts : awaitAll(parsePool.invokeAll(tasks))) {
+                for (int i = 0; i < total.length; i++) {
+                    total[i] += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 파일의 바이트 구간을 병렬 파싱하여 조건에 맞는 로그의 분 단위 레벨별 개수를 집계 (로그 엔터티를 생성하지 않음)
+     *
+     * @param logFilePath 집계할 로그 파일 경로
+     * @param range       파싱할 바이트 구간 (줄의 시작 위치에서 시작)
+     * @param filter      포함할 로그 조건
+     * @return epoch 분별로 Level.ordinal() 위치에 개수를 담은 맵
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public Map<Long, long[]> countByMinute(Path logFilePath, FileRange range, Predicate<ParsedLog> filter) throws IOException {
+        Map<Long, long[]> total = new HashMap<>();
+        if (range.isEmpty()) {
+            return total;
+        }
+        try (FileChannel channel = FileChannel.open(logFilePath, StandardOpenOption.READ)) {
+            List<Callable<Map<Long, long[]>>> tasks = new ArrayList<>();
+            for (Chunk chunk : split(channel, range.from(), Math.min(range.to(), channel.size()))) {
+                tasks.add(() -> {
+                    Map<Long, long[]> counts = new HashMap<>();
+                    parseChunk(channel, chunk, parsedLog -> {
+                        if (filter.test(parsedLog)) {
+                            counts.computeIfAbsent(Math.floorDiv(parsedLog.epochSecond(), 60), minute -> new long[Level.values().length])
+                                    [parsedLog.level().ordinal()]++;
+                        }
+                    });
+                    return counts;
+                });
+            }
+            for (Map<Long, long[]> counts : awaitAll(parsePool.invokeAll(tasks))) {
+                counts.forEach((minute, levelCounts) -> {
+                    long[] merged = total.computeIfAbsent(minute, key -> new long[levelCounts.length]);
+                    for (int i = 0; i < merged.length; i++) {
+                        merged[i] += levelCounts[i];
+                    }
+                });
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 파일의 [from, to) 구간을 줄바꿈 경계에 맞춘 청크로 분할
+     *
+     * @param channel 분할할 파일 채널
+     * @param from    구간 시작 위치 (줄의 시작 위치)
+     * @param to      구간 종료 위치 (줄의 시작 위치 또는 파일 끝)
+     * @return 파일 순서대로 정렬된 청크 목록
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    List<Chunk> split(FileChannel channel, long from, long to) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        long start = from;
+        while (start < to) {
+            long end = Math.min(start + chunkSize, to);
+            if (end < to) {
+                end = nextLineStart(channel, end, to);
+            }
+            chunks.add(new Chunk(start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * 주어진 위치 이후 첫 줄의 시작 위치를 반환
+     *
+     * @return 다음 줄 시작 위치, 줄바꿈이 없으면 파일 끝
+     */
+    private long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * 청크를 메모리 매핑하여 한 줄씩 파싱
+     * - 파싱에 성공한 줄마다 재사용되는 ParsedLog를 전달하므로, 소비자는 호출 안에서만 값을 사용해야 함
+     */
+    private void parseChunk(FileChannel channel, Chunk chunk, Consumer<ParsedLog> consumer) {
+        parseChunk(channel, chunk, (parsedLog, position) -> consumer.accept(parsedLog));
+    }
+
+    /**
+     * 청크를 메모리 매핑하여 한 줄씩 파싱하고, 파싱 결과와 함께 줄의 파일 내 시작 위치를 전달
+     */
+    private void parseChunk(FileChannel channel, Chunk chunk, ObjLongConsumer<ParsedLog> consumer) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ParsedLog parsedLog = new ParsedLog();
+        ByteBufferLine line = new ByteBufferLine();
+        int limit = buffer.limit();
+        int lineStart = 0;
+        for (int i = 0; i <= limit; i++) {
+            if (i == limit || buffer.get(i) == '\n') {
+                if (i > lineStart && LogParseUtil.parseLog(line.reset(buffer, lineStart, i - lineStart), parsedLog)) {
+                    consumer.accept(parsedLog, chunk.start() + lineStart);
+                }
+                lineStart = i + 1;
+            }
+        }
+    }
+
+    /**
+     * 작업을 호출 스레드에서 실행
+     * - 작업 중 발생한 IOException은 그대로 전파
+     */
+    private <T> T runInCallerThread(Callable<T> task) throws IOException {
+        try {
+            return task.call();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * 청크별로 정렬된 목록을 타임스탬프 순으로 병합
+     * - 이미 전체가 정렬된 경우(일반적인 로그 파일)는 이어 붙이기만 수행
+     * - 타임스탬프가 같으면 앞쪽 청크의 로그를 먼저 꺼내므로 파일 내 순서를 유지
+     */
+    private List<LogEntity> mergeSorted(List<List<LogEntity>> sortedChunks) {
+        int total = sortedChunks.stream().mapToInt(List::size).sum();
+        List<LogEntity> merged = new ArrayList<>(total);
+
+        if (isAlreadyOrdered(sortedChunks)) {
+            sortedChunks.forEach(merged::addAll);
+            return merged;
+        }
+
+        PriorityQueue<int[]> heads = new PriorityQueue<>((a, b) -> {
+            int compared = TIMESTAMP_ORDER.compare(sortedChunks.get(a[0]).get(a[1]), sortedChunks.get(b[0]).get(b[1]));
+            return compared != 0 ? compared : Integer.compare(a[0], b[0]);
+        });
+        for (int i = 0; i < sortedChunks.size(); i++) {
+            if (!sortedChunks.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<LogEntity> chunk = sortedChunks.get(head[0]);
+            merged.add(chunk.get(head[1]));
+            if (++head[1] < chunk.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private boolean isAlreadyOrdered(List<List<LogEntity>> sortedChunks) {
+        LogEntity previousLast = null;
+        for (List<LogEntity> chunk : sortedChunks) {
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            if (previousLast != null && TIMESTAMP_ORDER.compare(previousLast, chunk.get(0)) > 0) {
+                return false;
+            }
+            previousLast = chunk.get(chunk.size() - 1);
+        }
+        return true;
+    }
+
+    /**
+     * 병렬 작업 결과를 제출 순서대로 수집
+     * - 작업 중 발생한 IOException은 그대로 전파
+     */
+    private <T> List<T> awaitAll(List<Future<T>> futures) throws IOException {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("로그 파일 병렬 파싱이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        parsePool.shutdownNow();
+    }
+
+    /**
+     * 파일 내 [start, end) 바이트 구간
+     */
+    record Chunk(long start, long end) {
+
+        long length() {
+            return end - start;
+        }
+
+    }
+
+    /**
+     * 최신순 조회에서 힙에 유지하는 로그 (시각, 파일 내 위치 순으로 오래된 로그가 앞)
+     */
+    private record Candidate(long epochSecond, long position, LogEntity log) {
+
+        static final Comparator<Candidate> ORDER = Comparator.comparingLong(Candidate::epochSecond).thenComparingLong(Candidate::position);
+
+    }
+
+}
@@ -0,0 +1,328 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import com.humuson.backend.global.util.LogParseUtil;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 로그 파일의 희소 시간 색인 (.tidx)
+ * - INTERVAL_LINES줄마다 블록을 나누고, 블록마다 시작 위치(바이트)와 시각 범위를 기록
+ * - prefixMax[k]: 처음부터 블록 k까지 나온 가장 늦은 시각, suffixMin[k]: 블록 k부터 끝까지 나온 가장 이른 시각
+ * - 두 값 모두 단조 증가하므로 이진 탐색으로 [start, end) 범위의 로그가 있을 수 있는 구간만 찾음
+ *   (타임스탬프가 약간 뒤섞인 파일에서도 결과가 누락되지 않으며, 정렬된 파일이면 구간이 정확히 범위와 일치)
+ * - 파일 앞부분의 체크섬을 함께 기록하여, 파일이 뒤에만 추가되었는지(같은 파일인지) 확인
+ *
+ * @param fileSize     색인을 만들 때의 로그 파일 크기
+ * @param lastModified 색인을 만들 때의 로그 파일 수정 시각 (epoch 밀리초)
+ * @param headChecksum 색인을 만들 때의 파일 앞부분(최대 HEAD_BYTES) CRC32
+ * @param offsets      블록 시작 위치
+ * @param prefixMax    블록까지의 최대 시각 (epoch 초)
+ * @param suffixMin    블록부터의 최소 시각 (epoch 초)
+ */
+record SparseTimeIndex(long fileSize, long lastModified, long headChecksum, long[] offsets, long[] prefixMax, long[] suffixMin) {
+
+    static final int INTERVAL_LINES = 1_024; // 블록 하나에 포함하는 줄 수
+    private static final int MAGIC = 0x54494458; // "TIDX"
+    private static final int VERSION = 2;
+    private static final int HEAD_BYTES = 4 * 1024; // 같은 파일인지 확인할 때 비교하는 앞부분 크기
+    private static final int READ_BUFFER_SIZE = 1 << 20; // 색인 생성 시 한 번에 읽는 크기 (1MB, 긴 줄이 있으면 확장)
+
+    /**
+     * 로그 파일 옆에 저장되는 색인 파일 경로 (예: app.log → app.log.tidx)
+     */
+    static Path sidecarOf(Path logFile) {
+        return logFile.resolveSibling(logFile.getFileName() + ".tidx");
+    }
+
+    /**
+     * 색인이 현재 로그 파일과 일치하는지 확인 (파일 크기와 수정 시각 비교)
+     */
+    boolean matches(long size, long modified) {
+        return fileSize == size && lastModified == modified;
+    }
+
+    /**
+     * 로그 파일이 색인을 만든 뒤 뒤에만 추가되었는지 확인 (파일이 커졌고 앞부분 체크섬이 같음)
+     * - 파일이 줄었거나(truncate) 다른 파일로 교체된 경우 false
+     *
+     * @param logFile 로그 파일
+     * @param size    현재 로그 파일 크기
+     * @return 색인을 이어서 만들 수 있으면 true
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    boolean isAppendedTo(Path logFile, long size) throws IOException {
+        if (size <= fileSize) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            return headChecksum(channel, fileSize) == headChecksum;
+        }
+    }
+
+    /**
+     * [start, end) 시각의 로그가 있을 수 있는 바이트 구간을 반환
+     *
+     * @param start 시작 시각 (epoch 초, 포함)
+     * @param end   종료 시각 (epoch 초, 제외)
+     * @return 읽어야 할 바이트 구간
+     */
+    FileRange rangeOf(long start, long end) {
+        int first = firstIndexAtLeast(prefixMax, start);
+        int last = firstIndexAtLeast(suffixMin, end);
+        if (first >= last) {
+            return FileRange.empty();
+        }
+        return new FileRange(offsets[first], last < offsets.length ? offsets[last] : fileSize);
+    }
+
+    /**
+     * [start, end) 시각의 로그가 있을 수 있는 블록을 파일 뒤쪽부터 반환
+     *
+     * @param start 시작 시각 (epoch 초, 포함)
+     * @param end   종료 시각 (epoch 초, 제외)
+     * @return 파일 역순으로 정렬된 블록 목록
+     */
+    List<TimeBlock> blocksNewestFirst(long start, long end) {
+        int first = firstIndexAtLeast(prefixMax, start);
+        int last = firstIndexAtLeast(suffixMin, end);
+        List<TimeBlock> blocks = new ArrayList<>(Math.max(0, last - first));
+        for (int k = last - 1; k >= first; k--) {
+            blocks.add(new TimeBlock(new FileRange(offsets[k], k + 1 < offsets.length ? offsets[k + 1] : fileSize), prefixMax[k]));
+        }
+        return blocks;
+    }
+
+    private static int firstIndexAtLeast(long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 로그 파일을 처음부터 끝까지 한 번 읽어 색인을 생성
+     * - 줄 앞의 타임스탬프만 해석하며, 타임스탬프가 없는 줄(예: 스택 트레이스)은 시각 범위에 반영하지 않음
+     *
+     * @param logFile 색인을 만들 로그 파일
+     * @return 생성된 색인
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    static SparseTimeIndex build(Path logFile) throws IOException {
+        long modified = Files.getLastModifiedTime(logFile).toMillis();
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Blocks blocks = new Blocks();
+            scan(channel, 0, size, blocks);
+            return blocks.appendTo(new long[0], new long[0], new long[0], size, modified, headChecksum(channel, size));
+        }
+    }
+
+    /**
+     * 뒤에 추가된 부분만 읽어 색인을 이어서 생성 (isAppendedTo가 true인 경우에만 사용)
+     * - 마지막 블록은 줄 수가 덜 찼거나 기록 중이던 줄로 끝났을 수 있으므로 그 시작 위치부터 다시 읽음
+     *
+     * @param logFile 색인을 이어서 만들 로그 파일
+     * @return 현재 파일 전체에 대한 색인
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    SparseTimeIndex extend(Path logFile) throws IOException {
+        long modified = Files.getLastModifiedTime(logFile).toMillis();
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int kept = Math.max(0, offsets.length - 1);
+            Blocks tail = new Blocks();
+            scan(channel, offsets.length > 0 ? offsets[kept] : 0, size, tail);
+            return tail.appendTo(Arrays.copyOf(offsets, kept), Arrays.copyOf(prefixMax, kept), Arrays.copyOf(suffixMin, kept),
+                    size, modified, headChecksum(channel, size));
+        }
+    }
+
+    /**
+     * 파일의 [from, size) 구간을 한 줄씩 읽어 블록에 추가 (from은 줄의 시작 위치)
+     */
+    private static void scan(FileChannel channel, long from, long size, Blocks blocks) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        ByteBufferLine line = new ByteBufferLine();
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            boolean endOfFile = position + read >= size;
+            int lineStart = 0;
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    blocks.addLine(position + lineStart, LogParseUtil.parseEpochSecond(line.reset(buffer, lineStart, i - lineStart), 0));
+                    lineStart = i + 1;
+                }
+            }
+            if (endOfFile && lineStart < read) {
+                blocks.addLine(position + lineStart, LogParseUtil.parseEpochSecond(line.reset(buffer, lineStart, read - lineStart), 0));
+                lineStart = read;
+            }
+            if (lineStart == 0 && read == buffer.capacity()) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2); // 버퍼보다 긴 줄
+                continue;
+            }
+            position += lineStart;
+        }
+    }
+
+    /**
+     * 파일 앞부분(최대 HEAD_BYTES, length 이내)의 CRC32
+     */
+    private static long headChecksum(FileChannel channel, long length) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate((int) Math.min(length, HEAD_BYTES));
+        while (head.hasRemaining()) {
+            if (channel.read(head, head.position()) <= 0) {
+                break;
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(head.flip());
+        return crc.getValue();
+    }
+
+    /**
+     * 색인 파일을 읽어 반환
+     *
+     * @param sidecar 색인 파일 경로
+     * @return 저장된 색인, 없거나 손상된 경우 null
+     */
+    static SparseTimeIndex load(Path sidecar) {
+        if (!Files.exists(sidecar)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(sidecar)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            long fileSize = in.readLong();
+            long lastModified = in.readLong();
+            long headChecksum = in.readLong();
+            int count = in.readInt();
+            long[] offsets = new long[count];
+            long[] prefixMax = new long[count];
+            long[] suffixMin = new long[count];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = in.readLong();
+                prefixMax[i] = in.readLong();
+                suffixMin[i] = in.readLong();
+            }
+            return new SparseTimeIndex(fileSize, lastModified, headChecksum, offsets, prefixMax, suffixMin);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 색인을 파일에 원자적으로 저장 (임시 파일에 쓴 뒤 교체)
+     *
+     * @param sidecar 색인 파일 경로
+     * @throws IOException 파일 저장 중 오류 발생 시 예외 발생
+     */
+    void save(Path sidecar) throws IOException {
+        Path temp = sidecar.resolveSibling(sidecar.getFileName() + "." + Thread.currentThread().getId() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(fileSize);
+            out.writeLong(lastModified);
+            out.writeLong(headChecksum);
+            out.writeInt(offsets.length);
+            for (int i = 0; i < offsets.length; i++) {
+                out.writeLong(offsets[i]);
+                out.writeLong(prefixMax[i]);
+                out.writeLong(suffixMin[i]);
+            }
+        }
+        Files.move(temp, sidecar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 색인 생성 중 블록별 시작 위치와 시각 범위를 모으는 버퍼
+     */
+    private static final class Blocks {
+
+        private long[] offsets = new long[64];
+        private long[] mins = new long[64];
+        private long[] maxs = new long[64];
+        private int count;
+        private int linesInBlock = INTERVAL_LINES;
+
+        void addLine(long offset, long epochSecond) {
+            if (linesInBlock == INTERVAL_LINES) {
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                    mins = Arrays.copyOf(mins, count * 2);
+                    maxs = Arrays.copyOf(maxs, count * 2);
+                }
+                offsets[count] = offset;
+                mins[count] = Long.MAX_VALUE;
+                maxs[count] = Long.MIN_VALUE;
+                count++;
+                linesInBlock = 0;
+            }
+            linesInBlock++;
+            if (epochSecond >= 0) {
+                mins[count - 1] = Math.min(mins[count - 1], epochSecond);
+                maxs[count - 1] = Math.max(maxs[count - 1], epochSecond);
+            }
+        }
+
+        /**
+         * 앞쪽 블록 뒤에 모은 블록을 이어 붙여 색인을 생성
+         * - 모은 블록의 최소 시각은 앞쪽 블록의 suffixMin에도 반영
+         *
+         * @param keptOffsets   앞쪽 블록 시작 위치
+         * @param keptPrefixMax 앞쪽 블록까지의 최대 시각
+         * @param keptSuffixMin 기존 색인에서 앞쪽 블록부터의 최소 시각 (다시 읽은 블록의 로그는 모은 블록에도 포함)
+         */
+        SparseTimeIndex appendTo(long[] keptOffsets, long[] keptPrefixMax, long[] keptSuffixMin,
+                                 long fileSize, long lastModified, long headChecksum) {
+            int kept = keptOffsets.length;
+            long[] allOffsets = Arrays.copyOf(keptOffsets, kept + count);
+            long[] prefixMax = Arrays.copyOf(keptPrefixMax, kept + count);
+            long[] suffixMin = Arrays.copyOf(keptSuffixMin, kept + count);
+            long max = kept > 0 ? keptPrefixMax[kept - 1] : Long.MIN_VALUE;
+            for (int i = 0; i < count; i++) {
+                allOffsets[kept + i] = offsets[i];
+                max = Math.max(max, maxs[i]);
+                prefixMax[kept + i] = max;
+            }
+            long min = Long.MAX_VALUE;
+            for (int i = count - 1; i >= 0; i--) {
+                min = Math.min(min, mins[i]);
+                suffixMin[kept + i] = min;
+            }
+            for (int i = 0; i < kept; i++) {
+                suffixMin[i] = Math.min(suffixMin[i], min);
+            }
+            return new SparseTimeIndex(fileSize, lastModified, headChecksum, allOffsets, prefixMax, suffixMin);
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * 로그 파일 추적 체크포인트
+ * - 어떤 파일(fileKey)을 어디까지(offset) 읽었는지 기록
+ * - 임시 파일에 쓴 뒤 원자적으로 교체하므로 저장 도중 종료되어도 이전 체크포인트가 유지됨
+ *
+ * @param fileKey 파일 식별자 (파일 이름이 바뀌어도 유지되는 inode 기반 값)
+ * @param offset  다음에 읽을 바이트 위치
+ */
+record TailCheckpoint(String fileKey, long offset) {
+
+    /**
+     * 체크포인트 파일을 읽어 반환
+     *
+     * @param path 체크포인트 파일 경로
+     * @return 저장된 체크포인트, 없거나 손상된 경우 null
+     */
+    static TailCheckpoint load(Path path) {
+        try {
+            if (!Files.exists(path)) {
+                return null;
+            }
+            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            return lines.size() < 2 ? null : new TailCheckpoint(lines.get(0), Long.parseLong(lines.get(1).trim()));
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 체크포인트를 파일에 원자적으로 저장
+     *
+     * @param path 체크포인트 파일 경로
+     * @throws IOException 파일 저장 중 오류 발생 시 예외 발생
+     */
+    void save(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.writeString(temp, fileKey + "\n" + offset + "\n", StandardCharsets.UTF_8);
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.humuson.backend.infrastructure.log.file;
+
+/**
+ * 시간 색인의 블록 하나 (블록의 바이트 구간과, 파일 처음부터 이 블록까지 나온 가장 늦은 시각)
+ * - 블록을 뒤에서부터 읽을 때 maxEpochSecond보다 늦은 로그는 앞쪽 블록에 더 이상 없음
+ *
+ * @param range          블록의 바이트 구간
+ * @param maxEpochSecond 파일 처음부터 이 블록까지의 최대 시각 (epoch 초)
+ */
+public record TimeBlock(FileRange range, long maxEpochSecond) {
+}
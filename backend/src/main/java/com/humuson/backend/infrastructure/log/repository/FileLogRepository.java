@@ -2,15 +2,26 @@ package com.humuson.backend.infrastructure.log.repository;
 
 import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
 
+import com.humuson.backend.domain.log.model.entity.Level;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
 import com.humuson.backend.global.exception.LogFileNotFoundException;
 import com.humuson.backend.global.util.LogParseUtil;
+import com.humuson.backend.global.util.ParsedLog;
+import com.humuson.backend.infrastructure.log.file.LogFileTimeIndex;
+import com.humuson.backend.infrastructure.log.file.MappedLogFileReader;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
@@ -21,13 +32,16 @@ import org.springframework.web.multipart.MultipartFile;
 /**
  * 파일 기반 로그 저장소 구현체
  * - 로그 파일을 읽고 저장하는 기능을 수행
+ * - 조회할 때마다 원본 로그 파일을 파싱 (log.storage.type=file, 기본값)
  */
 @Slf4j
 @Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "log.storage", name = "type", havingValue = "file", matchIfMissing = true)
 public class FileLogRepository implements LogRepository {
 
-    private static final Path DEFAULT_LOG_PATH = Path.of("logs/app.log"); // 기본 로그 파일 경로
-    private static final Path LOG_DIRECTORY = Path.of("logs/"); // 로그 저장 디렉터리
+    private final MappedLogFileReader mappedLogFileReader;
+    private final LogFileTimeIndex logFileTimeIndex;
 
 //    /**
 //     * 특정 로그 파일에서 모든 로그를 읽어 반환
@@ -69,47 +83,41 @@ public class FileLogRepository implements LogRepository {
 //                    .toList();
 //        }
 //    }
-//
-//    /**
-//     * 특정 시간 범위 내의 로그를 조회
-//     *
-//     * @param fileName  로그 파일 이름
-//     * @param startTime 조회 시작 시간
-//     * @param endTime   조회 종료 시간
-//     * @return 시간 범위 내의 로그 목록
-//     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
-//     */
-//    @Override
-//    public List<LogEntity> readLogsByTimeRange(String fileName, LocalDateTime startTime, LocalDateTime endTime) throws IOException {
-//        Path logFilePath = validateAndGetLogFilePath(fileName);
-//        try (Stream<String> lines = Files.lines(logFilePath)) {
-//            return lines
-//                    .map(LogParseUtil::parseLog)
-//                    .filter(Objects::nonNull)
-//                    .filter(parsedLog -> isWithinTimeRange(parsedLog.get("timestamp"), startTime, endTime))
-//                    .map(LogEntity::new)
-//                    .toList();
-//        }
-//    }
-//
-//    /**
-//     * 주어진 타임스탬프가 특정 시간 범위 내에 있는지 확인
-//     *
-//     * @param timestampStr 로그 타임스탬프 문자열
-//     * @param startTime    시작 시간
-//     * @param endTime      종료 시간
-//     * @return 시간 범위 내에 있으면 true, 그렇지 않으면 false
-//     */
-//    private boolean isWithinTimeRange(String timestampStr, LocalDateTime startTime, LocalDateTime endTime) {
-//        try {
-//            LocalDateTime logTime = LocalDateTime.parse(timestampStr, TIMESTAMP_FORMAT);
-//            return (logTime.isAfter(startTime) || logTime.isEqual(startTime)) &&
-//                    (logTime.isBefore(endTime) || logTime.isEqual(endTime));
-//        } catch (Exception e) {
-//            return false;
-//        }
-//    }
-//
+
+    /**
+     * 특정 시간 범위 내의 최신 로그를 지정된 개수만큼 조회
+     * - 시간 색인 블록을 파일 뒤쪽부터 읽고, 최신 limit개가 채워지면 앞쪽 블록은 읽지 않음
+     *
+     * @param fileName  로그 파일 이름
+     * @param levels    조회할 로그 레벨
+     * @param startTime 조회 시작 시간 (포함, 선택)
+     * @param endTime   조회 종료 시간 (제외, 선택)
+     * @param limit     조회할 최대 로그 개수
+     * @return 시간 범위 내의 최신 로그 목록 (타임스탬프 내림차순)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    @Override
+    public List<LogEntity> readLatestLogsByTimeRange(String fileName, List<Level> levels, LocalDateTime startTime, LocalDateTime endTime, int limit) throws IOException {
+        Path logFilePath = validateAndGetLogFilePath(fileName);
+        Set<Level> levelSet = levels.isEmpty() ? EnumSet.noneOf(Level.class) : EnumSet.copyOf(levels);
+        Predicate<ParsedLog> inTimeRange = isWithinTimeRange(startTime, endTime);
+        return mappedLogFileReader.readLatest(logFilePath, logFileTimeIndex.blocksNewestFirst(logFilePath, startTime, endTime),
+                parsedLog -> levelSet.contains(parsedLog.level()) && inTimeRange.test(parsedLog), limit);
+    }
+
+    /**
+     * 로그가 특정 시간 범위 내에 있는지 확인하는 조건 생성
+     *
+     * @param startTime 시작 시간 (포함, 선택)
+     * @param endTime   종료 시간 (제외, 선택)
+     * @return 시간 범위 내에 있으면 true를 반환하는 조건
+     */
+    private Predicate<ParsedLog> isWithinTimeRange(LocalDateTime startTime, LocalDateTime endTime) {
+        long start = startTime != null ? startTime.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+        long end = endTime != null ? endTime.toEpochSecond(ZoneOffset.UTC) : Long.MAX_VALUE;
+        return parsedLog -> parsedLog.epochSecond() >= start && parsedLog.epochSecond() < end;
+    }
+
     /**
      * 주어진 로그 파일 이름을 검증하고 해당 경로를 반환
      *
@@ -118,17 +126,73 @@ public class FileLogRepository implements LogRepository {
      * @throws LogFileNotFoundException 파일이 존재하지 않을 경우 예외 발생
      */
     private Path validateAndGetLogFilePath(String fileName) {
-        Path logFilePath = (fileName != null && !fileName.isEmpty()) ? Path.of("logs", fileName) : DEFAULT_LOG_PATH;
+        return LogFiles.resolve(fileName);
+    }
 
-        if (!Files.exists(logFilePath)) {
-            throw new LogFileNotFoundException();
-        }
+    /**
+     * 특정 로그 파일의 로그 레벨별 개수를 집계
+     * - 파일을 청크로 나누어 병렬 파싱하며, 로그 엔터티를 생성하지 않고 레벨만 집계
+     *
+     * @param fileName 로그 파일 이름
+     * @return 로그 레벨별 개수 (로그가 없는 레벨은 제외)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    @Override
+    public Map<Level, Long> countLogsByLevel(String fileName) throws IOException {
+        long[] counts = mappedLogFileReader.countByLevel(validateAndGetLogFilePath(fileName));
+        return LogFiles.toCountsByLevel(counts);
+    }
 
-        return logFilePath;
+    /**
+     * 특정 로그 파일에서 시간 범위 내 로그의 레벨별 개수를 집계
+     * - 시간 색인으로 범위에 해당하는 바이트 구간만 병렬 파싱
+     *
+     * @param fileName  로그 파일 이름
+     * @param startTime 집계 시작 시간 (포함, 선택)
+     * @param endTime   집계 종료 시간 (제외, 선택)
+     * @return 로그 레벨별 개수 (로그가 없는 레벨은 제외)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    @Override
+    public Map<Level, Long> countLogsByLevel(String fileName, LocalDateTime startTime, LocalDateTime endTime) throws IOException {
+        Path logFilePath = validateAndGetLogFilePath(fileName);
+        long[] counts = mappedLogFileReader.countByLevel(logFilePath, logFileTimeIndex.rangeOf(logFilePath, startTime, endTime),
+                isWithinTimeRange(startTime, endTime));
+        return LogFiles.toCountsByLevel(counts);
     }
 
     /**
-     * 업로드된 로그 파일을 저장
+     * 특정 로그 파일에서 시간 범위 내 로그를 분 단위, 로그 레벨별로 집계
+     * - 시간 색인으로 범위에 해당하는 바이트 구간만 병렬 파싱하며, 로그 엔터티를 생성하지 않음
+     *
+     * @param fileName  로그 파일 이름
+     * @param startTime 집계 시작 시간 (포함, 선택)
+     * @param endTime   집계 종료 시간 (제외, 선택)
+     * @return "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수 (시간순 정렬)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    @Override
+    public Map<String, Map<Level, Long>> countLogsByMinute(String fileName, LocalDateTime startTime, LocalDateTime endTime) throws IOException {
+        Path logFilePath = validateAndGetLogFilePath(fileName);
+        Map<Long, long[]> counts = mappedLogFileReader.countByMinute(logFilePath, logFileTimeIndex.rangeOf(logFilePath, startTime, endTime),
+                isWithinTimeRange(startTime, endTime));
+        return LogFiles.toCountsByMinute(counts);
+    }
+
+    /**
+     * 로그 파일 이름을 검증하고 실제 파일 경로를 반환
+     *
+     * @param fileName 로그 파일 이름 (비어 있으면 기본 로그 파일)
+     * @return 로그 파일 경로
+     * @throws LogFileNotFoundException 파일이 존재하지 않을 경우 예외 발생
+     */
+    @Override
+    public Path getLogFilePath(String fileName) {
+        return validateAndGetLogFilePath(fileName);
+    }
+
+    /**
+     * 업로드된 로그 파일을 저장하고 시간 색인을 생성
      *
      * @param file        업로드할 로그 파일
      * @param newFileName 저장할 새로운 파일 이름
@@ -137,12 +201,8 @@ public class FileLogRepository implements LogRepository {
      */
     @Override
     public String saveLog(MultipartFile file, String newFileName) throws IOException {
-        if (!Files.exists(LOG_DIRECTORY)) {
-            Files.createDirectories(LOG_DIRECTORY); // 로그 디렉터리가 없으면 생성
-        }
-
-        Path destination = LOG_DIRECTORY.resolve(newFileName);
-        Files.copy(file.getInputStream(), destination);
+        Path destination = LogFiles.save(file, newFileName);
+        logFileTimeIndex.build(destination);
         return newFileName;
     }
 
@@ -0,0 +1,94 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import static com.humuson.backend.global.constant.Format.MINUTE_BUCKET_FORMAT;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.global.exception.LogFileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 파일 기반 로그 저장소(FileLogRepository, SegmentLogRepository)의 공통 기능
+ * - 로그 파일 경로 검증, 업로드 파일 저장, 집계 결과 변환
+ */
+final class LogFiles {
+
+    private static final Path DEFAULT_LOG_PATH = Path.of("logs/app.log"); // 기본 로그 파일 경로
+    private static final Path LOG_DIRECTORY = Path.of("logs/"); // 로그 저장 디렉터리
+
+    private LogFiles() {
+    }
+
+    /**
+     * 주어진 로그 파일 이름을 검증하고 해당 경로를 반환
+     *
+     * @param fileName 로그 파일 이름 (비어 있으면 기본 로그 파일)
+     * @return 검증된 로그 파일 경로
+     * @throws LogFileNotFoundException 파일이 존재하지 않을 경우 예외 발생
+     */
+    static Path resolve(String fileName) {
+        Path logFilePath = (fileName != null && !fileName.isEmpty()) ? Path.of("logs", fileName) : DEFAULT_LOG_PATH;
+
+        if (!logFilePath.normalize().startsWith(LOG_DIRECTORY.normalize()) || !Files.exists(logFilePath)) {
+            throw new LogFileNotFoundException();
+        }
+
+        return logFilePath;
+    }
+
+    /**
+     * 업로드된 로그 파일을 로그 디렉터리에 저장
+     *
+     * @param file        업로드할 로그 파일
+     * @param newFileName 저장할 새로운 파일 이름
+     * @return 저장된 파일 경로
+     * @throws IOException 파일 저장 중 오류 발생 시 예외 발생
+     */
+    static Path save(MultipartFile file, String newFileName) throws IOException {
+        if (!Files.exists(LOG_DIRECTORY)) {
+            Files.createDirectories(LOG_DIRECTORY); // 로그 디렉터리가 없으면 생성
+        }
+
+        Path destination = LOG_DIRECTORY.resolve(newFileName);
+        Files.copy(file.getInputStream(), destination);
+        return destination;
+    }
+
+    /**
+     * Level.ordinal() 위치에 개수를 담은 배열을 로그 레벨별 개수로 변환
+     *
+     * @param counts 레벨별 개수 배열
+     * @return 로그 레벨별 개수 (로그가 없는 레벨은 제외)
+     */
+    static Map<Level, Long> toCountsByLevel(long[] counts) {
+        Map<Level, Long> countsByLevel = new EnumMap<>(Level.class);
+        for (Level level : Level.values()) {
+            if (counts[level.ordinal()] > 0) {
+                countsByLevel.put(level, counts[level.ordinal()]);
+            }
+        }
+        return countsByLevel;
+    }
+
+    /**
+     * epoch 분별 레벨별 개수 배열을 "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수로 변환
+     *
+     * @param counts epoch 분별로 Level.ordinal() 위치에 개수를 담은 맵
+     * @return 분별 로그 레벨별 개수 (시간순 정렬)
+     */
+    static Map<String, Map<Level, Long>> toCountsByMinute(Map<Long, long[]> counts) {
+        Map<String, Map<Level, Long>> distribution = new TreeMap<>();
+        counts.forEach((minute, levelCounts) -> distribution.put(
+                LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC).format(MINUTE_BUCKET_FORMAT),
+                toCountsByLevel(levelCounts)));
+        return distribution;
+    }
+
+}
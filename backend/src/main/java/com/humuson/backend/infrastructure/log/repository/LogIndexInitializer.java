@@ -0,0 +1,79 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.entity.LogRollupEntity;
+import com.humuson.backend.domain.log.model.entity.LogTemplateEntity;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그, 롤업, 템플릿 컬렉션 인덱스 관리
+ * - 애플리케이션 시작 후 조회 쿼리에 필요한 인덱스를 생성 (이미 있으면 그대로 유지)
+ * - 빈 생성 중에 MongoDB 연결을 기다리지 않도록 ApplicationReadyEvent에서 실행하고, 실행 계획 검증(LogQueryPlanVerifier)보다 먼저 실행
+ * - MongoDB에 연결할 수 없으면 오류만 남기고 시작은 계속 진행
+ * - {level, timestamp, _id}: 레벨 조건 + 최신순 정렬, 커서(timestamp, id) 기반 페이지 조회
+ *   (레벨이 여러 개면 레벨별 인덱스 구간을 SORT_MERGE로 병합)
+ * - {timestamp}: 시간 범위 조회, 전체 최신순 조회, 시간 범위 집계
+ * - 롤업 컬렉션 {resolution, bucket}: 해상도별 버킷 범위 조회 (서비스 조건은 범위 안에서 필터)
+ * - 템플릿 컬렉션 {updatedAt}: 시작 시 최근에 갱신된 템플릿부터 복원
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogIndexInitializer {
+
+    static final List<Index> INDEXES = List.of(
+            new Index().on("level", Direction.ASC).on("timestamp", Direction.DESC).on("_id", Direction.DESC),
+            new Index().on("timestamp", Direction.DESC)
+    );
+
+    static final List<Index> ROLLUP_INDEXES = List.of(
+            new Index().on("resolution", Direction.ASC).on("bucket", Direction.ASC)
+    );
+
+    static final List<Index> TEMPLATE_INDEXES = List.of(
+            new Index().on("updatedAt", Direction.DESC)
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            createIndexes();
+        } catch (DataAccessException e) {
+            log.error("로그 컬렉션 인덱스를 생성하지 못함: {}", e.getMessage());
+        }
+    }
+
+    private void createIndexes() {
+        IndexOperations indexOperations = mongoTemplate.indexOps(LogEntity.class);
+        for (Index index : INDEXES) {
+            String name = indexOperations.ensureIndex(index);
+            log.info("로그 컬렉션 인덱스 확인: {}", name);
+        }
+        IndexOperations rollupIndexOperations = mongoTemplate.indexOps(LogRollupEntity.class);
+        for (Index index : ROLLUP_INDEXES) {
+            String name = rollupIndexOperations.ensureIndex(index);
+            log.info("롤업 컬렉션 인덱스 확인: {}", name);
+        }
+        IndexOperations templateIndexOperations = mongoTemplate.indexOps(LogTemplateEntity.class);
+        for (Index index : TEMPLATE_INDEXES) {
+            String name = templateIndexOperations.ensureIndex(index);
+            log.info("템플릿 컬렉션 인덱스 확인: {}", name);
+        }
+    }
+
+}
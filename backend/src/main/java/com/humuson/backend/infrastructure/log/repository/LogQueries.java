@@ -0,0 +1,171 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * MongoDB 로그 조회 쿼리 생성기
+ * - 동기(MongoTemplate), 리액티브(ReactiveMongoTemplate) 저장소가 같은 조건, 정렬, 집계 파이프라인을 사용하도록 한곳에서 생성
+ * - 집계 결과 문서를 로그 레벨별 개수로 변환하는 기능 포함
+ */
+final class LogQueries {
+
+    private static final int MINUTE_LENGTH = 16; // "yyyy-MM-dd HH:mm"
+    private static final int STREAM_BATCH_SIZE = 1_000; // 스트림 조회 시 커서가 한 번에 가져오는 문서 수
+    private static final Sort OLDEST_FIRST = Sort.by(Direction.ASC, "timestamp");
+    private static final Sort ID_ORDER = Sort.by(Direction.ASC, "id");
+    private static final Sort LATEST_FIRST = Sort.by(Direction.DESC, "timestamp").and(Sort.by(Direction.DESC, "id"));
+
+    private LogQueries() {
+    }
+
+    /**
+     * 분 단위, 로그 레벨별 집계 파이프라인
+     * - $match(timestamp 범위) → $project(분 추출) → $group(분, 레벨)
+     *
+     * @param start 조회 시작 시각 (포함)
+     * @param end   조회 종료 시각 (제외)
+     * @return 집계 파이프라인
+     */
+    static Aggregation countByMinuteAndLevel(String start, String end) {
+        return Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("timestamp").gte(start).lt(end)),
+                Aggregation.project("level").and(StringOperators.Substr.valueOf("timestamp").substring(0, MINUTE_LENGTH)).as("minute"),
+                Aggregation.group("minute", "level").count().as("count")
+        );
+    }
+
+    /**
+     * 분 단위 집계 결과 문서 하나를 분포에 더함
+     *
+     * @param distribution 분별 로그 레벨별 개수
+     * @param result       countByMinuteAndLevel 집계 결과 문서
+     */
+    static void mergeMinuteCount(Map<String, Map<Level, Long>> distribution, Document result) {
+        Document key = result.get("_id", Document.class);
+        Level level = Level.fromString(key.getString("level"));
+        long count = ((Number) result.get("count")).longValue();
+        distribution.computeIfAbsent(key.getString("minute"), minute -> new EnumMap<>(Level.class))
+                .merge(level, count, Long::sum);
+    }
+
+    /**
+     * 로그 레벨별 집계 파이프라인
+     * - $match(레벨, 시간 범위, 서비스) → $group(레벨)
+     *
+     * @param condition 로그 레벨, 시간 범위, 서비스 이름 조건
+     * @return 집계 파이프라인
+     */
+    static Aggregation countByLevel(LogFilterCondition condition) {
+        return Aggregation.newAggregation(
+                Aggregation.match(toCriteria(condition)),
+                Aggregation.group("level").count().as("count")
+        );
+    }
+
+    /**
+     * 로그 레벨별 집계 결과 문서 하나를 개수에 더함
+     *
+     * @param counts 로그 레벨별 개수
+     * @param result countByLevel 집계 결과 문서
+     */
+    static void mergeLevelCount(Map<Level, Long> counts, Document result) {
+        Level level = Level.fromString(result.getString("_id"));
+        counts.merge(level, ((Number) result.get("count")).longValue(), Long::sum);
+    }
+
+    /**
+     * 커서 이후의 로그를 최신순으로 조회하는 쿼리
+     * - 조건: timestamp <= 커서 timestamp 이면서 (timestamp == 커서 timestamp 이고 id >= 커서 id)가 아닌 로그
+     * - $or 대신 범위 + $nor로 표현하여 {level, timestamp, _id} 인덱스 구간을 그대로 정렬 순서대로 읽음 (메모리 정렬 없음)
+     *
+     * @param levels 조회할 로그 레벨
+     * @param cursor 마지막으로 조회한 로그의 위치 (null이면 처음부터)
+     * @param limit  조회할 최대 로그 개수
+     * @return 조회 쿼리
+     */
+    static Query findAllByLevelInAfter(List<Level> levels, LogCursor cursor, int limit) {
+        Criteria criteria = Criteria.where("level").in(levels);
+        if (cursor != null) {
+            criteria.and("timestamp").lte(cursor.timestamp())
+                    .norOperator(Criteria.where("timestamp").is(cursor.timestamp()).and("id").gte(cursor.id()));
+        }
+        return new Query(criteria).with(LATEST_FIRST).limit(limit);
+    }
+
+    /**
+     * 조건에 맞는 로그를 시간순으로 STREAM_BATCH_SIZE개씩 읽는 쿼리
+     *
+     * @param condition 로그 레벨, 시간 범위, 서비스 이름 조건
+     * @return 조회 쿼리
+     */
+    static Query streamAll(LogFilterCondition condition) {
+        return new Query(toCriteria(condition)).with(OLDEST_FIRST).cursorBatchSize(STREAM_BATCH_SIZE);
+    }
+
+    /**
+     * afterId 초과, maxId 이하의 로그를 ID 순으로 STREAM_BATCH_SIZE개씩 읽는 쿼리
+     *
+     * @param afterId 제외할 하한 로그 ID (null이면 하한 없음)
+     * @param maxId   포함할 최대 로그 ID
+     * @return 조회 쿼리
+     */
+    static Query streamBetween(String afterId, String maxId) {
+        Criteria criteria = Criteria.where("id").lte(maxId);
+        if (afterId != null) {
+            criteria.gt(afterId);
+        }
+        return new Query(criteria).with(ID_ORDER).cursorBatchSize(STREAM_BATCH_SIZE);
+    }
+
+    /**
+     * maxId 이하의 로그 중 ID 내림차순으로 offset번째(0부터) 로그의 ID만 읽는 쿼리
+     * - _id만 반환하므로 _id 인덱스만 읽고 문서는 읽지 않음
+     *
+     * @param maxId  포함할 최대 로그 ID
+     * @param offset 최신 로그부터 건너뛸 개수
+     * @return 조회 쿼리
+     */
+    static Query idAtOffsetFromLatest(String maxId, int offset) {
+        Query query = new Query(Criteria.where("id").lte(maxId)).with(ID_ORDER.reverse()).skip(offset).limit(1);
+        query.fields().include("id");
+        return query;
+    }
+
+    /**
+     * 로그 조회 조건을 MongoDB 조건으로 변환 (값이 없는 조건은 제외)
+     *
+     * @param condition 로그 조회 조건
+     * @return MongoDB 조건
+     */
+    static Criteria toCriteria(LogFilterCondition condition) {
+        Criteria criteria = Criteria.where("level").in(condition.levels());
+        if (condition.start() != null || condition.end() != null) {
+            Criteria timestamp = criteria.and("timestamp");
+            if (condition.start() != null) {
+                timestamp.gte(condition.start().format(TIMESTAMP_FORMAT));
+            }
+            if (condition.end() != null) {
+                timestamp.lt(condition.end().format(TIMESTAMP_FORMAT));
+            }
+        }
+        if (condition.serviceName() != null) {
+            criteria.and("serviceName").is(condition.serviceName());
+        }
+        return criteria;
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.config.properties.LogIndexProperties;
+import com.mongodb.MongoTimeoutException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 조회 쿼리 실행 계획 검증기
+ * - MongoLogRepository, ReactiveMongoLogRepository의 각 쿼리 형태에 대해 explain을 실행하고, 실행 계획에 COLLSCAN이나 메모리 정렬(SORT)이 있으면 시작을 중단
+ * - 인덱스가 누락되거나 쿼리가 인덱스를 타지 않게 바뀐 것을 데이터가 쌓이기 전에 발견하기 위해 사용
+ * - 인덱스 생성(LogIndexInitializer) 이후에 실행하며, MongoDB에 연결할 수 없으면 검증을 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogQueryPlanVerifier {
+
+    private static final Set<String> REJECTED_STAGES = Set.of("COLLSCAN", "SORT");
+    private static final List<Level> LEVELS = List.of(Level.ERROR, Level.WARN, Level.INFO);
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime END = START.plusMinutes(10);
+    private static final int PAGE_SIZE = 20;
+
+    private final MongoTemplate mongoTemplate;
+    private final LogIndexProperties properties;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        if (!properties.verifyQueryPlans()) {
+            return;
+        }
+        List<String> violations = new ArrayList<>();
+        Map<String, Document> shapes = queryShapes();
+        try {
+            shapes.forEach((name, command) -> {
+                List<String> rejected = findRejectedStages(explain(command));
+                if (!rejected.isEmpty()) {
+                    violations.add(name + " " + rejected);
+                }
+            });
+        } catch (MongoTimeoutException e) {
+            log.error("MongoDB에 연결할 수 없어 로그 조회 쿼리 실행 계획을 확인하지 못함: {}", e.getMessage());
+            return;
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("인덱스를 사용하지 않는 로그 조회 쿼리가 있습니다: " + violations);
+        }
+        log.info("로그 조회 쿼리 실행 계획 확인 완료: {}개", shapes.size());
+    }
+
+    /**
+     * 검증할 쿼리 형태 (MongoLogRepository, ReactiveMongoLogRepository가 실행하는 쿼리)
+     * - LogQueries로 만드는 쿼리는 같은 생성 메서드를 호출하고, 파생 쿼리는 Spring Data가 만드는 조건, 정렬, 페이지와 같게 구성
+     * - 조건과 정렬은 저장소와 같은 QueryMapper로 변환하고, 제한 개수는 쿼리에 지정된 경우에만 포함
+     */
+    Map<String, Document> queryShapes() {
+        Commands commands = new Commands(mongoTemplate);
+        String start = START.format(TIMESTAMP_FORMAT);
+        String end = END.format(TIMESTAMP_FORMAT);
+        String maxId = new ObjectId().toHexString();
+        String minId = new ObjectId(Date.from(START.toInstant(ZoneOffset.UTC))).toHexString();
+        Criteria levelIn = Criteria.where("level").in(LEVELS);
+        PageRequest latestPage = PageRequest.of(0, PAGE_SIZE, Sort.by(Direction.DESC, "timestamp"));
+        LogFilterCondition condition = LogFilterCondition.of(LEVELS, START, END, "PaymentService");
+
+        Map<String, Document> shapes = new LinkedHashMap<>();
+        shapes.put("findAllByLevelIn", commands.find(new Query(levelIn)));
+        shapes.put("findAllByLevelIn(pageable)", commands.find(new Query(levelIn).with(latestPage)));
+        shapes.put("countByLevelIn", commands.count(new Query(levelIn)));
+        shapes.put("findAll(pageable)", commands.find(new Query().with(latestPage)));
+        shapes.put("findAllByTimestampBetween", commands.find(new Query(Criteria.where("timestamp").gt(start).lt(end))));
+        shapes.put("findTopByOrderByIdDesc", commands.find(new Query().with(Sort.by(Direction.DESC, "id")).limit(1)));
+        shapes.put("findAllByLevelInAfter", commands.find(LogQueries.findAllByLevelInAfter(LEVELS, new LogCursor(end, maxId), PAGE_SIZE)));
+        shapes.put("streamAll", commands.find(LogQueries.streamAll(condition)));
+        shapes.put("streamBetween", commands.find(LogQueries.streamBetween(minId, maxId)));
+        shapes.put("idAtOffsetFromLatest", commands.find(LogQueries.idAtOffsetFromLatest(maxId, PAGE_SIZE)));
+        shapes.put("countByLevel", commands.aggregate(LogQueries.countByLevel(condition)));
+        shapes.put("countByMinuteAndLevel", commands.aggregate(LogQueries.countByMinuteAndLevel(start, end)));
+        return shapes;
+    }
+
+    private Document explain(Document command) {
+        return mongoTemplate.getDb().runCommand(new Document("explain", command).append("verbosity", "queryPlanner"));
+    }
+
+    /**
+     * explain 결과의 모든 winningPlan에서 허용하지 않는 단계를 탐색
+     * - 서버 버전에 따라 winningPlan 위치(queryPlanner, $cursor 단계)와 구조(queryPlan)가 다르므로 문서 전체를 재귀 탐색
+     */
+    static List<String> findRejectedStages(Object node) {
+        List<String> rejected = new ArrayList<>();
+        collect(node, false, rejected);
+        return rejected;
+    }
+
+    private static void collect(Object node, boolean inWinningPlan, List<String> rejected) {
+        if (node instanceof Document document) {
+            for (Map.Entry<String, Object> entry : document.entrySet()) {
+                if ("rejectedPlans".equals(entry.getKey())) {
+                    continue;
+                }
+                if (inWinningPlan && "stage".equals(entry.getKey()) && REJECTED_STAGES.contains(String.valueOf(entry.getValue()))) {
+                    rejected.add(String.valueOf(entry.getValue()));
+                }
+                collect(entry.getValue(), inWinningPlan || "winningPlan".equals(entry.getKey()), rejected);
+            }
+        } else if (node instanceof List<?> list) {
+            list.forEach(element -> collect(element, inWinningPlan, rejected));
+        }
+    }
+
+    /**
+     * Query, Aggregation을 저장소가 실행하는 것과 같은 형태의 find, count, aggregate 명령으로 변환
+     */
+    private static final class Commands {
+
+        private final String collection;
+        private final QueryMapper queryMapper;
+        private final MongoPersistentEntity<?> entity;
+        private final AggregationOperationContext aggregationContext;
+
+        private Commands(MongoTemplate mongoTemplate) {
+            MongoConverter converter = mongoTemplate.getConverter();
+            this.collection = mongoTemplate.getCollectionName(LogEntity.class);
+            this.queryMapper = new QueryMapper(converter);
+            this.entity = converter.getMappingContext().getRequiredPersistentEntity(LogEntity.class);
+            this.aggregationContext = new TypeBasedAggregationOperationContext(LogEntity.class, converter.getMappingContext(), queryMapper);
+        }
+
+        Document find(Query query) {
+            Document find = new Document("find", collection).append("filter", queryMapper.getMappedObject(query.getQueryObject(), entity));
+            if (!query.getSortObject().isEmpty()) {
+                find.append("sort", queryMapper.getMappedSort(query.getSortObject(), entity));
+            }
+            if (!query.getFieldsObject().isEmpty()) {
+                find.append("projection", queryMapper.getMappedFields(query.getFieldsObject(), entity));
+            }
+            if (query.getSkip() > 0) {
+                find.append("skip", query.getSkip());
+            }
+            if (query.getLimit() > 0) {
+                find.append("limit", query.getLimit());
+            }
+            return find;
+        }
+
+        Document count(Query query) {
+            return new Document("count", collection).append("query", queryMapper.getMappedObject(query.getQueryObject(), entity));
+        }
+
+        Document aggregate(Aggregation aggregation) {
+            return new Document("aggregate", collection)
+                    .append("pipeline", aggregation.toPipeline(aggregationContext))
+                    .append("cursor", new Document());
+        }
+
+    }
+
+}
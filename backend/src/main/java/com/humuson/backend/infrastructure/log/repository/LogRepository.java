@@ -1,10 +1,13 @@
 package com.humuson.backend.infrastructure.log.repository;
 
+import com.humuson.backend.domain.log.model.entity.Level;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
 import com.humuson.backend.global.exception.LogFileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -31,17 +34,59 @@ public interface LogRepository {
 //     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
 //     */
 //    List<LogEntity> readLastNLogs(String fileName, int limit) throws IOException;
-//
-//    /**
-//     * 특정 시간 범위 내의 로그를 조회
-//     *
-//     * @param fileName   로그 파일 이름
-//     * @param startTime  조회 시작 시간
-//     * @param endTime    조회 종료 시간
-//     * @return 시간 범위 내의 로그 목록
-//     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
-//     */
-//    List<LogEntity> readLogsByTimeRange(String fileName, LocalDateTime startTime, LocalDateTime endTime) throws IOException;
+
+    /**
+     * 특정 시간 범위 내의 최신 로그를 지정된 개수만큼 조회
+     *
+     * @param fileName  로그 파일 이름
+     * @param levels    조회할 로그 레벨
+     * @param startTime 조회 시작 시간 (포함, 선택)
+     * @param endTime   조회 종료 시간 (제외, 선택)
+     * @param limit     조회할 최대 로그 개수
+     * @return 시간 범위 내의 최신 로그 목록 (타임스탬프 내림차순)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    List<LogEntity> readLatestLogsByTimeRange(String fileName, List<Level> levels, LocalDateTime startTime, LocalDateTime endTime, int limit) throws IOException;
+
+    /**
+     * 특정 로그 파일의 로그 레벨별 개수를 집계
+     *
+     * @param fileName 로그 파일 이름
+     * @return 로그 레벨별 개수
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    Map<Level, Long> countLogsByLevel(String fileName) throws IOException;
+
+    /**
+     * 특정 로그 파일에서 시간 범위 내 로그의 레벨별 개수를 집계
+     *
+     * @param fileName  로그 파일 이름
+     * @param startTime 집계 시작 시간 (포함, 선택)
+     * @param endTime   집계 종료 시간 (제외, 선택)
+     * @return 로그 레벨별 개수
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    Map<Level, Long> countLogsByLevel(String fileName, LocalDateTime startTime, LocalDateTime endTime) throws IOException;
+
+    /**
+     * 특정 로그 파일에서 시간 범위 내 로그를 분 단위, 로그 레벨별로 집계
+     *
+     * @param fileName  로그 파일 이름
+     * @param startTime 집계 시작 시간 (포함, 선택)
+     * @param endTime   집계 종료 시간 (제외, 선택)
+     * @return "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수 (시간순 정렬)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    Map<String, Map<Level, Long>> countLogsByMinute(String fileName, LocalDateTime startTime, LocalDateTime endTime) throws IOException;
+
+    /**
+     * 로그 파일 이름을 검증하고 실제 파일 경로를 반환
+     *
+     * @param fileName 로그 파일 이름 (비어 있으면 기본 로그 파일)
+     * @return 로그 파일 경로
+     * @throws LogFileNotFoundException 파일이 존재하지 않을 경우 예외 발생
+     */
+    Path getLogFilePath(String fileName) throws LogFileNotFoundException;
 
     /**
      * 업로드된 로그 파일을 저장
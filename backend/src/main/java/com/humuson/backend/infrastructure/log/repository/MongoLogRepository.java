@@ -3,13 +3,14 @@ package com.humuson.backend.infrastructure.log.repository;
 import com.humuson.backend.domain.log.model.entity.Level;
 import com.humuson.backend.domain.log.model.entity.LogEntity;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MongoLogRepository extends MongoRepository<LogEntity, String> {
+public interface MongoLogRepository extends MongoRepository<LogEntity, String>, MongoLogRepositoryCustom {
 
     List<LogEntity> findAllByLevelIn(List<Level> levels);
 
@@ -19,4 +20,6 @@ public interface MongoLogRepository extends MongoRepository<LogEntity, String> {
 
     List<LogEntity> findAllByTimestampBetween(String start, String end);
 
+    Optional<LogEntity> findTopByOrderByIdDesc();
+
 }
@@ -0,0 +1,66 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 파생 쿼리로 표현할 수 없는 집계 쿼리를 정의하는 MongoDB 로그 저장소 확장 인터페이스
+ */
+public interface MongoLogRepositoryCustom {
+
+    /**
+     * 시간 범위 내의 로그를 분 단위, 로그 레벨별로 집계 (MongoDB에서 집계하여 개수만 반환)
+     *
+     * @param start 조회 시작 시각 (포함, "yyyy-MM-dd HH:mm:ss")
+     * @param end   조회 종료 시각 (제외, "yyyy-MM-dd HH:mm:ss")
+     * @return "yyyy-MM-dd HH:mm" 형식의 분을 키로 하는 로그 레벨별 개수 (시간순 정렬)
+     */
+    Map<String, Map<Level, Long>> countByMinuteAndLevel(String start, String end);
+
+    /**
+     * 커서 이후의 로그를 최신순(timestamp, id 내림차순)으로 조회 (keyset 페이지 조회)
+     * - skip 없이 커서 위치부터 인덱스를 읽으므로 페이지 깊이와 관계없이 조회 비용이 일정
+     *
+     * @param levels 조회할 로그 레벨
+     * @param cursor 마지막으로 조회한 로그의 위치 (null이면 처음부터)
+     * @param limit  조회할 최대 로그 개수
+     * @return 최신순으로 정렬된 로그 목록
+     */
+    List<LogEntity> findAllByLevelInAfter(List<Level> levels, LogCursor cursor, int limit);
+
+    /**
+     * 조건에 맞는 로그를 시간순으로 MongoDB 커서에서 하나씩 읽는 스트림으로 조회
+     * - 결과 전체를 메모리에 올리지 않으며, 사용 후 반드시 닫아야 커서가 해제됨
+     *
+     * @param condition 로그 레벨, 시간 범위, 서비스 이름 조건
+     * @return 시간순으로 정렬된 로그 스트림
+     */
+    Stream<LogEntity> streamAll(LogFilterCondition condition);
+
+    /**
+     * afterId 초과, maxId 이하의 로그를 ID 순으로 MongoDB 커서에서 하나씩 읽는 스트림으로 조회
+     * - 조회를 시작한 뒤 적재된 로그(더 큰 ID)는 포함하지 않으며, 사용 후 반드시 닫아야 커서가 해제됨
+     *
+     * @param afterId 제외할 하한 로그 ID (null이면 하한 없음)
+     * @param maxId   포함할 최대 로그 ID
+     * @return ID 순으로 정렬된 로그 스트림
+     */
+    Stream<LogEntity> streamBetween(String afterId, String maxId);
+
+    /**
+     * maxId 이하의 로그 중 최신 ID부터 offset개를 건너뛴 로그의 ID를 조회
+     * - 최신 N개만 읽을 때 N번째 다음 로그의 ID를 구해 하한으로 사용
+     *
+     * @param maxId  포함할 최대 로그 ID
+     * @param offset 최신 로그부터 건너뛸 개수
+     * @return 해당 위치의 로그 ID, 로그가 offset개 이하이면 빈 값
+     */
+    Optional<String> findIdAtOffsetFromLatest(String maxId, int offset);
+
+}
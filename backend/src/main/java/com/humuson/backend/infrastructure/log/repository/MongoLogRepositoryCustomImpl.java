@@ -0,0 +1,92 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * MongoDB 로그 저장소 확장 구현체
+ * - MongoTemplate으로 집계 파이프라인을 실행하여 문서 대신 집계 결과만 전달받음
+ * - 쿼리와 집계 파이프라인은 LogQueries에서 생성
+ */
+@RequiredArgsConstructor
+public class MongoLogRepositoryCustomImpl implements MongoLogRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 시간 범위 내의 로그를 분 단위, 로그 레벨별로 집계
+     *
+     * @param start 조회 시작 시각 (포함)
+     * @param end   조회 종료 시각 (제외)
+     * @return 분별 로그 레벨별 개수
+     */
+    @Override
+    public Map<String, Map<Level, Long>> countByMinuteAndLevel(String start, String end) {
+        Map<String, Map<Level, Long>> distribution = new TreeMap<>();
+        for (Document result : mongoTemplate.aggregate(LogQueries.countByMinuteAndLevel(start, end), LogEntity.class, Document.class)) {
+            LogQueries.mergeMinuteCount(distribution, result);
+        }
+        return distribution;
+    }
+
+    /**
+     * 커서 이후의 로그를 최신순으로 조회
+     *
+     * @param levels 조회할 로그 레벨
+     * @param cursor 마지막으로 조회한 로그의 위치 (null이면 처음부터)
+     * @param limit  조회할 최대 로그 개수
+     * @return 최신순으로 정렬된 로그 목록
+     */
+    @Override
+    public List<LogEntity> findAllByLevelInAfter(List<Level> levels, LogCursor cursor, int limit) {
+        return mongoTemplate.find(LogQueries.findAllByLevelInAfter(levels, cursor, limit), LogEntity.class);
+    }
+
+    /**
+     * 조건에 맞는 로그를 시간순으로 스트림 조회
+     * - 커서가 일정 개수씩 가져오므로 메모리 사용량은 결과 크기와 관계없이 일정
+     *
+     * @param condition 로그 레벨, 시간 범위, 서비스 이름 조건
+     * @return 시간순으로 정렬된 로그 스트림
+     */
+    @Override
+    public Stream<LogEntity> streamAll(LogFilterCondition condition) {
+        return mongoTemplate.stream(LogQueries.streamAll(condition), LogEntity.class);
+    }
+
+    /**
+     * afterId 초과, maxId 이하의 로그를 ID 순으로 스트림 조회 (_id 인덱스 사용)
+     *
+     * @param afterId 제외할 하한 로그 ID (null이면 하한 없음)
+     * @param maxId   포함할 최대 로그 ID
+     * @return ID 순으로 정렬된 로그 스트림
+     */
+    @Override
+    public Stream<LogEntity> streamBetween(String afterId, String maxId) {
+        return mongoTemplate.stream(LogQueries.streamBetween(afterId, maxId), LogEntity.class);
+    }
+
+    /**
+     * maxId 이하의 로그 중 최신 ID부터 offset개를 건너뛴 로그의 ID를 조회 (_id 인덱스만 읽음)
+     *
+     * @param maxId  포함할 최대 로그 ID
+     * @param offset 최신 로그부터 건너뛸 개수
+     * @return 해당 위치의 로그 ID, 로그가 offset개 이하이면 빈 값
+     */
+    @Override
+    public Optional<String> findIdAtOffsetFromLatest(String maxId, int offset) {
+        return Optional.ofNullable(mongoTemplate.findOne(LogQueries.idAtOffsetFromLatest(maxId, offset), LogEntity.class))
+                .map(LogEntity::getId);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.entity.LogRollupEntity;
+import com.humuson.backend.domain.log.model.entity.RollupResolution;
+import java.util.List;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MongoLogRollupRepository extends MongoRepository<LogRollupEntity, String>, MongoLogRollupRepositoryCustom {
+
+    List<LogRollupEntity> findAllByResolutionAndBucketGreaterThanEqualAndBucketLessThan(RollupResolution resolution, String from, String to);
+
+    List<LogRollupEntity> findAllByResolutionAndServiceNameAndBucketGreaterThanEqualAndBucketLessThan(RollupResolution resolution, String serviceName, String from, String to);
+
+}
@@ -0,0 +1,45 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.entity.LogRollupEntity;
+import java.util.Collection;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+
+/**
+ * 파생 쿼리로 표현할 수 없는 롤업 갱신, 재생성 쿼리를 정의하는 MongoDB 롤업 저장소 확장 인터페이스
+ */
+public interface MongoLogRollupRepositoryCustom {
+
+    /**
+     * 롤업 개수를 한 번의 bulk write로 증가 (문서가 없으면 생성)
+     *
+     * @param increments 증가시킬 롤업 (count는 증가량)
+     */
+    void incrementAll(Collection<LogRollupEntity> increments);
+
+    /**
+     * 로그 컬렉션을 분, 로그 레벨, 서비스별로 집계 (롤업 재생성용)
+     * - 재생성을 시작한 뒤 적재된 로그(ID가 maxId 이상)는 적재 이벤트로 반영하므로 집계하지 않음
+     * - 반환된 스트림은 커서를 점유하므로 사용 후 반드시 닫아야 함
+     *
+     * @param end   집계 종료 시각 (제외, "yyyy-MM-dd HH:mm:ss")
+     * @param maxId 집계할 로그 ID의 상한 (제외)
+     * @return MINUTE 해상도 롤업 스트림
+     */
+    Stream<LogRollupEntity> streamMinuteRollups(String end, ObjectId maxId);
+
+    /**
+     * 롤업 재생성 완료 표시가 있는지 확인
+     *
+     * @return 이전에 재생성을 끝까지 마쳤으면 true
+     */
+    boolean isRebuilt();
+
+    /**
+     * 롤업 재생성 완료 표시를 저장
+     *
+     * @param cutoff 재생성이 다룬 구간의 종료 시각 ("yyyy-MM-dd HH:mm:ss")
+     */
+    void markRebuilt(String cutoff);
+
+}
@@ -0,0 +1,98 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.entity.LogRollupEntity;
+import com.humuson.backend.domain.log.model.entity.RollupResolution;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * MongoDB 롤업 저장소 확장 구현체
+ * - 롤업 증가는 upsert + $inc를 bulk write 한 번으로 실행
+ * - 재생성 완료 표시는 log_rollup_rebuilds 컬렉션의 문서 하나로 저장
+ */
+@RequiredArgsConstructor
+public class MongoLogRollupRepositoryCustomImpl implements MongoLogRollupRepositoryCustom {
+
+    private static final int MINUTE_LENGTH = 16; // "yyyy-MM-dd HH:mm"
+    private static final String REBUILD_COLLECTION = "log_rollup_rebuilds";
+    private static final String REBUILD_ID = "rebuild";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void incrementAll(Collection<LogRollupEntity> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, LogRollupEntity.class);
+        for (LogRollupEntity increment : increments) {
+            bulkOperations.upsert(
+                    new Query(Criteria.where("_id").is(increment.getId())),
+                    new Update()
+                            .setOnInsert("resolution", increment.getResolution())
+                            .setOnInsert("bucket", increment.getBucket())
+                            .setOnInsert("level", increment.getLevel())
+                            .setOnInsert("serviceName", increment.getServiceName())
+                            .inc("count", increment.getCount())
+            );
+        }
+        bulkOperations.execute();
+    }
+
+    /**
+     * 로그 컬렉션을 분, 로그 레벨, 서비스별로 집계
+     * - $match(timestamp < end, _id < maxId) → $project(분 추출) → $group(분, 레벨, 서비스)
+     * - 그룹 수가 많을 수 있으므로 디스크 사용을 허용
+     */
+    @Override
+    public Stream<LogRollupEntity> streamMinuteRollups(String end, ObjectId maxId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("timestamp").lt(end).and("_id").lt(maxId)),
+                Aggregation.project("level", "serviceName").and(StringOperators.Substr.valueOf("timestamp").substring(0, MINUTE_LENGTH)).as("minute"),
+                Aggregation.group("minute", "level", "serviceName").count().as("count")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        return mongoTemplate.aggregateStream(aggregation, LogEntity.class, Document.class)
+                .map(result -> {
+                    Document key = result.get("_id", Document.class);
+                    return LogRollupEntity.builder()
+                            .resolution(RollupResolution.MINUTE)
+                            .bucket(key.getString("minute"))
+                            .level(Level.fromString(key.getString("level")))
+                            .serviceName(key.getString("serviceName"))
+                            .count(((Number) result.get("count")).longValue())
+                            .build();
+                });
+    }
+
+    @Override
+    public boolean isRebuilt() {
+        return mongoTemplate.exists(new Query(Criteria.where("_id").is(REBUILD_ID)), REBUILD_COLLECTION);
+    }
+
+    @Override
+    public void markRebuilt(String cutoff) {
+        mongoTemplate.upsert(
+                new Query(Criteria.where("_id").is(REBUILD_ID)),
+                new Update().set("cutoff", cutoff).set("completedAt", LocalDateTime.now().format(TIMESTAMP_FORMAT)),
+                REBUILD_COLLECTION
+        );
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.entity.LogTemplateEntity;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MongoLogTemplateRepository extends MongoRepository<LogTemplateEntity, String> {
+
+    List<LogTemplateEntity> findAllByOrderByUpdatedAtDesc(Pageable pageable);
+
+}
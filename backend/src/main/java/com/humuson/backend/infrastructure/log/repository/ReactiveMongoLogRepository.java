@@ -0,0 +1,26 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 MongoDB 로그 저장소
+ * - 조회 결과를 Flux/Mono로 반환하여, 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+ * - 적재(쓰기)는 MongoLogRepository를 사용하고, REST/WebSocket 조회에만 사용
+ */
+@Repository
+public interface ReactiveMongoLogRepository extends ReactiveMongoRepository<LogEntity, String>, ReactiveMongoLogRepositoryCustom {
+
+    Flux<LogEntity> findAllByLevelIn(List<Level> levels, Pageable pageable);
+
+    Mono<Long> countByLevelIn(List<Level> levels);
+
+    Flux<LogEntity> findAllBy(Pageable pageable);
+
+}
@@ -0,0 +1,45 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.util.List;
+import java.util.Map;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 파생 쿼리로 표현할 수 없는 집계 쿼리를 정의하는 리액티브 MongoDB 로그 저장소 확장 인터페이스
+ * - MongoLogRepositoryCustom과 같은 쿼리를 리액티브 타입으로 반환
+ */
+public interface ReactiveMongoLogRepositoryCustom {
+
+    /**
+     * 시간 범위 내의 로그를 분 단위, 로그 레벨별로 집계 (MongoDB에서 집계하여 개수만 반환)
+     *
+     * @param start 조회 시작 시각 (포함, "yyyy-MM-dd HH:mm:ss")
+     * @param end   조회 종료 시각 (제외, "yyyy-MM-dd HH:mm:ss")
+     * @return "yyyy-MM-dd HH:mm" 형식의 분을 키로 하는 로그 레벨별 개수 (시간순 정렬)
+     */
+    Mono<Map<String, Map<Level, Long>>> countByMinuteAndLevel(String start, String end);
+
+    /**
+     * 조건에 맞는 로그를 로그 레벨별로 집계 (MongoDB에서 집계하여 개수만 반환)
+     *
+     * @param condition 로그 레벨, 시간 범위, 서비스 이름 조건
+     * @return 로그 레벨별 개수 (로그가 없는 레벨은 제외)
+     */
+    Mono<Map<Level, Long>> countByLevel(LogFilterCondition condition);
+
+    /**
+     * 커서 이후의 로그를 최신순(timestamp, id 내림차순)으로 조회 (keyset 페이지 조회)
+     *
+     * @param levels 조회할 로그 레벨
+     * @param cursor 마지막으로 조회한 로그의 위치 (null이면 처음부터)
+     * @param limit  조회할 최대 로그 개수
+     * @return 최신순으로 정렬된 로그
+     */
+    Flux<LogEntity> findAllByLevelInAfter(List<Level> levels, LogCursor cursor, int limit);
+
+}
@@ -0,0 +1,43 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 MongoDB 로그 저장소 확장 구현체
+ * - ReactiveMongoTemplate으로 LogQueries의 쿼리와 집계 파이프라인을 실행
+ */
+@RequiredArgsConstructor
+public class ReactiveMongoLogRepositoryCustomImpl implements ReactiveMongoLogRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Map<String, Map<Level, Long>>> countByMinuteAndLevel(String start, String end) {
+        return reactiveMongoTemplate.aggregate(LogQueries.countByMinuteAndLevel(start, end), LogEntity.class, Document.class)
+                .collect(TreeMap::new, LogQueries::mergeMinuteCount);
+    }
+
+    @Override
+    public Mono<Map<Level, Long>> countByLevel(LogFilterCondition condition) {
+        return reactiveMongoTemplate.aggregate(LogQueries.countByLevel(condition), LogEntity.class, Document.class)
+                .collect(() -> new EnumMap<>(Level.class), LogQueries::mergeLevelCount);
+    }
+
+    @Override
+    public Flux<LogEntity> findAllByLevelInAfter(List<Level> levels, LogCursor cursor, int limit) {
+        return reactiveMongoTemplate.find(LogQueries.findAllByLevelInAfter(levels, cursor, limit), LogEntity.class);
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.exception.LogFileNotFoundException;
+import com.humuson.backend.infrastructure.log.segment.LogSegmentStore;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 열 단위 세그먼트 기반 로그 저장소 구현체 (log.storage.type=segment)
+ * - 로그 파일을 압축된 열 단위 세그먼트로 변환해 두고, 조회와 집계는 원본 파일 대신 세그먼트에서 수행
+ * - 레벨별/분 단위 집계는 필요한 열만 읽으므로 로그 엔터티를 생성하지 않음
+ * - 원본 파일은 MongoDB 적재(LogIngestService)가 읽으므로 그대로 보관
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "log.storage", name = "type", havingValue = "segment")
+public class SegmentLogRepository implements LogRepository {
+
+    private final LogSegmentStore logSegmentStore;
+
+    /**
+     * 특정 시간 범위 내의 최신 로그를 지정된 개수만큼 조회
+     * - 시간 범위나 레벨이 겹치지 않는 세그먼트는 헤더만 보고 건너뛰고, limit개만 힙에 유지하여 메시지는 결과 로그만 해제
+     *
+     * @param fileName  로그 파일 이름
+     * @param levels    조회할 로그 레벨
+     * @param startTime 조회 시작 시간 (포함, 선택)
+     * @param endTime   조회 종료 시간 (제외, 선택)
+     * @param limit     조회할 최대 로그 개수
+     * @return 시간 범위 내의 최신 로그 목록 (타임스탬프 내림차순)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    @Override
+    public List<LogEntity> readLatestLogsByTimeRange(String fileName, List<Level> levels, LocalDateTime startTime, LocalDateTime endTime, int limit) throws IOException {
+        EnumSet<Level> levelSet = levels.isEmpty() ? EnumSet.noneOf(Level.class) : EnumSet.copyOf(levels);
+        return logSegmentStore.readLatest(LogFiles.resolve(fileName), levelSet, startTime, endTime, limit);
+    }
+
+    /**
+     * 특정 로그 파일의 로그 레벨별 개수를 집계 (세그먼트 헤더의 개수만 사용)
+     *
+     * @param fileName 로그 파일 이름
+     * @return 로그 레벨별 개수 (로그가 없는 레벨은 제외)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    @Override
+    public Map<Level, Long> countLogsByLevel(String fileName) throws IOException {
+        return countLogsByLevel(fileName, null, null);
+    }
+
+    /**
+     * 특정 로그 파일에서 시간 범위 내 로그의 레벨별 개수를 집계
+     *
+     * @param fileName  로그 파일 이름
+     * @param startTime 집계 시작 시간 (포함, 선택)
+     * @param endTime   집계 종료 시간 (제외, 선택)
+     * @return 로그 레벨별 개수 (로그가 없는 레벨은 제외)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    @Override
+    public Map<Level, Long> countLogsByLevel(String fileName, LocalDateTime startTime, LocalDateTime endTime) throws IOException {
+        return LogFiles.toCountsByLevel(logSegmentStore.countByLevel(LogFiles.resolve(fileName), startTime, endTime));
+    }
+
+    /**
+     * 특정 로그 파일에서 시간 범위 내 로그를 분 단위, 로그 레벨별로 집계 (타임스탬프, 레벨 열만 읽음)
+     *
+     * @param fileName  로그 파일 이름
+     * @param startTime 집계 시작 시간 (포함, 선택)
+     * @param endTime   집계 종료 시간 (제외, 선택)
+     * @return "yyyy-MM-dd HH:mm" 형식의 분별 로그 레벨별 개수 (시간순 정렬)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    @Override
+    public Map<String, Map<Level, Long>> countLogsByMinute(String fileName, LocalDateTime startTime, LocalDateTime endTime) throws IOException {
+        return LogFiles.toCountsByMinute(logSegmentStore.countByMinute(LogFiles.resolve(fileName), startTime, endTime));
+    }
+
+    /**
+     * 로그 파일 이름을 검증하고 실제 파일 경로를 반환
+     *
+     * @param fileName 로그 파일 이름 (비어 있으면 기본 로그 파일)
+     * @return 로그 파일 경로
+     * @throws LogFileNotFoundException 파일이 존재하지 않을 경우 예외 발생
+     */
+    @Override
+    public Path getLogFilePath(String fileName) {
+        return LogFiles.resolve(fileName);
+    }
+
+    /**
+     * 업로드된 로그 파일을 저장하고 세그먼트로 변환
+     *
+     * @param file        업로드할 로그 파일
+     * @param newFileName 저장할 새로운 파일 이름
+     * @return 저장된 파일의 이름
+     * @throws IOException 파일 저장 중 오류 발생 시 예외 발생
+     */
+    @Override
+    public String saveLog(MultipartFile file, String newFileName) throws IOException {
+        Path destination = LogFiles.save(file, newFileName);
+        logSegmentStore.build(destination);
+        return newFileName;
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.humuson.backend.infrastructure.log.search;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.types.ObjectId;
+
+/**
+ * 역색인 세그먼트
+ * - 최대 CAPACITY개의 로그에 대해 토큰별 posting list와, 검색 조건 확인에 필요한 로그 ID, 시각, 레벨만 보관 (메시지 원문은 보관하지 않음)
+ * - 로그 ID는 ObjectId 12바이트, 시각은 epoch 초(int), 레벨은 1바이트로 배열에 저장하여 로그당 객체를 만들지 않음
+ * - 세그먼트가 가득 차면 봉인(seal)하여 posting list의 여유 공간을 반환하고, 이후로는 읽기만 함
+ * - 봉인 전에는 스레드 안전하지 않으므로 LogSearchIndex의 잠금 안에서만 사용하고, 봉인 후에는 읽기만 하므로 잠금 없이 여러 스레드에서 검색 가능
+ */
+final class IndexSegment {
+
+    static final int CAPACITY = 1 << 16;
+    private static final int ID_LENGTH = 12;
+    private static final Level[] LEVELS = Level.values();
+
+    private final byte[] logIds = new byte[CAPACITY * ID_LENGTH];
+    private final int[] epochSeconds = new int[CAPACITY];
+    private final byte[] levels = new byte[CAPACITY];
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private int size;
+    private long minEpochSecond = Long.MAX_VALUE;
+    private long maxEpochSecond = Long.MIN_VALUE;
+
+    boolean isFull() {
+        return size == CAPACITY;
+    }
+
+    /**
+     * 세그먼트에서 가장 이른 로그 시각 (epoch 초, 비어 있으면 Long.MAX_VALUE)
+     */
+    long minEpochSecond() {
+        return minEpochSecond;
+    }
+
+    /**
+     * 세그먼트에서 가장 늦은 로그 시각 (epoch 초, 비어 있으면 Long.MIN_VALUE)
+     */
+    long maxEpochSecond() {
+        return maxEpochSecond;
+    }
+
+    /**
+     * 로그 하나를 색인
+     *
+     * @param id          로그 ID
+     * @param epochSecond 로그 시각 (epoch 초)
+     * @param level       로그 레벨
+     * @param tokens      메시지 토큰
+     */
+    void add(ObjectId id, long epochSecond, Level level, List<String> tokens) {
+        int doc = size++;
+        id.putToByteBuffer(ByteBuffer.wrap(logIds, doc * ID_LENGTH, ID_LENGTH));
+        epochSeconds[doc] = (int) epochSecond;
+        levels[doc] = (byte) level.ordinal();
+        minEpochSecond = Math.min(minEpochSecond, epochSecond);
+        maxEpochSecond = Math.max(maxEpochSecond, epochSecond);
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, t -> new PostingList()).add(doc);
+        }
+    }
+
+    /**
+     * 더 이상 로그를 추가하지 않도록 봉인하고 posting list의 여유 공간을 반환
+     */
+    void seal() {
+        postings.values().forEach(PostingList::trim);
+    }
+
+    /**
+     * 모든 검색어를 포함하고 레벨, 시간 조건에 맞는 로그를 찾아 수집기에 전달
+     * - 가장 짧은 posting list를 기준으로 나머지 posting list를 앞으로 건너뛰며 교집합을 구함
+     *
+     * @param terms     검색어 토큰 (중복 없음)
+     * @param levelSet  포함할 로그 레벨
+     * @param start     시작 시각 (epoch 초, 포함)
+     * @param end       종료 시각 (epoch 초, 제외)
+     * @param collector 검색 결과 수집기
+     */
+    void search(List<String> terms, Set<Level> levelSet, long start, long end, SearchCollector collector) {
+        if (size == 0 || maxEpochSecond < start || minEpochSecond >= end) {
+            return;
+        }
+        List<PostingList> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            PostingList postingList = postings.get(term);
+            if (postingList == null) {
+                return;
+            }
+            lists.add(postingList);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList.Cursor lead = lists.get(0).cursor();
+        PostingList.Cursor[] others = new PostingList.Cursor[lists.size() - 1];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = lists.get(i + 1).cursor();
+        }
+
+        int doc = lead.next();
+        while (doc != PostingList.NO_MORE_DOCS) {
+            int candidate = doc;
+            for (PostingList.Cursor other : others) {
+                candidate = Math.max(candidate, other.advance(candidate));
+            }
+            if (candidate != doc) {
+                doc = candidate == PostingList.NO_MORE_DOCS ? candidate : lead.advance(candidate);
+                continue;
+            }
+            long epochSecond = epochSeconds[doc];
+            if (epochSecond >= start && epochSecond < end && levelSet.contains(LEVELS[levels[doc]])) {
+                collector.collect(this, doc, epochSecond);
+            }
+            doc = lead.next();
+        }
+    }
+
+    /**
+     * 문서 번호에 해당하는 로그 ID
+     */
+    ObjectId logId(int doc) {
+        return new ObjectId(ByteBuffer.wrap(logIds, doc * ID_LENGTH, ID_LENGTH));
+    }
+
+}
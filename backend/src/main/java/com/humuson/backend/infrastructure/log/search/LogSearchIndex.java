@@ -0,0 +1,302 @@
+package com.humuson.backend.infrastructure.log.search;
+
+import com.humuson.backend.domain.log.model.dto.result.LogSearchHits;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.LogSearchProperties;
+import com.humuson.backend.global.util.LogParseUtil;
+import com.humuson.backend.infrastructure.log.repository.MongoLogRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 메시지 역색인 (메모리)
+ * - 로그가 적재될 때마다 메시지를 토큰으로 분리하여 현재 세그먼트에 색인하고, 세그먼트가 가득 차면 봉인 후 새 세그먼트를 시작
+ * - 검색은 세그먼트마다 검색어 토큰의 posting list 교집합을 구한 뒤 레벨, 시간 조건을 확인하므로 MongoDB 정규식 검색(COLLSCAN)이 필요 없음
+ * - 시간 범위를 벗어난 세그먼트는 posting list를 읽지 않고 건너뜀
+ * - 세그먼트는 최대 maxSegments개만 유지하고, 넘으면 가장 오래된 세그먼트부터 제거 (검색 대상은 최근 로그로 한정)
+ *   - 제거된 로그의 가장 늦은 시각을 기록해 두고, 검색 범위가 그 시각에 걸치면 결과가 잘렸음(truncated)을 함께 반환
+ * - 검색은 읽기 잠금 안에서 현재 세그먼트만 검색하고 봉인된 세그먼트 목록을 복사한 뒤, 봉인된 세그먼트는 잠금 밖에서 검색
+ *   (봉인된 세그먼트는 읽기 전용이므로 오래 걸리는 검색이 색인을 막지 않음)
+ * - 애플리케이션 시작 시 MongoDB의 로그로 다시 만듦
+ *   - 재구성은 시작 시점의 최대 로그 ID 이하만 읽고, 그보다 큰 ID의 로그는 적재 이벤트로만 색인
+ *   - 유지할 수 있는 최신 maxSegments * CAPACITY개의 ID 구간만 읽으므로, 컬렉션 전체를 읽고 대부분을 버리지 않음
+ *   - 재구성 중 적재 이벤트로 들어온 최대 ID 이하의 로그는 ID를 기록해 두고 재구성에서 건너뛰어 같은 로그를 두 번 색인하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final MongoLogRepository logRepository;
+    private final LogSearchProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<IndexSegment> segments = new ArrayList<>(); // 오래된 순, 마지막 원소가 현재 세그먼트
+    private IndexSegment activeSegment;
+    private long droppedUpToEpochSecond = Long.MIN_VALUE; // 색인에서 제거되었거나 재구성에서 제외된 로그의 가장 늦은 시각
+    private ObjectId rebuildMaxId; // 재구성 중일 때만 값이 있음
+    private Set<ObjectId> indexedWhileRebuilding; // 재구성 중 적재 이벤트로 색인한 재구성 범위의 로그 ID
+
+    /**
+     * 적재된 로그를 색인
+     *
+     * @param event 로그 적재 이벤트
+     */
+    @EventListener
+    public void onLogIngested(LogIngestedEvent event) {
+        index(event.logs());
+    }
+
+    /**
+     * 애플리케이션 시작 시 MongoDB에 적재된 로그로 역색인을 다시 만듦 (별도 스레드에서 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.rebuildOnStartup()) {
+            return;
+        }
+        Thread rebuilder = new Thread(this::rebuildFromRepository, "log-search-index-rebuilder");
+        rebuilder.setDaemon(true);
+        rebuilder.start();
+    }
+
+    /**
+     * 모든 검색어를 포함하는 로그를 최신순으로 검색
+     *
+     * @param query  검색어 (공백, 구두점으로 구분된 토큰을 모두 포함하는 로그를 검색)
+     * @param levels 포함할 로그 레벨
+     * @param start  검색 시작 시간 (포함, 선택)
+     * @param end    검색 종료 시간 (제외, 선택)
+     * @param limit  반환할 최대 로그 ID 개수
+     * @return 최신순 로그 ID, 전체 일치 개수, 색인이 담고 있는 가장 이른 시각, 제거된 로그 때문에 결과가 잘렸는지 여부
+     */
+    public LogSearchHits search(String query, Collection<Level> levels, LocalDateTime start, LocalDateTime end, int limit) {
+        List<String> terms = List.copyOf(new LinkedHashSet<>(LogTokenizer.tokenize(query)));
+        if (terms.isEmpty() || levels.isEmpty()) {
+            return LogSearchHits.empty();
+        }
+        Set<Level> levelSet = EnumSet.copyOf(levels);
+        long startEpochSecond = start != null ? start.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+        long endEpochSecond = end != null ? end.toEpochSecond(ZoneOffset.UTC) : Long.MAX_VALUE;
+
+        SearchCollector collector = new SearchCollector(limit);
+        List<IndexSegment> sealedSegments;
+        long indexedFromEpochSecond = Long.MAX_VALUE;
+        boolean truncated;
+        lock.readLock().lock();
+        try {
+            if (activeSegment != null) {
+                activeSegment.search(terms, levelSet, startEpochSecond, endEpochSecond, collector);
+            }
+            sealedSegments = List.copyOf(segments.subList(0, activeSegment != null ? segments.size() - 1 : segments.size()));
+            for (IndexSegment segment : segments) {
+                indexedFromEpochSecond = Math.min(indexedFromEpochSecond, segment.minEpochSecond());
+            }
+            truncated = droppedUpToEpochSecond != Long.MIN_VALUE && startEpochSecond <= droppedUpToEpochSecond;
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (IndexSegment segment : sealedSegments) {
+            segment.search(terms, levelSet, startEpochSecond, endEpochSecond, collector);
+        }
+        LocalDateTime indexedFrom = indexedFromEpochSecond != Long.MAX_VALUE ? LocalDateTime.ofEpochSecond(indexedFromEpochSecond, 0, ZoneOffset.UTC) : null;
+        return LogSearchHits.of(collector.latestIds(), collector.totalHits(), indexedFrom, truncated);
+    }
+
+    /**
+     * 적재된 로그 목록을 색인
+     * - 토큰 분리는 잠금 밖에서 하고, 세그먼트에 추가할 때만 쓰기 잠금을 잡음
+     * - ObjectId 형식의 ID가 없거나 타임스탬프를 해석할 수 없는 로그는 색인하지 않음
+     * - 재구성 중이면 재구성 범위(시작 시점의 최대 ID 이하)에 속하는 로그의 ID를 기록하여 재구성에서 건너뛰게 함
+     *
+     * @param logs 색인할 로그 목록
+     */
+    void index(List<LogEntity> logs) {
+        List<IndexedLog> indexedLogs = toIndexedLogs(logs);
+        if (indexedLogs.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (IndexedLog indexedLog : indexedLogs) {
+                if (rebuildMaxId != null && indexedLog.id().compareTo(rebuildMaxId) <= 0) {
+                    indexedWhileRebuilding.add(indexedLog.id());
+                }
+                append(indexedLog);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구성 중 MongoDB에서 읽은 로그 목록을 색인 (적재 이벤트로 이미 색인한 로그는 건너뜀)
+     */
+    private void indexRebuilt(List<LogEntity> logs) {
+        List<IndexedLog> indexedLogs = toIndexedLogs(logs);
+        lock.writeLock().lock();
+        try {
+            for (IndexedLog indexedLog : indexedLogs) {
+                if (!indexedWhileRebuilding.contains(indexedLog.id())) {
+                    append(indexedLog);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<IndexedLog> toIndexedLogs(List<LogEntity> logs) {
+        List<IndexedLog> indexedLogs = new ArrayList<>(logs.size());
+        for (LogEntity logEntity : logs) {
+            long epochSecond = logEntity.getTimestamp() != null ? LogParseUtil.parseEpochSecond(logEntity.getTimestamp(), 0) : -1;
+            if (epochSecond < 0 || logEntity.getId() == null || !ObjectId.isValid(logEntity.getId())) {
+                continue;
+            }
+            Level level = logEntity.getLevel() != null ? logEntity.getLevel() : Level.UNKNOWN;
+            indexedLogs.add(new IndexedLog(new ObjectId(logEntity.getId()), epochSecond, level, LogTokenizer.tokenize(logEntity.getMessage())));
+        }
+        return indexedLogs;
+    }
+
+    /**
+     * 현재 세그먼트에 로그를 추가하고, 가득 찼으면 봉인 후 새 세그먼트를 시작 (쓰기 잠금 안에서 호출)
+     * - 세그먼트가 maxSegments개를 넘으면 가장 오래된 세그먼트를 제거
+     */
+    private void append(IndexedLog indexedLog) {
+        if (activeSegment == null || activeSegment.isFull()) {
+            if (activeSegment != null) {
+                activeSegment.seal();
+            }
+            activeSegment = new IndexSegment();
+            segments.add(activeSegment);
+            while (segments.size() > maxSegments()) {
+                droppedUpToEpochSecond = Math.max(droppedUpToEpochSecond, segments.remove(0).maxEpochSecond());
+            }
+        }
+        activeSegment.add(indexedLog.id(), indexedLog.epochSecond(), indexedLog.level(), indexedLog.tokens());
+    }
+
+    private void rebuildFromRepository() {
+        long startedAt = System.nanoTime();
+        long indexedCount = 0;
+        try {
+            String maxId = startRebuild();
+            if (maxId == null) {
+                return;
+            }
+            String afterId = findRebuildLowerBound(maxId);
+            try (Stream<LogEntity> logs = logRepository.streamBetween(afterId, maxId)) {
+                Iterator<LogEntity> iterator = logs.iterator();
+                List<LogEntity> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+                while (iterator.hasNext()) {
+                    batch.add(iterator.next());
+                    if (batch.size() == REBUILD_BATCH_SIZE || !iterator.hasNext()) {
+                        indexRebuilt(batch);
+                        indexedCount += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            log.info("로그 검색 역색인 재구성 완료: {}건, {}ms", indexedCount, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("로그 검색 역색인 재구성 실패, 이후 적재된 로그만 검색됨: {}", e.getMessage());
+        } finally {
+            finishRebuild();
+        }
+    }
+
+    /**
+     * 재구성에서 읽을 ID 구간의 하한을 구함
+     * - 색인이 유지할 수 있는 최신 maxSegments * CAPACITY개보다 오래된 로그는 읽어도 바로 제거되므로 읽지 않음
+     * - 제외되는 가장 최신 로그의 시각을 기록하여, 그 이전 시각을 포함하는 검색에 결과가 잘렸음을 알림
+     *
+     * @param maxId 재구성할 최대 로그 ID
+     * @return 제외할 하한 로그 ID (이 ID 이하는 읽지 않음), 모든 로그를 유지할 수 있으면 null
+     */
+    private String findRebuildLowerBound(String maxId) {
+        String afterId = logRepository.findIdAtOffsetFromLatest(maxId, maxSegments() * IndexSegment.CAPACITY).orElse(null);
+        if (afterId == null) {
+            return null;
+        }
+        long droppedEpochSecond = logRepository.findById(afterId)
+                .map(LogEntity::getTimestamp)
+                .map(timestamp -> LogParseUtil.parseEpochSecond(timestamp, 0))
+                .filter(epochSecond -> epochSecond >= 0)
+                .orElse(Long.MAX_VALUE); // 시각을 알 수 없으면 모든 검색을 잘린 것으로 표시
+        lock.writeLock().lock();
+        try {
+            droppedUpToEpochSecond = Math.max(droppedUpToEpochSecond, droppedEpochSecond);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("로그 검색 역색인은 최신 {}건만 유지하므로 ID {} 이하의 로그는 재구성에서 제외", maxSegments() * IndexSegment.CAPACITY, afterId);
+        return afterId;
+    }
+
+    private int maxSegments() {
+        return Math.max(1, properties.maxSegments());
+    }
+
+    /**
+     * 재구성 범위를 정하고 기존 색인을 비움
+     * - 쓰기 잠금 안에서 최대 로그 ID를 조회하므로, 그 이전에 적재된 로그는 모두 재구성 범위에 포함됨
+     *
+     * @return 재구성할 최대 로그 ID, 적재된 로그가 없으면 null
+     */
+    private String startRebuild() {
+        lock.writeLock().lock();
+        try {
+            segments.clear();
+            activeSegment = null;
+            droppedUpToEpochSecond = Long.MIN_VALUE;
+            String maxId = logRepository.findTopByOrderByIdDesc()
+                    .map(LogEntity::getId)
+                    .filter(ObjectId::isValid)
+                    .orElse(null);
+            if (maxId != null) {
+                rebuildMaxId = new ObjectId(maxId);
+                indexedWhileRebuilding = new HashSet<>();
+            }
+            return maxId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildMaxId = null;
+            indexedWhileRebuilding = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record IndexedLog(ObjectId id, long epochSecond, Level level, List<String> tokens) {
+    }
+
+}
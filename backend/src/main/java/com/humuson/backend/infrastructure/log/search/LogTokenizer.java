@@ -0,0 +1,47 @@
+package com.humuson.backend.infrastructure.log.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로그 메시지 토크나이저
+ * - 문자, 숫자가 연속된 구간을 하나의 토큰으로 보고 소문자로 변환 (예: "Order: 48213 user512" → order, 48213, user512)
+ * - 색인과 검색어에 같은 규칙을 적용하므로 대소문자, 구두점과 관계없이 검색됨
+ */
+final class LogTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 64; // 이보다 긴 토큰은 잘라서 색인
+
+    private LogTokenizer() {
+    }
+
+    /**
+     * 문자열을 토큰 목록으로 분리
+     *
+     * @param text 분리할 문자열 (null이면 빈 목록)
+     * @return 토큰 목록 (나타난 순서, 중복 포함)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (token.length() < MAX_TOKEN_LENGTH) {
+                    token.append(Character.toLowerCase(c));
+                }
+            } else if (!token.isEmpty()) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (!token.isEmpty()) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.humuson.backend.infrastructure.log.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 토큰이 나타나는 문서 번호 목록 (posting list)
+ * - 문서 번호는 증가하는 순서로만 추가되므로, 이전 번호와의 차이(delta)를 varint(7비트 단위)로 압축하여 저장
+ * - 대부분의 차이가 작아 문서 하나당 1~2바이트만 사용
+ * - 스레드 안전하지 않으므로 LogSearchIndex의 잠금 안에서만 사용
+ */
+final class PostingList {
+
+    static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int lastDoc = -1;
+    private int size;
+
+    /**
+     * 문서 번호를 추가 (같은 문서에 토큰이 여러 번 나타나면 한 번만 추가)
+     *
+     * @param doc 추가할 문서 번호 (이전에 추가한 번호 이상)
+     */
+    void add(int doc) {
+        if (doc == lastDoc) {
+            return;
+        }
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        int delta = doc - lastDoc;
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+        lastDoc = doc;
+        size++;
+    }
+
+    /**
+     * 남는 버퍼 공간을 반환 (세그먼트가 가득 차 더 이상 추가되지 않을 때 호출)
+     */
+    void trim() {
+        bytes = Arrays.copyOf(bytes, length);
+    }
+
+    /**
+     * 포함된 문서 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 현재까지 추가된 문서 번호를 순서대로 읽는 반복자
+     */
+    Cursor cursor() {
+        return new Cursor(bytes, length);
+    }
+
+    /**
+     * posting list 반복자 (압축된 바이트를 읽으면서 문서 번호를 복원)
+     */
+    static final class Cursor {
+
+        private final byte[] bytes;
+        private final int length;
+        private int position;
+        private int doc = -1;
+
+        private Cursor(byte[] bytes, int length) {
+            this.bytes = bytes;
+            this.length = length;
+        }
+
+        /**
+         * 다음 문서 번호로 이동
+         *
+         * @return 다음 문서 번호 (없으면 NO_MORE_DOCS)
+         */
+        int next() {
+            if (position >= length) {
+                return doc = NO_MORE_DOCS;
+            }
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return doc += delta;
+        }
+
+        /**
+         * target 이상인 첫 문서 번호로 이동
+         *
+         * @param target 찾을 문서 번호
+         * @return target 이상인 첫 문서 번호 (없으면 NO_MORE_DOCS)
+         */
+        int advance(int target) {
+            while (doc < target) {
+                next();
+            }
+            return doc;
+        }
+
+    }
+
+}
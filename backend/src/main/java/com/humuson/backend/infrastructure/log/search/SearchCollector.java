@@ -0,0 +1,64 @@
+package com.humuson.backend.infrastructure.log.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.bson.types.ObjectId;
+
+/**
+ * 검색 결과 수집기
+ * - 조건에 맞는 전체 로그 개수를 세고, 최신 로그 limit개만 크기가 제한된 힙으로 유지
+ * - 힙에 들어갈 로그에 대해서만 객체를 만들므로, 일치하는 로그가 많아도 메모리 사용량은 limit에 비례
+ */
+final class SearchCollector {
+
+    private static final Comparator<Hit> OLDEST_FIRST = Comparator.comparingLong(Hit::epochSecond).thenComparing(Hit::id);
+
+    private final int limit;
+    private final PriorityQueue<Hit> latest;
+    private long totalHits;
+
+    SearchCollector(int limit) {
+        this.limit = limit;
+        this.latest = new PriorityQueue<>(limit + 1, OLDEST_FIRST);
+    }
+
+    void collect(IndexSegment segment, int doc, long epochSecond) {
+        totalHits++;
+        if (latest.size() == limit) {
+            Hit oldest = latest.peek();
+            if (oldest == null || epochSecond < oldest.epochSecond()) {
+                return;
+            }
+        }
+        Hit hit = new Hit(epochSecond, segment.logId(doc));
+        if (latest.size() < limit) {
+            latest.add(hit);
+        } else if (OLDEST_FIRST.compare(hit, latest.peek()) > 0) {
+            latest.poll();
+            latest.add(hit);
+        }
+    }
+
+    long totalHits() {
+        return totalHits;
+    }
+
+    /**
+     * 수집한 로그 ID를 최신순(시각, ID 내림차순)으로 반환 (중복 제거)
+     */
+    List<String> latestIds() {
+        List<Hit> hits = new ArrayList<>(latest);
+        hits.sort(OLDEST_FIRST.reversed());
+        Set<String> ids = new LinkedHashSet<>();
+        hits.forEach(hit -> ids.add(hit.id().toHexString()));
+        return List.copyOf(ids);
+    }
+
+    private record Hit(long epochSecond, ObjectId id) {
+    }
+
+}
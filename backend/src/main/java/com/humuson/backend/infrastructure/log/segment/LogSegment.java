@@ -0,0 +1,365 @@
+package com.humuson.backend.infrastructure.log.segment;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 열(column) 단위로 인코딩된 불변 로그 세그먼트 (.lseg)
+ * - 원본 로그 파일의 [sourceFrom, sourceTo) 구간에 있는 로그를 열별로 나누어 저장
+ * - 로그 레벨: 레벨별 비트맵 (행 번호 = 비트 위치), 레벨별 개수는 헤더에 기록
+ * - 서비스 이름: 사전(dictionary) 인코딩 후 행마다 사전 번호를 varint로 기록
+ * - 타임스탬프: 이전 행과의 차이를 zigzag varint로 기록 (정렬되지 않은 파일도 허용)
+ * - 메시지: blockRows행씩 묶어 Deflater로 압축하고, 조회 결과에 포함된 행의 블록만 해제
+ * - 헤더의 최소/최대 시각과 레벨별 개수로 조회와 무관한 세그먼트는 열을 읽지 않고 건너뜀
+ * - 파일은 읽기 전용으로 메모리 매핑하며, 열은 조회할 때마다 해당 구간만 해석 (여러 스레드에서 동시에 조회 가능)
+ */
+final class LogSegment {
+
+    static final String EXTENSION = ".lseg";
+    static final int MAGIC = 0x4C534547; // "LSEG"
+    static final int VERSION = 1;
+    private static final Level[] LEVELS = Level.values();
+
+    private final MappedByteBuffer buffer;
+    private final long sourceFrom;
+    private final long sourceTo;
+    private final int rowCount;
+    private final long minEpochSecond;
+    private final long maxEpochSecond;
+    private final long[] levelCounts;
+    private final String[] serviceNames;
+    private final int blockRows;
+    private final int[] blockRawLengths;
+    private final int[] blockPositions; // 마지막 원소는 압축 블록 영역의 끝
+    private final int timestampsPosition;
+    private final int bitmapsPosition;
+    private final int serviceIdsPosition;
+
+    private LogSegment(MappedByteBuffer buffer) {
+        ByteBuffer header = buffer.duplicate();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IllegalStateException("세그먼트 형식이 올바르지 않습니다.");
+        }
+        this.buffer = buffer;
+        this.sourceFrom = header.getLong();
+        this.sourceTo = header.getLong();
+        this.rowCount = header.getInt();
+        this.minEpochSecond = header.getLong();
+        this.maxEpochSecond = header.getLong();
+        this.levelCounts = new long[LEVELS.length];
+        for (int i = 0; i < LEVELS.length; i++) {
+            levelCounts[i] = header.getLong();
+        }
+        this.serviceNames = new String[header.getInt()];
+        for (int i = 0; i < serviceNames.length; i++) {
+            byte[] bytes = new byte[header.getInt()];
+            header.get(bytes);
+            serviceNames[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        this.blockRows = header.getInt();
+        int blockCount = header.getInt();
+        this.blockRawLengths = new int[blockCount];
+        int[] compressedLengths = new int[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blockRawLengths[i] = header.getInt();
+            compressedLengths[i] = header.getInt();
+        }
+        int timestampsLength = header.getInt();
+        int serviceIdsLength = header.getInt();
+
+        this.timestampsPosition = header.position();
+        this.bitmapsPosition = timestampsPosition + timestampsLength;
+        this.serviceIdsPosition = bitmapsPosition + LEVELS.length * bitmapWords(rowCount) * Long.BYTES;
+        this.blockPositions = new int[blockCount + 1];
+        blockPositions[0] = serviceIdsPosition + serviceIdsLength;
+        for (int i = 0; i < blockCount; i++) {
+            blockPositions[i + 1] = blockPositions[i] + compressedLengths[i];
+        }
+        if (blockPositions[blockCount] != buffer.limit()) {
+            throw new IllegalStateException("세그먼트 크기가 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 세그먼트 파일을 읽기 전용으로 매핑하여 엶
+     *
+     * @param path 세그먼트 파일 경로
+     * @return 세그먼트
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     * @throws IllegalStateException 세그먼트 형식이 올바르지 않은 경우 발생
+     */
+    static LogSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new LogSegment(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static int bitmapWords(int rowCount) {
+        return (rowCount + 63) >>> 6;
+    }
+
+    long sourceFrom() {
+        return sourceFrom;
+    }
+
+    long sourceTo() {
+        return sourceTo;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    long maxEpochSecond() {
+        return maxEpochSecond;
+    }
+
+    /**
+     * [start, end) 시각의 로그가 있을 수 있는지 확인 (헤더만 사용)
+     */
+    boolean overlaps(long start, long end) {
+        return rowCount > 0 && maxEpochSecond >= start && minEpochSecond < end;
+    }
+
+    /**
+     * 세그먼트의 모든 로그가 [start, end) 시각에 포함되는지 확인 (헤더만 사용)
+     */
+    boolean within(long start, long end) {
+        return rowCount > 0 && minEpochSecond >= start && maxEpochSecond < end;
+    }
+
+    /**
+     * [start, end) 시각 로그의 레벨별 개수를 더함
+     * - 세그먼트 전체가 범위에 포함되면 헤더의 개수만 사용하고, 일부만 포함되면 타임스탬프 열과 레벨 비트맵을 읽음
+     *
+     * @param start  시작 시각 (epoch 초, 포함)
+     * @param end    종료 시각 (epoch 초, 제외)
+     * @param counts Level.ordinal() 위치에 개수를 더할 배열
+     */
+    void countByLevel(long start, long end, long[] counts) {
+        if (!overlaps(start, end)) {
+            return;
+        }
+        if (within(start, end)) {
+            for (int i = 0; i < LEVELS.length; i++) {
+                counts[i] += levelCounts[i];
+            }
+            return;
+        }
+        long[] epochSeconds = decodeTimestamps();
+        for (Level level : LEVELS) {
+            if (levelCounts[level.ordinal()] == 0) {
+                continue;
+            }
+            int words = bitmapWords(rowCount);
+            for (int word = 0; word < words; word++) {
+                long bits = bitmapWord(level, word);
+                while (bits != 0) {
+                    int row = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (epochSeconds[row] >= start && epochSeconds[row] < end) {
+                        counts[level.ordinal()]++;
+                    }
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * [start, end) 시각 로그의 분 단위 레벨별 개수를 더함 (타임스탬프 열과 레벨 비트맵만 읽음)
+     *
+     * @param start  시작 시각 (epoch 초, 포함)
+     * @param end    종료 시각 (epoch 초, 제외)
+     * @param counts epoch 분마다 Level.ordinal() 위치에 개수를 더할 맵
+     */
+    void countByMinute(long start, long end, Map<Long, long[]> counts) {
+        if (!overlaps(start, end)) {
+            return;
+        }
+        long[] epochSeconds = decodeTimestamps();
+        byte[] levels = decodeLevels();
+        for (int row = 0; row < rowCount; row++) {
+            if (epochSeconds[row] >= start && epochSeconds[row] < end) {
+                counts.computeIfAbsent(Math.floorDiv(epochSeconds[row], 60), minute -> new long[LEVELS.length])[levels[row]]++;
+            }
+        }
+    }
+
+    /**
+     * [start, end) 시각에 있고 주어진 레벨인 행을 세그먼트 내 순서대로 방문
+     * - 타임스탬프 열과 레벨 비트맵만 읽고 메시지 블록은 해제하지 않음
+     *
+     * @param levels  조회할 로그 레벨
+     * @param start   시작 시각 (epoch 초, 포함)
+     * @param end     종료 시각 (epoch 초, 제외)
+     * @param visitor 조건에 맞는 행마다 호출
+     */
+    void forEachRow(Set<Level> levels, long start, long end, RowVisitor visitor) {
+        if (!overlaps(start, end) || levels.stream().allMatch(level -> levelCounts[level.ordinal()] == 0)) {
+            return;
+        }
+        long[] epochSeconds = decodeTimestamps();
+        byte[] rowLevels = decodeLevels();
+        for (int row = 0; row < rowCount; row++) {
+            if (epochSeconds[row] >= start && epochSeconds[row] < end && levels.contains(LEVELS[rowLevels[row]])) {
+                visitor.visit(row, epochSeconds[row]);
+            }
+        }
+    }
+
+    /**
+     * 주어진 행의 로그를 생성
+     * - 행이 속한 메시지 블록만 압축을 해제
+     *
+     * @param rows 행 번호 (오름차순)
+     * @return rows와 같은 순서의 로그
+     */
+    LogEntity[] readRows(int[] rows) {
+        LogEntity[] logs = new LogEntity[rows.length];
+        if (rows.length == 0) {
+            return logs;
+        }
+        long[] epochSeconds = decodeTimestamps();
+        byte[] rowLevels = decodeLevels();
+        int[] serviceIds = decodeServiceIds();
+        int decodedBlock = -1;
+        String[] messages = null;
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            int block = row / blockRows;
+            if (block != decodedBlock) {
+                messages = decodeMessageBlock(block);
+                decodedBlock = block;
+            }
+            logs[i] = LogEntity.builder()
+                    .timestamp(LocalDateTime.ofEpochSecond(epochSeconds[row], 0, ZoneOffset.UTC).format(TIMESTAMP_FORMAT))
+                    .level(LEVELS[rowLevels[row]])
+                    .serviceName(serviceNames[serviceIds[row]])
+                    .message(messages[row % blockRows])
+                    .build();
+        }
+        return logs;
+    }
+
+    private long[] decodeTimestamps() {
+        long[] epochSeconds = new long[rowCount];
+        Varints varints = new Varints(timestampsPosition);
+        long previous = minEpochSecond;
+        for (int row = 0; row < rowCount; row++) {
+            long zigzag = varints.next();
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            epochSeconds[row] = previous;
+        }
+        return epochSeconds;
+    }
+
+    private byte[] decodeLevels() {
+        byte[] levels = new byte[rowCount];
+        int words = bitmapWords(rowCount);
+        for (Level level : LEVELS) {
+            if (levelCounts[level.ordinal()] == 0) {
+                continue;
+            }
+            for (int word = 0; word < words; word++) {
+                long bits = bitmapWord(level, word);
+                while (bits != 0) {
+                    levels[(word << 6) + Long.numberOfTrailingZeros(bits)] = (byte) level.ordinal();
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return levels;
+    }
+
+    private int[] decodeServiceIds() {
+        int[] serviceIds = new int[rowCount];
+        Varints varints = new Varints(serviceIdsPosition);
+        for (int row = 0; row < rowCount; row++) {
+            serviceIds[row] = (int) varints.next();
+        }
+        return serviceIds;
+    }
+
+    private long bitmapWord(Level level, int word) {
+        return buffer.getLong(bitmapsPosition + (level.ordinal() * bitmapWords(rowCount) + word) * Long.BYTES);
+    }
+
+    private String[] decodeMessageBlock(int block) {
+        byte[] compressed = new byte[blockPositions[block + 1] - blockPositions[block]];
+        buffer.get(blockPositions[block], compressed);
+        byte[] raw = new byte[blockRawLengths[block]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            inflater.inflate(raw);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("세그먼트 메시지 블록이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+
+        String[] messages = new String[Math.min(blockRows, rowCount - block * blockRows)];
+        ByteBuffer rawBuffer = ByteBuffer.wrap(raw);
+        for (int i = 0; i < messages.length; i++) {
+            int length = (int) readVarint(rawBuffer);
+            messages[i] = new String(raw, rawBuffer.position(), length, StandardCharsets.UTF_8);
+            rawBuffer.position(rawBuffer.position() + length);
+        }
+        return messages;
+    }
+
+    /**
+     * 조건에 맞는 행을 받는 콜백
+     */
+    @FunctionalInterface
+    interface RowVisitor {
+
+        void visit(int row, long epochSecond);
+
+    }
+
+    /**
+     * 매핑된 버퍼의 지정 위치부터 varint를 순서대로 읽는 커서
+     */
+    private final class Varints {
+
+        private final ByteBuffer view;
+
+        private Varints(int position) {
+            this.view = buffer.duplicate().position(position);
+        }
+
+        long next() {
+            return readVarint(view);
+        }
+
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+}
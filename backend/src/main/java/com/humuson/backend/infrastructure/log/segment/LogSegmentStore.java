@@ -0,0 +1,351 @@
+package com.humuson.backend.infrastructure.log.segment;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.config.properties.LogStorageProperties;
+import com.humuson.backend.global.util.LogParseUtil;
+import com.humuson.backend.global.util.ParsedLog;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 파일별 열 단위 세그먼트 저장소
+ * - 로그 파일을 segment.rows줄 단위의 불변 세그먼트(LogSegment)로 변환하여 segment.directory/<파일 이름>/ 아래에 저장
+ * - 집계는 타임스탬프/레벨 열만 읽고 (시간 범위가 세그먼트 전체를 포함하면 헤더만 읽음), 조회는 필요한 메시지 블록만 해제
+ * - 로그 파일은 뒤에만 추가된다고 보고, 파일이 커지면 변환되지 않은 뒷부분만 새 세그먼트로 추가 (줄바꿈으로 끝난 줄까지)
+ * - segment.rows줄이 차지 않은 마지막 세그먼트는 열린 세그먼트로 보고, 파일이 커지면 그 시작 위치부터 다시 변환하여 채움
+ *   (자주 추가되는 파일에서도 작은 세그먼트가 쌓이지 않음)
+ * - 파일이 마지막 세그먼트보다 작아지거나(교체, truncate) 세그먼트가 손상되면 모두 다시 만듦
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "log.storage", name = "type", havingValue = "segment")
+public class LogSegmentStore {
+
+    private static final int READ_BUFFER_SIZE = 1 << 20; // 변환 시 한 번에 읽는 크기 (1MB, 긴 줄이 있으면 확장)
+
+    private final LogStorageProperties properties;
+
+    private final Map<Path, List<LogSegment>> segmentsByFile = new ConcurrentHashMap<>();
+    private final Map<Path, Object> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 로그 파일 전체를 세그먼트로 변환 (기존 세그먼트는 삭제)
+     * - 업로드된 파일처럼 더 이상 바뀌지 않는 파일에 사용하며, 줄바꿈 없이 끝나는 마지막 줄도 포함
+     *
+     * @param logFile 변환할 로그 파일
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public void build(Path logFile) throws IOException {
+        Path key = logFile.toAbsolutePath().normalize();
+        synchronized (lockOf(key)) {
+            deleteSegments(directoryOf(key));
+            List<LogSegment> segments = encode(key, new ArrayList<>(), true);
+            segmentsByFile.put(key, segments);
+            log.info("로그 파일 세그먼트 변환 완료: {} ({}개 세그먼트, {}건)", key.getFileName(), segments.size(),
+                    segments.stream().mapToLong(LogSegment::rowCount).sum());
+        }
+    }
+
+    /**
+     * [start, end) 시각 로그의 레벨별 개수를 집계 (로그 엔터티를 생성하지 않음)
+     *
+     * @param logFile 로그 파일
+     * @param start   시작 시간 (포함, 선택)
+     * @param end     종료 시간 (제외, 선택)
+     * @return Level.ordinal() 위치에 해당 레벨의 로그 개수를 담은 배열
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public long[] countByLevel(Path logFile, LocalDateTime start, LocalDateTime end) throws IOException {
+        long[] counts = new long[Level.values().length];
+        long startEpochSecond = toEpochSecond(start, Long.MIN_VALUE);
+        long endEpochSecond = toEpochSecond(end, Long.MAX_VALUE);
+        for (LogSegment segment : segmentsOf(logFile)) {
+            segment.countByLevel(startEpochSecond, endEpochSecond, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * [start, end) 시각 로그의 분 단위 레벨별 개수를 집계 (로그 엔터티를 생성하지 않음)
+     *
+     * @param logFile 로그 파일
+     * @param start   시작 시간 (포함, 선택)
+     * @param end     종료 시간 (제외, 선택)
+     * @return epoch 분별로 Level.ordinal() 위치에 개수를 담은 맵
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public Map<Long, long[]> countByMinute(Path logFile, LocalDateTime start, LocalDateTime end) throws IOException {
+        Map<Long, long[]> counts = new HashMap<>();
+        long startEpochSecond = toEpochSecond(start, Long.MIN_VALUE);
+        long endEpochSecond = toEpochSecond(end, Long.MAX_VALUE);
+        for (LogSegment segment : segmentsOf(logFile)) {
+            segment.countByMinute(startEpochSecond, endEpochSecond, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * [start, end) 시각에 있고 주어진 레벨인 로그 중 최신 로그를 limit개까지 조회
+     * - 최대 시각이 늦은 세그먼트부터 행의 시각만 보고 limit개 크기의 힙에 유지하며, 힙의 가장 오래된 로그보다 이른 세그먼트는 건너뜀
+     * - 메시지 블록은 최종 결과에 포함된 행의 블록만 해제
+     *
+     * @param logFile 로그 파일
+     * @param levels  조회할 로그 레벨
+     * @param start   시작 시간 (포함, 선택)
+     * @param end     종료 시간 (제외, 선택)
+     * @param limit   반환할 최대 로그 개수
+     * @return 최신순으로 정렬된 로그 목록 (같은 타임스탬프는 파일 뒤쪽 로그가 먼저)
+     * @throws IOException 파일 처리 중 오류 발생 시 예외 발생
+     */
+    public List<LogEntity> readLatest(Path logFile, Set<Level> levels, LocalDateTime start, LocalDateTime end, int limit) throws IOException {
+        List<LogSegment> segments = segmentsOf(logFile);
+        if (segments.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        long startEpochSecond = toEpochSecond(start, Long.MIN_VALUE);
+        long endEpochSecond = toEpochSecond(end, Long.MAX_VALUE);
+        PriorityQueue<Candidate> latest = new PriorityQueue<>(Math.min(limit, 1_024), Candidate.ORDER);
+        List<Integer> newestFirst = IntStream.range(0, segments.size()).boxed()
+                .sorted(Comparator.comparingLong((Integer sequence) -> segments.get(sequence).maxEpochSecond()).reversed())
+                .toList();
+        for (int sequence : newestFirst) {
+            LogSegment segment = segments.get(sequence);
+            if (latest.size() == limit && segment.maxEpochSecond() < latest.peek().epochSecond()) {
+                break;
+            }
+            segment.forEachRow(levels, startEpochSecond, endEpochSecond, (row, epochSecond) -> offer(latest, limit, epochSecond, sequence, row));
+        }
+
+        Candidate[] selected = latest.toArray(new Candidate[0]);
+        Arrays.sort(selected, Candidate.ORDER.reversed());
+        Map<Integer, List<Integer>> indexesBySegment = new HashMap<>();
+        for (int i = 0; i < selected.length; i++) {
+            indexesBySegment.computeIfAbsent(selected[i].sequence(), sequence -> new ArrayList<>()).add(i);
+        }
+        LogEntity[] logs = new LogEntity[selected.length];
+        for (Map.Entry<Integer, List<Integer>> entry : indexesBySegment.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            indexes.sort(Comparator.comparingInt(index -> selected[index].row()));
+            LogEntity[] read = segments.get(entry.getKey()).readRows(indexes.stream().mapToInt(index -> selected[index].row()).toArray());
+            for (int i = 0; i < read.length; i++) {
+                logs[indexes.get(i)] = read[i];
+            }
+        }
+        return List.of(logs);
+    }
+
+    private static void offer(PriorityQueue<Candidate> latest, int limit, long epochSecond, int sequence, int row) {
+        if (latest.size() == limit) {
+            Candidate oldest = latest.peek();
+            if (Candidate.compare(epochSecond, sequence, row, oldest) < 0) {
+                return;
+            }
+            latest.poll();
+        }
+        latest.add(new Candidate(epochSecond, sequence, row));
+    }
+
+    /**
+     * 로그 파일의 현재 내용과 맞춘 세그먼트 목록을 반환
+     * - 메모리, 세그먼트 디렉터리 순으로 찾고, 파일이 커졌으면 뒷부분을 변환하여 추가
+     */
+    private List<LogSegment> segmentsOf(Path logFile) throws IOException {
+        Path key = logFile.toAbsolutePath().normalize();
+        long size = Files.size(key);
+        List<LogSegment> segments = segmentsByFile.get(key);
+        if (segments != null && coveredBytes(segments) == size) {
+            return segments;
+        }
+
+        synchronized (lockOf(key)) {
+            segments = segmentsByFile.get(key);
+            if (segments == null) {
+                segments = load(directoryOf(key));
+            }
+            if (segments == null || coveredBytes(segments) > size) {
+                log.info("로그 파일 세그먼트를 다시 생성: {}", key.getFileName());
+                deleteSegments(directoryOf(key));
+                segments = new ArrayList<>();
+            }
+            if (coveredBytes(segments) < size) {
+                segments = encode(key, new ArrayList<>(segments), false);
+            }
+            segmentsByFile.put(key, segments);
+            return segments;
+        }
+    }
+
+    /**
+     * 이미 변환된 구간 이후의 로그를 읽어 세그먼트로 변환
+     *
+     * @param logFile             변환할 로그 파일
+     * @param segments            기존 세그먼트 목록 (새 세그먼트를 뒤에 추가)
+     * @param includeTrailingLine 줄바꿈 없이 끝나는 마지막 줄 포함 여부 (기록 중인 파일이면 false)
+     * @return 세그먼트 목록
+     */
+    private List<LogSegment> encode(Path logFile, List<LogSegment> segments, boolean includeTrailingLine) throws IOException {
+        Path directory = directoryOf(logFile);
+        Files.createDirectories(directory);
+
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (!segments.isEmpty() && segments.get(segments.size() - 1).rowCount() < properties.segment().rows()) {
+                segments.remove(segments.size() - 1); // 열린 마지막 세그먼트는 같은 번호로 다시 변환
+            }
+            long position = coveredBytes(segments);
+            long segmentFrom = position;
+            LogSegmentWriter writer = new LogSegmentWriter(properties.segment().blockRows());
+            ParsedLog parsedLog = new ParsedLog();
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+            while (position < size) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                boolean endOfFile = position + read >= size;
+                int lineStart = 0;
+                for (int i = 0; i <= read; i++) {
+                    boolean lineEnd = i < read ? buffer.get(i) == '\n' : endOfFile && includeTrailingLine && lineStart < read;
+                    if (!lineEnd) {
+                        continue;
+                    }
+                    boolean parsed = i > lineStart && LogParseUtil.parseLog(decode(buffer, lineStart, i - lineStart), parsedLog);
+                    lineStart = Math.min(i + 1, read);
+                    if (!parsed) {
+                        continue;
+                    }
+                    writer.add(parsedLog);
+                    if (writer.size() == properties.segment().rows()) {
+                        segments.add(write(directory, segments.size(), writer, segmentFrom, position + lineStart));
+                        segmentFrom = position + lineStart;
+                        writer = new LogSegmentWriter(properties.segment().blockRows());
+                    }
+                }
+                if (lineStart == 0) {
+                    if (read == buffer.capacity()) {
+                        buffer = ByteBuffer.allocate(buffer.capacity() * 2); // 버퍼보다 긴 줄
+                        continue;
+                    }
+                    break; // 아직 기록 중인 마지막 줄
+                }
+                position += lineStart;
+            }
+            if (position > segmentFrom) {
+                segments.add(write(directory, segments.size(), writer, segmentFrom, position)); // 로그가 없어도 변환한 위치를 기록
+            }
+            return segments;
+        }
+    }
+
+    private LogSegment write(Path directory, int sequence, LogSegmentWriter writer, long sourceFrom, long sourceTo) throws IOException {
+        Path path = directory.resolve(String.format("%08d", sequence) + LogSegment.EXTENSION);
+        writer.writeTo(path, sourceFrom, sourceTo);
+        return LogSegment.open(path);
+    }
+
+    /**
+     * 세그먼트 디렉터리의 세그먼트를 순서대로 엶
+     *
+     * @return 세그먼트 목록, 디렉터리가 없으면 빈 목록, 손상되었거나 구간이 이어지지 않으면 null
+     */
+    private List<LogSegment> load(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(path -> path.getFileName().toString().endsWith(LogSegment.EXTENSION)).sorted().toList();
+        }
+        List<LogSegment> segments = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            try {
+                LogSegment segment = LogSegment.open(path);
+                if (segment.sourceFrom() != coveredBytes(segments)) {
+                    return null;
+                }
+                segments.add(segment);
+            } catch (IOException | RuntimeException e) {
+                log.warn("손상된 세그먼트 발견: {} ({})", path, e.getMessage());
+                return null;
+            }
+        }
+        return segments;
+    }
+
+    private void deleteSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private Path directoryOf(Path logFile) {
+        return properties.segment().directory().resolve(logFile.getFileName().toString());
+    }
+
+    private Object lockOf(Path key) {
+        return locks.computeIfAbsent(key, path -> new Object());
+    }
+
+    private static long coveredBytes(List<LogSegment> segments) {
+        return segments.isEmpty() ? 0 : segments.get(segments.size() - 1).sourceTo();
+    }
+
+    /**
+     * 최신순 조회에서 힙에 유지하는 행 (시각, 세그먼트 번호, 행 번호 순으로 오래된 행이 앞)
+     */
+    private record Candidate(long epochSecond, int sequence, int row) {
+
+        static final Comparator<Candidate> ORDER = Comparator.comparingLong(Candidate::epochSecond)
+                .thenComparingInt(Candidate::sequence)
+                .thenComparingInt(Candidate::row);
+
+        static int compare(long epochSecond, int sequence, int row, Candidate other) {
+            int compared = Long.compare(epochSecond, other.epochSecond());
+            if (compared == 0) {
+                compared = Integer.compare(sequence, other.sequence());
+            }
+            return compared != 0 ? compared : Integer.compare(row, other.row());
+        }
+
+    }
+
+    private static String decode(ByteBuffer buffer, int start, int length) {
+        return new String(buffer.array(), start, length, StandardCharsets.UTF_8);
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime, long defaultValue) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : defaultValue;
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.humuson.backend.infrastructure.log.segment;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.global.util.ParsedLog;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * 파싱된 로그를 열 단위로 모아 세그먼트 파일로 기록
+ * - 한 인스턴스는 세그먼트 하나를 만들며, 스레드 안전하지 않음
+ * - 파일 형식은 LogSegment 참고
+ */
+final class LogSegmentWriter {
+
+    private static final int LEVEL_COUNT = Level.values().length;
+
+    private final int blockRows;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    private long[] epochSeconds = new long[1_024];
+    private byte[] levels = new byte[1_024];
+    private int[] serviceIds = new int[1_024];
+    private int rowCount;
+
+    private final Map<String, Integer> serviceIdByName = new HashMap<>();
+    private final List<String> serviceNames = new ArrayList<>();
+
+    private final ByteArrayOutputStream currentBlock = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream compressedBlocks = new ByteArrayOutputStream();
+    private final List<int[]> blockLengths = new ArrayList<>(); // {원본 길이, 압축 길이}
+    private final byte[] deflateBuffer = new byte[64 * 1024];
+
+    LogSegmentWriter(int blockRows) {
+        this.blockRows = blockRows;
+    }
+
+    /**
+     * 로그 한 줄을 세그먼트에 추가
+     *
+     * @param parsedLog 파싱된 로그 (호출 안에서만 값을 읽음)
+     */
+    void add(ParsedLog parsedLog) {
+        if (rowCount == epochSeconds.length) {
+            epochSeconds = Arrays.copyOf(epochSeconds, rowCount * 2);
+            levels = Arrays.copyOf(levels, rowCount * 2);
+            serviceIds = Arrays.copyOf(serviceIds, rowCount * 2);
+        }
+        epochSeconds[rowCount] = parsedLog.epochSecond();
+        levels[rowCount] = (byte) parsedLog.level().ordinal();
+        serviceIds[rowCount] = serviceIdByName.computeIfAbsent(parsedLog.serviceName(), name -> {
+            serviceNames.add(name);
+            return serviceNames.size() - 1;
+        });
+        byte[] message = parsedLog.message().getBytes(StandardCharsets.UTF_8);
+        writeVarint(currentBlock, message.length);
+        currentBlock.writeBytes(message);
+        rowCount++;
+        if (rowCount % blockRows == 0) {
+            closeBlock();
+        }
+    }
+
+    int size() {
+        return rowCount;
+    }
+
+    /**
+     * 모은 로그를 세그먼트 파일로 원자적으로 기록 (임시 파일에 쓴 뒤 교체)
+     *
+     * @param path       세그먼트 파일 경로
+     * @param sourceFrom 원본 로그 파일에서 세그먼트가 다루는 구간 시작 위치
+     * @param sourceTo   원본 로그 파일에서 세그먼트가 다루는 구간 종료 위치
+     * @throws IOException 파일 저장 중 오류 발생 시 예외 발생
+     */
+    void writeTo(Path path, long sourceFrom, long sourceTo) throws IOException {
+        closeBlock();
+        deflater.end();
+
+        long minEpochSecond = Long.MAX_VALUE;
+        long maxEpochSecond = Long.MIN_VALUE;
+        long[] levelCounts = new long[LEVEL_COUNT];
+        int words = LogSegment.bitmapWords(rowCount);
+        long[][] bitmaps = new long[LEVEL_COUNT][words];
+        ByteArrayOutputStream timestamps = new ByteArrayOutputStream();
+        ByteArrayOutputStream services = new ByteArrayOutputStream();
+        for (int row = 0; row < rowCount; row++) {
+            minEpochSecond = Math.min(minEpochSecond, epochSeconds[row]);
+            maxEpochSecond = Math.max(maxEpochSecond, epochSeconds[row]);
+            levelCounts[levels[row]]++;
+            bitmaps[levels[row]][row >>> 6] |= 1L << row;
+            writeVarint(services, serviceIds[row]);
+        }
+        long previous = minEpochSecond;
+        for (int row = 0; row < rowCount; row++) {
+            long delta = epochSeconds[row] - previous;
+            writeVarint(timestamps, (delta << 1) ^ (delta >> 63)); // zigzag: 시각이 거꾸로 가는 줄도 작게 기록
+            previous = epochSeconds[row];
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(LogSegment.MAGIC);
+            out.writeInt(LogSegment.VERSION);
+            out.writeLong(sourceFrom);
+            out.writeLong(sourceTo);
+            out.writeInt(rowCount);
+            out.writeLong(minEpochSecond);
+            out.writeLong(maxEpochSecond);
+            for (long levelCount : levelCounts) {
+                out.writeLong(levelCount);
+            }
+            out.writeInt(serviceNames.size());
+            for (String serviceName : serviceNames) {
+                byte[] bytes = serviceName.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(blockRows);
+            out.writeInt(blockLengths.size());
+            for (int[] lengths : blockLengths) {
+                out.writeInt(lengths[0]);
+                out.writeInt(lengths[1]);
+            }
+            out.writeInt(timestamps.size());
+            out.writeInt(services.size());
+
+            timestamps.writeTo(out);
+            for (long[] bitmap : bitmaps) {
+                for (long word : bitmap) {
+                    out.writeLong(word);
+                }
+            }
+            services.writeTo(out);
+            compressedBlocks.writeTo(out);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 모은 메시지를 하나의 블록으로 압축
+     */
+    private void closeBlock() {
+        if (currentBlock.size() == 0) {
+            return;
+        }
+        byte[] raw = currentBlock.toByteArray();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            int length = deflater.deflate(deflateBuffer);
+            compressedBlocks.write(deflateBuffer, 0, length);
+            compressedLength += length;
+        }
+        blockLengths.add(new int[]{raw.length, compressedLength});
+        currentBlock.reset();
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+}
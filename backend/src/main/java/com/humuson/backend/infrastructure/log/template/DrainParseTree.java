@@ -0,0 +1,343 @@
+package com.humuson.backend.infrastructure.log.template;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Drain 방식의 고정 깊이 파스 트리 (온라인 로그 메시지 템플릿 추출)
+ * - 메시지를 공백으로 나눈 뒤 토큰 수 → 앞쪽 토큰(depth - 2개) 순으로 트리를 내려가 잎에 도달하고, 잎의 템플릿 중 가장 비슷한 템플릿에 배정
+ * - 유사도는 같은 위치에 같은 토큰이 있는 비율이며, similarityThreshold 이상이면 기존 템플릿에 병합 (다른 위치의 토큰을 "<*>"로 일반화)
+ *   미만이면 새 템플릿을 생성
+ * - 숫자가 들어간 토큰은 파라미터로 보고 "<*>"로 취급하며, 자식 수가 maxChildren에 도달한 노드는 새 토큰을 "<*>" 자식으로 보냄
+ * - 템플릿 수가 maxTemplates를 넘으면 가장 오래전에 배정된 템플릿과 비게 된 경로를 제거하므로,
+ *   노드 수는 maxTemplates × (depth - 1) 이하로 메시지 종류와 관계없이 제한됨
+ * - 메시지 하나를 처리하는 비용은 잎 하나의 템플릿 수 × 토큰 수에 비례하며 전체 템플릿 수와는 무관
+ * - 스레드 안전하지 않으므로 호출하는 쪽에서 동기화
+ */
+public class DrainParseTree {
+
+    public static final String WILDCARD = "<*>";
+
+    private final int prefixDepth; // 토큰 수 노드 아래에서 앞쪽 토큰으로 내려가는 단계 수
+    private final double similarityThreshold;
+    private final int maxChildren;
+    private final int maxTemplates;
+    private final Supplier<String> idGenerator;
+    private final Consumer<Template> evictionListener;
+    private final Node root = new Node(null, null);
+    private final LinkedHashMap<String, Template> templates = new LinkedHashMap<>(16, 0.75f, true); // 가장 오래전에 배정된 템플릿이 먼저
+    private final Map<String, Template> index = new HashMap<>(); // 배정 순서를 바꾸지 않는 ID 조회용
+    private final Set<Template> changed = new LinkedHashSet<>(); // 마지막 drainChanged() 이후 생성/일반화된 템플릿
+
+    /**
+     * @param depth               트리 깊이 (루트, 토큰 수 노드 포함, 최소 3)
+     * @param similarityThreshold 기존 템플릿에 병합하는 최소 유사도 (0 ~ 1)
+     * @param maxChildren         노드 하나의 최대 자식 수 (초과하는 토큰은 "<*>" 자식으로 보냄)
+     * @param maxTemplates        유지하는 최대 템플릿 수
+     * @param idGenerator         새 템플릿의 ID 생성기
+     * @param evictionListener    템플릿이 제거될 때 호출되는 콜백
+     */
+    public DrainParseTree(int depth, double similarityThreshold, int maxChildren, int maxTemplates,
+            Supplier<String> idGenerator, Consumer<Template> evictionListener) {
+        if (depth < 3 || maxChildren < 2 || maxTemplates < 1) {
+            throw new IllegalArgumentException("depth는 3 이상, maxChildren은 2 이상, maxTemplates는 1 이상이어야 합니다.");
+        }
+        this.prefixDepth = depth - 2;
+        this.similarityThreshold = similarityThreshold;
+        this.maxChildren = maxChildren;
+        this.maxTemplates = maxTemplates;
+        this.idGenerator = idGenerator;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * 메시지를 가장 비슷한 템플릿에 배정 (없으면 새 템플릿 생성)
+     *
+     * @param message 로그 메시지 (null이면 빈 메시지)
+     * @return 배정된 템플릿
+     */
+    public Template add(String message) {
+        String[] tokens = tokenize(message);
+        Node leaf = findLeaf(tokens);
+        Template matched = leaf != null ? bestMatch(leaf, tokens) : null;
+        if (matched != null) {
+            templates.get(matched.id); // 최근 배정 순서 갱신
+            if (matched.merge(tokens)) {
+                changed.add(matched);
+            }
+            return matched;
+        }
+        return register(idGenerator.get(), mask(tokens), true);
+    }
+
+    /**
+     * 저장해 둔 템플릿을 같은 ID로 복원 (재시작 후 같은 패턴에 같은 ID를 배정하기 위함)
+     * - 이미 있는 ID는 무시하며, 나중에 복원한 템플릿일수록 최근에 배정된 것으로 취급
+     *
+     * @param id       템플릿 ID
+     * @param template 템플릿 문자열 (파라미터 위치는 "<*>")
+     */
+    public void restore(String id, String template) {
+        if (!index.containsKey(id)) {
+            register(id, tokenize(template), false);
+        }
+    }
+
+    /**
+     * 마지막 호출 이후 생성되거나 일반화된 템플릿 목록을 반환하고 비움 (제거된 템플릿은 제외)
+     */
+    public List<Template> drainChanged() {
+        List<Template> drained = new ArrayList<>(changed);
+        changed.clear();
+        return drained;
+    }
+
+    /**
+     * ID로 템플릿 조회 (최근 배정 순서는 바꾸지 않음)
+     *
+     * @param id 템플릿 ID
+     * @return 템플릿 (없거나 제거되었으면 null)
+     */
+    public Template get(String id) {
+        return index.get(id);
+    }
+
+    /**
+     * 유지 중인 템플릿 목록 (가장 오래전에 배정된 템플릿부터)
+     */
+    public List<Template> templates() {
+        return List.copyOf(templates.values());
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    /**
+     * 트리의 노드 수 (루트 제외)
+     */
+    public int nodeCount() {
+        return root.countDescendants();
+    }
+
+    /**
+     * 토큰으로 트리를 내려가 잎을 찾음 (노드를 만들지 않음)
+     * - 토큰과 같은 자식이 없으면 "<*>" 자식으로 내려감
+     */
+    private Node findLeaf(String[] tokens) {
+        Node node = root.children.get(tokens.length);
+        for (int i = 0; node != null && i < Math.min(prefixDepth, tokens.length); i++) {
+            String token = hasDigit(tokens[i]) ? WILDCARD : tokens[i];
+            Node child = node.children.get(token);
+            node = child != null ? child : node.children.get(WILDCARD);
+        }
+        return node;
+    }
+
+    /**
+     * 토큰으로 트리를 내려가며 없는 노드를 만들어 잎을 반환
+     * - 숫자가 들어간 토큰과, 자식 수가 maxChildren에 도달한 노드의 새 토큰은 "<*>" 자식으로 보냄
+     *   ("<*>" 자식이 들어갈 자리를 하나 남겨 둠)
+     */
+    private Node createLeaf(String[] tokens) {
+        Node node = root.children.computeIfAbsent(tokens.length, key -> new Node(root, key));
+        for (int i = 0; i < Math.min(prefixDepth, tokens.length); i++) {
+            String token = hasDigit(tokens[i]) ? WILDCARD : tokens[i];
+            Node child = node.children.get(token);
+            if (child == null) {
+                boolean full = node.children.size() + (node.children.containsKey(WILDCARD) ? 0 : 1) >= maxChildren;
+                String key = full ? WILDCARD : token;
+                Node parent = node;
+                child = node.children.computeIfAbsent(key, ignored -> new Node(parent, key));
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * 잎의 템플릿 중 유사도가 가장 높은 템플릿을 찾음 (유사도가 같으면 "<*>"가 많은 템플릿)
+     *
+     * @return 유사도가 similarityThreshold 이상인 템플릿 (없으면 null)
+     */
+    private Template bestMatch(Node leaf, String[] tokens) {
+        Template best = null;
+        double bestSimilarity = -1;
+        int bestWildcards = -1;
+        for (Template candidate : leaf.templates) {
+            int same = 0;
+            int wildcards = 0;
+            for (int i = 0; i < tokens.length; i++) {
+                String token = candidate.tokens[i];
+                if (token == WILDCARD) {
+                    wildcards++;
+                } else if (token.equals(tokens[i])) {
+                    same++;
+                }
+            }
+            double similarity = tokens.length == 0 ? 1.0 : (double) same / tokens.length;
+            if (similarity > bestSimilarity || similarity == bestSimilarity && wildcards > bestWildcards) {
+                best = candidate;
+                bestSimilarity = similarity;
+                bestWildcards = wildcards;
+            }
+        }
+        return bestSimilarity >= similarityThreshold ? best : null;
+    }
+
+    private Template register(String id, String[] tokens, boolean markChanged) {
+        Node leaf = createLeaf(tokens);
+        Template template = new Template(id, tokens, leaf);
+        leaf.templates.add(template);
+        templates.put(id, template);
+        index.put(id, template);
+        if (markChanged) {
+            changed.add(template);
+        }
+        evictIfFull();
+        return template;
+    }
+
+    private void evictIfFull() {
+        Iterator<Template> iterator = templates.values().iterator();
+        while (templates.size() > maxTemplates) {
+            Template evicted = iterator.next();
+            iterator.remove();
+            index.remove(evicted.id);
+            changed.remove(evicted);
+            Node node = evicted.leaf;
+            node.templates.remove(evicted);
+            evicted.leaf = null;
+            while (node != root && node.templates.isEmpty() && node.children.isEmpty()) {
+                node.parent.children.remove(node.key);
+                node = node.parent;
+            }
+            evictionListener.accept(evicted);
+        }
+    }
+
+    /**
+     * 숫자가 들어간 토큰을 "<*>"로 바꾼 새 토큰 배열 (새 템플릿의 초기값)
+     */
+    private static String[] mask(String[] tokens) {
+        String[] masked = new String[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            masked[i] = hasDigit(tokens[i]) ? WILDCARD : tokens[i];
+        }
+        return masked;
+    }
+
+    /**
+     * 공백(스페이스, 탭)으로 메시지를 나눔 (연속된 공백은 하나로 취급, "<*>"는 WILDCARD 상수로 치환)
+     */
+    static String[] tokenize(String message) {
+        if (message == null || message.isEmpty()) {
+            return new String[0];
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= message.length(); i++) {
+            boolean separator = i == message.length() || message.charAt(i) == ' ' || message.charAt(i) == '\t';
+            if (separator && start >= 0) {
+                String token = message.substring(start, i);
+                tokens.add(WILDCARD.equals(token) ? WILDCARD : token);
+                start = -1;
+            } else if (!separator && start < 0) {
+                start = i;
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    private static boolean hasDigit(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 메시지 템플릿 (파라미터 위치는 "<*>")
+     */
+    public static final class Template {
+
+        private final String id;
+        private final String[] tokens;
+        private Node leaf; // 템플릿이 속한 잎 (제거되면 null)
+        private String template; // 토큰을 공백으로 이은 문자열 (일반화될 때마다 갱신)
+
+        private Template(String id, String[] tokens, Node leaf) {
+            this.id = id;
+            this.tokens = tokens;
+            this.leaf = leaf;
+            this.template = String.join(" ", tokens);
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String template() {
+            return template;
+        }
+
+        /**
+         * 메시지와 다른 위치의 토큰을 "<*>"로 일반화
+         *
+         * @return 템플릿이 바뀌었으면 true
+         */
+        private boolean merge(String[] messageTokens) {
+            boolean updated = false;
+            for (int i = 0; i < tokens.length; i++) {
+                if (tokens[i] != WILDCARD && !tokens[i].equals(messageTokens[i])) {
+                    tokens[i] = WILDCARD;
+                    updated = true;
+                }
+            }
+            if (updated) {
+                template = String.join(" ", tokens);
+            }
+            return updated;
+        }
+
+    }
+
+    /**
+     * 파스 트리 노드
+     * - 루트의 자식은 토큰 수(Integer), 그 아래는 토큰(String)을 키로 가짐
+     * - 잎에만 템플릿이 있음
+     */
+    private static final class Node {
+
+        private final Node parent;
+        private final Object key;
+        private final Map<Object, Node> children = new HashMap<>();
+        private final List<Template> templates = new ArrayList<>();
+
+        private Node(Node parent, Object key) {
+            this.parent = parent;
+            this.key = key;
+        }
+
+        private int countDescendants() {
+            int count = children.size();
+            for (Node child : children.values()) {
+                count += child.countDescendants();
+            }
+            return count;
+        }
+
+    }
+
+}
@@ -0,0 +1,315 @@
+package com.humuson.backend.infrastructure.log.template;
+
+import static com.humuson.backend.global.constant.Format.MINUTE_BUCKET_FORMAT;
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateCount;
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateDistribution;
+import com.humuson.backend.domain.log.model.dto.result.LogTemplateTop;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.entity.LogTemplateEntity;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.LogTemplateProperties;
+import com.humuson.backend.global.util.LogParseUtil;
+import com.humuson.backend.infrastructure.log.repository.MongoLogTemplateRepository;
+import com.humuson.backend.infrastructure.log.template.DrainParseTree.Template;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 메시지 템플릿 추출기
+ * - 적재 직전에 로그마다 Drain 파스 트리로 템플릿을 찾아 templateId를 할당 (MongoDB에 templateId와 함께 저장됨)
+ * - 새로 생기거나 일반화된 템플릿은 log_templates 컬렉션에 저장하고, 시작 시 최근 템플릿부터 maxTemplates개를 복원하여 ID를 유지
+ *   (저장은 전용 스레드 하나가 잠금 밖에서 수행하므로 MongoDB 응답 시간이 템플릿 할당과 조회를 막지 않음)
+ * - 적재된 로그는 템플릿 × 분 × 로그 레벨 개수를 최근 window(분) 동안 링으로 유지하므로, 상위 템플릿 조회 시 로그를 읽지 않음
+ * - 메모리는 템플릿 수(maxTemplates)와 window로 고정되며 로그 개수나 메시지 종류와 관계없음
+ *   (제거된 템플릿의 개수는 버리고, 이후 같은 패턴의 로그는 새 템플릿으로 집계)
+ */
+@Slf4j
+@Component
+public class LogTemplateMiner {
+
+    private static final int LEVEL_COUNT = Level.values().length;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final MongoLogTemplateRepository mongoLogTemplateRepository;
+    private final LogTemplateProperties properties;
+    private final DrainParseTree parseTree;
+    private final int slotCount; // 유지하는 분 수
+    private final long[] slotIds; // 각 칸이 담고 있는 epoch 분
+    private final Map<String, long[]> counts = new HashMap<>(); // 템플릿 ID → [칸 * LEVEL_COUNT + level.ordinal()]
+    private final Map<String, LogTemplateEntity> pendingSaves = new LinkedHashMap<>(); // 템플릿 ID → 저장할 최신 내용 (pendingSaves로 동기화)
+    private final ExecutorService persister = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "log-template-persister");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean persistScheduled; // pendingSaves로 동기화
+
+    public LogTemplateMiner(MongoLogTemplateRepository mongoLogTemplateRepository, LogTemplateProperties properties) {
+        this.mongoLogTemplateRepository = mongoLogTemplateRepository;
+        this.properties = properties;
+        this.parseTree = new DrainParseTree(properties.depth(), properties.similarityThreshold(), properties.maxChildren(), properties.maxTemplates(),
+                () -> new ObjectId().toHexString(), evicted -> counts.remove(evicted.id()));
+        this.slotCount = (int) Math.max(1, properties.window().toMinutes());
+        this.slotIds = new long[slotCount];
+        Arrays.fill(slotIds, EMPTY);
+    }
+
+    /**
+     * log_templates 컬렉션에서 최근에 갱신된 템플릿을 maxTemplates개까지 복원
+     * - 적재보다 먼저 실행되어야 같은 패턴에 이전과 같은 ID가 할당됨
+     */
+    @PostConstruct
+    public void restore() {
+        try {
+            List<LogTemplateEntity> saved = new ArrayList<>(mongoLogTemplateRepository.findAllByOrderByUpdatedAtDesc(PageRequest.of(0, properties.maxTemplates())));
+            Collections.reverse(saved); // 오래된 템플릿부터 복원하여 최근 템플릿이 나중에 제거되도록 함
+            synchronized (this) {
+                saved.forEach(template -> parseTree.restore(template.getId(), template.getTemplate()));
+            }
+            log.info("로그 템플릿 복원 완료: {}개", saved.size());
+        } catch (Exception e) {
+            log.warn("로그 템플릿 복원 실패, 새 템플릿으로 시작: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로그마다 메시지 템플릿을 찾아 templateId를 할당 (적재 직전에 호출)
+     * - 새로 생기거나 일반화된 템플릿은 잠금 안에서 저장 대기 목록에 최신 내용으로 덮어쓰고, 저장은 전용 스레드에 맡김
+     * - 저장 스레드가 하나이고 대기 목록은 템플릿마다 마지막 내용만 가지므로, 한 템플릿의 이전 내용이 최신 내용을 덮어쓰지 않음
+     *
+     * @param logs 적재할 로그 목록
+     */
+    public void assign(List<LogEntity> logs) {
+        boolean schedule;
+        synchronized (this) {
+            for (LogEntity logEntity : logs) {
+                logEntity.assignTemplate(parseTree.add(logEntity.getMessage()).id());
+            }
+            List<Template> changed = parseTree.drainChanged();
+            if (changed.isEmpty()) {
+                return;
+            }
+            String updatedAt = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+            synchronized (pendingSaves) {
+                for (Template template : changed) {
+                    pendingSaves.put(template.id(), LogTemplateEntity.builder().id(template.id()).template(template.template()).updatedAt(updatedAt).build());
+                }
+                schedule = !persistScheduled;
+                persistScheduled = true;
+            }
+        }
+        if (schedule) {
+            try {
+                persister.execute(this::persistPending);
+            } catch (RejectedExecutionException e) {
+                log.debug("종료 중이므로 로그 템플릿 저장 예약 생략");
+            }
+        }
+    }
+
+    /**
+     * 저장 대기 중인 템플릿을 한 번에 저장 (저장 스레드에서 실행)
+     * - 저장에 실패하면 그사이 더 최신 내용이 대기하지 않는 템플릿만 다시 대기시키고, 다음에 템플릿이 바뀔 때 함께 저장
+     */
+    private void persistPending() {
+        List<LogTemplateEntity> batch;
+        synchronized (pendingSaves) {
+            batch = List.copyOf(pendingSaves.values());
+            pendingSaves.clear();
+            persistScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            mongoLogTemplateRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            log.warn("로그 템플릿 {}개 저장 실패: {}", batch.size(), e.getMessage());
+            synchronized (pendingSaves) {
+                batch.forEach(template -> pendingSaves.putIfAbsent(template.getId(), template));
+            }
+        }
+    }
+
+    /**
+     * 적재된 로그를 템플릿 × 분 × 로그 레벨 개수에 더함
+     * - 템플릿이 없거나 이미 제거된 로그, 링 범위를 벗어난 (오래되었거나 미래인) 로그는 무시
+     *
+     * @param event 로그 적재 이벤트
+     */
+    @EventListener
+    public void onLogIngested(LogIngestedEvent event) {
+        long current = currentMinute();
+        synchronized (this) {
+            for (LogEntity logEntity : event.logs()) {
+                long epochSecond = LogParseUtil.parseEpochSecond(logEntity.getTimestamp(), 0);
+                if (logEntity.getTemplateId() != null && epochSecond >= 0) {
+                    add(logEntity.getTemplateId(), Math.floorDiv(epochSecond, 60), current, logEntity.getLevel());
+                }
+            }
+        }
+    }
+
+    /**
+     * 최근 window 동안 로그가 가장 많은 템플릿을 조회
+     *
+     * @param level  집계할 로그 레벨 (null이면 모든 레벨)
+     * @param window 조회 범위 (분 단위로 올림, 최대 설정의 window)
+     * @param k      반환할 최대 템플릿 개수
+     * @return 로그 개수 내림차순 상위 K개
+     */
+    public LogTemplateTop getTopTemplates(Level level, Duration window, int k) {
+        long current = currentMinute();
+        synchronized (this) {
+            int[] slots = selectSlots(current, window);
+            long totalCount = 0;
+            List<LogTemplateCount> items = new ArrayList<>();
+            for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+                Map<Level, Long> countsByLevel = new EnumMap<>(Level.class);
+                long count = 0;
+                for (int slot : slots) {
+                    for (Level candidate : Level.values()) {
+                        long levelCount = entry.getValue()[slot * LEVEL_COUNT + candidate.ordinal()];
+                        if (levelCount > 0) {
+                            countsByLevel.merge(candidate, levelCount, Long::sum);
+                            if (level == null || level == candidate) {
+                                count += levelCount;
+                            }
+                        }
+                    }
+                }
+                if (count > 0) {
+                    totalCount += count;
+                    items.add(LogTemplateCount.of(entry.getKey(), parseTree.get(entry.getKey()).template(), count, countsByLevel));
+                }
+            }
+            items.sort(Comparator.comparingLong(LogTemplateCount::count).reversed().thenComparing(LogTemplateCount::templateId));
+            return LogTemplateTop.of(level, totalCount, parseTree.size(), List.copyOf(items.subList(0, Math.min(k, items.size()))));
+        }
+    }
+
+    /**
+     * 최근 window 동안 템플릿 하나의 분 단위, 로그 레벨별 개수를 조회
+     *
+     * @param templateId 템플릿 ID
+     * @param window     조회 범위 (분 단위로 올림, 최대 설정의 window)
+     * @return 템플릿의 분 단위 분포 (메모리에 없는 템플릿이면 empty)
+     */
+    public Optional<LogTemplateDistribution> getDistribution(String templateId, Duration window) {
+        long current = currentMinute();
+        synchronized (this) {
+            Template template = parseTree.get(templateId);
+            if (template == null) {
+                return Optional.empty();
+            }
+            long[] templateCounts = counts.get(templateId);
+            Map<String, Map<Level, Long>> distribution = new TreeMap<>();
+            for (int slot : templateCounts == null ? new int[0] : selectSlots(current, window)) {
+                Map<Level, Long> levelCounts = new EnumMap<>(Level.class);
+                for (Level level : Level.values()) {
+                    long count = templateCounts[slot * LEVEL_COUNT + level.ordinal()];
+                    if (count > 0) {
+                        levelCounts.put(level, count);
+                    }
+                }
+                if (!levelCounts.isEmpty()) {
+                    distribution.put(LocalDateTime.ofEpochSecond(slotIds[slot] * 60, 0, ZoneOffset.UTC).format(MINUTE_BUCKET_FORMAT), levelCounts);
+                }
+            }
+            return Optional.of(LogTemplateDistribution.of(templateId, template.template(), distribution));
+        }
+    }
+
+    private void add(String templateId, long minute, long current, Level level) {
+        if (minute > current || minute <= current - slotCount) {
+            return;
+        }
+        long[] templateCounts = counts.get(templateId);
+        if (templateCounts == null) {
+            if (parseTree.get(templateId) == null) {
+                return; // 적재하는 사이에 제거된 템플릿
+            }
+            templateCounts = new long[slotCount * LEVEL_COUNT];
+            counts.put(templateId, templateCounts);
+        }
+        int index = (int) Math.floorMod(minute, (long) slotCount);
+        if (slotIds[index] != minute) {
+            if (slotIds[index] > minute) {
+                return; // 이미 더 최근 분이 사용 중인 칸
+            }
+            resetSlot(index, minute);
+        }
+        templateCounts[index * LEVEL_COUNT + (level != null ? level : Level.UNKNOWN).ordinal()]++;
+    }
+
+    private void resetSlot(int index, long minute) {
+        slotIds[index] = minute;
+        for (long[] templateCounts : counts.values()) {
+            Arrays.fill(templateCounts, index * LEVEL_COUNT, (index + 1) * LEVEL_COUNT, 0);
+        }
+    }
+
+    /**
+     * 조회 범위에 속하고 해당 분의 값을 담고 있는 칸 목록
+     */
+    private int[] selectSlots(long current, Duration window) {
+        int minutes = (int) Math.min(slotCount, Math.max(1, -Math.floorDiv(-window.toSeconds(), 60)));
+        List<Integer> selected = new ArrayList<>(minutes);
+        for (long minute = current - minutes + 1; minute <= current; minute++) {
+            int index = (int) Math.floorMod(minute, (long) slotCount);
+            if (slotIds[index] == minute) {
+                selected.add(index);
+            }
+        }
+        return selected.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 예약된 저장을 마치고, 남은 대기 템플릿을 마지막으로 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        persister.shutdown();
+        try {
+            if (!persister.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("로그 템플릿 저장 스레드 종료 대기 시간 초과");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        persistPending();
+    }
+
+    private static long currentMinute() {
+        return Math.floorDiv(LocalDateTime.now().toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.humuson.backend.infrastructure.log.topk;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch
+ * - depth개의 행마다 width개의 카운터를 두고, 키마다 행별로 카운터 하나씩을 증가시킴 (메모리는 키 개수와 관계없이 width × depth개)
+ * - 추정값은 행별 카운터의 최솟값이며, 실제 개수보다 작아지지 않음
+ * - 전체 개수가 N일 때 추정값 - 실제 개수 ≤ εN (ε = e / width)이 확률 1 - δ (δ = e^-depth) 이상으로 성립
+ *   (예: width 2048, depth 4 → ε ≈ 0.0013, δ ≈ 0.018)
+ * - 행마다 키 해시에 다른 값을 더한 뒤 섞어서 위치를 계산하므로, 한 행에서 충돌한 키가 다른 행에서도 충돌할 가능성이 낮음
+ * - 스레드 안전하지 않음
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counters; // [행 * width + 열]
+    private long totalCount;
+
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("width, depth는 1 이상이어야 합니다: " + width + ", " + depth);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    /**
+     * 키의 개수를 증가시키고, 증가시킨 뒤의 추정값을 반환
+     *
+     * @param key   키
+     * @param count 증가시킬 개수
+     * @return 키의 추정 개수
+     */
+    public long add(String key, long count) {
+        int hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = indexOf(row, hash);
+            counters[index] += count;
+            estimate = Math.min(estimate, counters[index]);
+        }
+        totalCount += count;
+        return estimate;
+    }
+
+    /**
+     * 키의 추정 개수 (실제 개수 이상)
+     *
+     * @param key 키
+     * @return 키의 추정 개수
+     */
+    public long estimate(String key) {
+        int hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[indexOf(row, hash)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * 지금까지 더한 전체 개수 (N)
+     */
+    public long totalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 추정값이 실제 개수를 초과할 수 있는 최대 비율 ε (= e / width)
+     */
+    public double epsilon() {
+        return Math.E / width;
+    }
+
+    /**
+     * 추정 오차가 εN을 넘을 확률 δ (= e^-depth)
+     */
+    public double delta() {
+        return Math.exp(-depth);
+    }
+
+    public void clear() {
+        Arrays.fill(counters, 0);
+        totalCount = 0;
+    }
+
+    private int indexOf(int row, int hash) {
+        return row * width + Math.floorMod(mix(hash + (row + 1) * 0x9E3779B9), width);
+    }
+
+    /**
+     * 해시 값을 고르게 섞음 (String.hashCode의 하위 비트 편중 완화, MurmurHash3 fmix32)
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.humuson.backend.infrastructure.log.topk;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Count-Min Sketch와 크기가 고정된 후보 목록으로 자주 나타나는 키(heavy hitter)를 추적
+ * - 키를 더할 때마다 스케치의 추정값으로 후보 목록을 갱신하고, 후보 목록이 가득 차면 추정값이 가장 작은 후보를 교체
+ * - 메모리는 스케치(width × depth)와 후보(capacity개)로 고정되며, 키 종류가 아무리 많아도 늘어나지 않음
+ * - 실제 개수가 εN보다 큰 키는 (확률 1 - δ로) 추정값이 후보 목록의 최솟값보다 커서 후보 목록에 남음
+ * - 스레드 안전하지 않음
+ */
+public final class HeavyHitters {
+
+    private final CountMinSketch sketch;
+    private final int capacity;
+    private final Map<String, Long> candidates; // 키 → 마지막으로 확인한 추정값
+    private long minEstimate; // 후보 추정값 최솟값의 하한 (추정값은 줄지 않으므로, 이 값 이하인 키는 후보를 찾지 않고 건너뜀)
+
+    public HeavyHitters(int width, int depth, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.sketch = new CountMinSketch(width, depth);
+        this.capacity = capacity;
+        this.candidates = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키의 개수를 증가시키고 후보 목록을 갱신
+     *
+     * @param key   키
+     * @param count 증가시킬 개수
+     */
+    public void add(String key, long count) {
+        long estimate = sketch.add(key, count);
+        if (candidates.containsKey(key) || candidates.size() < capacity) {
+            candidates.put(key, estimate);
+            return;
+        }
+        if (estimate <= minEstimate) {
+            return;
+        }
+        Map.Entry<String, Long> smallest = null;
+        for (Map.Entry<String, Long> candidate : candidates.entrySet()) {
+            if (smallest == null || candidate.getValue() < smallest.getValue()) {
+                smallest = candidate;
+            }
+        }
+        minEstimate = smallest.getValue();
+        if (estimate > minEstimate) {
+            candidates.remove(smallest.getKey());
+            candidates.put(key, estimate);
+        }
+    }
+
+    /**
+     * 추정값이 큰 순서로 최대 k개의 키를 반환
+     *
+     * @param k 반환할 최대 키 개수
+     * @return 키와 추정 개수 (추정 개수 내림차순)
+     */
+    public List<Map.Entry<String, Long>> top(int k) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(candidates.size());
+        for (String key : candidates.keySet()) {
+            entries.add(Map.entry(key, sketch.estimate(key)));
+        }
+        entries.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+        return entries.subList(0, Math.min(k, entries.size()));
+    }
+
+    public long estimate(String key) {
+        return sketch.estimate(key);
+    }
+
+    public Iterable<String> candidateKeys() {
+        return candidates.keySet();
+    }
+
+    public long totalCount() {
+        return sketch.totalCount();
+    }
+
+    public double epsilon() {
+        return sketch.epsilon();
+    }
+
+    public double delta() {
+        return sketch.delta();
+    }
+
+    public void clear() {
+        sketch.clear();
+        candidates.clear();
+        minEstimate = 0;
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.humuson.backend.infrastructure.log.topk;
+
+import com.humuson.backend.domain.log.model.dto.result.LogHeavyHitter;
+import com.humuson.backend.domain.log.model.dto.result.LogTopK;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.entity.TopKDimension;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.LogTopKProperties;
+import com.humuson.backend.global.util.LogParseUtil;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 레벨별 상위 K개 서비스/메시지 추적기
+ * - 최근 window를 slot 길이의 구간으로 나눈 링을 두고, 구간 × 로그 레벨 × 집계 기준마다 HeavyHitters(Count-Min Sketch + 후보 목록)를 유지
+ * - 로그가 적재될 때마다 타임스탬프가 속한 구간에 서비스 이름과 메시지(숫자를 "<*>"로 치환)를 더함
+ * - 조회는 범위에 속한 구간의 후보를 합친 뒤, 후보마다 구간별 추정값을 더해 정렬하므로 로그를 읽지 않음
+ * - 메모리는 설정(width, depth, candidates, window / slot)으로 고정되며, 로그 개수나 키 종류와 관계없음
+ * - 정확도: 추정 개수는 실제 개수 이상이고, 조회 구간의 해당 레벨 로그 수가 N이면 초과분은 εN 이하 (구간별로 확률 1 - δ)
+ *   (구간마다 후보 목록에 들지 못할 만큼 조금씩 나타나는 키는 결과에서 빠질 수 있음)
+ */
+@Component
+public class LogHeavyHitterTracker {
+
+    private static final int LEVEL_COUNT = Level.values().length;
+    private static final int DIMENSION_COUNT = TopKDimension.values().length;
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long slotSeconds;
+    private final int slotCount;
+    private final long[] slotIds; // 각 구간이 담고 있는 구간 번호 (epoch 초 / slotSeconds)
+    private final HeavyHitters[] hitters; // [(구간 * LEVEL_COUNT + level.ordinal()) * DIMENSION_COUNT + dimension.ordinal()]
+    private final AtomicLong version = new AtomicLong(); // 집계가 바뀔 때마다 증가
+
+    public LogHeavyHitterTracker(LogTopKProperties properties) {
+        this.slotSeconds = Math.max(1, properties.slot().toSeconds());
+        this.slotCount = (int) Math.max(1, ceilDiv(properties.window().toSeconds(), slotSeconds));
+        this.slotIds = new long[slotCount];
+        Arrays.fill(slotIds, EMPTY);
+        this.hitters = new HeavyHitters[slotCount * LEVEL_COUNT * DIMENSION_COUNT];
+        for (int i = 0; i < hitters.length; i++) {
+            hitters[i] = new HeavyHitters(properties.width(), properties.depth(), properties.candidates());
+        }
+    }
+
+    /**
+     * 적재된 로그를 타임스탬프가 속한 구간에 더함
+     * - 링 범위를 벗어난 (오래되었거나 미래인) 로그는 무시
+     *
+     * @param event 로그 적재 이벤트
+     */
+    @EventListener
+    public void onLogIngested(LogIngestedEvent event) {
+        long current = currentSlot();
+        boolean changed = false;
+        synchronized (this) {
+            for (LogEntity logEntity : event.logs()) {
+                long epochSecond = LogParseUtil.parseEpochSecond(logEntity.getTimestamp(), 0);
+                if (epochSecond >= 0 && add(epochSecond / slotSeconds, current, logEntity)) {
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 최근 window 동안 지정된 로그 레벨에서 가장 많이 나타난 서비스/메시지를 조회
+     *
+     * @param level     로그 레벨
+     * @param dimension 집계 기준
+     * @param window    조회 범위 (slot 단위로 올림, 최대 설정의 window)
+     * @param k         반환할 최대 키 개수 (최대 설정의 candidates)
+     * @return 추정 개수 내림차순 상위 K개와 오차 범위
+     */
+    public LogTopK getTopK(Level level, TopKDimension dimension, Duration window, int k) {
+        long current = currentSlot();
+        int slots = (int) Math.min(slotCount, Math.max(1, ceilDiv(window.toSeconds(), slotSeconds)));
+        synchronized (this) {
+            List<HeavyHitters> selected = new ArrayList<>(slots);
+            for (long slot = current - slots + 1; slot <= current; slot++) {
+                int index = (int) Math.floorMod(slot, (long) slotCount);
+                if (slotIds[index] == slot) {
+                    selected.add(hitters[indexOf(index, level, dimension)]);
+                }
+            }
+            long totalCount = 0;
+            double errorBound = 0;
+            Set<String> keys = new HashSet<>();
+            for (HeavyHitters slotHitters : selected) {
+                totalCount += slotHitters.totalCount();
+                errorBound += slotHitters.epsilon() * slotHitters.totalCount();
+                slotHitters.candidateKeys().forEach(keys::add);
+            }
+            List<LogHeavyHitter> items = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                long estimate = 0;
+                for (HeavyHitters slotHitters : selected) {
+                    estimate += slotHitters.estimate(key);
+                }
+                items.add(LogHeavyHitter.of(key, estimate));
+            }
+            items.sort(Comparator.comparingLong(LogHeavyHitter::estimatedCount).reversed().thenComparing(LogHeavyHitter::key));
+            return LogTopK.of(level, dimension, totalCount, (long) Math.ceil(errorBound), List.copyOf(items.subList(0, Math.min(k, items.size()))));
+        }
+    }
+
+    /**
+     * 추적기 버전 (적재로 집계가 바뀔 때마다 증가)
+     * - 구독자에게 변경을 알릴지 판단할 때 사용
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 메시지의 숫자를 "<*>"로 치환 (주문 번호, 사용자 ID만 다른 메시지를 같은 키로 집계)
+     */
+    static String normalizeMessage(String message) {
+        return message == null ? "" : NUMBER.matcher(message).replaceAll("<*>");
+    }
+
+    private boolean add(long slot, long current, LogEntity logEntity) {
+        if (slot > current || slot <= current - slotCount) {
+            return false;
+        }
+        int index = (int) Math.floorMod(slot, (long) slotCount);
+        if (slotIds[index] != slot) {
+            if (slotIds[index] > slot) {
+                return false; // 이미 더 최근 구간이 사용 중인 위치
+            }
+            resetSlot(index, slot);
+        }
+        Level level = logEntity.getLevel() != null ? logEntity.getLevel() : Level.UNKNOWN;
+        String serviceName = logEntity.getServiceName() != null ? logEntity.getServiceName() : "";
+        hitters[indexOf(index, level, TopKDimension.SERVICE)].add(serviceName, 1);
+        hitters[indexOf(index, level, TopKDimension.MESSAGE)].add(normalizeMessage(logEntity.getMessage()), 1);
+        return true;
+    }
+
+    private void resetSlot(int index, long slot) {
+        slotIds[index] = slot;
+        int from = index * LEVEL_COUNT * DIMENSION_COUNT;
+        for (int i = from; i < from + LEVEL_COUNT * DIMENSION_COUNT; i++) {
+            hitters[i].clear();
+        }
+    }
+
+    private static int indexOf(int slotIndex, Level level, TopKDimension dimension) {
+        return (slotIndex * LEVEL_COUNT + level.ordinal()) * DIMENSION_COUNT + dimension.ordinal();
+    }
+
+    private long currentSlot() {
+        return LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / slotSeconds;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.humuson.backend.domain.log.model.dto.condition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 커서 문자열 인코딩/디코딩과 잘못된 커서 처리
+ */
+class LogCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치이고, 문자열은 URL에 그대로 쓸 수 있음")
+    void decodesWhatWasEncoded() {
+        String id = new ObjectId().toHexString();
+        LogEntity log = LogEntity.builder().id(id).timestamp("2024-02-29 23:59:59").level(Level.ERROR).build();
+
+        String encoded = LogCursor.from(log).encode();
+
+        assertThat(LogCursor.decode(encoded)).isEqualTo(new LogCursor("2024-02-29 23:59:59", id));
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("구분자가 들어간 타임스탬프도 마지막 구분자 기준으로 나눔")
+    void splitsAtLastSeparator() {
+        String id = new ObjectId().toHexString();
+
+        assertThat(LogCursor.decode(new LogCursor("a|b", id).encode())).isEqualTo(new LogCursor("a|b", id));
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)")
+    void blankCursorIsFirstPage() {
+        assertThat(LogCursor.decode(null)).isNull();
+        assertThat(LogCursor.decode("")).isNull();
+        assertThat(LogCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("base64가 아니거나 구분자, 타임스탬프, ObjectId가 맞지 않으면 InvalidCursorException")
+    void rejectsMalformedCursors() {
+        String id = new ObjectId().toHexString();
+
+        assertThatThrownBy(() -> LogCursor.decode("%%%")).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> LogCursor.decode(encode("2025-01-01 00:00:00"))).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> LogCursor.decode(encode("|" + id))).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> LogCursor.decode(encode("2025-01-01 00:00:00|not-an-object-id"))).isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.humuson.backend.domain.log.service;
+
+import static com.humuson.backend.global.constant.Format.MINUTE_BUCKET_FORMAT;
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.LogQueryCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 분 단위 집계 캐시가 닫힌 분을 캐시에서 제공하고, 지나간 분에 로그가 적재되면 해당 분의 결과를 다시 집계하는지 확인
+ * - 지나간 날짜의 분 경계에 맞는 범위로 조회하여 모든 분이 닫힌 분(캐시 대상)이 되도록 함
+ */
+class LogCountCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime END = START.plusMinutes(10);
+
+    private StubReactiveLogQueryService queryService;
+    private LogCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        queryService = new StubReactiveLogQueryService();
+        cache = new LogCountCache(queryService, new LogQueryCacheProperties(1_000, Duration.ofDays(7)), new SimpleMeterRegistry());
+        queryService.store(START.plusMinutes(1), Level.INFO, 3);
+        queryService.store(START.plusMinutes(4), Level.ERROR, 2);
+    }
+
+    @Test
+    @DisplayName("한 번 집계한 닫힌 분은 MongoDB로 다시 집계하지 않고 캐시에서 조회")
+    void closedMinutesAreServedFromCache() {
+        Map<String, Map<Level, Long>> first = cache.getCountsByMinute(START, END).block();
+        Map<String, Map<Level, Long>> second = cache.getCountsByMinute(START, END).block();
+
+        assertThat(first).containsOnlyKeys(key(START.plusMinutes(1)), key(START.plusMinutes(4)));
+        assertThat(second).isEqualTo(first);
+        assertThat(queryService.loads).containsExactly(List.of(START, END));
+        assertThat(cache.getStats().hitCount()).isEqualTo(10);
+        assertThat(cache.getCountsByLevel(START, END).block()).containsOnly(Map.entry(Level.INFO, 3L), Map.entry(Level.ERROR, 2L));
+    }
+
+    @Test
+    @DisplayName("지나간 분에 로그가 적재되면 그 분만 캐시에서 제거하고 다시 집계")
+    void ingestIntoClosedMinuteEvictsOnlyThatMinute() {
+        cache.getCountsByMinute(START, END).block();
+
+        queryService.store(START.plusMinutes(4), Level.ERROR, 3);
+        cache.onLogIngested(ingested(START.plusMinutes(4).plusSeconds(30)));
+        Map<String, Map<Level, Long>> counts = cache.getCountsByMinute(START, END).block();
+
+        assertThat(queryService.loads).containsExactly(List.of(START, END), List.of(START.plusMinutes(4), START.plusMinutes(5)));
+        assertThat(counts.get(key(START.plusMinutes(4)))).containsExactly(Map.entry(Level.ERROR, 3L));
+        assertThat(counts.get(key(START.plusMinutes(1)))).containsExactly(Map.entry(Level.INFO, 3L));
+    }
+
+    @Test
+    @DisplayName("집계하는 동안 지나간 분에 로그가 적재되면 결과를 반환만 하고 캐시에 남기지 않음")
+    void loadOverlappingIngestIsNotCached() {
+        queryService.duringLoad = () -> {
+            queryService.store(START.plusMinutes(7), Level.WARN, 1);
+            cache.onLogIngested(ingested(START.plusMinutes(7)));
+        };
+        cache.getCountsByMinute(START, END).block();
+        queryService.duringLoad = () -> {
+        };
+
+        Map<String, Map<Level, Long>> counts = cache.getCountsByMinute(START, END).block();
+
+        assertThat(cache.getSize()).isEqualTo(10);
+        assertThat(queryService.loads).containsExactly(List.of(START, END), List.of(START, END));
+        assertThat(counts.get(key(START.plusMinutes(7)))).containsExactly(Map.entry(Level.WARN, 1L));
+    }
+
+    private static LogIngestedEvent ingested(LocalDateTime timestamp) {
+        LogEntity logEntity = LogEntity.builder()
+                .timestamp(timestamp.format(TIMESTAMP_FORMAT))
+                .level(Level.ERROR)
+                .serviceName("PaymentService")
+                .message("결제 실패")
+                .build();
+        return LogIngestedEvent.of(IngestSource.FILE, List.of(logEntity));
+    }
+
+    private static String key(LocalDateTime minute) {
+        return minute.format(MINUTE_BUCKET_FORMAT);
+    }
+
+    /**
+     * 분별 개수를 메모리에 두고 분 단위 집계만 지원하는 조회 서비스 (집계 범위를 loads에 기록)
+     */
+    private static class StubReactiveLogQueryService implements ReactiveLogQueryService {
+
+        private final ConcurrentSkipListMap<String, Map<Level, Long>> counts = new ConcurrentSkipListMap<>();
+        private final List<List<LocalDateTime>> loads = new ArrayList<>();
+        private volatile Runnable duringLoad = () -> {
+        };
+
+        void store(LocalDateTime minute, Level level, long count) {
+            counts.put(key(minute), Map.of(level, count));
+        }
+
+        @Override
+        public Mono<Map<String, Map<Level, Long>>> getLogsCountByMinute(LocalDateTime start, LocalDateTime end) {
+            return Mono.fromCallable(() -> {
+                loads.add(List.of(start, end));
+                duringLoad.run();
+                return new TreeMap<>(counts.subMap(key(start), key(end)));
+            });
+        }
+
+        @Override
+        public Mono<Page<LogEntity>> getPaginatedLogsInLevel(List<Level> levels, Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<LogEntity> getLogsInLevelAfter(List<Level> levels, LogCursor cursor, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Long> getCachedLogsCountInLevel(List<Level> levels) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<LogEntity> getRecentLogsByLimit(Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<LogEntity> getLogsByIds(List<String> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Map<Level, Long>> getLogsCountByLevel(LogFilterCondition condition) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.humuson.backend.domain.log.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.global.config.properties.LogWriteBufferProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 로그 쓰기 버퍼가 종료될 때 저장 중인 배치와 남은 로그를 잃지 않는지 확인
+ */
+class LogWriteBufferTest {
+
+    @Test
+    @DisplayName("종료 시 저장 중인 배치를 인터럽트하지 않고, 버퍼에 남은 로그까지 모두 저장")
+    void stopDrainsWithoutInterruptingInFlightBatch() throws Exception {
+        SlowLogIngestService ingestService = new SlowLogIngestService();
+        LogWriteBuffer writeBuffer = new LogWriteBuffer(new LogWriteBufferProperties(1_000, 10, Duration.ofMillis(20), Duration.ofSeconds(1)), ingestService);
+        writeBuffer.start();
+
+        List<CompletableFuture<Void>> acks = new ArrayList<>();
+        for (int i = 0; i < 35; i++) {
+            acks.add(writeBuffer.submit(log(i)));
+        }
+        assertThat(ingestService.firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        writeBuffer.stop();
+
+        assertThat(ingestService.interrupted).isFalse();
+        assertThat(acks).allMatch(ack -> ack.isDone() && !ack.isCompletedExceptionally());
+        assertThat(ingestService.saved).hasSize(35);
+        assertThat(writeBuffer.submit(log(35))).isCompletedExceptionally();
+    }
+
+    private static LogEntity log(int number) {
+        return LogEntity.builder()
+                .timestamp("2025-03-01 00:00:00")
+                .level(Level.INFO)
+                .serviceName("PaymentService")
+                .message("결제 완료 " + number)
+                .build();
+    }
+
+    /**
+     * 배치마다 잠시 멈추는 적재 서비스 (저장 도중 인터럽트되면 기록)
+     */
+    private static class SlowLogIngestService implements LogIngestService {
+
+        private final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        private final List<LogEntity> saved = new CopyOnWriteArrayList<>();
+        private volatile boolean interrupted;
+
+        @Override
+        public long ingestLogFile(String fileName, LongConsumer progress) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void ingest(IngestSource source, List<LogEntity> logs) {
+            firstBatchStarted.countDown();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                interrupted = true;
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            saved.addAll(logs);
+        }
+
+        @Override
+        public List<LogEntity> ingestIfAbsent(IngestSource source, List<LogEntity> logs) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
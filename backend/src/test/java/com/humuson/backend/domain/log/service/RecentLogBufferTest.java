@@ -0,0 +1,160 @@
+package com.humuson.backend.domain.log.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.dto.condition.LogCursor;
+import com.humuson.backend.domain.log.model.dto.condition.LogFilterCondition;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.LogRecentBufferProperties;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 최근 로그 버퍼가 초기 목록과 링을 최신순으로 읽고, 파일로 적재된 로그가 버퍼에 들어가야 할 때만 다시 채우는지 확인
+ */
+class RecentLogBufferTest {
+
+    @Test
+    @DisplayName("링이 한 바퀴 돌기 전에는 초기 목록과 링을 중복 없이 최신순으로 병합하여 요청한 개수만 반환")
+    void mergesSeededLogsWithRingNewestFirst() {
+        StubLogQueryService queryService = new StubLogQueryService(List.of(log(3, Level.ERROR), log(1, Level.INFO), log(2, Level.WARN)));
+        RecentLogBuffer buffer = new RecentLogBuffer(new LogRecentBufferProperties(5), queryService);
+        buffer.warmUp();
+
+        live(buffer, log(3, Level.ERROR), log(4, Level.INFO), log(5, Level.ERROR));
+
+        assertThat(buffer.getLatest(4)).hasValueSatisfying(logs -> assertThat(ids(logs)).containsExactly("5", "4", "3", "2"));
+        assertThat(buffer.getLatest(10)).hasValueSatisfying(logs -> assertThat(ids(logs)).containsExactly("5", "4", "3", "2", "1"));
+        assertThat(buffer.getLatestInLevels(List.of(Level.ERROR), 5)).hasValueSatisfying(logs -> assertThat(ids(logs)).containsExactly("5", "3"));
+    }
+
+    @Test
+    @DisplayName("링이 한 바퀴 돈 뒤에는 링만 읽고, 링보다 많이 요청하면 MongoDB로 조회하도록 empty 반환")
+    void readsOnlyRingAfterWrap() {
+        StubLogQueryService queryService = new StubLogQueryService(List.of(log(0, Level.INFO)));
+        RecentLogBuffer buffer = new RecentLogBuffer(new LogRecentBufferProperties(3), queryService);
+        buffer.warmUp();
+
+        live(buffer, log(1, Level.INFO), log(2, Level.ERROR), log(3, Level.INFO), log(4, Level.INFO), log(5, Level.INFO));
+
+        assertThat(buffer.getLatest(3)).hasValueSatisfying(logs -> assertThat(ids(logs)).containsExactly("5", "4", "3"));
+        assertThat(buffer.getLatest(4)).isEmpty();
+        assertThat(buffer.getLatestInLevels(List.of(Level.ERROR), 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파일로 적재된 로그가 버퍼의 가장 오래된 로그보다 최신일 때만 버퍼를 다시 채움")
+    void refreshesOnlyWhenFileLogsBelongInBuffer() throws InterruptedException {
+        StubLogQueryService queryService = new StubLogQueryService(List.of(log(12, Level.INFO), log(11, Level.INFO), log(10, Level.INFO)));
+        RecentLogBuffer buffer = new RecentLogBuffer(new LogRecentBufferProperties(3), queryService);
+        buffer.warmUp();
+        assertThat(queryService.loads.tryAcquire()).isTrue();
+
+        buffer.onLogIngested(LogIngestedEvent.of(IngestSource.FILE, List.of(log(9, Level.INFO))));
+        assertThat(queryService.loads.tryAcquire(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        live(buffer, log(13, Level.INFO), log(14, Level.INFO));
+        buffer.onLogIngested(LogIngestedEvent.of(IngestSource.FILE, List.of(log(11, Level.INFO))));
+        assertThat(queryService.loads.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void live(RecentLogBuffer buffer, LogEntity... logs) {
+        buffer.onLogIngested(LogIngestedEvent.of(IngestSource.LIVE, List.of(logs)));
+    }
+
+    private static List<String> ids(List<LogEntity> logs) {
+        return logs.stream().map(LogEntity::getId).toList();
+    }
+
+    private static LogEntity log(int second, Level level) {
+        return LogEntity.builder()
+                .id(String.valueOf(second))
+                .timestamp(String.format("2025-03-01 00:00:%02d", second))
+                .level(level)
+                .serviceName("PaymentService")
+                .message("결제 완료 " + second)
+                .build();
+    }
+
+    /**
+     * 최신 로그 조회만 지원하는 조회 서비스 (조회할 때마다 loads에 기록)
+     */
+    private static class StubLogQueryService implements LogQueryService {
+
+        private final List<LogEntity> latest;
+        private final Semaphore loads = new Semaphore(0);
+
+        private StubLogQueryService(List<LogEntity> latest) {
+            this.latest = latest;
+        }
+
+        @Override
+        public List<LogEntity> getRecentLogsByLimit(Pageable pageable) {
+            loads.release();
+            return latest;
+        }
+
+        @Override
+        public List<LogEntity> getLogs() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<LogEntity> getLogsInLevel(List<Level> levels) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<LogEntity> getPaginatedLogsInLevel(List<Level> levels, Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<LogEntity> getLogsInLevelAfter(List<Level> levels, LogCursor cursor, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<Level, Long> getFileLogsCountByLevel(String fileName, LocalDateTime start, LocalDateTime end) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<LogEntity> getLatestFileLogs(String fileName, List<Level> levels, LocalDateTime start, LocalDateTime end, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, Map<Level, Long>> getFileLogsCountByMinute(String fileName, LocalDateTime start, LocalDateTime end) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<LogEntity> getLogsByStartAndEnd(LocalDateTime start, LocalDateTime end) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, Map<Level, Long>> getLogsCountByMinute(LocalDateTime start, LocalDateTime end) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Stream<LogEntity> streamLogs(LogFilterCondition condition) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
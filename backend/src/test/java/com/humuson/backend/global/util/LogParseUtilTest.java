@@ -0,0 +1,215 @@
+package com.humuson.backend.global.util;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 한 번의 순회로 파싱하는 LogParseUtil을 이전 정규식 파서의 결과, LocalDateTime의 epoch 초 계산과 비교
+ */
+class LogParseUtilTest {
+
+    /**
+     * 단일 순회 파서 이전에 사용하던 정규식 (타임스탬프는 TIMESTAMP_FORMAT으로 다시 해석)
+     */
+    private static final Pattern LEGACY_PATTERN = Pattern.compile(
+            "^(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2})\\s+(\\w+)\\s+\\[([^\\]]+)\\]\\s+-\\s+\\[([^\\]]+)\\]\\s+-\\s+(.+)$"
+    );
+
+    private static final List<String> FIXTURE = List.of(
+            "2025-03-01 12:00:00 INFO [com.humuson.backend.PaymentService] - [PaymentService] - Payment completed: 1200",
+            "2025-03-01 12:00:01 ERROR [c.h.UserService] - [UserService] - User login failed: user42",
+            "2025-03-01 12:00:02 WARN [Inventory] - [InventoryService] - Stock low - item [A-1] remains 3",
+            "2025-03-01 12:00:03 warn [Inventory] - [InventoryService] - lower case level",
+            "2025-03-01 12:00:04 Error [Inventory] - [InventoryService] - mixed case level",
+            "2025-03-01 12:00:05 DEBUG [Inventory] - [InventoryService] - unknown level",
+            "2025-03-01 12:00:06 TRACE_1 [Inventory] - [InventoryService] - word level with underscore and digit",
+            "2025-03-01 12:00:07\tINFO\t[Tabs]\t-\t[TabService]\t-\tseparated by tabs",
+            "2025-03-01 12:00:08   INFO   [Spaces]   -   [SpaceService]   -   separated by spaces",
+            "2025-03-01 12:00:09 INFO [a[b] - [svc] - opening bracket in class name",
+            "2025-03-01 12:00:10 INFO [cls] - [결제서비스] - 결제 완료 ✓",
+            "2025-03-01 12:00:11 INFO [cls] - [💳PayService] - surrogate pair in service name",
+            "2025-03-01 12:00:12 INFO [cls] - [svc] - x",
+            "2025-03-01 12:00:13 INFO [cls] - [svc] - message ending with spaces   ",
+            "2024-02-29 23:59:59 INFO [cls] - [svc] - leap day",
+            "2000-02-29 00:00:00 INFO [cls] - [svc] - leap day of a 400-year",
+            "1999-12-31 23:59:59 INFO [cls] - [svc] - end of year",
+            "2025-04-30 23:59:59 INFO [cls] - [svc] - end of a 30-day month",
+            "2025-03-01 12:00:14 INFO cls - [svc] - class name without brackets",
+            "2025-03-01 12:00:15 INFO [cls - [svc] - class name without closing bracket",
+            "2025-03-01 12:00:16 INFO [] - [svc] - empty class name",
+            "2025-03-01 12:00:17 INFO [cls] - svc - service name without brackets",
+            "2025-03-01 12:00:18 INFO [cls] - [svc - service name without closing bracket",
+            "2025-03-01 12:00:19 INFO [cls] - [] - empty service name",
+            "2025-03-01 12:00:20 INFO [cls] [svc] - missing separator",
+            "2025-03-01 12:00:21 INFO [cls] -[svc] - separator without space",
+            "2025-03-01 12:00:22 INFO [cls] - [svc] -",
+            "2025-03-01 12:00:23 INFO [cls] - [svc] - ",
+            "2025-03-01 12:00:24 [cls] - [svc] - missing level",
+            "2025-03-01 12:00:25INFO [cls] - [svc] - no space after timestamp",
+            "2025-03-01T12:00:26 INFO [cls] - [svc] - ISO timestamp",
+            "2025-3-01 12:00:27 INFO [cls] - [svc] - short month",
+            "2025-03-01 12:00 INFO [cls] - [svc] - missing seconds",
+            "2025-13-01 12:00:28 INFO [cls] - [svc] - month 13",
+            "2025-00-01 12:00:29 INFO [cls] - [svc] - month 0",
+            "2025-03-32 12:00:30 INFO [cls] - [svc] - day 32",
+            "2025-03-01 25:00:31 INFO [cls] - [svc] - hour 25",
+            "2025-03-01 12:60:32 INFO [cls] - [svc] - minute 60",
+            "2025-03-01 12:00:60 INFO [cls] - [svc] - second 60",
+            "    at com.humuson.backend.PaymentService.pay(PaymentService.java:42)",
+            "java.lang.IllegalStateException: stack trace line",
+            "",
+            "2025-03-01 12:00:33"
+    );
+
+    @Test
+    @DisplayName("형식에 맞는 줄의 모든 필드와 epoch 초를 해석")
+    void parsesAllFields() {
+        ParsedLog parsedLog = LogParseUtil.parseLog("2025-03-01 12:34:56 ERROR [com.humuson.backend.Payment] - [PaymentService] - Payment failed: 42");
+
+        assertThat(parsedLog).isNotNull();
+        assertThat(parsedLog.timestamp()).isEqualTo("2025-03-01 12:34:56");
+        assertThat(parsedLog.epochSecond()).isEqualTo(LocalDateTime.of(2025, 3, 1, 12, 34, 56).toEpochSecond(ZoneOffset.UTC));
+        assertThat(parsedLog.level()).isEqualTo(Level.ERROR);
+        assertThat(parsedLog.className()).isEqualTo("com.humuson.backend.Payment");
+        assertThat(parsedLog.serviceName()).isEqualTo("PaymentService");
+        assertThat(parsedLog.message()).isEqualTo("Payment failed: 42");
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 줄은 실패로 처리하고, 재사용하는 ParsedLog는 바꾸지 않음")
+    void rejectsMalformedLinesWithoutTouchingTarget() {
+        ParsedLog target = new ParsedLog();
+        assertThat(LogParseUtil.parseLog("2025-03-01 12:00:00 INFO [cls] - [svc] - kept", target)).isTrue();
+
+        for (String line : List.of(
+                "2025-03-01 12:00:00 INFO cls - [svc] - no class brackets",
+                "2025-03-01 12:00:00 INFO [cls] - svc - no service brackets",
+                "2025-03-01 12:00:00 INFO [cls - [svc] - unclosed class bracket",
+                "2025-03-01 12:00:00 INFO [] - [svc] - empty class",
+                "2025-03-01 12:00:00 [cls] - [svc] - no level",
+                "2025-03-01 12:00:00 INFO [cls] - [svc] -",
+                "not a log line",
+                "")) {
+            assertThat(LogParseUtil.parseLog(line, target)).as(line).isFalse();
+            assertThat(LogParseUtil.parseLog(line)).as(line).isNull();
+        }
+        assertThat(target.message()).isEqualTo("kept");
+    }
+
+    @Test
+    @DisplayName("윤일과 월말을 포함한 모든 날짜의 epoch 초가 LocalDateTime과 같고, 없는 날짜와 시각은 거부")
+    void epochSecondMatchesLocalDateTime() {
+        for (LocalDate date = LocalDate.of(1899, 12, 31); date.isBefore(LocalDate.of(2101, 1, 2)); date = date.plusDays(1)) {
+            LocalDateTime dateTime = date.atTime(23, 59, 59);
+            assertThat(LogParseUtil.parseEpochSecond(dateTime.format(TIMESTAMP_FORMAT), 0)).as(dateTime.toString())
+                    .isEqualTo(dateTime.toEpochSecond(ZoneOffset.UTC));
+        }
+        assertThat(LogParseUtil.parseEpochSecond("xx1970-01-01 00:00:00", 2)).isZero();
+
+        for (String invalid : List.of("2023-02-29 00:00:00", "2100-02-29 00:00:00", "2025-04-31 00:00:00", "2025-06-31 00:00:00",
+                "2025-02-30 00:00:00", "2025-13-01 00:00:00", "2025-00-01 00:00:00", "2025-01-00 00:00:00",
+                "2025-01-01 24:00:00", "2025-01-01 23:60:00", "2025-01-01 23:59:60", "2025-01-01 23:59:5", "2025/01/01 00:00:00")) {
+            assertThat(LogParseUtil.parseEpochSecond(invalid, 0)).as(invalid).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    @DisplayName("CRLF로 끝나는 줄은 \\r을 메시지에 포함하지 않음")
+    void stripsTrailingCarriageReturn() {
+        ParsedLog parsedLog = LogParseUtil.parseLog("2025-03-01 12:00:00 INFO [cls] - [svc] - windows line\r");
+
+        assertThat(parsedLog).isNotNull();
+        assertThat(parsedLog.message()).isEqualTo("windows line");
+        assertThat(LogParseUtil.parseLog("2025-03-01 12:00:00 INFO [cls] - [svc] - \r")).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 바이트 문자로 된 서비스 이름과 메시지를 그대로 해석")
+    void parsesMultiByteServiceNames() {
+        ParsedLog parsedLog = new ParsedLog();
+        for (String serviceName : List.of("결제서비스", "💳PayService", "サービス", "PaymentService")) {
+            assertThat(LogParseUtil.parseLog("2025-03-01 12:00:00 INFO [cls] - [" + serviceName + "] - 주문 " + serviceName, parsedLog)).isTrue();
+            assertThat(parsedLog.serviceName()).isEqualTo(serviceName);
+            assertThat(parsedLog.message()).isEqualTo("주문 " + serviceName);
+        }
+    }
+
+    @Test
+    @DisplayName("고정 입력과 이를 변형한 입력에서 이전 정규식 파서와 결과가 같음")
+    void matchesLegacyRegexParser() {
+        List<String> lines = new ArrayList<>(FIXTURE);
+        Random random = new Random(17);
+        String mutations = "[] -\tx가9";
+        for (String line : FIXTURE.subList(0, 18)) {
+            for (int i = 0; i < 200; i++) {
+                StringBuilder mutated = new StringBuilder(line);
+                int position = 20 + random.nextInt(mutated.length() - 20); // 타임스탬프 뒤만 변형
+                if (random.nextBoolean()) {
+                    mutated.deleteCharAt(position);
+                } else {
+                    mutated.insert(position, mutations.charAt(random.nextInt(mutations.length())));
+                }
+                lines.add(mutated.toString());
+            }
+        }
+
+        int accepted = 0;
+        for (String line : lines) {
+            Matcher legacy = legacy(line);
+            ParsedLog parsedLog = LogParseUtil.parseLog(line);
+            assertThat(parsedLog != null).as(line).isEqualTo(legacy != null);
+            if (legacy == null) {
+                continue;
+            }
+            accepted++;
+            assertThat(parsedLog.timestamp()).as(line).isEqualTo(LocalDateTime.parse(legacy.group(1), TIMESTAMP_FORMAT).format(TIMESTAMP_FORMAT));
+            assertThat(parsedLog.epochSecond()).as(line).isEqualTo(LocalDateTime.parse(legacy.group(1), TIMESTAMP_FORMAT).toEpochSecond(ZoneOffset.UTC));
+            assertThat(parsedLog.level()).as(line).isEqualTo(Level.fromString(legacy.group(2)));
+            assertThat(parsedLog.className()).as(line).isEqualTo(legacy.group(3));
+            assertThat(parsedLog.serviceName()).as(line).isEqualTo(legacy.group(4));
+            assertThat(parsedLog.message()).as(line).isEqualTo(legacy.group(5));
+        }
+        assertThat(accepted).isGreaterThan(FIXTURE.size() / 3);
+    }
+
+    @Test
+    @DisplayName("이전 정규식과 다르게 CRLF 줄은 받아들이고, 없는 날짜는 가까운 날짜로 보정하지 않고 거부")
+    void differsFromLegacyParserOnlyWhereIntended() {
+        String crlf = "2025-03-01 12:00:00 INFO [cls] - [svc] - windows line\r";
+        String february30 = "2025-02-30 12:00:00 INFO [cls] - [svc] - no such day";
+
+        assertThat(legacy(crlf)).isNull();
+        assertThat(LogParseUtil.parseLog(crlf)).isNotNull();
+        assertThat(LocalDateTime.parse(legacy(february30).group(1), TIMESTAMP_FORMAT)).isEqualTo(LocalDateTime.of(2025, 2, 28, 12, 0));
+        assertThat(LogParseUtil.parseLog(february30)).isNull();
+    }
+
+    /**
+     * 이전 파서처럼 정규식과 일치하고 타임스탬프를 해석할 수 있는 경우에만 결과를 반환
+     */
+    private static Matcher legacy(String line) {
+        Matcher matcher = LEGACY_PATTERN.matcher(line);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            LocalDateTime.parse(matcher.group(1), TIMESTAMP_FORMAT);
+            return matcher;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,234 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.domain.log.service.LogIngestService;
+import com.humuson.backend.global.config.properties.LogTailProperties;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 로그 파일 추적기가 추가, 재시작, 잘림(truncate), 교체(rotation) 상황에서 모든 줄을 한 번씩만 적재하는지 확인
+ * - 추적 스레드 대신 resume/drain을 직접 호출하여 파일 변경 시점을 테스트가 정함
+ */
+class LogFileTailerTest {
+
+    private static final long BASE = LocalDateTime.of(2025, 3, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    private Path logFile;
+    private LogTailProperties properties;
+    private StubLogIngestService ingestService;
+    private final List<LogFileTailer> tailers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        logFile = directory.resolve("app.log");
+        properties = new LogTailProperties(true, logFile, directory.resolve(".app.log.checkpoint"), Duration.ofMillis(10), 2);
+        ingestService = new StubLogIngestService();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (LogFileTailer tailer : tailers) {
+            tailer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("새로 추가된 줄만 적재하고, 줄바꿈으로 끝나지 않은 줄은 완성된 뒤에 적재")
+    void appendedLinesAreIngestedOnce() throws IOException {
+        LogFileTailer tailer = newTailer();
+        append(logFile, line(0), line(1), line(2));
+        tailer.drain();
+        assertThat(ingestService.messages()).containsExactly("line-0", "line-1", "line-2");
+
+        append(logFile, line(3), line(4).substring(0, 20));
+        tailer.drain();
+        assertThat(ingestService.messages()).containsExactly("line-0", "line-1", "line-2", "line-3");
+
+        Files.writeString(logFile, line(4).substring(20), StandardOpenOption.APPEND);
+        tailer.drain();
+        tailer.drain();
+        assertThat(ingestService.messages()).containsExactly("line-0", "line-1", "line-2", "line-3", "line-4");
+        assertThat(ingestService.attempts()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("재시작하면 체크포인트 위치부터 이어서 읽음")
+    void restartResumesFromCheckpoint() throws Exception {
+        LogFileTailer first = newTailer();
+        append(logFile, line(0), line(1), line(2));
+        first.drain();
+        first.stop();
+
+        append(logFile, line(3), line(4));
+        LogFileTailer second = newTailer();
+        second.resume();
+        second.drain();
+
+        assertThat(ingestService.messages()).containsExactly("line-0", "line-1", "line-2", "line-3", "line-4");
+        assertThat(ingestService.attempts()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("체크포인트 저장 전에 종료되어 같은 줄을 다시 읽어도 중복 적재되지 않음")
+    void rereadLinesAreNotDuplicated() throws Exception {
+        LogFileTailer first = newTailer();
+        append(logFile, line(0), line(1), line(2));
+        first.drain();
+        first.stop();
+        TailCheckpoint saved = TailCheckpoint.load(properties.checkpoint());
+        new TailCheckpoint(saved.fileKey(), line(0).length()).save(properties.checkpoint()); // 첫 줄까지만 저장된 상태
+
+        append(logFile, line(3));
+        LogFileTailer second = newTailer();
+        second.resume();
+        second.drain();
+
+        assertThat(ingestService.messages()).containsExactly("line-0", "line-1", "line-2", "line-3");
+        assertThat(ingestService.attempts()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("파일이 잘리면 처음부터 다시 읽음")
+    void truncatedFileIsReadFromStart() throws IOException {
+        LogFileTailer tailer = newTailer();
+        append(logFile, line(0), line(1), line(2));
+        tailer.drain();
+
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        }
+        append(logFile, line(10));
+        tailer.drain();
+
+        assertThat(ingestService.messages()).containsExactly("line-0", "line-1", "line-2", "line-10");
+        assertThat(TailCheckpoint.load(properties.checkpoint()).offset()).isEqualTo(line(10).length());
+    }
+
+    @Test
+    @DisplayName("확인 주기 사이에 여러 번 교체되어도 이전 파일의 남은 줄과 중간에 교체된 파일을 순서대로 읽음")
+    void rotatedFilesAreReadInOrder() throws IOException {
+        LogFileTailer tailer = newTailer();
+        append(logFile, line(0), line(1));
+        tailer.drain();
+
+        append(logFile, line(2));
+        rotate("app.2025-03-01.0.log", 1);
+        append(logFile, line(3), line(4));
+        rotate("app.2025-03-01.1.log", 2);
+        append(logFile, line(5));
+        tailer.drain();
+
+        assertThat(ingestService.messages()).containsExactly("line-0", "line-1", "line-2", "line-3", "line-4", "line-5");
+    }
+
+    @Test
+    @DisplayName("재시작 전에 읽던 파일이 교체되었으면 교체된 파일의 남은 줄부터 읽음")
+    void restartAfterRotationReadsRotatedRemainder() throws Exception {
+        LogFileTailer first = newTailer();
+        append(logFile, line(0));
+        first.drain();
+        first.stop();
+
+        append(logFile, line(1));
+        rotate("app.2025-03-01.0.log", 1);
+        append(logFile, line(2));
+        LogFileTailer second = newTailer();
+        second.resume();
+        second.drain();
+
+        assertThat(ingestService.messages()).containsExactly("line-0", "line-1", "line-2");
+        assertThat(ingestService.attempts()).isEqualTo(3);
+    }
+
+    private LogFileTailer newTailer() {
+        LogFileTailer tailer = new LogFileTailer(properties, ingestService);
+        tailers.add(tailer);
+        return tailer;
+    }
+
+    /**
+     * app.log를 교체된 파일 이름으로 옮기고 빈 app.log를 새로 만듦 (교체 순서가 수정 시각에 드러나도록 시각을 지정)
+     */
+    private void rotate(String rotatedName, int order) throws IOException {
+        Path rotated = directory.resolve(rotatedName);
+        Files.move(logFile, rotated);
+        Files.setLastModifiedTime(rotated, FileTime.fromMillis((BASE + order) * 1_000));
+        Files.createFile(logFile);
+    }
+
+    private static void append(Path file, String... lines) throws IOException {
+        Files.writeString(file, String.join("", lines), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static String line(int number) {
+        return LocalDateTime.ofEpochSecond(BASE + number, 0, ZoneOffset.UTC).format(TIMESTAMP_FORMAT)
+                + " INFO [com.humuson.backend.Sample] - [PaymentService] - line-" + number + "\n";
+    }
+
+    /**
+     * ID 기준으로 중복을 거르는 메모리 적재 서비스 (ingestIfAbsent만 사용)
+     */
+    private static class StubLogIngestService implements LogIngestService {
+
+        private final Map<String, LogEntity> stored = new LinkedHashMap<>();
+        private int attempts;
+
+        @Override
+        public long ingestLogFile(String fileName, LongConsumer progress) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void ingest(IngestSource source, List<LogEntity> logs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<LogEntity> ingestIfAbsent(IngestSource source, List<LogEntity> logs) {
+            List<LogEntity> inserted = new ArrayList<>();
+            for (LogEntity log : logs) {
+                attempts++;
+                if (stored.putIfAbsent(log.getId(), log) == null) {
+                    inserted.add(log);
+                }
+            }
+            return inserted;
+        }
+
+        List<String> messages() {
+            return stored.values().stream().map(LogEntity::getMessage).toList();
+        }
+
+        int attempts() {
+            return attempts;
+        }
+
+    }
+
+}
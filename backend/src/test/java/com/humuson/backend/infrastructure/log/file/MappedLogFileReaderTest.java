@@ -0,0 +1,135 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 로그 파일 병렬 파서가 만든 로그 ID와 병합 순서를 파일 내용과 비교
+ */
+class MappedLogFileReaderTest {
+
+    private static final long BASE = LocalDateTime.of(2025, 3, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private final MappedLogFileReader reader = new MappedLogFileReader();
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        reader.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 파일을 다시 파싱하면 같은 ID가 나오고, 같은 시각의 다른 줄이나 다른 파일 이름은 다른 ID")
+    void parseUnorderedAssignsDeterministicIds() throws IOException {
+        List<Long> epochSeconds = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            epochSeconds.add(BASE + i / 10); // 같은 초에 10줄
+        }
+        Path logFile = write("upload.log", epochSeconds);
+
+        List<String> first = ids(logFile, "upload.log");
+        List<String> second = ids(logFile, "upload.log");
+        List<String> otherFile = ids(logFile, "other.log");
+
+        assertThat(first).hasSize(1_000).doesNotHaveDuplicates();
+        assertThat(second).containsExactlyElementsOf(first);
+        assertThat(otherFile).doesNotContainAnyElementsOf(first);
+    }
+
+    @Test
+    @DisplayName("여러 청크에 뒤섞인 로그를 타임스탬프 순으로 병합하고, 같은 타임스탬프는 파일 순서를 유지")
+    void readSortedMergesChunksInTimestampOrder() throws IOException {
+        MappedLogFileReader smallChunkReader = new MappedLogFileReader(4 * 1024);
+        try {
+            Random random = new Random(7);
+            List<Long> epochSeconds = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                epochSeconds.add(BASE + random.nextInt(300));
+            }
+            Path logFile = write("app.log", epochSeconds);
+
+            List<LogEntity> logs = smallChunkReader.readSorted(logFile, new FileRange(0, Files.size(logFile)), parsedLog -> true);
+
+            try (FileChannel channel = FileChannel.open(logFile)) {
+                assertThat(smallChunkReader.split(channel, 0, channel.size())).hasSizeGreaterThan(10);
+            }
+            assertThat(logs).hasSize(2_000);
+            for (int i = 1; i < logs.size(); i++) {
+                LogEntity previous = logs.get(i - 1);
+                LogEntity current = logs.get(i);
+                assertThat(previous.getTimestamp()).isLessThanOrEqualTo(current.getTimestamp());
+                if (previous.getTimestamp().equals(current.getTimestamp())) {
+                    assertThat(lineNumber(previous)).isLessThan(lineNumber(current));
+                }
+            }
+        } finally {
+            smallChunkReader.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("정렬된 파일은 구간 안에서 조건에 맞는 로그만 파일 순서대로 반환")
+    void readSortedReturnsFilteredRangeOfSortedFile() throws IOException {
+        MappedLogFileReader smallChunkReader = new MappedLogFileReader(1_024);
+        try {
+            List<Long> epochSeconds = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                epochSeconds.add(BASE + i);
+            }
+            Path logFile = write("app.log", epochSeconds);
+
+            List<LogEntity> logs = smallChunkReader.readSorted(logFile, new FileRange(0, Files.size(logFile)),
+                    parsedLog -> parsedLog.epochSecond() >= BASE + 100 && parsedLog.epochSecond() < BASE + 200);
+
+            assertThat(logs).extracting(MappedLogFileReaderTest::lineNumber).containsExactlyElementsOf(
+                    IntStream.range(100, 200).boxed().toList());
+            assertThat(smallChunkReader.readSorted(logFile, new FileRange(0, 0), parsedLog -> true)).isEmpty();
+        } finally {
+            smallChunkReader.shutdown();
+        }
+    }
+
+    private static int lineNumber(LogEntity log) {
+        return Integer.parseInt(log.getMessage().substring(log.getMessage().lastIndexOf('#') + 1));
+    }
+
+    private List<String> ids(Path logFile, String fileKey) throws IOException {
+        List<String> ids = Collections.synchronizedList(new ArrayList<>());
+        reader.parseUnordered(logFile, fileKey, 64, batch -> batch.stream().map(LogEntity::getId).forEach(ids::add));
+        List<String> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private Path write(String fileName, List<Long> epochSeconds) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < epochSeconds.size(); i++) {
+            lines.append(LocalDateTime.ofEpochSecond(epochSeconds.get(i), 0, ZoneOffset.UTC).format(TIMESTAMP_FORMAT))
+                    .append(" INFO [com.humuson.backend.Sample] - [PaymentService] - 결제 완료 #").append(i).append('\n');
+        }
+        Path logFile = directory.resolve(fileName);
+        Files.writeString(logFile, lines, StandardCharsets.UTF_8);
+        return logFile;
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.humuson.backend.infrastructure.log.file;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 희소 시간 색인이 돌려준 바이트 구간을 파일의 실제 줄 위치, 시각과 비교
+ */
+class SparseTimeIndexTest {
+
+    private static final long BASE = LocalDateTime.of(2025, 3, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final int LINES = 3 * SparseTimeIndex.INTERVAL_LINES + 100;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("타임스탬프가 블록 사이에서 뒤섞여 있어도 범위의 로그는 모두 반환한 구간 안에 있음")
+    void rangeCoversOutOfOrderBlocks() throws IOException {
+        Random random = new Random(5);
+        List<Long> epochSeconds = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            epochSeconds.add(BASE + i + (random.nextInt(10) == 0 ? -random.nextInt(2_000) : 0)); // 일부 줄은 이전 블록의 시각
+        }
+        Path logFile = write(epochSeconds);
+        List<Long> offsets = lineOffsets(logFile);
+        SparseTimeIndex index = SparseTimeIndex.build(logFile);
+
+        for (int i = 0; i < 200; i++) {
+            long start = BASE - 2_000 + random.nextInt(LINES + 2_500);
+            long end = start + random.nextInt(1_500);
+            FileRange range = index.rangeOf(start, end);
+            for (int line = 0; line < LINES; line++) {
+                if (epochSeconds.get(line) >= start && epochSeconds.get(line) < end) {
+                    assertThat(offsets.get(line)).isBetween(range.from(), range.to() - 1);
+                }
+            }
+        }
+        assertThat(index.offsets()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("정렬된 파일에서 블록 경계에 맞춘 범위는 해당 블록 구간과 정확히 일치")
+    void rangeOfSortedFileMatchesBlocks() throws IOException {
+        List<Long> epochSeconds = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            epochSeconds.add(BASE + i);
+        }
+        Path logFile = write(epochSeconds);
+        SparseTimeIndex index = SparseTimeIndex.build(logFile);
+        long[] offsets = index.offsets();
+        int interval = SparseTimeIndex.INTERVAL_LINES;
+
+        assertThat(index.rangeOf(BASE + interval, BASE + 2L * interval)).isEqualTo(new FileRange(offsets[1], offsets[2]));
+        assertThat(index.rangeOf(BASE + interval - 1, BASE + 2L * interval + 1)).isEqualTo(new FileRange(offsets[0], offsets[3]));
+        assertThat(index.rangeOf(BASE + 3L * interval, Long.MAX_VALUE)).isEqualTo(new FileRange(offsets[3], Files.size(logFile)));
+        assertThat(index.rangeOf(BASE + LINES, Long.MAX_VALUE).isEmpty()).isTrue();
+        assertThat(index.rangeOf(Long.MIN_VALUE, BASE).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("뒤에 추가된 부분만 읽어 이어서 만든 색인은 파일 전체로 새로 만든 색인과 같음")
+    void extendMatchesFullBuild() throws IOException {
+        Random random = new Random(9);
+        List<Long> epochSeconds = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            epochSeconds.add(BASE + i - random.nextInt(300));
+        }
+        Path logFile = write(epochSeconds.subList(0, SparseTimeIndex.INTERVAL_LINES + 10));
+        SparseTimeIndex index = SparseTimeIndex.build(logFile);
+        append(logFile, epochSeconds.subList(SparseTimeIndex.INTERVAL_LINES + 10, LINES));
+
+        assertThat(index.isAppendedTo(logFile, Files.size(logFile))).isTrue();
+        SparseTimeIndex extended = index.extend(logFile);
+        SparseTimeIndex rebuilt = SparseTimeIndex.build(logFile);
+
+        assertThat(extended.fileSize()).isEqualTo(rebuilt.fileSize());
+        assertThat(extended.offsets()).containsExactly(rebuilt.offsets());
+        assertThat(extended.prefixMax()).containsExactly(rebuilt.prefixMax());
+        assertThat(extended.suffixMin()).containsExactly(rebuilt.suffixMin());
+    }
+
+    private Path write(List<Long> epochSeconds) throws IOException {
+        Path logFile = directory.resolve("app.log");
+        Files.deleteIfExists(logFile);
+        append(logFile, epochSeconds);
+        return logFile;
+    }
+
+    private static void append(Path logFile, List<Long> epochSeconds) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (long epochSecond : epochSeconds) {
+            lines.append(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).format(TIMESTAMP_FORMAT))
+                    .append(" INFO [com.humuson.backend.Sample] - [PaymentService] - 결제 완료\n");
+        }
+        Files.writeString(logFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static List<Long> lineOffsets(Path logFile) throws IOException {
+        byte[] bytes = Files.readAllBytes(logFile);
+        List<Long> offsets = new ArrayList<>();
+        offsets.add(0L);
+        for (int i = 0; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\n') {
+                offsets.add(i + 1L);
+            }
+        }
+        return offsets;
+    }
+
+}
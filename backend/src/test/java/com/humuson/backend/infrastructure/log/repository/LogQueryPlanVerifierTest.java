@@ -0,0 +1,81 @@
+package com.humuson.backend.infrastructure.log.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * explain 결과 예시로 실행 계획 검증기가 허용하지 않는 단계를 찾는지 확인
+ */
+class LogQueryPlanVerifierTest {
+
+    @Test
+    @DisplayName("인덱스 구간 조회와 SORT_MERGE만 있는 실행 계획은 통과")
+    void indexPlanIsAccepted() {
+        Document explain = Document.parse("""
+                {"queryPlanner": {"winningPlan": {"stage": "LIMIT", "inputStage": {"stage": "FETCH", "inputStage": {
+                  "stage": "SORT_MERGE", "inputStages": [
+                    {"stage": "IXSCAN", "indexName": "level_1_timestamp_-1__id_-1"},
+                    {"stage": "IXSCAN", "indexName": "level_1_timestamp_-1__id_-1"}
+                  ]}}}}}
+                """);
+
+        assertThat(LogQueryPlanVerifier.findRejectedStages(explain)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("winningPlan의 COLLSCAN과 메모리 정렬(SORT)을 모두 찾음")
+    void collectionScanAndSortAreRejected() {
+        Document explain = Document.parse("""
+                {"queryPlanner": {"winningPlan": {"stage": "SORT", "inputStage": {"stage": "COLLSCAN", "direction": "forward"}}}}
+                """);
+
+        assertThat(LogQueryPlanVerifier.findRejectedStages(explain)).containsExactly("SORT", "COLLSCAN");
+    }
+
+    @Test
+    @DisplayName("선택되지 않은 rejectedPlans의 단계는 무시")
+    void rejectedPlansAreIgnored() {
+        Document explain = Document.parse("""
+                {"queryPlanner": {
+                  "winningPlan": {"stage": "FETCH", "inputStage": {"stage": "IXSCAN", "indexName": "timestamp_-1"}},
+                  "rejectedPlans": [{"stage": "SORT", "inputStage": {"stage": "COLLSCAN"}}]
+                }}
+                """);
+
+        assertThat(LogQueryPlanVerifier.findRejectedStages(explain)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("집계 explain의 $cursor 단계와 SBE 형식(queryPlan) 안의 winningPlan도 탐색")
+    void nestedAggregationPlansAreSearched() {
+        Document explain = Document.parse("""
+                {"stages": [
+                  {"$cursor": {"queryPlanner": {"winningPlan": {"queryPlan": {"stage": "PROJECTION_SIMPLE", "inputStage": {"stage": "COLLSCAN"}}}}}},
+                  {"$group": {"_id": "$level", "count": {"$sum": 1}}}
+                ]}
+                """);
+        Document indexed = Document.parse("""
+                {"stages": [
+                  {"$cursor": {"queryPlanner": {"winningPlan": {"queryPlan": {"stage": "PROJECTION_COVERED", "inputStage": {"stage": "IXSCAN"}}}}}}
+                ]}
+                """);
+
+        assertThat(LogQueryPlanVerifier.findRejectedStages(explain)).isEqualTo(List.of("COLLSCAN"));
+        assertThat(LogQueryPlanVerifier.findRejectedStages(indexed)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("winningPlan 밖의 stage 값은 검사하지 않음")
+    void stagesOutsideWinningPlanAreIgnored() {
+        Document explain = Document.parse("""
+                {"queryPlanner": {"parsedQuery": {"stage": "COLLSCAN"}, "winningPlan": {"stage": "IXSCAN"}}}
+                """);
+
+        assertThat(LogQueryPlanVerifier.findRejectedStages(explain)).isEmpty();
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.humuson.backend.infrastructure.log.search;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.dto.result.LogSearchHits;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.config.properties.LogSearchProperties;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 역색인이 오래된 세그먼트를 제거한 뒤 검색 결과에 색인 범위와 잘림 여부를 알리는지 확인
+ */
+class LogSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final int EXTRA_LOGS = 100;
+
+    @Test
+    @DisplayName("세그먼트가 제거되면 제거된 시각에 걸치는 검색만 잘린 것으로 표시")
+    void evictedSegmentsMarkOverlappingSearchesTruncated() {
+        LogSearchIndex index = new LogSearchIndex(null, new LogSearchProperties(false, 1));
+        int total = IndexSegment.CAPACITY + EXTRA_LOGS;
+        List<LogEntity> logs = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            logs.add(log(i));
+        }
+        index.index(logs);
+
+        LocalDateTime firstRetained = BASE.plusSeconds(IndexSegment.CAPACITY);
+        LogSearchHits all = index.search("payment", List.of(Level.INFO), null, null, 10);
+        LogSearchHits evictedRange = index.search("payment", List.of(Level.INFO), BASE, firstRetained, 10);
+        LogSearchHits retainedRange = index.search("payment", List.of(Level.INFO), firstRetained, null, 10);
+
+        assertThat(all.totalHits()).isEqualTo(EXTRA_LOGS);
+        assertThat(all.indexedFrom()).isEqualTo(firstRetained);
+        assertThat(all.truncated()).isTrue();
+        assertThat(evictedRange.totalHits()).isZero();
+        assertThat(evictedRange.truncated()).isTrue();
+        assertThat(retainedRange.totalHits()).isEqualTo(EXTRA_LOGS);
+        assertThat(retainedRange.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("제거된 세그먼트가 없으면 잘리지 않음")
+    void searchIsNotTruncatedWithoutEviction() {
+        LogSearchIndex index = new LogSearchIndex(null, new LogSearchProperties(false, 2));
+        index.index(List.of(log(0), log(1), log(2)));
+
+        LogSearchHits hits = index.search("payment", List.of(Level.INFO), null, null, 2);
+
+        assertThat(hits.totalHits()).isEqualTo(3);
+        assertThat(hits.logIds()).hasSize(2);
+        assertThat(hits.indexedFrom()).isEqualTo(BASE);
+        assertThat(hits.truncated()).isFalse();
+    }
+
+    private static LogEntity log(int second) {
+        return LogEntity.builder()
+                .id(new ObjectId().toHexString())
+                .timestamp(BASE.plusSeconds(second).format(TIMESTAMP_FORMAT))
+                .level(Level.INFO)
+                .serviceName("PaymentService")
+                .message("payment completed " + second)
+                .build();
+    }
+
+}
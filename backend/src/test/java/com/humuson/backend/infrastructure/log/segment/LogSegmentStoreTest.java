@@ -0,0 +1,116 @@
+package com.humuson.backend.infrastructure.log.segment;
+
+import static com.humuson.backend.infrastructure.log.segment.LogSegmentTest.line;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.config.properties.LogStorageProperties;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 세그먼트 저장소가 뒤에 추가된 로그를 열린 마지막 세그먼트에 이어 붙이고, 저장된 세그먼트를 구간이 이어질 때만 다시 사용하는지 확인
+ */
+class LogSegmentStoreTest {
+
+    private static final int ROWS = 10;
+    private static final long BASE = LocalDateTime.of(2025, 3, 1, 12, 0).toEpochSecond(ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("파일이 커지면 열린 마지막 세그먼트를 같은 번호로 다시 만들고, 새 저장소도 이어진 세그먼트를 그대로 읽음")
+    void appendsToOpenTailSegment() throws IOException {
+        Path logFile = directory.resolve("app.log");
+        append(logFile, 0, 25);
+        LogSegmentStore store = store();
+
+        assertThat(total(store.countByLevel(logFile, null, null))).isEqualTo(25);
+        assertThat(segmentFiles(logFile)).containsExactly("00000000.lseg", "00000001.lseg", "00000002.lseg");
+
+        append(logFile, 25, 32);
+
+        assertThat(total(store.countByLevel(logFile, null, null))).isEqualTo(32);
+        assertThat(segmentFiles(logFile)).containsExactly("00000000.lseg", "00000001.lseg", "00000002.lseg", "00000003.lseg");
+        assertThat(total(store().countByLevel(logFile, null, null))).isEqualTo(32);
+        assertThat(store().readLatest(logFile, EnumSet.allOf(Level.class), null, null, 3))
+                .extracting(LogEntity::getMessage)
+                .containsExactly("row 31", "row 30", "row 29");
+    }
+
+    @Test
+    @DisplayName("저장된 세그먼트의 구간이 이어지지 않으면 모두 다시 만듦")
+    void rebuildsWhenSegmentsAreNotContinuous() throws IOException {
+        Path logFile = directory.resolve("app.log");
+        append(logFile, 0, 35);
+        store().build(logFile);
+        Files.delete(segmentDirectory(logFile).resolve("00000001.lseg"));
+
+        LogSegmentStore store = store();
+
+        assertThat(total(store.countByLevel(logFile, null, null))).isEqualTo(35);
+        assertThat(segmentFiles(logFile)).hasSize(4);
+        assertThat(store.readLatest(logFile, EnumSet.of(Level.ERROR), null, null, 100))
+                .extracting(LogEntity::getMessage)
+                .containsExactly("row 33", "row 30", "row 27", "row 24", "row 21", "row 18", "row 15", "row 12", "row 9", "row 6", "row 3", "row 0");
+    }
+
+    @Test
+    @DisplayName("최신순 조회는 시간 범위의 끝을 제외하고, limit개까지만 반환")
+    void readsLatestWithinRange() throws IOException {
+        Path logFile = directory.resolve("app.log");
+        append(logFile, 0, 30);
+        LocalDateTime start = LocalDateTime.ofEpochSecond(BASE + 5, 0, ZoneOffset.UTC);
+        LocalDateTime end = LocalDateTime.ofEpochSecond(BASE + 20, 0, ZoneOffset.UTC);
+
+        List<LogEntity> logs = store().readLatest(logFile, EnumSet.allOf(Level.class), start, end, 4);
+
+        assertThat(logs).extracting(LogEntity::getMessage).containsExactly("row 19", "row 18", "row 17", "row 16");
+        assertThat(store().readLatest(logFile, EnumSet.allOf(Level.class), start, end, 100)).hasSize(15);
+    }
+
+    private LogSegmentStore store() {
+        return new LogSegmentStore(new LogStorageProperties(LogStorageProperties.Type.SEGMENT,
+                new LogStorageProperties.Segment(directory.resolve("segments"), ROWS, 4)));
+    }
+
+    private static void append(Path logFile, int from, int to) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            lines.append(line(BASE + i, Level.values()[i % 3], "PaymentService", "row " + i)).append('\n');
+        }
+        Files.writeString(logFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private Path segmentDirectory(Path logFile) {
+        return directory.resolve("segments").resolve(logFile.getFileName().toString());
+    }
+
+    private List<String> segmentFiles(Path logFile) throws IOException {
+        try (Stream<Path> files = Files.list(segmentDirectory(logFile))) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static long total(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+}
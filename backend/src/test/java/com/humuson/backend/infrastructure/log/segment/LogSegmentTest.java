@@ -0,0 +1,175 @@
+package com.humuson.backend.infrastructure.log.segment;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.global.util.LogParseUtil;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 세그먼트 파일(LogSegmentWriter → LogSegment)에 기록한 로그를 다시 읽어 원본과 비교
+ */
+class LogSegmentTest {
+
+    private static final int BLOCK_ROWS = 16;
+    private static final long BASE = LocalDateTime.of(2025, 3, 1, 12, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final List<String> SERVICES = List.of("PaymentService", "UserService", "결제서비스");
+    private static final Set<Level> ALL_LEVELS = EnumSet.allOf(Level.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("정렬되지 않은 타임스탬프, 여러 블록의 메시지를 기록한 그대로 읽음")
+    void readsBackWhatWasWritten() throws IOException {
+        Random random = new Random(3);
+        List<String> lines = new ArrayList<>();
+        long epochSecond = BASE;
+        for (int i = 0; i < 200; i++) {
+            epochSecond += random.nextInt(400) - 100; // 뒤로 가는 시각과 여러 바이트의 varint를 섞음
+            Level level = Level.values()[random.nextInt(Level.values().length)];
+            String message = "message " + i + " " + "가".repeat(random.nextInt(3)) + "x".repeat(random.nextInt(200));
+            lines.add(line(epochSecond, level, SERVICES.get(random.nextInt(SERVICES.size())), message));
+        }
+
+        LogSegment segment = write(lines, 100, 9_000);
+        List<Integer> rows = new ArrayList<>();
+        List<Long> epochSeconds = new ArrayList<>();
+        segment.forEachRow(ALL_LEVELS, Long.MIN_VALUE, Long.MAX_VALUE, (row, second) -> {
+            rows.add(row);
+            epochSeconds.add(second);
+        });
+
+        assertThat(segment.rowCount()).isEqualTo(200);
+        assertThat(segment.sourceFrom()).isEqualTo(100);
+        assertThat(segment.sourceTo()).isEqualTo(9_000);
+        assertThat(rows).containsExactlyElementsOf(IntStream.range(0, 200).boxed().toList());
+        assertThat(epochSeconds).containsExactlyElementsOf(lines.stream().map(LogSegmentTest::epochSecondOf).toList());
+        assertSameLogs(segment.readRows(IntStream.range(0, 200).toArray()), lines);
+    }
+
+    @Test
+    @DisplayName("블록 경계에 맞춘 시간 범위의 행만 방문하고, 개수 집계는 행 단위 계산과 같음")
+    void rangeEdgesAtBlockBoundaries() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 5 * BLOCK_ROWS; i++) {
+            lines.add(line(BASE + i * 10L, Level.values()[i % 3], SERVICES.get(i % SERVICES.size()), "row " + i));
+        }
+        LogSegment segment = write(lines, 0, 1);
+        long start = BASE + BLOCK_ROWS * 10L;
+        long end = BASE + 3 * BLOCK_ROWS * 10L;
+
+        List<Integer> rows = new ArrayList<>();
+        segment.forEachRow(ALL_LEVELS, start, end, (row, second) -> rows.add(row));
+        long[] counts = new long[Level.values().length];
+        segment.countByLevel(start, end, counts);
+        Map<Long, long[]> minutes = new HashMap<>();
+        segment.countByMinute(start, end, minutes);
+
+        assertThat(rows).containsExactlyElementsOf(IntStream.range(BLOCK_ROWS, 3 * BLOCK_ROWS).boxed().toList());
+        assertSameLogs(segment.readRows(rows.stream().mapToInt(Integer::intValue).toArray()), lines.subList(BLOCK_ROWS, 3 * BLOCK_ROWS));
+        assertThat(counts).containsExactly(countByLevel(lines.subList(BLOCK_ROWS, 3 * BLOCK_ROWS)));
+        assertThat(minutes.values().stream().mapToLong(minute -> minute[0] + minute[1] + minute[2]).sum()).isEqualTo(2L * BLOCK_ROWS);
+
+        long[] all = new long[Level.values().length];
+        segment.countByLevel(BASE, BASE + 5 * BLOCK_ROWS * 10L, all);
+        assertThat(all).containsExactly(countByLevel(lines));
+        assertThat(segment.overlaps(BASE + 5 * BLOCK_ROWS * 10L, Long.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그가 없는 세그먼트는 어떤 범위와도 겹치지 않음")
+    void emptySegment() throws IOException {
+        LogSegment segment = write(List.of(), 50, 80);
+        List<Integer> rows = new ArrayList<>();
+        segment.forEachRow(ALL_LEVELS, Long.MIN_VALUE, Long.MAX_VALUE, (row, second) -> rows.add(row));
+        long[] counts = new long[Level.values().length];
+        segment.countByLevel(Long.MIN_VALUE, Long.MAX_VALUE, counts);
+
+        assertThat(segment.rowCount()).isZero();
+        assertThat(segment.sourceFrom()).isEqualTo(50);
+        assertThat(segment.sourceTo()).isEqualTo(80);
+        assertThat(segment.overlaps(Long.MIN_VALUE, Long.MAX_VALUE)).isFalse();
+        assertThat(rows).isEmpty();
+        assertThat(counts).containsOnly(0L);
+        assertThat(segment.readRows(new int[0])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 로그가 한 레벨이면 다른 레벨 조회는 비어 있고, 범위 전체 집계는 헤더 개수와 같음")
+    void segmentOfSingleLevel() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 130; i++) { // 비트맵 워드 경계(64)를 넘김
+            lines.add(line(BASE + i, Level.WARN, "UserService", "warn " + i));
+        }
+        LogSegment segment = write(lines, 0, 1);
+
+        List<Integer> errors = new ArrayList<>();
+        segment.forEachRow(EnumSet.of(Level.ERROR, Level.INFO), Long.MIN_VALUE, Long.MAX_VALUE, (row, second) -> errors.add(row));
+        List<Integer> warnings = new ArrayList<>();
+        segment.forEachRow(EnumSet.of(Level.WARN), BASE + 63, BASE + 65, (row, second) -> warnings.add(row));
+        long[] counts = new long[Level.values().length];
+        segment.countByLevel(BASE, BASE + 130, counts);
+        long[] partial = new long[Level.values().length];
+        segment.countByLevel(BASE + 1, BASE + 129, partial);
+
+        assertThat(errors).isEmpty();
+        assertThat(warnings).containsExactly(63, 64);
+        assertThat(counts[Level.WARN.ordinal()]).isEqualTo(130);
+        assertThat(partial[Level.WARN.ordinal()]).isEqualTo(128);
+        assertThat(partial[Level.ERROR.ordinal()] + partial[Level.INFO.ordinal()] + partial[Level.UNKNOWN.ordinal()]).isZero();
+    }
+
+    private LogSegment write(List<String> lines, long sourceFrom, long sourceTo) throws IOException {
+        LogSegmentWriter writer = new LogSegmentWriter(BLOCK_ROWS);
+        for (String line : lines) {
+            writer.add(LogParseUtil.parseLog(line));
+        }
+        Path path = directory.resolve("segment" + LogSegment.EXTENSION);
+        writer.writeTo(path, sourceFrom, sourceTo);
+        return LogSegment.open(path);
+    }
+
+    private static void assertSameLogs(LogEntity[] logs, List<String> lines) {
+        assertThat(logs).hasSize(lines.size());
+        for (int i = 0; i < logs.length; i++) {
+            LogEntity expected = LogParseUtil.parseLog(lines.get(i)).toLogEntity();
+            assertThat(logs[i].getTimestamp()).isEqualTo(expected.getTimestamp());
+            assertThat(logs[i].getLevel()).isEqualTo(expected.getLevel());
+            assertThat(logs[i].getServiceName()).isEqualTo(expected.getServiceName());
+            assertThat(logs[i].getMessage()).isEqualTo(expected.getMessage());
+        }
+    }
+
+    private static long[] countByLevel(List<String> lines) {
+        long[] counts = new long[Level.values().length];
+        lines.forEach(line -> counts[LogParseUtil.parseLog(line).level().ordinal()]++);
+        return counts;
+    }
+
+    private static long epochSecondOf(String line) {
+        return LogParseUtil.parseLog(line).epochSecond();
+    }
+
+    static String line(long epochSecond, Level level, String serviceName, String message) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).format(TIMESTAMP_FORMAT)
+                + " " + level + " [com.humuson.backend.Sample] - [" + serviceName + "] - " + message;
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.humuson.backend.infrastructure.log.topk;
+
+import static com.humuson.backend.global.constant.Format.TIMESTAMP_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.humuson.backend.domain.log.model.dto.result.LogHeavyHitter;
+import com.humuson.backend.domain.log.model.dto.result.LogTopK;
+import com.humuson.backend.domain.log.model.entity.Level;
+import com.humuson.backend.domain.log.model.entity.LogEntity;
+import com.humuson.backend.domain.log.model.entity.TopKDimension;
+import com.humuson.backend.domain.log.model.event.IngestSource;
+import com.humuson.backend.domain.log.model.event.LogIngestedEvent;
+import com.humuson.backend.global.config.properties.LogTopKProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Count-Min Sketch, 상위 K개 추적기의 정확도를 합성 데이터의 실제 개수와 비교
+ */
+class HeavyHittersTest {
+
+    private static final int WIDTH = 2048;
+    private static final int DEPTH = 4;
+    private static final int CANDIDATES = 64;
+
+    @Test
+    @DisplayName("추정값은 실제 개수 이상이고, 오차가 εN을 넘는 키의 비율은 δ 이하")
+    void estimatesStayWithinErrorBound() {
+        Map<String, Long> exact = zipf(20_000, 1.1, 500_000, new Random(42));
+        CountMinSketch sketch = new CountMinSketch(WIDTH, DEPTH);
+        exact.forEach((key, count) -> sketch.add(key, count));
+
+        long errorBound = (long) Math.ceil(sketch.epsilon() * sketch.totalCount());
+        long outOfBound = exact.entrySet().stream()
+                .filter(entry -> sketch.estimate(entry.getKey()) - entry.getValue() > errorBound)
+                .count();
+
+        assertThat(sketch.totalCount()).isEqualTo(500_000);
+        assertThat(exact).allSatisfy((key, count) -> assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(count));
+        assertThat((double) outOfBound / exact.size()).isLessThanOrEqualTo(sketch.delta());
+    }
+
+    @Test
+    @DisplayName("개수 차이가 εN보다 큰 상위 키는 순서까지 정확히 찾음")
+    void findsPlantedHeavyHittersExactly() {
+        Random random = new Random(7);
+        List<String> stream = new ArrayList<>();
+        Map<String, Long> exact = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10_000 - i * 800; j++) {
+                stream.add("hot-" + i);
+            }
+        }
+        for (int i = 0; i < 300_000; i++) {
+            stream.add("cold-" + random.nextInt(50_000));
+        }
+        Collections.shuffle(stream, random);
+
+        HeavyHitters heavyHitters = new HeavyHitters(WIDTH, DEPTH, CANDIDATES);
+        for (String key : stream) {
+            heavyHitters.add(key, 1);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        List<Map.Entry<String, Long>> top = heavyHitters.top(10);
+        assertThat(top).extracting(Map.Entry::getKey).containsExactlyElementsOf(exactTop(exact, 10));
+        long errorBound = (long) Math.ceil(heavyHitters.epsilon() * heavyHitters.totalCount());
+        assertThat(top).allSatisfy(entry -> assertThat(entry.getValue()).isBetween(exact.get(entry.getKey()), exact.get(entry.getKey()) + errorBound));
+    }
+
+    @Test
+    @DisplayName("Zipf 분포에서 반환한 상위 K개의 실제 개수는 K번째 실제 개수 - εN 이상")
+    void topKOfZipfStreamIsWithinErrorBound() {
+        Map<String, Long> exact = new HashMap<>();
+        HeavyHitters heavyHitters = new HeavyHitters(WIDTH, DEPTH, CANDIDATES);
+        Random random = new Random(11);
+        double[] cumulative = zipfCumulative(20_000, 1.1);
+        for (int i = 0; i < 500_000; i++) {
+            String key = "key-" + sample(cumulative, random);
+            heavyHitters.add(key, 1);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        long errorBound = (long) Math.ceil(heavyHitters.epsilon() * heavyHitters.totalCount());
+        long kthExact = exact.get(exactTop(exact, 10).get(9));
+        assertThat(heavyHitters.top(10)).hasSize(10)
+                .allSatisfy(entry -> assertThat(exact.get(entry.getKey())).isGreaterThanOrEqualTo(kthExact - errorBound));
+    }
+
+    @Test
+    @DisplayName("추적기는 로그 레벨별로 서비스와 숫자를 치환한 메시지를 집계")
+    void trackerCountsServicesAndMessagesByLevel() {
+        LogHeavyHitterTracker tracker = new LogHeavyHitterTracker(new LogTopKProperties(WIDTH, DEPTH, CANDIDATES,
+                Duration.ofMinutes(1), Duration.ofMinutes(15), new LogTopKProperties.Push(Level.ERROR, 10, Duration.ofMinutes(5))));
+        String now = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        List<LogEntity> logs = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            logs.add(log(now, Level.ERROR, "PaymentService", "Payment failed for order: " + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            logs.add(log(now, Level.ERROR, "UserService", "User login failed: user" + i));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            logs.add(log(now, Level.INFO, "InventoryService", "Stock checked"));
+        }
+        tracker.onLogIngested(LogIngestedEvent.of(IngestSource.LIVE, logs));
+
+        LogTopK services = tracker.getTopK(Level.ERROR, TopKDimension.SERVICE, Duration.ofMinutes(5), 10);
+        LogTopK messages = tracker.getTopK(Level.ERROR, TopKDimension.MESSAGE, Duration.ofMinutes(5), 1);
+
+        assertThat(services.totalCount()).isEqualTo(400);
+        assertThat(services.items()).extracting(LogHeavyHitter::key).containsExactly("PaymentService", "UserService");
+        assertThat(services.items()).extracting(LogHeavyHitter::estimatedCount).containsExactly(300L, 100L);
+        assertThat(messages.items()).containsExactly(LogHeavyHitter.of("Payment failed for order: <*>", 300));
+        assertThat(tracker.getVersion()).isEqualTo(1);
+    }
+
+    private static LogEntity log(String timestamp, Level level, String serviceName, String message) {
+        return LogEntity.builder().timestamp(timestamp).level(level).serviceName(serviceName).message(message).build();
+    }
+
+    private static List<String> exactTop(Map<String, Long> exact, int k) {
+        return exact.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, Long> zipf(int keys, double exponent, int total, Random random) {
+        double[] cumulative = zipfCumulative(keys, exponent);
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < total; i++) {
+            counts.merge("key-" + sample(cumulative, random), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    private static double[] zipfCumulative(int keys, double exponent) {
+        double[] cumulative = new double[keys];
+        double sum = 0;
+        for (int rank = 1; rank <= keys; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < keys; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int sample(double[] cumulative, Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+
+}